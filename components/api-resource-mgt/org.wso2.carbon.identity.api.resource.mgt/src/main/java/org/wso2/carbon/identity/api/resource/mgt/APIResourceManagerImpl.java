@@ -18,10 +18,13 @@
 
 package org.wso2.carbon.identity.api.resource.mgt;
 
+import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.api.resource.mgt.constant.APIResourceManagementConstants;
 import org.wso2.carbon.identity.api.resource.mgt.dao.impl.APIResourceManagementDAOImpl;
 import org.wso2.carbon.identity.api.resource.mgt.dao.impl.CacheBackedAPIResourceMgtDAO;
+import org.wso2.carbon.identity.api.resource.mgt.internal.APIResourceManagementServiceComponent;
+import org.wso2.carbon.identity.api.resource.mgt.listener.APIResourceManagementListener;
 import org.wso2.carbon.identity.api.resource.mgt.model.APIResourceSearchResult;
 import org.wso2.carbon.identity.api.resource.mgt.util.APIResourceManagementUtil;
 import org.wso2.carbon.identity.application.common.model.APIResource;
@@ -138,6 +141,7 @@ public class APIResourceManagerImpl implements APIResourceManager {
     public void deleteAPIResourceById(String apiResourceId, String tenantDomain) throws APIResourceMgtException {
 
         CACHE_BACKED_DAO.deleteAPIResourceById(apiResourceId, IdentityTenantUtil.getTenantId(tenantDomain));
+        notifyScopesUpdated(apiResourceId, tenantDomain);
     }
 
     @Override
@@ -146,6 +150,9 @@ public class APIResourceManagerImpl implements APIResourceManager {
 
         CACHE_BACKED_DAO.updateAPIResource(apiResource, addedScopes, removedScopes,
                 IdentityTenantUtil.getTenantId(tenantDomain));
+        if (CollectionUtils.isNotEmpty(removedScopes)) {
+            notifyScopesUpdated(apiResource.getId(), tenantDomain);
+        }
     }
 
     @Override
@@ -167,6 +174,7 @@ public class APIResourceManagerImpl implements APIResourceManager {
     public void deleteAPIScopesById(String apiResourceId, String tenantDomain) throws APIResourceMgtException {
 
         CACHE_BACKED_DAO.deleteAllScopes(apiResourceId, IdentityTenantUtil.getTenantId(tenantDomain));
+        notifyScopesUpdated(apiResourceId, tenantDomain);
     }
 
     @Override
@@ -174,6 +182,7 @@ public class APIResourceManagerImpl implements APIResourceManager {
             throws APIResourceMgtException {
 
         CACHE_BACKED_DAO.deleteScope(apiResourceId, scopeName, IdentityTenantUtil.getTenantId(tenantDomain));
+        notifyScopesUpdated(apiResourceId, tenantDomain);
     }
 
     @Override
@@ -181,6 +190,7 @@ public class APIResourceManagerImpl implements APIResourceManager {
             throws APIResourceMgtException {
 
         CACHE_BACKED_DAO.putScopes(apiResourceId, currentScopes, scopes, IdentityTenantUtil.getTenantId(tenantDomain));
+        notifyScopesUpdated(apiResourceId, tenantDomain);
     }
 
     @Override
@@ -288,4 +298,18 @@ public class APIResourceManagerImpl implements APIResourceManager {
             setExpressionNodeList(node.getRightNode(), expression);
         }
     }
+
+    /**
+     * Notify the API resource management listeners that the scopes of an API resource are updated.
+     *
+     * @param apiResourceId API resource id.
+     * @param tenantDomain  Tenant domain.
+     */
+    private void notifyScopesUpdated(String apiResourceId, String tenantDomain) {
+
+        for (APIResourceManagementListener listener :
+                APIResourceManagementServiceComponent.getAPIResourceManagementListeners()) {
+            listener.postUpdateAPIResourceScopes(apiResourceId, tenantDomain);
+        }
+    }
 }
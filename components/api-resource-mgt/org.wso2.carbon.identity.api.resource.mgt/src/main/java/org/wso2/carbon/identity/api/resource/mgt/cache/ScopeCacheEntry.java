@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.resource.mgt.cache;
+
+import org.wso2.carbon.identity.application.common.model.Scope;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Cache entry for scope. Keeps the metadata of the scope along with the id and the name of the API resource owning
+ * the scope. A new {@link Scope} is created per call since the callers may modify the returned scope.
+ */
+public class ScopeCacheEntry extends CacheEntry {
+
+    private final String id;
+    private final String name;
+    private final String displayName;
+    private final String description;
+    private final String apiResourceId;
+    private final String apiResourceName;
+
+    public ScopeCacheEntry(String id, String name, String displayName, String description, String apiResourceId,
+                           String apiResourceName) {
+
+        this.id = id;
+        this.name = name;
+        this.displayName = displayName;
+        this.description = description;
+        this.apiResourceId = apiResourceId;
+        this.apiResourceName = apiResourceName;
+    }
+
+    public String getApiResourceId() {
+
+        return apiResourceId;
+    }
+
+    public String getApiResourceName() {
+
+        return apiResourceName;
+    }
+
+    public Scope getScope() {
+
+        return new Scope.ScopeBuilder()
+                .id(id)
+                .name(name)
+                .displayName(displayName)
+                .description(description)
+                .apiID(apiResourceId)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.resource.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key for scope name.
+ */
+public class ScopeNameCacheKey extends CacheKey {
+
+    private final String scopeName;
+
+    public ScopeNameCacheKey(String scopeName) {
+
+        this.scopeName = scopeName;
+    }
+
+    public String getScopeName() {
+
+        return scopeName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (!(o instanceof ScopeNameCacheKey)) {
+            return false;
+        }
+        return scopeName.equals(((ScopeNameCacheKey) o).getScopeName());
+    }
+
+    @Override
+    public int hashCode() {
+
+        return scopeName.hashCode();
+    }
+}
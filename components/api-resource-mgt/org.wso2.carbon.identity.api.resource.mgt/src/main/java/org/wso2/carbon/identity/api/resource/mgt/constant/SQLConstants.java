@@ -167,6 +167,7 @@ public class SQLConstants {
     public static final String GET_SCOPE_METADATA = "SELECT" +
             " AR.ID AS API_RESOURCE_ID," +
             " AR.NAME AS API_RESOURCE_NAME," +
+            " S.ID AS SCOPE_ID," +
             " S.NAME AS SCOPE_QUALIFIED_NAME," +
             " S.DISPLAY_NAME AS SCOPE_DISPLAY_NAME," +
             " S.DESCRIPTION AS SCOPE_DESCRIPTION" +
@@ -541,9 +541,11 @@ public class APIResourceManagementDAOImpl implements APIResourceManagementDAO {
                 while (resultSet.next()) {
                     String apiId = resultSet.getString(SQLConstants.API_RESOURCE_ID_COLUMN_NAME);
                     Scope scope = new Scope.ScopeBuilder()
+                            .id(resultSet.getString(SQLConstants.SCOPE_ID_COLUMN_NAME))
                             .name(resultSet.getString(SQLConstants.SCOPE_QUALIFIED_NAME_COLUMN_NAME))
                             .displayName(resultSet.getString(SQLConstants.SCOPE_DISPLAY_NAME_COLUMN_NAME))
                             .description(resultSet.getString(SQLConstants.SCOPE_DESCRIPTION_COLUMN_NAME))
+                            .apiID(apiId)
                             .build();
                     if (apiResources.containsKey(apiId)) {
                         List<Scope> scopeList = new ArrayList<>(apiResources.get(apiId).getScopes());
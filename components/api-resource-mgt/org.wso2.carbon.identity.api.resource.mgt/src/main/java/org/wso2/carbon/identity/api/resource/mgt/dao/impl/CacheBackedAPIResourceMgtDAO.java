@@ -28,13 +28,25 @@ import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceCacheByIdentif
 import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceCacheEntry;
 import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceIdCacheKey;
 import org.wso2.carbon.identity.api.resource.mgt.cache.APIResourceIdentifierCacheKey;
+import org.wso2.carbon.identity.api.resource.mgt.cache.ScopeCacheByName;
+import org.wso2.carbon.identity.api.resource.mgt.cache.ScopeCacheEntry;
+import org.wso2.carbon.identity.api.resource.mgt.cache.ScopeNameCacheKey;
 import org.wso2.carbon.identity.api.resource.mgt.dao.APIResourceManagementDAO;
 import org.wso2.carbon.identity.application.common.model.APIResource;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.common.model.Scope;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This class implements the {@link APIResourceManagementDAO} interface.
@@ -44,6 +56,7 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     private static final Log LOG = LogFactory.getLog(CacheBackedAPIResourceMgtDAO.class);
     private final APIResourceCacheByIdentifier apiResourceCacheByIdentifier;
     private final APIResourceCacheById apiResourceCacheById;
+    private final ScopeCacheByName scopeCacheByName;
     private final APIResourceManagementDAO apiResourceManagementDAO;
 
     public CacheBackedAPIResourceMgtDAO(APIResourceManagementDAO apiResourceManagementDAO) {
@@ -51,6 +64,7 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
         this.apiResourceManagementDAO = apiResourceManagementDAO;
         apiResourceCacheByIdentifier = APIResourceCacheByIdentifier.getInstance();
         apiResourceCacheById = APIResourceCacheById.getInstance();
+        scopeCacheByName = ScopeCacheByName.getInstance();
     }
 
     @Override
@@ -217,6 +231,13 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     public void updateAPIResource(APIResource apiResource, List<Scope> addedScopes, List<String> removedScopes,
                                   Integer tenantId) throws APIResourceMgtException {
 
+        // The scopes of the API resource are cleared as well since the scope entries keep the API resource name.
+        Set<String> scopeNames = getScopeNames(getScopesByAPI(apiResource.getId(), tenantId));
+        scopeNames.addAll(getScopeNames(addedScopes));
+        if (removedScopes != null) {
+            scopeNames.addAll(removedScopes);
+        }
+        clearScopeCache(scopeNames, tenantId);
         clearAPIResourceCache(apiResource.getIdentifier(), apiResource.getId(), tenantId);
         apiResourceManagementDAO.updateAPIResource(apiResource, addedScopes, removedScopes, tenantId);
     }
@@ -224,6 +245,7 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     @Override
     public void deleteAPIResourceById(String apiId, Integer tenantId) throws APIResourceMgtException {
 
+        clearScopeCache(getScopeNames(getScopesByAPI(apiId, tenantId)), tenantId);
         clearAPIResourceCache(null, apiId, tenantId);
         apiResourceManagementDAO.deleteAPIResourceById(apiId, tenantId);
     }
@@ -231,6 +253,16 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     @Override
     public boolean isScopeExistByName(String name, Integer tenantId) throws APIResourceMgtException {
 
+        ScopeCacheEntry entry = scopeCacheByName.getValueFromCache(new ScopeNameCacheKey(name), tenantId);
+        if (entry != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cache entry found for scope " + name);
+            }
+            return true;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cache entry not found for scope " + name + ". Fetching entry from DB");
+        }
         return apiResourceManagementDAO.isScopeExistByName(name, tenantId);
     }
 
@@ -243,7 +275,8 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     @Override
     public Scope getScopeByNameAndTenantId(String name, Integer tenantId) throws APIResourceMgtException {
 
-        return apiResourceManagementDAO.getScopeByNameAndTenantId(name, tenantId);
+        ScopeCacheEntry entry = getScopeEntries(Collections.singletonList(name), tenantId).get(name);
+        return entry != null ? entry.getScope() : null;
     }
 
     @Override
@@ -263,6 +296,7 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     @Override
     public void addScopes(List<Scope> scopes, String apiId, Integer tenantId) throws APIResourceMgtException {
 
+        clearScopeCache(getScopeNames(scopes), tenantId);
         clearAPIResourceCache(null, apiId, tenantId);
         apiResourceManagementDAO.addScopes(scopes, apiId, tenantId);
     }
@@ -270,6 +304,7 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     @Override
     public void deleteAllScopes(String apiId, Integer tenantId) throws APIResourceMgtException {
 
+        clearScopeCache(getScopeNames(getScopesByAPI(apiId, tenantId)), tenantId);
         clearAPIResourceCache(null, apiId, tenantId);
         apiResourceManagementDAO.deleteAllScopes(apiId, tenantId);
     }
@@ -277,6 +312,7 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     @Override
     public void deleteScope(String apiId, String scopeName, Integer tenantId) throws APIResourceMgtException {
 
+        clearScopeCache(Collections.singleton(scopeName), tenantId);
         clearAPIResourceCache(null, apiId, tenantId);
         apiResourceManagementDAO.deleteScope(apiId, scopeName, tenantId);
     }
@@ -285,6 +321,9 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     public void putScopes(String apiId, List<Scope> currentScopes, List<Scope> scopes, Integer tenantId)
             throws APIResourceMgtException {
 
+        Set<String> scopeNames = getScopeNames(currentScopes);
+        scopeNames.addAll(getScopeNames(scopes));
+        clearScopeCache(scopeNames, tenantId);
         clearAPIResourceCache(null, apiId, tenantId);
         apiResourceManagementDAO.putScopes(apiId, currentScopes, scopes, tenantId);
     }
@@ -299,7 +338,99 @@ public class CacheBackedAPIResourceMgtDAO implements APIResourceManagementDAO {
     public List<APIResource> getScopeMetadata(List<String> scopeNames, Integer tenantId)
             throws APIResourceMgtException {
 
-            return apiResourceManagementDAO.getScopeMetadata(scopeNames, tenantId);
+        Map<String, APIResource> apiResources = new LinkedHashMap<>();
+        for (ScopeCacheEntry entry : getScopeEntries(scopeNames, tenantId).values()) {
+            APIResource apiResource = apiResources.get(entry.getApiResourceId());
+            if (apiResource == null) {
+                apiResource = new APIResource.APIResourceBuilder()
+                        .id(entry.getApiResourceId())
+                        .name(entry.getApiResourceName())
+                        .scopes(new ArrayList<>())
+                        .build();
+                apiResources.put(entry.getApiResourceId(), apiResource);
+            }
+            apiResource.getScopes().add(entry.getScope());
+        }
+        return new ArrayList<>(apiResources.values());
+    }
+
+    /**
+     * Resolve the given scopes from the cache, fetching the scopes which are not cached with a single query.
+     *
+     * @param scopeNames Scope names.
+     * @param tenantId   Tenant Id.
+     * @return Cache entries of the existing scopes by scope name, in the order of the given scope names.
+     * @throws APIResourceMgtException If an error occurs while retrieving the scopes.
+     */
+    private Map<String, ScopeCacheEntry> getScopeEntries(Collection<String> scopeNames, int tenantId)
+            throws APIResourceMgtException {
+
+        Map<String, ScopeCacheEntry> entries = new HashMap<>();
+        List<String> uncachedScopeNames = new ArrayList<>();
+        Set<String> distinctScopeNames = new LinkedHashSet<>();
+        if (scopeNames != null) {
+            for (String scopeName : scopeNames) {
+                if (scopeName != null) {
+                    distinctScopeNames.add(scopeName);
+                }
+            }
+        }
+        for (String scopeName : distinctScopeNames) {
+            ScopeCacheEntry entry = scopeCacheByName.getValueFromCache(new ScopeNameCacheKey(scopeName), tenantId);
+            if (entry != null) {
+                entries.put(scopeName, entry);
+            } else {
+                uncachedScopeNames.add(scopeName);
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cache entries found for " + entries.size() + " scopes out of " + distinctScopeNames.size()
+                    + " scopes of tenantId: " + tenantId + ".");
+        }
+
+        if (!uncachedScopeNames.isEmpty()) {
+            for (APIResource apiResource : apiResourceManagementDAO.getScopeMetadata(uncachedScopeNames, tenantId)) {
+                for (Scope scope : apiResource.getScopes()) {
+                    if (entries.containsKey(scope.getName())) {
+                        continue;
+                    }
+                    ScopeCacheEntry entry = new ScopeCacheEntry(scope.getId(), scope.getName(),
+                            scope.getDisplayName(), scope.getDescription(), apiResource.getId(),
+                            apiResource.getName());
+                    scopeCacheByName.addToCache(new ScopeNameCacheKey(scope.getName()), entry, tenantId);
+                    entries.put(scope.getName(), entry);
+                }
+            }
+        }
+
+        Map<String, ScopeCacheEntry> orderedEntries = new LinkedHashMap<>();
+        for (String scopeName : distinctScopeNames) {
+            ScopeCacheEntry entry = entries.get(scopeName);
+            if (entry != null) {
+                orderedEntries.put(scopeName, entry);
+            }
+        }
+        return orderedEntries;
+    }
+
+    private void clearScopeCache(Collection<String> scopeNames, int tenantId) {
+
+        for (String scopeName : scopeNames) {
+            if (scopeName != null) {
+                scopeCacheByName.clearCacheEntry(new ScopeNameCacheKey(scopeName), tenantId);
+            }
+        }
+    }
+
+    private static Set<String> getScopeNames(List<Scope> scopes) {
+
+        Set<String> scopeNames = new HashSet<>();
+        if (scopes != null) {
+            for (Scope scope : scopes) {
+                scopeNames.add(scope.getName());
+            }
+        }
+        return scopeNames;
     }
 
     private void clearAPIResourceCache(String identifier, String resourceId, int tenantId) throws
@@ -30,10 +30,16 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.api.resource.mgt.APIResourceManager;
 import org.wso2.carbon.identity.api.resource.mgt.APIResourceManagerImpl;
+import org.wso2.carbon.identity.api.resource.mgt.listener.APIResourceManagementListener;
 import org.wso2.carbon.identity.api.resource.mgt.util.APIResourceManagementUtil;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * Service component for the API resource management.
  */
@@ -44,6 +50,8 @@ import org.wso2.carbon.identity.organization.management.service.OrganizationMana
 public class APIResourceManagementServiceComponent {
 
     private static final Log LOG = LogFactory.getLog(APIResourceManagementServiceComponent.class);
+    private static final List<APIResourceManagementListener> apiResourceManagementListeners =
+            new CopyOnWriteArrayList<>();
 
     @Activate
     protected void activate(ComponentContext context) {
@@ -104,4 +112,28 @@ public class APIResourceManagementServiceComponent {
         /* reference Organization Management service to guarantee that this component will wait until organization
         management service is started */
     }
+
+    @Reference(
+            name = "api.resource.mgt.listener",
+            service = APIResourceManagementListener.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetAPIResourceManagementListener"
+    )
+    protected synchronized void setAPIResourceManagementListener(APIResourceManagementListener listener) {
+
+        apiResourceManagementListeners.add(listener);
+        apiResourceManagementListeners.sort(
+                Comparator.comparingInt(APIResourceManagementListener::getExecutionOrderId));
+    }
+
+    protected synchronized void unsetAPIResourceManagementListener(APIResourceManagementListener listener) {
+
+        apiResourceManagementListeners.remove(listener);
+    }
+
+    public static Collection<APIResourceManagementListener> getAPIResourceManagementListeners() {
+
+        return apiResourceManagementListeners;
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.resource.mgt.listener;
+
+/**
+ * Listener for the changes to the scopes of API resources. Components which keep data derived from the scopes of
+ * API resources, such as the scopes authorized for applications, can register an implementation as an OSGi service
+ * to be notified when the scopes of an API resource are changed.
+ */
+public interface APIResourceManagementListener {
+
+    /**
+     * Get the execution order identifier for this listener.
+     *
+     * @return The execution order identifier integer value.
+     */
+    int getExecutionOrderId();
+
+    /**
+     * Invoked after the scopes of an API resource are added, removed or replaced, or after the API resource is
+     * deleted along with its scopes.
+     *
+     * @param apiResourceId API resource id.
+     * @param tenantDomain  Tenant domain of the API resource.
+     */
+    void postUpdateAPIResourceScopes(String apiResourceId, String tenantDomain);
+}
@@ -431,6 +431,50 @@ public class CacheBackedAPIResourceManagementDAOTest extends PowerMockTestCase {
         Assert.assertFalse(daoImpl.isScopeExistByName(scopeName, TENANT_ID));
     }
 
+    @Test(priority = 14)
+    public void testGetScopeMetadata() throws Exception {
+
+        mockStatic(IdentityDatabaseUtil.class);
+        mockStatic(APIResourceManagementUtil.class);
+        mockStatic(IdentityTenantUtil.class);
+        when(IdentityTenantUtil.getTenantDomain(TENANT_ID)).thenReturn(getTenantDomain(TENANT_ID));
+
+        APIResource apiResource1 = addAPIResourceToDB("testGetScopeMetadata-1", getConnection(), TENANT_ID);
+        APIResource apiResource2 = addAPIResourceToDB("testGetScopeMetadata-2", getConnection(), TENANT_ID);
+        List<String> scopeNames = new ArrayList<>();
+        for (Scope scope : apiResource1.getScopes()) {
+            scopeNames.add(scope.getName());
+        }
+        for (Scope scope : apiResource2.getScopes()) {
+            scopeNames.add(scope.getName());
+        }
+        scopeNames.add("nonExistentScopeName");
+
+        when(IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(getConnection());
+        List<APIResource> apiResources = daoImpl.getScopeMetadata(scopeNames, TENANT_ID);
+        Assert.assertEquals(apiResources.size(), 2);
+        for (APIResource apiResource : apiResources) {
+            Assert.assertEquals(apiResource.getScopes().size(), 2);
+            Assert.assertTrue(apiResource.getName().contains("testGetScopeMetadata"));
+        }
+
+        // The cached scopes should be removed once a scope is deleted.
+        String deletedScopeName = apiResource1.getScopes().get(0).getName();
+        Connection connection = getConnection();
+        when(IdentityDatabaseUtil.getDBConnection(true)).thenReturn(connection);
+        when(IdentityDatabaseUtil.getDBConnection(false)).thenReturn(getConnection());
+        PowerMockito.doAnswer((Answer<Void>) invocation -> {
+            connection.commit();
+            return null;
+        }).when(IdentityDatabaseUtil.class, "commitTransaction", any(Connection.class));
+        daoImpl.deleteScope(apiResource1.getId(), deletedScopeName, TENANT_ID);
+
+        when(IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(getConnection());
+        Assert.assertNull(daoImpl.getScopeByNameAndTenantId(deletedScopeName, TENANT_ID));
+        Assert.assertNotNull(daoImpl.getScopeByNameAndTenantId(apiResource1.getScopes().get(1).getName(),
+                TENANT_ID));
+    }
+
     /**
      * Create scope with the given name.
      *
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.cache;
+
+import org.wso2.carbon.identity.application.common.model.AuthorizedAPI;
+import org.wso2.carbon.identity.application.common.model.AuthorizedScopes;
+import org.wso2.carbon.identity.application.common.model.Scope;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache entry for the authorized scope index of an application. The index keeps the policy and the scope names of
+ * each API authorized for the application, from which both the authorized APIs and the authorized scopes of the
+ * application are served. The returned models are created per call since the callers modify them.
+ */
+public class AuthorizedScopeIndexCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 6620480873516255917L;
+
+    private final LinkedHashMap<String, String> apiPolicies = new LinkedHashMap<>();
+    private final HashMap<String, ArrayList<String>> apiScopes = new HashMap<>();
+
+    public AuthorizedScopeIndexCacheEntry(List<AuthorizedAPI> authorizedAPIs) {
+
+        for (AuthorizedAPI authorizedAPI : authorizedAPIs) {
+            apiPolicies.put(authorizedAPI.getAPIId(), authorizedAPI.getPolicyId());
+            ArrayList<String> scopeNames = new ArrayList<>();
+            if (authorizedAPI.getScopes() != null) {
+                for (Scope scope : authorizedAPI.getScopes()) {
+                    scopeNames.add(scope.getName());
+                }
+            }
+            apiScopes.put(authorizedAPI.getAPIId(), scopeNames);
+        }
+    }
+
+    /**
+     * Get the APIs authorized for the application.
+     *
+     * @param appId Application id.
+     * @return List of authorized APIs.
+     */
+    public List<AuthorizedAPI> getAuthorizedAPIs(String appId) {
+
+        List<AuthorizedAPI> authorizedAPIs = new ArrayList<>(apiPolicies.size());
+        for (Map.Entry<String, String> apiPolicy : apiPolicies.entrySet()) {
+            List<Scope> scopes = new ArrayList<>();
+            for (String scopeName : apiScopes.get(apiPolicy.getKey())) {
+                scopes.add(new Scope.ScopeBuilder().name(scopeName).build());
+            }
+            authorizedAPIs.add(new AuthorizedAPI.AuthorizedAPIBuilder()
+                    .appId(appId)
+                    .apiId(apiPolicy.getKey())
+                    .policyId(apiPolicy.getValue())
+                    .scopes(scopes)
+                    .build());
+        }
+        return authorizedAPIs;
+    }
+
+    /**
+     * Get the scopes authorized for the application grouped by the authorization policy.
+     *
+     * @return List of authorized scopes.
+     */
+    public List<AuthorizedScopes> getAuthorizedScopes() {
+
+        Map<String, List<String>> policyScopes = new LinkedHashMap<>();
+        for (Map.Entry<String, String> apiPolicy : apiPolicies.entrySet()) {
+            List<String> scopeNames = apiScopes.get(apiPolicy.getKey());
+            if (scopeNames.isEmpty()) {
+                continue;
+            }
+            policyScopes.computeIfAbsent(apiPolicy.getValue(), policyId -> new ArrayList<>()).addAll(scopeNames);
+        }
+        List<AuthorizedScopes> authorizedScopes = new ArrayList<>(policyScopes.size());
+        for (Map.Entry<String, List<String>> entry : policyScopes.entrySet()) {
+            authorizedScopes.add(new AuthorizedScopes.AuthorizedScopesBuilder()
+                    .policyId(entry.getKey())
+                    .scopes(entry.getValue())
+                    .build());
+        }
+        return authorizedScopes;
+    }
+}
@@ -29,6 +29,7 @@ import org.wso2.carbon.identity.application.common.model.ClaimMapping;
 import org.wso2.carbon.identity.application.common.model.InboundAuthenticationRequestConfig;
 import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthenticationConfig;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants.StandardInboundProtocols;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCache;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCacheEntry;
 import org.wso2.carbon.identity.application.mgt.cache.IdentityServiceProviderCacheKey;
@@ -51,6 +52,8 @@ import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderID
 import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderIDCacheKey;
 import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderResourceIdCacheEntry;
 import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderResourceIdCacheKey;
+import org.wso2.carbon.identity.core.cache.SAMLSSOServiceProviderCache;
+import org.wso2.carbon.identity.core.cache.SAMLSSOServiceProviderCacheKey;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -730,6 +733,12 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
                     ApplicationResourceIDCacheInboundAuthKey inboundKey = new ApplicationResourceIDCacheInboundAuthKey(
                             config.getInboundAuthKey(), config.getInboundAuthType(), tenantDomain);
                     resourceIDCacheByInboundAuth.clearCacheEntry(inboundKey, tenantDomain);
+
+                    // Clear SAMLSSOServiceProviderCache, which holds the application certificate of the issuer.
+                    if (StandardInboundProtocols.SAML2.equals(config.getInboundAuthType())) {
+                        SAMLSSOServiceProviderCache.getInstance().clearCacheEntry(
+                                new SAMLSSOServiceProviderCacheKey(config.getInboundAuthKey()), tenantDomain);
+                    }
                 }
             }
         }
@@ -28,6 +28,9 @@ import org.wso2.carbon.identity.application.common.model.Scope;
 import org.wso2.carbon.identity.application.mgt.cache.AuthorizedAPICache;
 import org.wso2.carbon.identity.application.mgt.cache.AuthorizedAPICacheEntry;
 import org.wso2.carbon.identity.application.mgt.cache.AuthorizedAPICacheKey;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedScopeIndexCache;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedScopeIndexCacheEntry;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedScopeIndexCacheKey;
 import org.wso2.carbon.identity.application.mgt.dao.AuthorizedAPIDAO;
 
 import java.util.List;
@@ -53,6 +56,7 @@ public class CacheBackedAuthorizedAPIDAOImpl implements AuthorizedAPIDAO {
     public void addAuthorizedAPI(String applicationId, String apiId, String policyId, List<Scope> scopes, int tenantId)
             throws IdentityApplicationManagementException {
 
+        clearAuthorizedScopeIndexFromCache(applicationId, tenantId);
         authorizedAPIDAO.addAuthorizedAPI(applicationId, apiId, policyId, scopes, tenantId);
     }
 
@@ -60,7 +64,7 @@ public class CacheBackedAuthorizedAPIDAOImpl implements AuthorizedAPIDAO {
     public List<AuthorizedAPI> getAuthorizedAPIs(String applicationId, int tenantId)
             throws IdentityApplicationManagementException {
 
-        return authorizedAPIDAO.getAuthorizedAPIs(applicationId, tenantId);
+        return getAuthorizedScopeIndex(applicationId, tenantId).getAuthorizedAPIs(applicationId);
     }
 
     @Override
@@ -68,6 +72,7 @@ public class CacheBackedAuthorizedAPIDAOImpl implements AuthorizedAPIDAO {
                                    int tenantId) throws IdentityApplicationManagementException {
 
         clearAuthorizedAPIFromCache(appId, apiId, tenantId);
+        clearAuthorizedScopeIndexFromCache(appId, tenantId);
         authorizedAPIDAO.patchAuthorizedAPI(appId, apiId, addedScopes, removedScopes, tenantId);
     }
 
@@ -76,6 +81,7 @@ public class CacheBackedAuthorizedAPIDAOImpl implements AuthorizedAPIDAO {
             throws IdentityApplicationManagementException {
 
         clearAuthorizedAPIFromCache(appId, apiId, tenantId);
+        clearAuthorizedScopeIndexFromCache(appId, tenantId);
         authorizedAPIDAO.deleteAuthorizedAPI(appId, apiId, tenantId);
     }
 
@@ -83,7 +89,7 @@ public class CacheBackedAuthorizedAPIDAOImpl implements AuthorizedAPIDAO {
     public List<AuthorizedScopes> getAuthorizedScopes(String applicationId, int tenantId)
             throws IdentityApplicationManagementException {
 
-        return authorizedAPIDAO.getAuthorizedScopes(applicationId, tenantId);
+        return getAuthorizedScopeIndex(applicationId, tenantId).getAuthorizedScopes();
     }
 
     @Override
@@ -153,4 +159,49 @@ public class CacheBackedAuthorizedAPIDAOImpl implements AuthorizedAPIDAO {
             LOG.debug("Application id is empty. Cannot clear authorized APIs from cache.");
         }
     }
+
+    /**
+     * Get the authorized scope index of the application from the cache, or build it from the authorized APIs of the
+     * application if it is not cached.
+     *
+     * @param appId    Application id.
+     * @param tenantId Tenant id.
+     * @return Authorized scope index of the application.
+     * @throws IdentityApplicationManagementException If an error occurs while retrieving the authorized APIs.
+     */
+    private AuthorizedScopeIndexCacheEntry getAuthorizedScopeIndex(String appId, int tenantId)
+            throws IdentityApplicationManagementException {
+
+        if (StringUtils.isBlank(appId)) {
+            LOG.debug("Application id is empty. Cannot retrieve authorized scope index from cache.");
+            return new AuthorizedScopeIndexCacheEntry(authorizedAPIDAO.getAuthorizedAPIs(appId, tenantId));
+        }
+        AuthorizedScopeIndexCacheKey cacheKey = new AuthorizedScopeIndexCacheKey(appId);
+        AuthorizedScopeIndexCacheEntry cacheEntry = AuthorizedScopeIndexCache.getInstance()
+                .getValueFromCache(cacheKey, tenantId);
+        if (cacheEntry != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Authorized scope index found in cache for application id: " + appId + " in tenant id: "
+                        + tenantId);
+            }
+            return cacheEntry;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Authorized scope index not found in cache for application id: " + appId + " in tenant id: "
+                    + tenantId);
+        }
+        cacheEntry = new AuthorizedScopeIndexCacheEntry(authorizedAPIDAO.getAuthorizedAPIs(appId, tenantId));
+        AuthorizedScopeIndexCache.getInstance().addToCache(cacheKey, cacheEntry, tenantId);
+        return cacheEntry;
+    }
+
+    private void clearAuthorizedScopeIndexFromCache(String appId, int tenantId) {
+
+        if (StringUtils.isNotBlank(appId)) {
+            AuthorizedScopeIndexCache.getInstance().clearCacheEntry(new AuthorizedScopeIndexCacheKey(appId),
+                    tenantId);
+        } else {
+            LOG.debug("Application id is empty. Cannot clear authorized scope index from cache.");
+        }
+    }
 }
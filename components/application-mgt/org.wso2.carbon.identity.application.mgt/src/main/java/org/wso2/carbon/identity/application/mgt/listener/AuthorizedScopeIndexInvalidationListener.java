@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.resource.mgt.listener.APIResourceManagementListener;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedAPICache;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedScopeIndexCache;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+
+/**
+ * API resource management listener which clears the cached authorized APIs and authorized scope indexes of the
+ * tenant when the scopes of an API resource are changed. The whole tenant is cleared since the applications
+ * authorized for the API resource are not known here.
+ */
+public class AuthorizedScopeIndexInvalidationListener implements APIResourceManagementListener {
+
+    private static final Log LOG = LogFactory.getLog(AuthorizedScopeIndexInvalidationListener.class);
+
+    @Override
+    public int getExecutionOrderId() {
+
+        return 10;
+    }
+
+    @Override
+    public void postUpdateAPIResourceScopes(String apiResourceId, String tenantDomain) {
+
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Clearing the authorized API caches of tenant: " + tenantDomain + " as the scopes of the API " +
+                    "resource: " + apiResourceId + " are changed.");
+        }
+        AuthorizedScopeIndexCache.getInstance().clear(tenantId);
+        AuthorizedAPICache.getInstance().clear(tenantId);
+    }
+}
@@ -254,6 +254,37 @@ public class AuthorizedAPIManagementServiceImplTest extends PowerMockTestCase {
         Assert.assertNull(authzAPI);
     }
 
+    @Test(priority = 5)
+    public void testGetAuthorizedScopesAfterPatch() throws Exception {
+
+        String appId = addApplication();
+        APIResource apiResource = addTestAPIResource("test-patch-scopes");
+        AuthorizedAPI authorizedAPI = new AuthorizedAPI.AuthorizedAPIBuilder()
+                .apiId(apiResource.getId())
+                .appId(appId)
+                .policyId("RBAC")
+                .scopes(apiResource.getScopes())
+                .build();
+        authorizedAPIManagementService.addAuthorizedAPI(appId, authorizedAPI, tenantDomain);
+        List<AuthorizedScopes> authorizedScopesList = authorizedAPIManagementService.getAuthorizedScopes(appId,
+                tenantDomain);
+        Assert.assertEquals(authorizedScopesList.size(), 1);
+        Assert.assertEquals(authorizedScopesList.get(0).getScopes().size(), 2);
+
+        // The cached authorized scopes should be refreshed once a scope is removed.
+        String removedScope = apiResource.getScopes().get(0).getName();
+        authorizedAPIManagementService.patchAuthorizedAPI(appId, apiResource.getId(), new ArrayList<>(),
+                Collections.singletonList(removedScope), tenantDomain);
+        authorizedScopesList = authorizedAPIManagementService.getAuthorizedScopes(appId, tenantDomain);
+        Assert.assertEquals(authorizedScopesList.size(), 1);
+        Assert.assertEquals(authorizedScopesList.get(0).getScopes().size(), 1);
+        Assert.assertFalse(authorizedScopesList.get(0).getScopes().contains(removedScope));
+
+        List<AuthorizedAPI> authorizedAPIs = authorizedAPIManagementService.getAuthorizedAPIs(appId, tenantDomain);
+        Assert.assertEquals(authorizedAPIs.size(), 1);
+        Assert.assertEquals(authorizedAPIs.get(0).getScopes().size(), 1);
+    }
+
     private void setupConfiguration() throws UserStoreException, RegistryException {
 
         String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes", "repository").
@@ -21,16 +21,19 @@ package org.wso2.carbon.identity.application.authentication.framework.cache;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
 import org.wso2.carbon.identity.application.authentication.framework.exception.session.storage.SessionDataStorageOptimizationClientException;
 import org.wso2.carbon.identity.application.authentication.framework.exception.session.storage.SessionDataStorageOptimizationException;
 import org.wso2.carbon.identity.application.authentication.framework.exception.session.storage.SessionDataStorageOptimizationServerException;
 import org.wso2.carbon.identity.application.authentication.framework.store.SessionDataStore;
+import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class is used to cache the data about the
@@ -81,6 +84,15 @@ public class AuthenticationContextCache extends
      */
     public void addToCache(AuthenticationContextCacheKey key, AuthenticationContextCacheEntry entry) {
 
+        boolean persistedInstanceCached = false;
+        long modificationCount = 0L;
+        if (isTemporarySessionDataPersistEnabled && entry.getContext() != null) {
+            // The persisted state of a context instance is trusted only while the instance is held in the local
+            // cache. Once it is evicted, or cleared together with its persisted copy, it has to be persisted again.
+            AuthenticationContextCacheEntry cachedEntry = super.getValueFromCache(key);
+            persistedInstanceCached = cachedEntry != null && cachedEntry.getContext() == entry.getContext();
+            modificationCount = entry.getContext().getModificationCount();
+        }
         super.addToCache(key, entry);
         if (isTemporarySessionDataPersistEnabled) {
             int tenantId = MultitenantConstants.INVALID_TENANT_ID;
@@ -103,49 +115,83 @@ public class AuthenticationContextCache extends
                             ", Operation : STORE ]";
                     log.debug("Authentication context is stored with details " + message);
                 }
-                if (entry.getContext() != null) {
-                    try {
-                        AuthenticationContextLoader.getInstance().optimizeAuthenticationContext(entry.getContext());
-                    } catch (SessionDataStorageOptimizationClientException e) {
-                        if (log.isDebugEnabled()) {
-                            log.debug("Client error occurred while optimizing the Authentication context with " +
-                                    "context id: " + entry.getContext().getContextIdentifier(), e);
-                        }
-                        return;
-                    } catch (SessionDataStorageOptimizationServerException e) {
-                        log.error("Server error occurred while optimizing the Authentication context with " +
-                                "context id: " + entry.getContext().getContextIdentifier(), e);
-                        return;
-                    } catch (SessionDataStorageOptimizationException e) {
-                        if (log.isDebugEnabled()) {
-                            log.debug("Error occurred while optimizing the Authentication context with " +
-                                    "context id: " + entry.getContext().getContextIdentifier(), e);
-                        }
-                        return;
+                AuthenticationContext context = entry.getContext();
+                AuthenticationContextLoader.DetachedReferences detachedReferences;
+                try {
+                    detachedReferences = AuthenticationContextLoader.getInstance().detachAuthenticationContext(context);
+                } catch (SessionDataStorageOptimizationClientException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Client error occurred while optimizing the Authentication context with " +
+                                "context id: " + context.getContextIdentifier(), e);
+                    }
+                    return;
+                } catch (SessionDataStorageOptimizationServerException e) {
+                    log.error("Server error occurred while optimizing the Authentication context with " +
+                            "context id: " + context.getContextIdentifier(), e);
+                    return;
+                } catch (SessionDataStorageOptimizationException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Error occurred while optimizing the Authentication context with " +
+                                "context id: " + context.getContextIdentifier(), e);
                     }
+                    return;
+                }
+                long persistedTimeNano = context.getPersistedTime();
+                long currentTimeNano = FrameworkUtils.getCurrentStandardNano();
+                if (persistedInstanceCached && isPersistedStateCurrent(context, modificationCount,
+                        currentTimeNano)) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Authentication context with context id: " + key.getContextId() +
+                                " has not changed since it was last persisted. Skipping the persistence.");
+                    }
+                } else {
+                    SessionDataStore.getInstance().storeSessionData(key.getContextId(),
+                            AUTHENTICATION_CONTEXT_CACHE_NAME, entry, tenantId);
+                    persistedTimeNano = currentTimeNano;
                 }
-                SessionDataStore.getInstance().storeSessionData(key.getContextId(), AUTHENTICATION_CONTEXT_CACHE_NAME,
-                        entry, tenantId);
                 try {
-                    AuthenticationContextLoader.getInstance().loadAuthenticationContext(entry.getContext());
+                    AuthenticationContextLoader.getInstance().restoreAuthenticationContext(context,
+                            detachedReferences);
                 } catch (SessionDataStorageOptimizationClientException e) {
                     if (log.isDebugEnabled()) {
                         log.debug("Client error occurred while loading optimized authentication context"
-                                + " with context id: " + entry.getContext().getContextIdentifier(), e);
+                                + " with context id: " + context.getContextIdentifier(), e);
                     }
                 } catch (SessionDataStorageOptimizationServerException e) {
                     log.error("Server error occurred while loading optimized authentication " +
-                            "context with context id: " + entry.getContext().getContextIdentifier(), e);
+                            "context with context id: " + context.getContextIdentifier(), e);
                 } catch (SessionDataStorageOptimizationException e) {
                     if (log.isDebugEnabled()) {
                         log.debug("Error occurred while loading optimized authentication " +
-                                "context with context id: " + entry.getContext().getContextIdentifier(), e);
+                                "context with context id: " + context.getContextIdentifier(), e);
                     }
                 }
+                // Accessing the context while optimizing and restoring it does not change the persisted state.
+                context.setPersisted(persistedTimeNano);
             }
         }
     }
 
+    /**
+     * Check whether the context has not been modified since it was last persisted. The context is persisted again
+     * once half of the temporary data cleanup timeout has passed, so that the persisted copy does not expire while
+     * the context is still in use.
+     *
+     * @param context           Authentication context.
+     * @param modificationCount Modification count of the context when it was added to the cache.
+     * @param currentTimeNano   Current time in nanoseconds.
+     * @return True if the context does not need to be persisted again.
+     */
+    private boolean isPersistedStateCurrent(AuthenticationContext context, long modificationCount,
+                                            long currentTimeNano) {
+
+        if (!context.isPersistedAt(modificationCount)) {
+            return false;
+        }
+        long refreshIntervalNano = TimeUnit.MINUTES.toNanos(IdentityUtil.getTempDataCleanUpTimeout()) / 2;
+        return currentTimeNano - context.getPersistedTime() < refreshIntervalNano;
+    }
+
     /**
      * Retrieves a cache entry.
      *
@@ -170,6 +216,9 @@ public class AuthenticationContextCache extends
             super.addToCache(key, entry);
         }
         if (entry != null) {
+            AuthenticationContext context = entry.getContext();
+            boolean unmodifiedSincePersisted = context != null && context.isPersistedAt(
+                    context.getModificationCount());
             try {
                 AuthenticationContextLoader.getInstance().loadAuthenticationContext(entry.getContext());
             } catch (SessionDataStorageOptimizationClientException e) {
@@ -189,6 +238,10 @@ public class AuthenticationContextCache extends
                 }
                 entry = null;
             }
+            if (entry != null && unmodifiedSincePersisted) {
+                // Loading the optimized references back does not change the persisted state.
+                context.setPersisted(context.getPersistedTime());
+            }
         }
         return entry;
     }
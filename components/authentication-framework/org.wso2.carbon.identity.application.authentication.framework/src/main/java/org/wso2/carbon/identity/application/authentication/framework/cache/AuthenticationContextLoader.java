@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.application.authentication.framework.cache;
 
 import org.apache.juli.logging.Log;
 import org.apache.juli.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.ApplicationAuthenticator;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.ApplicationConfig;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.AuthenticatorConfig;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.ExternalIdPConfig;
@@ -47,6 +48,7 @@ import org.wso2.carbon.idp.mgt.IdentityProviderManager;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -109,6 +111,40 @@ public class AuthenticationContextLoader {
         loadApplicationConfig(context);
     }
 
+    /**
+     * This method is used to optimize the authentication context object before storing it, while keeping hold of
+     * the objects removed from the context. Once the context is stored, those objects can be put back with
+     * {@link #restoreAuthenticationContext(AuthenticationContext, DetachedReferences)} instead of loading them again.
+     *
+     * @param context Authentication context
+     * @return Objects removed from the context during the optimization.
+     * @throws SessionDataStorageOptimizationException Error when optimizing the authenticator configs and
+     * application config.
+     */
+    public DetachedReferences detachAuthenticationContext(AuthenticationContext context)
+            throws SessionDataStorageOptimizationException {
+
+        DetachedReferences detachedReferences = new DetachedReferences(context);
+        optimizeAuthenticationContext(context);
+        return detachedReferences;
+    }
+
+    /**
+     * This method is used to put back the objects removed from an optimized authentication context. Anything that
+     * could not be put back is loaded from the optimized context's references.
+     *
+     * @param context            Optimized authentication context
+     * @param detachedReferences Objects removed from the context during the optimization.
+     * @throws SessionDataStorageOptimizationException Error when loading the external idp, authenticator configs,
+     * and application config.
+     */
+    public void restoreAuthenticationContext(AuthenticationContext context, DetachedReferences detachedReferences)
+            throws SessionDataStorageOptimizationException {
+
+        detachedReferences.restore(context);
+        loadAuthenticationContext(context);
+    }
+
     private void optimizeExternalIdP(AuthenticationContext context) {
 
         if (context.getExternalIdP() != null) {
@@ -331,4 +367,72 @@ public class AuthenticationContextLoader {
         }
         return idp;
     }
+
+    /**
+     * Holds the objects removed from an authentication context when it is optimized.
+     */
+    public static class DetachedReferences {
+
+        private final ExternalIdPConfig externalIdP;
+        private final ApplicationConfig applicationConfig;
+        private final Map<StepConfig, AuthenticatorConfig> authenticatedAuthenticators = new IdentityHashMap<>();
+        private final Map<AuthenticatorConfig, ApplicationAuthenticator> applicationAuthenticators =
+                new IdentityHashMap<>();
+        private final Map<AuthenticatorConfig, Map<String, IdentityProvider>> idPs = new IdentityHashMap<>();
+        private final Map<AuthenticatorConfig, List<String>> idPNames = new IdentityHashMap<>();
+
+        private DetachedReferences(AuthenticationContext context) {
+
+            externalIdP = context.getExternalIdP();
+            SequenceConfig sequenceConfig = context.getSequenceConfig();
+            if (sequenceConfig == null) {
+                applicationConfig = null;
+                return;
+            }
+            applicationConfig = sequenceConfig.getApplicationConfig();
+            for (StepConfig stepConfig : sequenceConfig.getStepMap().values()) {
+                if (stepConfig.getAuthenticatedAutenticator() != null) {
+                    authenticatedAuthenticators.put(stepConfig, stepConfig.getAuthenticatedAutenticator());
+                }
+                for (AuthenticatorConfig authenticatorConfig : stepConfig.getAuthenticatorList()) {
+                    applicationAuthenticators.put(authenticatorConfig,
+                            authenticatorConfig.getApplicationAuthenticator());
+                    idPs.put(authenticatorConfig, authenticatorConfig.getIdps());
+                    idPNames.put(authenticatorConfig, authenticatorConfig.getIdpNames());
+                }
+            }
+        }
+
+        private void restore(AuthenticationContext context) {
+
+            if (externalIdP != null && context.getExternalIdP() == null) {
+                context.setExternalIdP(externalIdP);
+                context.setExternalIdPResourceId(null);
+            }
+            SequenceConfig sequenceConfig = context.getSequenceConfig();
+            if (sequenceConfig == null) {
+                return;
+            }
+            if (applicationConfig != null && sequenceConfig.getApplicationConfig() == null) {
+                sequenceConfig.setApplicationConfig(applicationConfig);
+            }
+            for (StepConfig stepConfig : sequenceConfig.getStepMap().values()) {
+                AuthenticatorConfig authenticatedAuthenticator = authenticatedAuthenticators.get(stepConfig);
+                if (authenticatedAuthenticator != null && stepConfig.getAuthenticatedAutenticator() == null) {
+                    stepConfig.setAuthenticatedAutenticator(authenticatedAuthenticator);
+                }
+                for (AuthenticatorConfig authenticatorConfig : stepConfig.getAuthenticatorList()) {
+                    if (authenticatorConfig.getApplicationAuthenticator() == null) {
+                        authenticatorConfig.setApplicationAuthenticator(
+                                applicationAuthenticators.get(authenticatorConfig));
+                    }
+                    if (authenticatorConfig.getIdps() == null && authenticatorConfig.getIdpNames() == null
+                            && idPs.get(authenticatorConfig) != null && idPNames.get(authenticatorConfig) != null) {
+                        authenticatorConfig.setIdPs(idPs.get(authenticatorConfig));
+                        authenticatorConfig.setIdPNames(idPNames.get(authenticatorConfig));
+                    }
+                }
+            }
+        }
+    }
 }
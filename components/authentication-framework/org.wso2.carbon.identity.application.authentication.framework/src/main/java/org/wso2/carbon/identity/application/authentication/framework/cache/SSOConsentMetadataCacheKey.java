@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.cache;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Cache key for {@link SSOConsentMetadataCache}.
+ */
+public class SSOConsentMetadataCacheKey implements Serializable {
+
+    private static final long serialVersionUID = -2816404452427151394L;
+
+    /**
+     * Types of consent metadata cached by {@link SSOConsentMetadataCache}.
+     */
+    public enum MetadataType {
+        PII_CATEGORY,
+        PURPOSE,
+        PURPOSE_CATEGORY
+    }
+
+    private final MetadataType metadataType;
+    private final String name;
+
+    public SSOConsentMetadataCacheKey(MetadataType metadataType, String name) {
+
+        this.metadataType = metadataType;
+        this.name = name;
+    }
+
+    public MetadataType getMetadataType() {
+
+        return metadataType;
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SSOConsentMetadataCacheKey that = (SSOConsentMetadataCacheKey) o;
+        return metadataType == that.metadataType && Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(metadataType, name);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.cache;
+
+import org.wso2.carbon.consent.mgt.core.model.PIICategoryValidity;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cache entry for {@link SSOConsentReceiptCache}. Holds the PII categories of the active consent receipt of a user,
+ * or no receipt if the user has not provided consent for the service provider yet.
+ */
+public class SSOConsentReceiptCacheEntry implements Serializable {
+
+    private static final long serialVersionUID = -4075323125786730592L;
+
+    private final String receiptId;
+    private final String piiPrincipalId;
+    private final List<ReceiptPIICategory> piiCategories;
+
+    public SSOConsentReceiptCacheEntry(String receiptId, String piiPrincipalId,
+                                       List<PIICategoryValidity> piiCategoryValidities) {
+
+        this.receiptId = receiptId;
+        this.piiPrincipalId = piiPrincipalId;
+        List<ReceiptPIICategory> categories = new ArrayList<>();
+        if (piiCategoryValidities != null) {
+            for (PIICategoryValidity piiCategoryValidity : piiCategoryValidities) {
+                categories.add(new ReceiptPIICategory(piiCategoryValidity));
+            }
+        }
+        this.piiCategories = Collections.unmodifiableList(categories);
+    }
+
+    /**
+     * Create an entry which denotes that the user does not have an active receipt for the service provider.
+     *
+     * @return Cache entry without a receipt.
+     */
+    public static SSOConsentReceiptCacheEntry noReceipt() {
+
+        return new SSOConsentReceiptCacheEntry(null, null, null);
+    }
+
+    public boolean hasReceipt() {
+
+        return receiptId != null;
+    }
+
+    public String getReceiptId() {
+
+        return receiptId;
+    }
+
+    public String getPiiPrincipalId() {
+
+        return piiPrincipalId;
+    }
+
+    /**
+     * Get the PII categories of the receipt. A new list is returned on each invocation, so callers are free to
+     * modify it.
+     *
+     * @return PII categories of the receipt.
+     */
+    public List<PIICategoryValidity> getPIICategoryValidities() {
+
+        List<PIICategoryValidity> piiCategoryValidities = new ArrayList<>(piiCategories.size());
+        for (ReceiptPIICategory piiCategory : piiCategories) {
+            piiCategoryValidities.add(piiCategory.toPIICategoryValidity());
+        }
+        return piiCategoryValidities;
+    }
+
+    /**
+     * Serializable snapshot of a {@link PIICategoryValidity} of a receipt.
+     */
+    private static class ReceiptPIICategory implements Serializable {
+
+        private static final long serialVersionUID = 2304186512270843641L;
+
+        private final int id;
+        private final String name;
+        private final String displayName;
+        private final String validity;
+        private final boolean consented;
+
+        ReceiptPIICategory(PIICategoryValidity piiCategoryValidity) {
+
+            this.id = piiCategoryValidity.getId();
+            this.name = piiCategoryValidity.getName();
+            this.displayName = piiCategoryValidity.getDisplayName();
+            this.validity = piiCategoryValidity.getValidity();
+            this.consented = piiCategoryValidity.isConsented();
+        }
+
+        PIICategoryValidity toPIICategoryValidity() {
+
+            PIICategoryValidity piiCategoryValidity = new PIICategoryValidity(id, validity);
+            piiCategoryValidity.setName(name);
+            piiCategoryValidity.setDisplayName(displayName);
+            piiCategoryValidity.setConsented(consented);
+            return piiCategoryValidity;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.cache;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Cache key for {@link SSOConsentReceiptCache}.
+ */
+public class SSOConsentReceiptCacheKey implements Serializable {
+
+    private static final long serialVersionUID = 6412839061275829367L;
+
+    private final String subject;
+    private final String serviceProvider;
+    private final String spTenantDomain;
+
+    public SSOConsentReceiptCacheKey(String subject, String serviceProvider, String spTenantDomain) {
+
+        this.subject = subject;
+        this.serviceProvider = serviceProvider;
+        this.spTenantDomain = spTenantDomain;
+    }
+
+    public String getSubject() {
+
+        return subject;
+    }
+
+    public String getServiceProvider() {
+
+        return serviceProvider;
+    }
+
+    public String getSpTenantDomain() {
+
+        return spTenantDomain;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SSOConsentReceiptCacheKey that = (SSOConsentReceiptCacheKey) o;
+        return Objects.equals(subject, that.subject) && Objects.equals(serviceProvider, that.serviceProvider) &&
+                Objects.equals(spTenantDomain, that.spTenantDomain);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(subject, serviceProvider, spTenantDomain);
+    }
+}
@@ -21,25 +21,35 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.lang.management.ManagementFactory;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Supervises the execution of any script engine, and kills the thread if the time taken is too much.
+ * <p>
+ * All the executions are supervised by a single monitor thread driving a hashed timer wheel. Starting and completing
+ * the supervision of an execution only links and unlinks an entry in a wheel bucket, and the memory consumption of
+ * all the running executions is sampled together on each tick of the wheel.
  */
 public class JSExecutionSupervisor {
 
     private static final Log LOG = LogFactory.getLog(JSExecutionSupervisor.class);
     private static final String JS_EXECUTION_MONITOR = "JS-Exec-Monitor";
+    private static final int WHEEL_SIZE = 512;
     private final long timeoutInMillis;
     private final long memoryLimitInBytes;
     private long taskExecutionRateInMillis = 50L;
-    private Map<String, TaskHolder> currentScriptExecutions = new HashMap<>();
-    private ScheduledExecutorService monitoringService;
+    private final Map<String, MonitoringTask> currentScriptExecutions = new ConcurrentHashMap<>();
+    private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+    private final long tickDurationInNanos;
+    private final long wheelStartTimeInNanos;
+    private final Thread monitoringThread;
+    private volatile boolean running = true;
+    private ThreadMXBean memoryCounter = null;
     private static final int MONITOR_TYPE_TIME = 0;
     private static final int MONITOR_TYPE_MEMORY = 1;
     private static final int WARN_THRESHOLD = 70;
@@ -49,6 +59,14 @@ public class JSExecutionSupervisor {
         this(threadCount, timeoutInMillis, 0L);
     }
 
+    /**
+     * Create an execution supervisor.
+     *
+     * @param threadCount     Not used. All the executions are supervised by a single monitor thread.
+     * @param timeoutInMillis Maximum time an execution is allowed to run.
+     * @param memoryLimit     Maximum memory an execution is allowed to allocate. Memory is not supervised if this
+     *                        is not a positive value.
+     */
     public JSExecutionSupervisor(int threadCount, long timeoutInMillis, long memoryLimit) {
 
         if (taskExecutionRateInMillis > timeoutInMillis) {
@@ -59,12 +77,20 @@ public class JSExecutionSupervisor {
 
         if (memoryLimit > 0) {
             this.memoryLimitInBytes = memoryLimit;
+            initMemoryCounter();
         } else {
             // We are not checking for memory usage.
             memoryLimitInBytes = -1;
         }
 
-        monitoringService = new ScheduledThreadPoolExecutor(threadCount, r -> new Thread(r, JS_EXECUTION_MONITOR));
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new Bucket();
+        }
+        tickDurationInNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, taskExecutionRateInMillis));
+        wheelStartTimeInNanos = System.nanoTime();
+        monitoringThread = new Thread(this::runTicks, JS_EXECUTION_MONITOR);
+        monitoringThread.setDaemon(true);
+        monitoringThread.start();
     }
 
     /**
@@ -72,7 +98,8 @@ public class JSExecutionSupervisor {
      */
     public void shutdown() {
 
-        monitoringService.shutdown();
+        running = false;
+        monitoringThread.interrupt();
     }
 
     /**
@@ -105,10 +132,13 @@ public class JSExecutionSupervisor {
 
         MonitoringTask monitoringTask = new MonitoringTask(Thread.currentThread(), identifier, serviceProvider,
                 tenantDomain, elapsedTimeInMillis, consumedMemoryInBytes);
-        ScheduledFuture<?> monitoredFuture = monitoringService.
-                scheduleAtFixedRate(monitoringTask, taskExecutionRateInMillis, taskExecutionRateInMillis,
-                        TimeUnit.MILLISECONDS);
-        currentScriptExecutions.put(identifier, new TaskHolder(monitoringTask, monitoredFuture));
+        currentScriptExecutions.put(identifier, monitoringTask);
+        long remainingTimeInMillis = Math.max(0L, timeoutInMillis - elapsedTimeInMillis);
+        long warnTimeInMillis = ((timeoutInMillis * WARN_THRESHOLD) / 100) - elapsedTimeInMillis;
+        if (warnTimeInMillis > 0 && warnTimeInMillis < remainingTimeInMillis) {
+            arm(monitoringTask.warnTimeout, warnTimeInMillis);
+        }
+        arm(monitoringTask.timeout, remainingTimeInMillis);
     }
 
     /**
@@ -119,69 +149,210 @@ public class JSExecutionSupervisor {
      */
     public JSExecutionMonitorData completed(String identifier) {
 
-        TaskHolder taskHolder = currentScriptExecutions.remove(identifier);
-        if (taskHolder == null) {
+        MonitoringTask task = currentScriptExecutions.remove(identifier);
+        if (task == null) {
             // Nothing to be done as there was no such task with the given identifier.
             return null;
         }
 
-        ScheduledFuture<?> monitoredFuture = taskHolder.getScheduledFuture();
-        if (taskHolder.getScheduledFuture() != null) {
-            monitoredFuture.cancel(true);
+        task.completed.set(true);
+        cancel(task.warnTimeout);
+        cancel(task.timeout);
+
+        long elapsedTime = task.getTotalElapsedTime();
+        long consumedMemory = task.getTotalConsumedMemory();
+        return new JSExecutionMonitorData(elapsedTime, consumedMemory);
+    }
+
+    private void initMemoryCounter() {
+
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            try {
+                ((ThreadMXBean) threadMXBean).setThreadAllocatedMemoryEnabled(true);
+                memoryCounter = (ThreadMXBean) threadMXBean;
+            } catch (UnsupportedOperationException e) {
+                LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
+                        "supervision will not be done for adaptive auth script executions.", e);
+            }
+        } else {
+            LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
+                    "supervision will not be done for adaptive auth script executions.");
         }
+    }
 
-        MonitoringTask task = taskHolder.getMonitoringTask();
-        long elapsedTime = 0L;
-        long consumedMemory = 0L;
-        if (task != null) {
-            elapsedTime = task.getTotalElapsedTime();
-            consumedMemory = task.getTotalConsumedMemory();
-            task.turnOffThreadMemoryCounting();
+    private long currentTick() {
+
+        return (System.nanoTime() - wheelStartTimeInNanos) / tickDurationInNanos;
+    }
+
+    private void arm(WheelTimeout timeout, long delayInMillis) {
+
+        long deadlineInNanos = System.nanoTime() - wheelStartTimeInNanos + TimeUnit.MILLISECONDS.toNanos(delayInMillis);
+        long deadlineTick = (deadlineInNanos + tickDurationInNanos - 1) / tickDurationInNanos;
+        timeout.deadlineTick = Math.max(currentTick() + 1, deadlineTick);
+        Bucket bucket = wheel[(int) (timeout.deadlineTick & (WHEEL_SIZE - 1))];
+        bucket.add(timeout);
+    }
+
+    private void cancel(WheelTimeout timeout) {
+
+        Bucket bucket = timeout.bucket;
+        if (bucket != null) {
+            bucket.remove(timeout);
         }
+    }
 
-        return new JSExecutionMonitorData(elapsedTime, consumedMemory);
+    private void runTicks() {
+
+        long lastProcessedTick = currentTick();
+        List<WheelTimeout> expiredTimeouts = new ArrayList<>();
+        while (running) {
+            long nextTickTimeInNanos = wheelStartTimeInNanos + (lastProcessedTick + 1) * tickDurationInNanos;
+            long sleepTimeInNanos = nextTickTimeInNanos - System.nanoTime();
+            if (sleepTimeInNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepTimeInNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            long tick = currentTick();
+            // Catch up with any ticks missed while the monitor thread was busy, without looping over the wheel
+            // more than once.
+            long firstTick = Math.max(lastProcessedTick + 1, tick - WHEEL_SIZE + 1);
+            for (long processingTick = firstTick; processingTick <= tick; processingTick++) {
+                wheel[(int) (processingTick & (WHEEL_SIZE - 1))].expire(tick, expiredTimeouts);
+            }
+            lastProcessedTick = tick;
+            try {
+                for (WheelTimeout timeout : expiredTimeouts) {
+                    timeout.expired();
+                }
+                if (memoryCounter != null) {
+                    sampleMemory();
+                }
+            } catch (RuntimeException e) {
+                LOG.error("Error while supervising adaptive auth script executions.", e);
+            } finally {
+                expiredTimeouts.clear();
+            }
+        }
     }
 
-    private class TaskHolder {
+    /**
+     * Sample the allocated memory of all the running executions with a single call to the memory counter.
+     */
+    private void sampleMemory() {
 
-        private MonitoringTask monitoringTask;
-        private ScheduledFuture<?> scheduledFuture;
+        if (currentScriptExecutions.isEmpty()) {
+            return;
+        }
+        List<MonitoringTask> tasks = new ArrayList<>(currentScriptExecutions.values());
+        long[] threadIds = new long[tasks.size()];
+        for (int i = 0; i < threadIds.length; i++) {
+            threadIds[i] = tasks.get(i).originalThread.getId();
+        }
+        long[] allocatedBytes = memoryCounter.getThreadAllocatedBytes(threadIds);
+        for (int i = 0; i < threadIds.length; i++) {
+            if (allocatedBytes[i] >= 0) {
+                tasks.get(i).checkMemory(allocatedBytes[i]);
+            }
+        }
+    }
 
-        public TaskHolder(MonitoringTask monitoringTask, ScheduledFuture<?> scheduledFuture) {
+    /**
+     * A bucket of the timer wheel holding a doubly linked list of timeouts.
+     */
+    private static class Bucket {
 
-            this.monitoringTask = monitoringTask;
-            this.scheduledFuture = scheduledFuture;
+        private WheelTimeout head;
+
+        synchronized void add(WheelTimeout timeout) {
+
+            timeout.bucket = this;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
         }
 
-        public MonitoringTask getMonitoringTask() {
+        synchronized void remove(WheelTimeout timeout) {
 
-            return monitoringTask;
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
         }
 
-        public ScheduledFuture<?> getScheduledFuture() {
+        synchronized void expire(long tick, List<WheelTimeout> expiredTimeouts) {
 
-            return scheduledFuture;
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.deadlineTick <= tick) {
+                    remove(timeout);
+                    expiredTimeouts.add(timeout);
+                }
+                timeout = next;
+            }
         }
     }
 
-    private class MonitoringTask implements Runnable {
+    /**
+     * A timeout of an execution linked to a bucket of the timer wheel.
+     */
+    private static class WheelTimeout {
 
-        private Thread originalThread;
-        private String id;
-        private String serviceProvider;
-        private String tenantDomain;
-        private long timeCreated;
-        private long elapsedTimeInMillis;
-        private long startMemoryInBytes;
-        private long consumedMemoryInBytes;
-        private ThreadMXBean memoryCounter = null;
+        private final MonitoringTask task;
+        private long deadlineTick;
+        private volatile Bucket bucket;
+        private WheelTimeout prev;
+        private WheelTimeout next;
 
-        public MonitoringTask(Thread originalThread, String id, String serviceProvider, String tenantDomain,
-                              long elapsedTimeInMillis) {
+        WheelTimeout(MonitoringTask task) {
 
-            this(originalThread, id, serviceProvider, tenantDomain, elapsedTimeInMillis, 0L);
+            this.task = task;
         }
 
+        void expired() {
+
+            if (task.completed.get()) {
+                return;
+            }
+            task.timeoutExpired(this);
+        }
+    }
+
+    private class MonitoringTask {
+
+        private final Thread originalThread;
+        private final String id;
+        private final String serviceProvider;
+        private final String tenantDomain;
+        private final long timeCreated;
+        private final long elapsedTimeInMillis;
+        private long startMemoryInBytes;
+        private final long consumedMemoryInBytes;
+        private boolean memoryWarningLogged;
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+        private final WheelTimeout timeout;
+        private final WheelTimeout warnTimeout;
+
         public MonitoringTask(Thread originalThread, String id, String serviceProvider, String tenantDomain,
                               long elapsedTimeInMillis, long consumedMemoryInBytes) {
 
@@ -192,61 +363,55 @@ public class JSExecutionSupervisor {
             this.timeCreated = System.currentTimeMillis();
             this.elapsedTimeInMillis = elapsedTimeInMillis;
             this.consumedMemoryInBytes = consumedMemoryInBytes;
-
-            if (memoryLimitInBytes > 0) {
-                java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
-                if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
-                    memoryCounter = (ThreadMXBean) threadMXBean;
-                    try {
-                        turnOnThreadMemoryCounting();
-                        startMemoryInBytes = getCurrentMemory(originalThread.getId());
-                    } catch (UnsupportedOperationException e) {
-                        LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
-                                "supervision will not be done for adaptive auth script executions.", e);
-                    }
-                } else {
-                    LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
-                            "supervision will not be done for adaptive auth script executions.");
-                }
-            }
+            this.startMemoryInBytes = getCurrentMemory(originalThread.getId());
+            this.timeout = new WheelTimeout(this);
+            this.warnTimeout = new WheelTimeout(this);
         }
 
-        @Override
-        public void run() {
+        private void timeoutExpired(WheelTimeout expiredTimeout) {
 
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(String.format("JS execution monitoring task running. Thread: %s, service " +
-                        "provider: %s, tenant: %s.", originalThread.getName(), serviceProvider, tenantDomain));
+            long elapsedTime = getTotalElapsedTime();
+            if (expiredTimeout == warnTimeout) {
+                printThresholdReachedWarnLog(MONITOR_TYPE_TIME, elapsedTime);
+            } else if (elapsedTime > timeoutInMillis) {
+                terminateScriptExecutingThread(MONITOR_TYPE_TIME, elapsedTime);
+            } else {
+                // The wall clock has not passed the timeout yet. Check again on a following tick.
+                arm(timeout, timeoutInMillis - elapsedTime + 1);
             }
+        }
 
-            long elapsedTime = getTotalElapsedTime();
+        private void checkMemory(long currentMemoryInBytes) {
 
-            if (elapsedTime > timeoutInMillis) {
-                terminateScriptExecutingThread(MONITOR_TYPE_TIME, elapsedTime);
+            if (completed.get()) {
                 return;
             }
-
-            if (isTimeBasedWarnThresholdReached(elapsedTime)) {
-                printThresholdReachedWarnLog(MONITOR_TYPE_TIME, elapsedTime);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("JS execution memory sampled. Thread: %s, service " +
+                        "provider: %s, tenant: %s.", originalThread.getName(), serviceProvider, tenantDomain));
+            }
+            long consumedMemory = (currentMemoryInBytes - startMemoryInBytes) + consumedMemoryInBytes;
+            if (consumedMemory > memoryLimitInBytes) {
+                terminateScriptExecutingThread(MONITOR_TYPE_MEMORY, consumedMemory);
                 return;
             }
 
-            if (memoryCounter != null) {
-                long consumedMemory = getTotalConsumedMemory();
-                if (consumedMemory > memoryLimitInBytes) {
-                    terminateScriptExecutingThread(MONITOR_TYPE_MEMORY, consumedMemory);
-                    return;
-                }
-
-                if (isMemoryBasedWarnThresholdReached(consumedMemory)) {
-                    printThresholdReachedWarnLog(MONITOR_TYPE_MEMORY, consumedMemory);
-                    return;
-                }
+            if (!memoryWarningLogged && isMemoryBasedWarnThresholdReached(consumedMemory)) {
+                memoryWarningLogged = true;
+                printThresholdReachedWarnLog(MONITOR_TYPE_MEMORY, consumedMemory);
             }
         }
 
         private void terminateScriptExecutingThread(int monitorType, long consumedResourceValue) {
 
+            // Marking current monitoring task as complete, unless the execution has completed in the meantime.
+            if (completed.getAndSet(true)) {
+                return;
+            }
+            currentScriptExecutions.remove(id, this);
+            cancel(warnTimeout);
+            cancel(timeout);
+
             String warnLog;
             if (MONITOR_TYPE_TIME == monitorType) {
                 warnLog = String.format("The script took too much time to execute. Thread: %s, service provider: %s, " +
@@ -264,9 +429,6 @@ public class JSExecutionSupervisor {
             LOG.warn(warnLog, throwable);
             originalThread.interrupt();
             originalThread.stop();
-
-            // Marking current monitoring task as complete.
-            completed(id);
         }
 
         private void printThresholdReachedWarnLog(int monitorType, long consumedResourceValue) {
@@ -303,25 +465,6 @@ public class JSExecutionSupervisor {
             return 0L;
         }
 
-        private void turnOnThreadMemoryCounting() {
-
-            if (memoryCounter != null) {
-                memoryCounter.setThreadAllocatedMemoryEnabled(true);
-            }
-        }
-
-        private void turnOffThreadMemoryCounting() {
-
-            if (memoryCounter != null) {
-                memoryCounter.setThreadAllocatedMemoryEnabled(false);
-            }
-        }
-
-        private boolean isTimeBasedWarnThresholdReached(long elapsedTime) {
-
-            return ((elapsedTime * 100) / timeoutInMillis) >= WARN_THRESHOLD;
-        }
-
         private boolean isMemoryBasedWarnThresholdReached(long consumedMemory) {
 
             return ((consumedMemory * 100) / memoryLimitInBytes) >= WARN_THRESHOLD;
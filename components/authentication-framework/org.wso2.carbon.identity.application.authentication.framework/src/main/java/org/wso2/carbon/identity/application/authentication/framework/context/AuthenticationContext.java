@@ -125,11 +125,24 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     private long expiryTimeNano = 0L;
 
+    /**
+     * Number of modifications made to this instance of the context, and the modification count and time
+     * (nanoseconds) at which it was last persisted. These are kept only in memory to skip persisting the context
+     * again when it has not been modified. Only the methods that modify the context count as modifications, so reading
+     * the context does not cause it to be persisted again. Changes made through the objects handed out by the getters
+     * are persisted with the next modification of the context, or when the persisted copy is refreshed.
+     */
+    private transient long modificationCount;
+    private transient boolean persisted;
+    private transient long persistedModificationCount;
+    private transient long persistedTimeNano;
+
     public String getCallerPath() {
         return callerPath;
     }
 
     public void setCallerPath(String callerPath) {
+        markModified();
         this.callerPath = callerPath;
     }
 
@@ -138,6 +151,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setCallerSessionKey(String callerSessionKey) {
+        markModified();
         this.callerSessionKey = callerSessionKey;
     }
 
@@ -146,10 +160,12 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setQueryParams(String queryParams) {
+        markModified();
         this.queryParams = queryParams;
     }
 
     public void setOrignalRequestQueryParams(String queryParams) {
+        markModified();
         this.queryParams = queryParams;
     }
 
@@ -158,6 +174,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setRequestType(String requestType) {
+        markModified();
         this.requestType = requestType;
     }
 
@@ -166,6 +183,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setLogoutRequest(boolean isLogoutRequest) {
+        markModified();
         this.isLogoutRequest = isLogoutRequest;
     }
 
@@ -174,6 +192,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setCurrentStep(int currentStep) {
+        markModified();
         this.currentStep = currentStep;
     }
 
@@ -182,6 +201,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setSequenceConfig(SequenceConfig sequenceConfig) {
+        markModified();
         this.sequenceConfig = sequenceConfig;
     }
 
@@ -190,6 +210,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setSubject(AuthenticatedUser subject) {
+        markModified();
         this.subject = subject;
         if (subject != null) {
             lastAuthenticatedUser = subject;
@@ -201,6 +222,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setContextIdentifier(String contextIdentifier) {
+        markModified();
         this.contextIdentifier = contextIdentifier;
     }
 
@@ -209,6 +231,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setRequestAuthenticated(boolean requestAuthenticated) {
+        markModified();
         this.requestAuthenticated = requestAuthenticated;
     }
 
@@ -217,6 +240,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setRememberMe(boolean rememberMe) {
+        markModified();
         this.rememberMe = rememberMe;
     }
 
@@ -225,6 +249,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setSessionIdentifier(String sessionIdentifier) {
+        markModified();
         this.sessionIdentifier = sessionIdentifier;
     }
 
@@ -233,14 +258,17 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setProperties(Map<String, Object> properties) {
+        markModified();
         this.parameters = properties;
     }
 
     public void setProperty(String key, Object value) {
+        markModified();
         parameters.put(key, value);
     }
 
     public void removeProperty(String key) {
+        markModified();
         parameters.remove(key);
     }
 
@@ -248,11 +276,26 @@ public class AuthenticationContext extends MessageContext implements Serializabl
         return parameters.get(key);
     }
 
+    @Override
+    public void addParameter(Object key, Object value) {
+
+        markModified();
+        super.addParameter(key, value);
+    }
+
+    @Override
+    public void addParameters(Map parameters) {
+
+        markModified();
+        super.addParameters(parameters);
+    }
+
     public ExternalIdPConfig getExternalIdP() {
         return externalIdP;
     }
 
     public void setExternalIdP(ExternalIdPConfig externalIdP) {
+        markModified();
         this.externalIdP = externalIdP;
     }
 
@@ -261,6 +304,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setTenantDomain(String tenantDomain) {
+        markModified();
         this.tenantDomain = tenantDomain;
     }
 
@@ -269,6 +313,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setStateInfo(AuthenticatorStateInfo stateInfo) {
+        markModified();
         this.stateInfo = stateInfo;
     }
 
@@ -277,6 +322,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setRetryCount(int retryCount) {
+        markModified();
         this.retryCount = retryCount;
     }
 
@@ -286,6 +332,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
 
     public void setAuthenticatorProperties(
             Map<String, String> authenticatorProperties) {
+        markModified();
         this.authenticatorProperties = authenticatorProperties;
     }
 
@@ -294,6 +341,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setServiceProviderName(String serviceProviderName) {
+        markModified();
         this.serviceProviderName = serviceProviderName;
     }
 
@@ -304,6 +352,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
 
     public void setServiceProviderResourceId(String serviceProviderResourceId) {
 
+        markModified();
         this.serviceProviderResourceId = serviceProviderResourceId;
     }
 
@@ -312,6 +361,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setForceAuthenticate(boolean forceAuthenticate) {
+        markModified();
         this.forceAuthenticate = forceAuthenticate;
     }
 
@@ -320,6 +370,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setPassiveAuthenticate(boolean passiveAuthenticate) {
+        markModified();
         this.passiveAuthenticate = passiveAuthenticate;
     }
 
@@ -328,6 +379,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setReAuthenticate(boolean reAuthenticate) {
+        markModified();
         this.reAuthenticate = reAuthenticate;
     }
 
@@ -336,6 +388,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setContextIdIncludedQueryParams(String contextIdIncludedQueryParams) {
+        markModified();
         this.contextIdIncludedQueryParams = contextIdIncludedQueryParams;
     }
 
@@ -344,6 +397,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setReturning(boolean returning) {
+        markModified();
         this.returning = returning;
     }
 
@@ -352,6 +406,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setCurrentAuthenticatedIdPs(Map<String, AuthenticatedIdPData> currentAuthenticatedIdPs) {
+        markModified();
         this.currentAuthenticatedIdPs = currentAuthenticatedIdPs;
     }
 
@@ -360,11 +415,13 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setPreviousAuthenticatedIdPs(Map<String, AuthenticatedIdPData> previousAuthenticatedIdPs) {
+        markModified();
         this.previousAuthenticatedIdPs = previousAuthenticatedIdPs;
     }
 
     public void setAuthenticatedIdPsOfApp(Map<String, AuthenticatedIdPData> authenticatedIdPsOfApp) {
 
+        markModified();
         this.authenticatedIdPsOfApp = authenticatedIdPsOfApp;
     }
 
@@ -378,6 +435,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setRetrying(boolean retrying) {
+        markModified();
         this.retrying = retrying;
     }
 
@@ -386,6 +444,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setCurrentAuthenticator(String currentAuthenticator) {
+        markModified();
         this.currentAuthenticator = currentAuthenticator;
     }
 
@@ -396,6 +455,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
 
     public void setRedirectURL(String redirectURL) {
 
+        markModified();
         this.redirectURL = redirectURL;
     }
 
@@ -404,6 +464,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setPreviousSessionFound(boolean previousSessionFound) {
+        markModified();
         this.previousSessionFound = previousSessionFound;
     }
 
@@ -412,6 +473,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setRelyingParty(String relyingParty) {
+        markModified();
         this.relyingParty = relyingParty;
     }
 
@@ -420,6 +482,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setAuthenticationRequest(AuthenticationRequest authenticationRequest) {
+        markModified();
         this.authenticationRequest = authenticationRequest;
     }
 
@@ -428,10 +491,12 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setPreviousAuthTime(boolean previousAuthTime) {
+        markModified();
         this.previousAuthTime = previousAuthTime;
     }
 
     public void addAuthenticationStepHistory(AuthHistory history) {
+        markModified();
         authenticationStepHistory.add(history);
     }
 
@@ -444,6 +509,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setAcrRule(AcrRule acrRule) {
+        markModified();
         this.acrRule = acrRule;
     }
 
@@ -452,6 +518,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void setSelectedAcr(String selectedAcr) {
+        markModified();
         this.selectedAcr = selectedAcr;
     }
 
@@ -463,6 +530,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
     }
 
     public void addRequestedAcr(String acr) {
+        markModified();
         if (requestedAcr == null) {
             requestedAcr = new ArrayList<>();
         }
@@ -484,6 +552,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void setSendToMultiOptionPage(boolean sendToMultiOptionPage) {
 
+        markModified();
         this.sendToMultiOptionPage = sendToMultiOptionPage;
     }
 
@@ -522,6 +591,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void setExecutedPostAuthHandler(String postAuthHandler) {
 
+        markModified();
         this.executedPostAuthHandlers.add(postAuthHandler);
         currentPostAuthHandlerIndex++;
     }
@@ -533,6 +603,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void addAuthenticatorParams(Map<String, Map<String, String>> authenticatorParams) {
 
+        markModified();
         if (MapUtils.isEmpty(authenticatorParams)) {
             return;
         }
@@ -583,6 +654,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void addEndpointParam(String key, Serializable value) {
 
+        markModified();
         endpointParams.put(key, value);
     }
 
@@ -593,6 +665,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void addEndpointParams(Map<String, Serializable> params) {
 
+        markModified();
         endpointParams.putAll(params);
     }
 
@@ -622,6 +695,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void setActiveInAThread(boolean activeInAThread) {
 
+        markModified();
         this.activeInAThread = activeInAThread;
     }
 
@@ -631,6 +705,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void initializeAnalyticsData() {
 
+        markModified();
         Map<String, Serializable> analyticsData = new HashMap<>();
         this.addParameter(FrameworkConstants.AnalyticsData.DATA_MAP, analyticsData);
         this.setAnalyticsData(FrameworkConstants.AnalyticsData.AUTHENTICATION_START_TIME,
@@ -644,6 +719,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void setAnalyticsData(String key, Serializable value) {
 
+        markModified();
         Map<String, Serializable> analyticsData = (HashMap<String, Serializable>)
                 this.getParameter(FrameworkConstants.AnalyticsData.DATA_MAP);
         analyticsData.put(key, value);
@@ -689,6 +765,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void addRuntimeClaim(String claimUri, String claimValue) {
 
+        markModified();
         Object parameter = getProperty(FrameworkConstants.RUNTIME_CLAIMS);
         if (parameter instanceof Map) {
             Map<String, String> tempClaims = (Map<String, String>) parameter;
@@ -746,6 +823,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void setUserTenantDomainHint(String userTenantDomainHint) {
 
+        markModified();
         this.userTenantDomainHint = userTenantDomainHint;
     }
 
@@ -774,6 +852,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void setLoginTenantDomain(String loginTenantDomain) {
 
+        markModified();
         this.loginTenantDomain = loginTenantDomain;
     }
 
@@ -786,6 +865,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void addLoggedOutAuthenticator(String idpName, String authenticatorName) {
 
+        markModified();
         if (loggedOutAuthenticators.containsKey(idpName)) {
             loggedOutAuthenticators.get(idpName).add(authenticatorName);
         } else {
@@ -815,6 +895,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void clearLoggedOutAuthenticators() {
 
+        markModified();
         loggedOutAuthenticators.clear();
     }
 
@@ -825,6 +906,7 @@ public class AuthenticationContext extends MessageContext implements Serializabl
      */
     public void setExternalIdPResourceId(String resourceId) {
 
+        markModified();
         this.externalIdPResourceId = resourceId;
     }
 
@@ -845,9 +927,58 @@ public class AuthenticationContext extends MessageContext implements Serializabl
 
     public void setExpiryTime(long expiryTimeNano) {
 
+        markModified();
         this.expiryTimeNano = expiryTimeNano;
     }
 
+    /**
+     * Get the number of modifications made to this instance of the context.
+     *
+     * @return Modification count.
+     */
+    public long getModificationCount() {
+
+        return modificationCount;
+    }
+
+    /**
+     * Check whether this instance of the context was last persisted at the given modification count.
+     *
+     * @param modificationCount Modification count to check.
+     * @return True if the context was last persisted at the given modification count.
+     */
+    public boolean isPersistedAt(long modificationCount) {
+
+        return persisted && persistedModificationCount == modificationCount;
+    }
+
+    /**
+     * Get the time the context was last persisted.
+     *
+     * @return Persisted time in nanoseconds.
+     */
+    public long getPersistedTime() {
+
+        return persistedTimeNano;
+    }
+
+    /**
+     * Mark this instance of the context as persisted at its current modification count.
+     *
+     * @param persistedTimeNano Persisted time in nanoseconds.
+     */
+    public void setPersisted(long persistedTimeNano) {
+
+        this.persisted = true;
+        this.persistedModificationCount = modificationCount;
+        this.persistedTimeNano = persistedTimeNano;
+    }
+
+    private void markModified() {
+
+        modificationCount++;
+    }
+
     /**
      * Create a deep copy of the initial authentication context.
      *
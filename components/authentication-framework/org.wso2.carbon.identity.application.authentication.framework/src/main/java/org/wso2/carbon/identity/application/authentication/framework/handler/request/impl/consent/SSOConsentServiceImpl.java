@@ -38,6 +38,12 @@ import org.wso2.carbon.consent.mgt.core.model.ReceiptPurposeInput;
 import org.wso2.carbon.consent.mgt.core.model.ReceiptService;
 import org.wso2.carbon.consent.mgt.core.model.ReceiptServiceInput;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentMetadataCache;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentMetadataCacheKey;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentMetadataCacheKey.MetadataType;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentReceiptCache;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentReceiptCacheEntry;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentReceiptCacheKey;
 import org.wso2.carbon.identity.application.authentication.framework.handler.request.impl.consent.constant.SSOConsentConstants;
 import org.wso2.carbon.identity.application.authentication.framework.handler.request.impl.consent.exception.SSOConsentDisabledException;
 import org.wso2.carbon.identity.application.authentication.framework.handler.request.impl.consent.exception.SSOConsentServiceException;
@@ -67,6 +73,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -313,8 +320,9 @@ public class SSOConsentServiceImpl implements SSOConsentService {
 
         List<ClaimMetaData> receiptConsentMetaData = new ArrayList<>();
         List<ClaimMetaData> receiptConsentDeniedMetaData;
-        Receipt receipt = getConsentReceiptOfUser(serviceProvider, authenticatedUser, spName, spTenantDomain, subject);
-        if (useExistingConsents && receipt != null) {
+        SSOConsentReceiptCacheEntry receipt =
+                getConsentReceiptOfUser(serviceProvider, authenticatedUser, spName, spTenantDomain, subject);
+        if (useExistingConsents && receipt.hasReceipt()) {
             DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder = new DiagnosticLog.DiagnosticLogBuilder(
                     FrameworkConstants.LogConstants.AUTHENTICATION_FRAMEWORK,
                     FrameworkConstants.LogConstants.ActionIDs.PROCESS_CLAIM_CONSENT);
@@ -457,7 +465,7 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         if (!overrideExistingConsent) {
             String spName = serviceProvider.getApplicationName();
             String spTenantDomain = getSPTenantDomain(serviceProvider);
-            Receipt receipt =
+            SSOConsentReceiptCacheEntry receipt =
                     getConsentReceiptOfUser(serviceProvider, authenticatedUser, spName, spTenantDomain, subject);
             claimsWithConsent =
                     getUserRequestedClaims(receipt, userConsent, true);
@@ -524,8 +532,9 @@ public class SSOConsentServiceImpl implements SSOConsentService {
 
         String subject = buildSubjectWithUserStoreDomain(authenticatedUser);
 
-        Receipt receipt = getConsentReceiptOfUser(serviceProvider, authenticatedUser, spName, spTenantDomain, subject);
-        if (receipt == null) {
+        SSOConsentReceiptCacheEntry receipt =
+                getConsentReceiptOfUser(serviceProvider, authenticatedUser, spName, spTenantDomain, subject);
+        if (!receipt.hasReceipt()) {
             return receiptConsentMetaData;
         } else {
             receiptConsentMetaData = getRequestedClaimsFromReceipt(receipt, true);
@@ -545,9 +554,42 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         return ssoConsentEnabled;
     }
 
-    private Receipt getConsentReceiptOfUser(ServiceProvider serviceProvider, AuthenticatedUser authenticatedUser,
-                                            String spName, String spTenantDomain,
-                                            String subject) throws SSOConsentServiceException {
+    /**
+     * Get the active consent receipt of the user for the service provider. Receipts are served from the
+     * {@link SSOConsentReceiptCache} when available, and the absence of a receipt is cached as well.
+     */
+    private SSOConsentReceiptCacheEntry getConsentReceiptOfUser(ServiceProvider serviceProvider,
+                                                                AuthenticatedUser authenticatedUser, String spName,
+                                                                String spTenantDomain, String subject)
+            throws SSOConsentServiceException {
+
+        SSOConsentReceiptCacheKey cacheKey = new SSOConsentReceiptCacheKey(subject, spName, spTenantDomain);
+        SSOConsentReceiptCacheEntry cacheEntry = SSOConsentReceiptCache.getInstance().getValueFromCache(cacheKey,
+                authenticatedUser.getTenantDomain());
+        if (cacheEntry != null) {
+            if (isDebugEnabled()) {
+                logDebug(String.format("Consent receipt of user: %s for service provider: %s in tenant domain: %s " +
+                        "is retrieved from the cache.", subject, spName, spTenantDomain));
+            }
+            return cacheEntry;
+        }
+
+        Receipt receipt = getActiveConsentReceiptOfUser(serviceProvider, authenticatedUser, spName, spTenantDomain,
+                subject);
+        if (receipt == null) {
+            cacheEntry = SSOConsentReceiptCacheEntry.noReceipt();
+        } else {
+            cacheEntry = new SSOConsentReceiptCacheEntry(receipt.getConsentReceiptId(), receipt.getPiiPrincipalId(),
+                    getPIICategoriesFromServices(receipt.getServices()));
+        }
+        SSOConsentReceiptCache.getInstance().addToCache(cacheKey, cacheEntry, authenticatedUser.getTenantDomain());
+        return cacheEntry;
+    }
+
+    private Receipt getActiveConsentReceiptOfUser(ServiceProvider serviceProvider,
+                                                  AuthenticatedUser authenticatedUser, String spName,
+                                                  String spTenantDomain, String subject)
+            throws SSOConsentServiceException {
 
         int receiptListLimit = 2;
         List<ReceiptListResponse> receiptListResponses;
@@ -583,20 +625,33 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         ReceiptInput receiptInput =
                 buildReceiptInput(subject, serviceProvider, spTenantDomain, claimsWithConsent, claimsDeniedConsent);
         AddReceiptResponse receiptResponse;
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
         try {
             startTenantFlowWithUser(subject, subjectTenantDomain);
             receiptResponse = getConsentManager().addConsent(receiptInput);
         } catch (ConsentManagementException e) {
+            // The cached consent metadata might refer to entries which no longer exist.
+            SSOConsentMetadataCache.getInstance().clear(tenantId);
             throw new SSOConsentServiceException("Consent receipt error", "Error while adding the consent " +
                     "receipt", e);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
+            // Adding a receipt revokes the previous active receipt of the user for the service provider.
+            clearConsentReceiptCache(subject, subjectTenantDomain, serviceProvider, spTenantDomain);
         }
         if (isDebugEnabled()) {
             logDebug("Successfully added consent receipt: " + receiptResponse.getConsentReceiptId());
         }
     }
 
+    private void clearConsentReceiptCache(String subject, String subjectTenantDomain,
+                                          ServiceProvider serviceProvider, String spTenantDomain) {
+
+        String spName = serviceProvider == null ? null : serviceProvider.getApplicationName();
+        SSOConsentReceiptCache.getInstance().clearCacheEntry(
+                new SSOConsentReceiptCacheKey(subject, spName, spTenantDomain), subjectTenantDomain);
+    }
+
     private ReceiptInput buildReceiptInput(String subject, ServiceProvider serviceProvider, String spTenantDomain,
                                            List<ClaimMetaData> claimsWithConsent,
                                            List<ClaimMetaData> claimsDeniedConsent)
@@ -610,8 +665,8 @@ public class SSOConsentServiceImpl implements SSOConsentService {
                 CONSENT_VALIDITY_TYPE_VALID_UNTIL_INDEFINITE;
         String policyUrl = "NONE";
 
-        Purpose purpose = getDefaultPurpose();
-        PurposeCategory purposeCategory = getDefaultPurposeCategory();
+        int purposeId = getDefaultPurposeId();
+        int purposeCategoryId = getDefaultPurposeCategoryId();
         List<PIICategoryValidity> piiCategoryIds =
                 getPiiCategoryValidityForClaims(claimsWithConsent, claimsDeniedConsent, termination);
         List<ReceiptServiceInput> serviceInputs = new ArrayList<>();
@@ -619,9 +674,9 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         List<Integer> purposeCategoryIds = new ArrayList<>();
         Map<String, String> properties = new HashMap<>();
 
-        purposeCategoryIds.add(purposeCategory.getId());
+        purposeCategoryIds.add(purposeCategoryId);
 
-        ReceiptPurposeInput purposeInput = getReceiptPurposeInput(consentType, termination, purpose, piiCategoryIds,
+        ReceiptPurposeInput purposeInput = getReceiptPurposeInput(consentType, termination, purposeId, piiCategoryIds,
                 purposeCategoryIds);
         purposeInputs.add(purposeInput);
 
@@ -667,7 +722,7 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         return serviceInput;
     }
 
-    private ReceiptPurposeInput getReceiptPurposeInput(String consentType, String termination, Purpose purpose,
+    private ReceiptPurposeInput getReceiptPurposeInput(String consentType, String termination, int purposeId,
                                                        List<PIICategoryValidity> piiCategoryIds,
                                                        List<Integer> purposeCategoryIds) {
 
@@ -676,7 +731,7 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         purposeInput.setTermination(termination);
         purposeInput.setConsentType(consentType);
         purposeInput.setThirdPartyDisclosure(false);
-        purposeInput.setPurposeId(purpose.getId());
+        purposeInput.setPurposeId(purposeId);
         purposeInput.setPurposeCategoryId(purposeCategoryIds);
         purposeInput.setPiiCategory(piiCategoryIds);
         return purposeInput;
@@ -687,19 +742,30 @@ public class SSOConsentServiceImpl implements SSOConsentService {
                                                                       String termination)
             throws SSOConsentServiceException {
 
+        List<ClaimMetaData> requestedClaims = new ArrayList<>();
+        if (CollectionUtils.isNotEmpty(claimsWithConsent)) {
+            requestedClaims.addAll(claimsWithConsent);
+        }
+        if (CollectionUtils.isNotEmpty(claimsDeniedConsent)) {
+            requestedClaims.addAll(claimsDeniedConsent);
+        }
+        Map<String, Integer> piiCategoryIdsByName = getPIICategoriesByNames(requestedClaims);
+
         List<PIICategoryValidity> piiCategoryIds = new ArrayList<>();
         List<PIICategoryValidity> piiCategoryIdsForClaimsWithConsent =
-                getPiiCategoryValidityForRequestedClaims(claimsWithConsent, true, termination);
+                getPiiCategoryValidityForRequestedClaims(claimsWithConsent, true, termination, piiCategoryIdsByName);
         List<PIICategoryValidity> piiCategoryIdsForDeniedConsentClaims =
-                getPiiCategoryValidityForRequestedClaims(claimsDeniedConsent, false, termination);
+                getPiiCategoryValidityForRequestedClaims(claimsDeniedConsent, false, termination,
+                        piiCategoryIdsByName);
         piiCategoryIds.addAll(piiCategoryIdsForClaimsWithConsent);
         piiCategoryIds.addAll(piiCategoryIdsForDeniedConsentClaims);
         return piiCategoryIds;
     }
 
     private List<PIICategoryValidity> getPiiCategoryValidityForRequestedClaims(List<ClaimMetaData> requestedClaims,
-                                                                               boolean isConsented, String termination)
-            throws SSOConsentServiceException {
+                                                                               boolean isConsented, String termination,
+                                                                               Map<String, Integer>
+                                                                                       piiCategoryIdsByName) {
 
         List<PIICategoryValidity> piiCategoryIds = new ArrayList<>();
 
@@ -713,28 +779,68 @@ public class SSOConsentServiceImpl implements SSOConsentService {
                 continue;
             }
 
-            PIICategory piiCategory;
-            try {
-                piiCategory = getConsentManager().getPIICategoryByName(requestedClaim.getClaimUri());
-            } catch (ConsentManagementClientException e) {
-
-                if (isInvalidPIICategoryError(e)) {
-                    piiCategory = addPIICategoryForClaim(requestedClaim);
-                } else {
-                    throw new SSOConsentServiceException("Consent PII category error", "Error while retrieving" +
-                            " PII category: " + DEFAULT_PURPOSE_CATEGORY, e);
-                }
-            } catch (ConsentManagementException e) {
-                throw new SSOConsentServiceException("Consent PII category error", "Error while retrieving " +
-                        "PII category: " + DEFAULT_PURPOSE_CATEGORY, e);
-            }
-            PIICategoryValidity piiCategoryValidity = new PIICategoryValidity(piiCategory.getId(), termination);
+            PIICategoryValidity piiCategoryValidity = new PIICategoryValidity(
+                    piiCategoryIdsByName.get(requestedClaim.getClaimUri()), termination);
             piiCategoryValidity.setConsented(isConsented);
             piiCategoryIds.add(piiCategoryValidity);
         }
         return piiCategoryIds;
     }
 
+    /**
+     * Resolve the PII category ids of the given claims in the current tenant. Ids are served from the
+     * {@link SSOConsentMetadataCache} and only the missing PII categories are looked up, or added if they do not
+     * exist yet.
+     *
+     * @param claims Claims to resolve the PII categories for.
+     * @return PII category ids keyed by the claim URI.
+     * @throws SSOConsentServiceException If error occurs while retrieving or adding the PII categories.
+     */
+    private Map<String, Integer> getPIICategoriesByNames(List<ClaimMetaData> claims)
+            throws SSOConsentServiceException {
+
+        Map<String, ClaimMetaData> claimsByUri = new LinkedHashMap<>();
+        for (ClaimMetaData claim : claims) {
+            if (claim != null && claim.getClaimUri() != null) {
+                claimsByUri.putIfAbsent(claim.getClaimUri(), claim);
+            }
+        }
+
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        Map<String, Integer> piiCategoryIds = new HashMap<>();
+        for (Map.Entry<String, ClaimMetaData> claimEntry : claimsByUri.entrySet()) {
+            SSOConsentMetadataCacheKey cacheKey =
+                    new SSOConsentMetadataCacheKey(MetadataType.PII_CATEGORY, claimEntry.getKey());
+            Integer piiCategoryId = SSOConsentMetadataCache.getInstance().getValueFromCache(cacheKey, tenantId);
+            if (piiCategoryId == null) {
+                piiCategoryId = getPIICategory(claimEntry.getValue()).getId();
+                SSOConsentMetadataCache.getInstance().addToCache(cacheKey, piiCategoryId, tenantId);
+            }
+            piiCategoryIds.put(claimEntry.getKey(), piiCategoryId);
+        }
+        return piiCategoryIds;
+    }
+
+    private PIICategory getPIICategory(ClaimMetaData claim) throws SSOConsentServiceException {
+
+        PIICategory piiCategory;
+        try {
+            piiCategory = getConsentManager().getPIICategoryByName(claim.getClaimUri());
+        } catch (ConsentManagementClientException e) {
+
+            if (isInvalidPIICategoryError(e)) {
+                piiCategory = addPIICategoryForClaim(claim);
+            } else {
+                throw new SSOConsentServiceException("Consent PII category error", "Error while retrieving" +
+                        " PII category: " + DEFAULT_PURPOSE_CATEGORY, e);
+            }
+        } catch (ConsentManagementException e) {
+            throw new SSOConsentServiceException("Consent PII category error", "Error while retrieving " +
+                    "PII category: " + DEFAULT_PURPOSE_CATEGORY, e);
+        }
+        return piiCategory;
+    }
+
     private PIICategory addPIICategoryForClaim(ClaimMetaData claim) throws SSOConsentServiceException {
 
         PIICategory piiCategory;
@@ -754,6 +860,19 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         return ERROR_CODE_PII_CAT_NAME_INVALID.getCode().equals(e.getErrorCode());
     }
 
+    private int getDefaultPurposeCategoryId() throws SSOConsentServiceException {
+
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        SSOConsentMetadataCacheKey cacheKey =
+                new SSOConsentMetadataCacheKey(MetadataType.PURPOSE_CATEGORY, DEFAULT_PURPOSE_CATEGORY);
+        Integer purposeCategoryId = SSOConsentMetadataCache.getInstance().getValueFromCache(cacheKey, tenantId);
+        if (purposeCategoryId == null) {
+            purposeCategoryId = getDefaultPurposeCategory().getId();
+            SSOConsentMetadataCache.getInstance().addToCache(cacheKey, purposeCategoryId, tenantId);
+        }
+        return purposeCategoryId;
+    }
+
     private PurposeCategory getDefaultPurposeCategory() throws SSOConsentServiceException {
 
         PurposeCategory purposeCategory;
@@ -793,6 +912,18 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         return ERROR_CODE_PURPOSE_CAT_NAME_INVALID.getCode().equals(e.getErrorCode());
     }
 
+    private int getDefaultPurposeId() throws SSOConsentServiceException {
+
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        SSOConsentMetadataCacheKey cacheKey = new SSOConsentMetadataCacheKey(MetadataType.PURPOSE, DEFAULT_PURPOSE);
+        Integer purposeId = SSOConsentMetadataCache.getInstance().getValueFromCache(cacheKey, tenantId);
+        if (purposeId == null) {
+            purposeId = getDefaultPurpose().getId();
+            SSOConsentMetadataCache.getInstance().addToCache(cacheKey, purposeId, tenantId);
+        }
+        return purposeId;
+    }
+
     private Purpose getDefaultPurpose() throws SSOConsentServiceException {
 
         Purpose purpose;
@@ -855,7 +986,7 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         return userConsent;
     }
 
-    private List<ClaimMetaData> getUserRequestedClaims(Receipt receipt,
+    private List<ClaimMetaData> getUserRequestedClaims(SSOConsentReceiptCacheEntry receipt,
                                                        UserConsent userConsent, boolean isConsented) {
 
         List<ClaimMetaData> requestedClaims = new ArrayList<>();
@@ -864,11 +995,11 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         } else {
             requestedClaims.addAll(userConsent.getDisapprovedClaims());
         }
-        if (receipt == null) {
+        if (!receipt.hasReceipt()) {
             return requestedClaims;
         }
 
-        List<PIICategoryValidity> piiCategoriesFromServices = getPIICategoriesFromServices(receipt.getServices());
+        List<PIICategoryValidity> piiCategoriesFromServices = receipt.getPIICategoryValidities();
         if (isConsented) {
             piiCategoriesFromServices.removeIf(piiCategoryValidity -> !piiCategoryValidity.isConsented());
         } else {
@@ -1000,10 +1131,10 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         return piiCategoryValidityMap;
     }
 
-    private List<ClaimMetaData> getRequestedClaimsFromReceipt(Receipt receipt, boolean isConsented) {
+    private List<ClaimMetaData> getRequestedClaimsFromReceipt(SSOConsentReceiptCacheEntry receipt,
+                                                              boolean isConsented) {
 
-        List<ReceiptService> services = receipt.getServices();
-        List<PIICategoryValidity> piiCategories = getPIICategoriesFromServices(services);
+        List<PIICategoryValidity> piiCategories = receipt.getPIICategoryValidities();
         if (isConsented) {
             piiCategories.removeIf(piiCategoryValidity -> !piiCategoryValidity.isConsented());
         } else {
@@ -1013,7 +1144,7 @@ public class SSOConsentServiceImpl implements SSOConsentService {
         if (isDebugEnabled()) {
             String message = String.format("User: %s has provided consent in receipt: %s for claims: " +
                             claimsFromPIICategoryValidity, receipt.getPiiPrincipalId(),
-                    receipt.getConsentReceiptId());
+                    receipt.getReceiptId());
             logDebug(message);
         }
         return claimsFromPIICategoryValidity;
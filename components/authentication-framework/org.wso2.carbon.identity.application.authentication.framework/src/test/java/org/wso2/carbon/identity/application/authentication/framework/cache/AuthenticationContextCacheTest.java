@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.cache;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.StepConfig;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.identity.application.authentication.framework.store.SessionDataStore;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.common.testng.WithRealmService;
+import org.wso2.carbon.identity.core.internal.IdentityCoreServiceDataHolder;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for persisting authentication contexts through AuthenticationContextCache.
+ */
+@WithCarbonHome
+@WithRealmService(injectToSingletons = {IdentityCoreServiceDataHolder.class, FrameworkServiceDataHolder.class})
+public class AuthenticationContextCacheTest {
+
+    private static final String CACHE_NAME = "AuthenticationContextCache";
+    private static final String CONTEXT_ID = "f5a5c4e0-3a9b-4f4e-9d1c-5b6a7c8d9e0f";
+
+    private AuthenticationContextCache authenticationContextCache;
+    private SessionDataStore sessionDataStore;
+    private AuthenticationContextCacheKey cacheKey;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        Constructor<AuthenticationContextCache> constructor =
+                AuthenticationContextCache.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        authenticationContextCache = constructor.newInstance();
+        setField(authenticationContextCache, "isTemporarySessionDataPersistEnabled", true);
+
+        sessionDataStore = mock(SessionDataStore.class);
+        setField(null, SessionDataStore.class.getDeclaredField("instance"), sessionDataStore);
+        cacheKey = new AuthenticationContextCacheKey(CONTEXT_ID);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        authenticationContextCache.clearCacheEntry(cacheKey, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        setField(null, SessionDataStore.class.getDeclaredField("instance"), null);
+    }
+
+    @Test
+    public void testUnmodifiedContextIsNotPersistedAgain() {
+
+        AuthenticationContextCacheEntry entry = createCacheEntry();
+        authenticationContextCache.addToCache(cacheKey, entry);
+        authenticationContextCache.addToCache(cacheKey, entry);
+        verifyStored(1);
+
+        // Reading the context back from the local cache is not a modification.
+        AuthenticationContextCacheEntry cachedEntry = authenticationContextCache.getValueFromCache(cacheKey);
+        assertSame(cachedEntry.getContext(), entry.getContext());
+        authenticationContextCache.addToCache(cacheKey, cachedEntry);
+        verifyStored(1);
+
+        entry.getContext().setProperty("step", "1");
+        authenticationContextCache.addToCache(cacheKey, entry);
+        verifyStored(2);
+    }
+
+    @Test
+    public void testContextIsPersistedAgainAfterClear() {
+
+        AuthenticationContextCacheEntry entry = createCacheEntry();
+        authenticationContextCache.addToCache(cacheKey, entry);
+        authenticationContextCache.clearCacheEntry(cacheKey);
+        verify(sessionDataStore).clearSessionData(CONTEXT_ID, CACHE_NAME);
+
+        authenticationContextCache.addToCache(cacheKey, entry);
+        verifyStored(2);
+    }
+
+    @Test
+    public void testContextIsPersistedAgainAfterEvictionAndClear() {
+
+        AuthenticationContextCacheEntry entry = createCacheEntry();
+        authenticationContextCache.addToCache(cacheKey, entry);
+
+        // Evict the context from the local cache only, and then clear it together with the persisted copy.
+        authenticationContextCache.clearCacheEntry(cacheKey, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        authenticationContextCache.clearCacheEntry(cacheKey);
+        verify(sessionDataStore).clearSessionData(CONTEXT_ID, CACHE_NAME);
+
+        authenticationContextCache.addToCache(cacheKey, entry);
+        verifyStored(2);
+    }
+
+    @Test
+    public void testMultiStepRequestsReadingTheContextDoNotPersistIt() {
+
+        AuthenticationContextCacheEntry entry = createCacheEntry();
+        AuthenticationContext context = entry.getContext();
+        SequenceConfig sequenceConfig = new SequenceConfig();
+        sequenceConfig.getStepMap().put(1, new StepConfig());
+        sequenceConfig.getStepMap().put(2, new StepConfig());
+        context.setSequenceConfig(sequenceConfig);
+        context.setCurrentStep(1);
+        context.setRelyingParty("sample-app");
+        context.setProperty("sampleProperty", "sampleValue");
+        context.addParameter("sampleParameter", "sampleValue");
+        authenticationContextCache.addToCache(cacheKey, entry);
+        verifyStored(1);
+
+        // A request that only reads the context, such as rendering the login page of the current step.
+        AuthenticationContextCacheEntry cachedEntry = authenticationContextCache.getValueFromCache(cacheKey);
+        readContext(cachedEntry.getContext());
+        authenticationContextCache.addToCache(cacheKey, cachedEntry);
+        verifyStored(1);
+
+        // Completing the first step modifies the context.
+        cachedEntry = authenticationContextCache.getValueFromCache(cacheKey);
+        cachedEntry.getContext().getSequenceConfig().getStepMap().get(1).setCompleted(true);
+        cachedEntry.getContext().setCurrentStep(2);
+        authenticationContextCache.addToCache(cacheKey, cachedEntry);
+        verifyStored(2);
+
+        // Reading the context again in the second step.
+        cachedEntry = authenticationContextCache.getValueFromCache(cacheKey);
+        readContext(cachedEntry.getContext());
+        authenticationContextCache.addToCache(cacheKey, cachedEntry);
+        verifyStored(2);
+    }
+
+    /**
+     * Read the context the way the framework does while handling a request, without modifying it.
+     */
+    private void readContext(AuthenticationContext context) {
+
+        context.getSequenceConfig().getStepMap().get(context.getCurrentStep());
+        context.getSubject();
+        context.getLastAuthenticatedUser();
+        context.getExternalIdP();
+        context.getStateInfo();
+        context.getProperty("sampleProperty");
+        context.getProperties();
+        context.getParameter("sampleParameter");
+        context.getParameters();
+        context.getAuthenticatorProperties();
+        context.getCurrentAuthenticatedIdPs();
+        context.getPreviousAuthenticatedIdPs();
+        context.getAuthenticationStepHistory();
+        context.getRequestedAcr();
+        context.getEndpointParams();
+    }
+
+    private AuthenticationContextCacheEntry createCacheEntry() {
+
+        AuthenticationContext context = new AuthenticationContext();
+        context.setContextIdentifier(CONTEXT_ID);
+        AuthenticationContextCacheEntry entry = new AuthenticationContextCacheEntry(context);
+        entry.setValidityPeriod(TimeUnit.MINUTES.toNanos(15));
+        return entry;
+    }
+
+    private void verifyStored(int times) {
+
+        verify(sessionDataStore, times(times)).storeSessionData(eq(CONTEXT_ID), eq(CACHE_NAME), any(), anyInt());
+    }
+
+    private void setField(Object target, String fieldName, Object value) throws Exception {
+
+        setField(target, target.getClass().getDeclaredField(fieldName), value);
+    }
+
+    private void setField(Object target, Field field, Object value) throws Exception {
+
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -23,6 +23,7 @@ import org.testng.annotations.Test;
 
 import java.util.HashMap;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Test class for JSExecutionSupervisor.
@@ -167,4 +168,36 @@ public class JSExecutionSupervisorTest {
             supervisor.shutdown();
         }
     }
+
+    @Test
+    public void testCompletedExecutionsAreNotTerminated() throws InterruptedException {
+
+        final JSExecutionSupervisor supervisor = new JSExecutionSupervisor(1, 50L, 60000000L);
+        final AtomicBoolean executionFinished = new AtomicBoolean(false);
+        try {
+            Thread testExecutionThread = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    String identifier = UUID.randomUUID().toString();
+                    supervisor.monitor(identifier, "dummySP", "dummyTenant", 0L, 0L);
+                    supervisor.completed(identifier);
+                }
+                try {
+                    // Sleeping past the timeout of all the completed executions.
+                    Thread.sleep(200L);
+                    executionFinished.set(true);
+                } catch (InterruptedException ignored) {
+                    // The monitor should not interrupt this thread as all the executions are completed.
+                }
+            });
+            testExecutionThread.start();
+            testExecutionThread.join(5000L);
+
+            Assert.assertTrue("The monitor should not kill a thread after its executions are completed.",
+                    executionFinished.get());
+            Assert.assertNull("A completed execution should not be monitored anymore.",
+                    supervisor.completed(UUID.randomUUID().toString()));
+        } finally {
+            supervisor.shutdown();
+        }
+    }
 }
@@ -30,10 +30,23 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.central.log.mgt.hanlder.CentralLogger;
+import org.wso2.carbon.identity.central.log.mgt.publisher.AsyncLogEventPublisher;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_DRAIN_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_OVERFLOW_POLICY;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_QUEUE_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_SHUTDOWN_TIMEOUT;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ASYNC_LOG_WORKER_COUNT;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.DEFAULT_ASYNC_LOG_DRAIN_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.DEFAULT_ASYNC_LOG_QUEUE_SIZE;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.DEFAULT_ASYNC_LOG_SHUTDOWN_TIMEOUT_MILLIS;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.DEFAULT_ASYNC_LOG_WORKER_COUNT;
+import static org.wso2.carbon.identity.central.log.mgt.utils.LogConstants.ENABLE_ASYNC_LOG_PUBLISHING;
+
 /**
  * OSGi declarative services component which handled activation and deactivation of central logger event handler.
  */
@@ -57,6 +70,7 @@ public class CentralLogMgtServiceComponent {
             log.debug("Central logger event handler is activated.");
         }
         LoggerUtils.getLogMaskingConfigValue();
+        startAsyncLogEventPublisher();
     }
 
     @Deactivate
@@ -65,6 +79,13 @@ public class CentralLogMgtServiceComponent {
         if (log.isDebugEnabled()) {
             log.debug("Central logger event handler is deactivated.");
         }
+        // Flush the queued log events before the event handler goes away.
+        AsyncLogEventPublisher asyncLogEventPublisher =
+                CentralLogMgtServiceComponentHolder.getInstance().getAsyncLogEventPublisher();
+        if (asyncLogEventPublisher != null) {
+            CentralLogMgtServiceComponentHolder.getInstance().setAsyncLogEventPublisher(null);
+            asyncLogEventPublisher.shutdown();
+        }
         // Unregistering Central logger event handler.
         if (serviceRegistration != null) {
             serviceRegistration.unregister();
@@ -90,4 +111,25 @@ public class CentralLogMgtServiceComponent {
 
         CentralLogMgtServiceComponentHolder.getInstance().setIdentityEventService(null);
     }
+
+    private void startAsyncLogEventPublisher() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE_ASYNC_LOG_PUBLISHING))) {
+            return;
+        }
+        AsyncLogEventPublisher asyncLogEventPublisher = new AsyncLogEventPublisher(
+                getPositiveIntProperty(ASYNC_LOG_QUEUE_SIZE, DEFAULT_ASYNC_LOG_QUEUE_SIZE),
+                getPositiveIntProperty(ASYNC_LOG_WORKER_COUNT, DEFAULT_ASYNC_LOG_WORKER_COUNT),
+                getPositiveIntProperty(ASYNC_LOG_DRAIN_SIZE, DEFAULT_ASYNC_LOG_DRAIN_SIZE),
+                AsyncLogEventPublisher.OverflowPolicy.fromName(IdentityUtil.getProperty(ASYNC_LOG_OVERFLOW_POLICY),
+                        AsyncLogEventPublisher.OverflowPolicy.BLOCK),
+                getPositiveIntProperty(ASYNC_LOG_SHUTDOWN_TIMEOUT, (int) DEFAULT_ASYNC_LOG_SHUTDOWN_TIMEOUT_MILLIS));
+        asyncLogEventPublisher.start();
+        CentralLogMgtServiceComponentHolder.getInstance().setAsyncLogEventPublisher(asyncLogEventPublisher);
+    }
+
+    private int getPositiveIntProperty(String key, int defaultValue) {
+
+        return (int) Math.min(IdentityUtil.getPositiveProperty(key, defaultValue), Integer.MAX_VALUE);
+    }
 }
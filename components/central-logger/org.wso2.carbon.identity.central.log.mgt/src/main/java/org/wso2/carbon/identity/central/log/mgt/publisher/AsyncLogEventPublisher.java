@@ -0,0 +1,507 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.publisher;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.slf4j.MDC;
+import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.central.log.mgt.internal.CentralLogMgtServiceComponentHolder;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.services.IdentityEventService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.PUBLISH_DIAGNOSTIC_LOG;
+
+/**
+ * Publishes central audit and diagnostic log events asynchronously, one event at a time.
+ * <p>
+ * Events are placed on bounded queues and dispatched by dedicated worker threads, keeping the event handler chain off
+ * the request thread. The identity event service has no batch event, so each event is still handled by its own
+ * {@link IdentityEventService#handleEvent(Event)} call. A worker only takes up to the configured drain size of events
+ * off its queue per wake up, and consecutive events of a tenant among them share a single tenant flow. Each tenant is
+ * pinned to a single queue and worker, so the events of a tenant are published in the order they were triggered.
+ * Pending events are flushed when the publisher is shut down.
+ */
+public class AsyncLogEventPublisher {
+
+    private static final Log LOG = LogFactory.getLog(AsyncLogEventPublisher.class);
+    private static final String CORRELATION_ID_MDC = "Correlation-ID";
+    private static final String WORKER_THREAD_NAME_PREFIX = "central-log-publisher-";
+    private static final long WORKER_POLL_INTERVAL_MILLIS = 100;
+    private static final long DROP_WARN_INTERVAL = 1000;
+
+    /**
+     * Defines what happens when a log event is triggered while the queue of its tenant is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Block the triggering thread until space is available in the queue.
+         */
+        BLOCK,
+
+        /**
+         * Evict the oldest queued event to make room for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Drop incoming diagnostic events, and evict queued diagnostic events to make room for audit events.
+         * Audit events block only when the queue holds no diagnostic events.
+         */
+        DROP_DIAGNOSTIC_FIRST;
+
+        /**
+         * Resolve the overflow policy from its configured name.
+         *
+         * @param name          Configured policy name, e.g. "drop-oldest" or "DROP_OLDEST".
+         * @param defaultPolicy Policy to use if the name is blank or unknown.
+         * @return Overflow policy.
+         */
+        public static OverflowPolicy fromName(String name, OverflowPolicy defaultPolicy) {
+
+            if (StringUtils.isBlank(name)) {
+                return defaultPolicy;
+            }
+            String normalizedName = name.trim().replace('-', '_').toUpperCase();
+            for (OverflowPolicy policy : values()) {
+                if (policy.name().equals(normalizedName)) {
+                    return policy;
+                }
+            }
+            LOG.warn("Unknown central log overflow policy: " + name + ". Using " + defaultPolicy + " instead.");
+            return defaultPolicy;
+        }
+    }
+
+    private final OverflowPolicy overflowPolicy;
+    private final int drainSize;
+    private final long shutdownTimeoutMillis;
+    private final Shard[] shards;
+    private volatile boolean running;
+
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong publishFailureCount = new AtomicLong();
+    private final AtomicLong droppedAuditLogCount = new AtomicLong();
+    private final AtomicLong droppedDiagnosticLogCount = new AtomicLong();
+    private final AtomicLong totalPublishLatencyNanos = new AtomicLong();
+    private final AtomicLong maxPublishLatencyNanos = new AtomicLong();
+
+    /**
+     * Create an asynchronous log event publisher.
+     *
+     * @param queueCapacity         Total number of events that can be queued, split across the workers.
+     * @param workerCount           Number of worker threads. Each worker owns one queue.
+     * @param drainSize             Maximum number of events taken off a queue by a worker per wake up. The events are
+     *                              still dispatched one at a time.
+     * @param overflowPolicy        Policy applied when a queue is full.
+     * @param shutdownTimeoutMillis Time to wait for the workers to drain the queues on shutdown.
+     */
+    public AsyncLogEventPublisher(int queueCapacity, int workerCount, int drainSize, OverflowPolicy overflowPolicy,
+                                  long shutdownTimeoutMillis) {
+
+        if (queueCapacity < 1 || workerCount < 1 || drainSize < 1) {
+            throw new IllegalArgumentException("Queue capacity, worker count and drain size should be positive.");
+        }
+        this.overflowPolicy = overflowPolicy;
+        this.drainSize = drainSize;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.shards = new Shard[workerCount];
+        int shardCapacity = Math.max(1, queueCapacity / workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            shards[i] = new Shard(i, shardCapacity);
+        }
+    }
+
+    /**
+     * Start the worker threads.
+     */
+    public synchronized void start() {
+
+        if (running) {
+            return;
+        }
+        running = true;
+        for (Shard shard : shards) {
+            shard.worker.start();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Asynchronous central log publisher started with " + shards.length + " workers, drain size: "
+                    + drainSize + " and overflow policy: " + overflowPolicy);
+        }
+    }
+
+    /**
+     * Stop accepting events, and publish all the queued events before returning. Workers that have not drained their
+     * queue once the shutdown timeout elapses are interrupted, and the remaining events are published on the calling
+     * thread after the worker has finished the events it already took off its queue.
+     */
+    public synchronized void shutdown() {
+
+        if (!running) {
+            return;
+        }
+        running = false;
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMillis;
+        boolean interrupted = false;
+        for (Shard shard : shards) {
+            long remaining = deadline - System.currentTimeMillis();
+            try {
+                shard.worker.join(Math.max(1, remaining));
+            } catch (InterruptedException e) {
+                interrupted = true;
+                break;
+            }
+        }
+        for (Shard shard : shards) {
+            shard.worker.interrupt();
+            // Wait for the worker to publish the events it already took off the queue, so that the remaining events
+            // are not published ahead of them.
+            while (shard.worker.isAlive()) {
+                try {
+                    shard.worker.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            shard.drain();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Asynchronous central log publisher stopped. Published: " + getPublishedCount()
+                    + ", failed: " + getPublishFailureCount() + ", dropped audit logs: " + getDroppedAuditLogCount()
+                    + ", dropped diagnostic logs: " + getDroppedDiagnosticLogCount());
+        }
+    }
+
+    /**
+     * Queue a log event for publishing.
+     *
+     * @param event    Audit or diagnostic log event.
+     * @param tenantId Tenant id the event belongs to. Events of the same tenant are published in order.
+     * @return False if the publisher is not running and the caller should publish the event itself.
+     */
+    public boolean publish(Event event, int tenantId) {
+
+        if (!running) {
+            return false;
+        }
+        Shard shard = shards[Math.floorMod(tenantId, shards.length)];
+        shard.enqueue(new LogEntry(event));
+        if (!running && !shard.worker.isAlive()) {
+            // The publisher was shut down while the event was being queued. Make sure it is not left behind. While
+            // the worker is alive, the event is published by the worker or by the shutdown call once it has stopped.
+            shard.drain();
+        }
+        return true;
+    }
+
+    /**
+     * Get the number of events waiting to be published.
+     *
+     * @return Queue depth across all the workers.
+     */
+    public int getQueueDepth() {
+
+        int depth = 0;
+        for (Shard shard : shards) {
+            depth += shard.queue.size();
+        }
+        return depth;
+    }
+
+    /**
+     * Get the number of events handed over to the identity event service.
+     *
+     * @return Published event count.
+     */
+    public long getPublishedCount() {
+
+        return publishedCount.get();
+    }
+
+    /**
+     * Get the number of events the identity event service failed to handle.
+     *
+     * @return Failed event count.
+     */
+    public long getPublishFailureCount() {
+
+        return publishFailureCount.get();
+    }
+
+    /**
+     * Get the number of audit log events dropped due to queue overflow.
+     *
+     * @return Dropped audit log count.
+     */
+    public long getDroppedAuditLogCount() {
+
+        return droppedAuditLogCount.get();
+    }
+
+    /**
+     * Get the number of diagnostic log events dropped due to queue overflow.
+     *
+     * @return Dropped diagnostic log count.
+     */
+    public long getDroppedDiagnosticLogCount() {
+
+        return droppedDiagnosticLogCount.get();
+    }
+
+    /**
+     * Get the average time taken to publish an event, measured from the moment it was queued.
+     *
+     * @return Average publish latency in nanoseconds.
+     */
+    public long getAveragePublishLatencyNanos() {
+
+        long count = publishedCount.get() + publishFailureCount.get();
+        return count == 0 ? 0 : totalPublishLatencyNanos.get() / count;
+    }
+
+    /**
+     * Get the maximum time taken to publish an event, measured from the moment it was queued.
+     *
+     * @return Maximum publish latency in nanoseconds.
+     */
+    public long getMaxPublishLatencyNanos() {
+
+        return maxPublishLatencyNanos.get();
+    }
+
+    private void publishEntries(List<LogEntry> entries) {
+
+        IdentityEventService identityEventService =
+                CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
+        String previousCorrelationId = MDC.get(CORRELATION_ID_MDC);
+        int index = 0;
+        try {
+            while (index < entries.size()) {
+                LogEntry first = entries.get(index);
+                // Consecutive events of the same tenant are published within a single tenant flow.
+                PrivilegedCarbonContext.startTenantFlow();
+                try {
+                    PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                    carbonContext.setTenantDomain(first.tenantDomain);
+                    carbonContext.setTenantId(first.tenantId);
+                    while (index < entries.size() && first.isSameTenant(entries.get(index))) {
+                        publishEntry(identityEventService, entries.get(index++));
+                    }
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            }
+        } finally {
+            if (previousCorrelationId == null) {
+                MDC.remove(CORRELATION_ID_MDC);
+            } else {
+                MDC.put(CORRELATION_ID_MDC, previousCorrelationId);
+            }
+        }
+    }
+
+    private void publishEntry(IdentityEventService identityEventService, LogEntry entry) {
+
+        try {
+            if (entry.correlationId != null) {
+                MDC.put(CORRELATION_ID_MDC, entry.correlationId);
+            } else {
+                MDC.remove(CORRELATION_ID_MDC);
+            }
+            identityEventService.handleEvent(entry.event);
+            publishedCount.incrementAndGet();
+        } catch (IdentityEventException | RuntimeException e) {
+            publishFailureCount.incrementAndGet();
+            LOG.error("Error occurred when publishing the " + entry.event.getEventName() + " event.", e);
+        } finally {
+            recordLatency(System.nanoTime() - entry.queuedAt);
+        }
+    }
+
+    private void recordLatency(long latencyNanos) {
+
+        totalPublishLatencyNanos.addAndGet(latencyNanos);
+        long currentMax = maxPublishLatencyNanos.get();
+        while (latencyNanos > currentMax && !maxPublishLatencyNanos.compareAndSet(currentMax, latencyNanos)) {
+            currentMax = maxPublishLatencyNanos.get();
+        }
+    }
+
+    private void recordDrop(LogEntry entry) {
+
+        long dropped;
+        if (entry.isDiagnosticLog()) {
+            dropped = droppedDiagnosticLogCount.incrementAndGet();
+        } else {
+            dropped = droppedAuditLogCount.incrementAndGet();
+        }
+        if (dropped % DROP_WARN_INTERVAL == 1) {
+            LOG.warn("Central log queue is full. Dropped " + dropped + (entry.isDiagnosticLog() ? " diagnostic" :
+                    " audit") + " log events so far with the overflow policy: " + overflowPolicy);
+        }
+    }
+
+    /**
+     * A bounded queue together with the worker thread that publishes its events.
+     */
+    private class Shard implements Runnable {
+
+        private final BlockingQueue<LogEntry> queue;
+        private final Thread worker;
+
+        Shard(int index, int capacity) {
+
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.worker = new Thread(this, WORKER_THREAD_NAME_PREFIX + index);
+            this.worker.setDaemon(true);
+        }
+
+        void enqueue(LogEntry entry) {
+
+            if (queue.offer(entry)) {
+                return;
+            }
+            switch (overflowPolicy) {
+                case DROP_OLDEST:
+                    while (!queue.offer(entry)) {
+                        LogEntry evicted = queue.poll();
+                        if (evicted != null) {
+                            recordDrop(evicted);
+                        }
+                    }
+                    break;
+                case DROP_DIAGNOSTIC_FIRST:
+                    if (entry.isDiagnosticLog()) {
+                        recordDrop(entry);
+                        break;
+                    }
+                    while (!queue.offer(entry)) {
+                        if (!evictDiagnosticLog()) {
+                            put(entry);
+                            break;
+                        }
+                    }
+                    break;
+                case BLOCK:
+                default:
+                    put(entry);
+                    break;
+            }
+        }
+
+        private boolean evictDiagnosticLog() {
+
+            for (LogEntry queued : queue) {
+                if (queued.isDiagnosticLog() && queue.remove(queued)) {
+                    recordDrop(queued);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void put(LogEntry entry) {
+
+            try {
+                queue.put(entry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                recordDrop(entry);
+            }
+        }
+
+        synchronized void drain() {
+
+            List<LogEntry> entries = new ArrayList<>(drainSize);
+            while (queue.drainTo(entries, drainSize) > 0) {
+                publishEntries(entries);
+                entries.clear();
+            }
+        }
+
+        @Override
+        public void run() {
+
+            List<LogEntry> entries = new ArrayList<>(drainSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    LogEntry first = queue.poll(WORKER_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    entries.add(first);
+                    queue.drainTo(entries, drainSize - 1);
+                    publishEntries(entries);
+                } catch (InterruptedException e) {
+                    // Remaining events are flushed by the shutdown call.
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    entries.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * A queued log event together with the request context it was triggered in.
+     */
+    private static class LogEntry {
+
+        private final Event event;
+        private final String tenantDomain;
+        private final int tenantId;
+        private final String correlationId;
+        private final long queuedAt;
+
+        LogEntry(Event event) {
+
+            CarbonContext carbonContext = CarbonContext.getThreadLocalCarbonContext();
+            this.event = event;
+            this.tenantDomain = carbonContext.getTenantDomain();
+            this.tenantId = carbonContext.getTenantId();
+            this.correlationId = MDC.get(CORRELATION_ID_MDC);
+            this.queuedAt = System.nanoTime();
+        }
+
+        boolean isDiagnosticLog() {
+
+            return PUBLISH_DIAGNOSTIC_LOG.equals(event.getEventName());
+        }
+
+        boolean isSameTenant(LogEntry other) {
+
+            return tenantId == other.tenantId && StringUtils.equals(tenantDomain, other.tenantDomain);
+        }
+    }
+}
@@ -37,6 +37,20 @@ public class LogConstants {
     public static final Pattern LOG_MASKING_PATTERN = Pattern.compile("(?<=.).(?=.)");
     public static final String LOGGABLE_USER_CLAIMS = "LoggableUserClaims.LoggableUserClaim";
 
+    /**
+     * Constants related to asynchronous publishing of central logs.
+     */
+    public static final String ENABLE_ASYNC_LOG_PUBLISHING = "CentralLogger.AsyncPublishing.Enable";
+    public static final String ASYNC_LOG_QUEUE_SIZE = "CentralLogger.AsyncPublishing.QueueSize";
+    public static final String ASYNC_LOG_WORKER_COUNT = "CentralLogger.AsyncPublishing.WorkerCount";
+    public static final String ASYNC_LOG_DRAIN_SIZE = "CentralLogger.AsyncPublishing.DrainSize";
+    public static final String ASYNC_LOG_OVERFLOW_POLICY = "CentralLogger.AsyncPublishing.OverflowPolicy";
+    public static final String ASYNC_LOG_SHUTDOWN_TIMEOUT = "CentralLogger.AsyncPublishing.ShutdownTimeout";
+    public static final int DEFAULT_ASYNC_LOG_QUEUE_SIZE = 8192;
+    public static final int DEFAULT_ASYNC_LOG_WORKER_COUNT = 2;
+    public static final int DEFAULT_ASYNC_LOG_DRAIN_SIZE = 64;
+    public static final long DEFAULT_ASYNC_LOG_SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
 
     /**
      * Define common and reusable Input keys for diagnostic logs.
@@ -29,6 +29,7 @@ import org.slf4j.MDC;
 import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.central.log.mgt.internal.CentralLogMgtServiceComponentHolder;
+import org.wso2.carbon.identity.central.log.mgt.publisher.AsyncLogEventPublisher;
 import org.wso2.carbon.identity.core.util.IdentityConfigParser;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
@@ -98,11 +99,9 @@ public class LoggerUtils {
             if (!isLoggingEnabled) {
                 return;
             }
-            IdentityEventService eventMgtService =
-                    CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
             Event auditEvent = new Event(PUBLISH_AUDIT_LOG,
                     Map.of(CarbonConstants.LogEventConstants.AUDIT_LOG, auditLogBuilder.build()));
-            eventMgtService.handleEvent(auditEvent);
+            publishLogEvent(auditEvent, CarbonContext.getThreadLocalCarbonContext().getTenantId());
         } catch (IdentityEventException e) {
             String errorLog = "Error occurred when firing the event. Unable to audit the request.";
             log.error(errorLog, e);
@@ -144,14 +143,12 @@ public class LoggerUtils {
             String flowId = MDC.get(FLOW_ID_MDC);
             DiagnosticLog diagnosticLog = new DiagnosticLog(id, recordedAt, requestId, flowId, resultStatus,
                     resultMessage, actionId, componentId, input, configurations);
-            IdentityEventService eventMgtService =
-                    CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.DIAGNOSTIC_LOG, diagnosticLog);
             int tenantId =
                     IdentityTenantUtil.getTenantId(CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.TENANT_ID, tenantId);
             Event diagnosticLogEvent = new Event(PUBLISH_DIAGNOSTIC_LOG, diagnosticLogProperties);
-            eventMgtService.handleEvent(diagnosticLogEvent);
+            publishLogEvent(diagnosticLogEvent, tenantId);
         } catch (IdentityEventException e) {
             String errorLog = "Error occurred when firing the diagnostic log event.";
             log.error(errorLog, e);
@@ -168,18 +165,37 @@ public class LoggerUtils {
         try {
             Map<String, Object> diagnosticLogProperties = new HashMap<>();
             DiagnosticLog diagnosticLog = diagnosticLogBuilder.build();
-            IdentityEventService eventMgtService =
-                    CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
+            int tenantId = resolveTenantId();
             diagnosticLogProperties.put(CarbonConstants.LogEventConstants.DIAGNOSTIC_LOG, diagnosticLog);
-            diagnosticLogProperties.put(CarbonConstants.LogEventConstants.TENANT_ID, resolveTenantId());
+            diagnosticLogProperties.put(CarbonConstants.LogEventConstants.TENANT_ID, tenantId);
             Event diagnosticLogEvent = new Event(PUBLISH_DIAGNOSTIC_LOG, diagnosticLogProperties);
-            eventMgtService.handleEvent(diagnosticLogEvent);
+            publishLogEvent(diagnosticLogEvent, tenantId);
         } catch (IdentityEventException e) {
             String errorLog = "Error occurred when firing the diagnostic log event.";
             log.error(errorLog, e);
         }
     }
 
+    /**
+     * Hand over a log event to the asynchronous publisher if it is enabled, otherwise publish it on the current
+     * thread.
+     *
+     * @param logEvent Audit or diagnostic log event.
+     * @param tenantId Tenant id used to preserve the publishing order of the tenant's events.
+     * @throws IdentityEventException If an error occurred while publishing the event on the current thread.
+     */
+    private static void publishLogEvent(Event logEvent, int tenantId) throws IdentityEventException {
+
+        AsyncLogEventPublisher asyncLogEventPublisher =
+                CentralLogMgtServiceComponentHolder.getInstance().getAsyncLogEventPublisher();
+        if (asyncLogEventPublisher != null && asyncLogEventPublisher.publish(logEvent, tenantId)) {
+            return;
+        }
+        IdentityEventService eventMgtService =
+                CentralLogMgtServiceComponentHolder.getInstance().getIdentityEventService();
+        eventMgtService.handleEvent(logEvent);
+    }
+
     /**
      * Resolves the tenant id
      *
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.central.log.mgt.publisher;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.central.log.mgt.internal.CentralLogMgtServiceComponentHolder;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.services.IdentityEventService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.PUBLISH_AUDIT_LOG;
+import static org.wso2.carbon.identity.event.IdentityEventConstants.Event.PUBLISH_DIAGNOSTIC_LOG;
+
+/**
+ * Unit tests for AsyncLogEventPublisher.
+ */
+public class AsyncLogEventPublisherTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int TENANT_ID = -1234;
+
+    private IdentityEventService identityEventService;
+    private List<Event> publishedEvents;
+    private AtomicInteger concurrentPublishers;
+    private AtomicInteger maxConcurrentPublishers;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        System.setProperty("carbon.home", AsyncLogEventPublisherTest.class.getResource("/").getFile());
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(TENANT_DOMAIN);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(TENANT_ID);
+
+        publishedEvents = Collections.synchronizedList(new ArrayList<>());
+        concurrentPublishers = new AtomicInteger();
+        maxConcurrentPublishers = new AtomicInteger();
+        identityEventService = mock(IdentityEventService.class);
+        CentralLogMgtServiceComponentHolder.getInstance().setIdentityEventService(identityEventService);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        CentralLogMgtServiceComponentHolder.getInstance().setIdentityEventService(null);
+    }
+
+    @Test
+    public void testEventsOfTenantArePublishedInOrder() throws Exception {
+
+        recordPublishedEvents(0);
+        AsyncLogEventPublisher publisher = new AsyncLogEventPublisher(100, 2, 8,
+                AsyncLogEventPublisher.OverflowPolicy.BLOCK, 5000);
+        publisher.start();
+        List<Event> events = publishEvents(publisher, 50);
+        publisher.shutdown();
+
+        assertEquals(publishedEvents, events);
+        assertEquals(publisher.getPublishedCount(), 50);
+        assertEquals(publisher.getQueueDepth(), 0);
+    }
+
+    @Test
+    public void testShutdownDrainsAfterWorkerFinishesItsEvents() throws Exception {
+
+        // Publishing is slower than the shutdown timeout, so the remaining events are drained by the shutdown call.
+        recordPublishedEvents(5);
+        AsyncLogEventPublisher publisher = new AsyncLogEventPublisher(100, 1, 4,
+                AsyncLogEventPublisher.OverflowPolicy.BLOCK, 1);
+        publisher.start();
+        List<Event> events = publishEvents(publisher, 20);
+        publisher.shutdown();
+
+        assertEquals(publishedEvents, events);
+        assertEquals(maxConcurrentPublishers.get(), 1);
+        assertFalse(publisher.publish(new Event(PUBLISH_AUDIT_LOG), TENANT_ID));
+    }
+
+    @Test
+    public void testDropDiagnosticFirstOverflowPolicy() throws Exception {
+
+        CountDownLatch publishing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            publishing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            publishedEvents.add(invocation.getArgument(0));
+            return null;
+        }).when(identityEventService).handleEvent(any(Event.class));
+
+        AsyncLogEventPublisher publisher = new AsyncLogEventPublisher(2, 1, 1,
+                AsyncLogEventPublisher.OverflowPolicy.DROP_DIAGNOSTIC_FIRST, 5000);
+        publisher.start();
+        Event firstAudit = new Event(PUBLISH_AUDIT_LOG);
+        publisher.publish(firstAudit, TENANT_ID);
+        assertTrue(publishing.await(5, TimeUnit.SECONDS));
+
+        // The worker is busy with the first event, so the queue fills up with the next two.
+        Event firstDiagnostic = new Event(PUBLISH_DIAGNOSTIC_LOG);
+        Event secondDiagnostic = new Event(PUBLISH_DIAGNOSTIC_LOG);
+        Event secondAudit = new Event(PUBLISH_AUDIT_LOG);
+        publisher.publish(firstDiagnostic, TENANT_ID);
+        publisher.publish(secondDiagnostic, TENANT_ID);
+        publisher.publish(secondAudit, TENANT_ID);
+        publisher.publish(new Event(PUBLISH_DIAGNOSTIC_LOG), TENANT_ID);
+
+        release.countDown();
+        publisher.shutdown();
+
+        List<Event> expected = new ArrayList<>();
+        expected.add(firstAudit);
+        expected.add(secondDiagnostic);
+        expected.add(secondAudit);
+        assertEquals(publishedEvents, expected);
+        assertEquals(publisher.getDroppedDiagnosticLogCount(), 2);
+        assertEquals(publisher.getDroppedAuditLogCount(), 0);
+    }
+
+    private void recordPublishedEvents(long publishDelayMillis) throws Exception {
+
+        doAnswer(invocation -> {
+            maxConcurrentPublishers.accumulateAndGet(concurrentPublishers.incrementAndGet(), Math::max);
+            try {
+                if (publishDelayMillis > 0) {
+                    sleep(publishDelayMillis);
+                }
+                publishedEvents.add(invocation.getArgument(0));
+            } finally {
+                concurrentPublishers.decrementAndGet();
+            }
+            return null;
+        }).when(identityEventService).handleEvent(any(Event.class));
+    }
+
+    private void sleep(long millis) {
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            // The shutdown call interrupts the worker. Keep the flag, as an event handler would.
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Event> publishEvents(AsyncLogEventPublisher publisher, int count) {
+
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Event event = new Event(i % 2 == 0 ? PUBLISH_AUDIT_LOG : PUBLISH_DIAGNOSTIC_LOG);
+            events.add(event);
+            assertTrue(publisher.publish(event, TENANT_ID));
+        }
+        return events;
+    }
+}
@@ -103,6 +103,14 @@ public class ClaimMetadataEventPublisherProxy {
         doPublishEvent(event);
     }
 
+    public void publishPostDeleteAllClaims(int tenantId) {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_ID, tenantId);
+        Event event = createEvent(eventProperties, IdentityEventConstants.Event.POST_DELETE_ALL_CLAIMS);
+        doPublishEvent(event);
+    }
+
     public void publishPreAddLocalClaim(int tenantId, LocalClaim localClaim) {
 
         Map<String, Object> eventProperties = new HashMap<>();
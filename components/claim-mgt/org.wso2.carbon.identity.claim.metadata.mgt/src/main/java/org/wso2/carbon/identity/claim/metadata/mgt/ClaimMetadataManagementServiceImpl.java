@@ -473,6 +473,7 @@ public class ClaimMetadataManagementServiceImpl implements ClaimMetadataManageme
 
         // The relevant external claim deletions are handled by the DB through ON DELETE CASCADE.
         this.claimDialectDAO.removeAllClaimDialects(tenantId);
+        ClaimMetadataEventPublisherProxy.getInstance().publishPostDeleteAllClaims(tenantId);
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.testng.PowerMockTestCase;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.dao.CacheBackedClaimDialectDAO;
 import org.wso2.carbon.identity.claim.metadata.mgt.dao.CacheBackedExternalClaimDAO;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
@@ -59,6 +60,8 @@ public class ClaimMetadataManagementServiceImplTest extends PowerMockTestCase {
 
     private ClaimMetadataManagementService service;
 
+    private ClaimMetadataEventPublisherProxy eventPublisherProxy;
+
     @BeforeMethod
     public void setup() {
 
@@ -66,7 +69,8 @@ public class ClaimMetadataManagementServiceImplTest extends PowerMockTestCase {
         when(IdentityTenantUtil.getTenantId(anyString())).thenReturn(SUPER_TENANT_ID);
 
         mockStatic(ClaimMetadataEventPublisherProxy.class);
-        when(ClaimMetadataEventPublisherProxy.getInstance()).thenReturn(mock(ClaimMetadataEventPublisherProxy.class));
+        eventPublisherProxy = mock(ClaimMetadataEventPublisherProxy.class);
+        when(ClaimMetadataEventPublisherProxy.getInstance()).thenReturn(eventPublisherProxy);
 
         service = new ClaimMetadataManagementServiceImpl();
     }
@@ -106,4 +110,15 @@ public class ClaimMetadataManagementServiceImplTest extends PowerMockTestCase {
         service.addExternalClaim(externalClaim, SUPER_TENANT_DOMAIN_NAME);
     }
 
+    @Test
+    public void testRemoveAllClaims() throws Exception {
+
+        CacheBackedClaimDialectDAO claimDialectDAO = Mockito.mock(CacheBackedClaimDialectDAO.class);
+        setInternalState(service, "claimDialectDAO", claimDialectDAO);
+
+        service.removeAllClaims(SUPER_TENANT_ID);
+        verify(claimDialectDAO, times(1)).removeAllClaimDialects(SUPER_TENANT_ID);
+        verify(eventPublisherProxy, times(1)).publishPostDeleteAllClaims(SUPER_TENANT_ID);
+    }
+
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.client.attestation.mgt.cache;
+
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.playintegrity.v1.PlayIntegrity;
+import com.google.api.services.playintegrity.v1.PlayIntegrityRequestInitializer;
+import com.google.auth.http.HttpCredentialsAdapter;
+import com.google.auth.oauth2.ServiceAccountCredentials;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.SHA_256;
+
+/**
+ * Holds the Google Play Integrity clients built for applications, so that the service account credentials are
+ * parsed once per application and the OAuth access tokens obtained by the credentials are reused across
+ * attestation requests. All clients share a single HTTP transport, which keeps the connections to the Google APIs
+ * alive between requests.
+ * <p>
+ * A client is keyed by the tenant domain and the application resource id, and is tagged with a fingerprint of the
+ * package name and the service account credentials it was built from. A client is rebuilt when the attestation
+ * metadata of the application changes its fingerprint.
+ */
+public class PlayIntegrityClientCache {
+
+    private static final Log LOG = LogFactory.getLog(PlayIntegrityClientCache.class);
+    private static final PlayIntegrityClientCache instance = new PlayIntegrityClientCache();
+
+    private final Map<String, PlayIntegrityClientEntry> clients = new ConcurrentHashMap<>();
+    private volatile HttpTransport httpTransport;
+
+    private PlayIntegrityClientCache() {
+
+    }
+
+    public static PlayIntegrityClientCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the Play Integrity client of the given application, building it if the application has no client yet or
+     * if the client was built from a different package name or service account credentials.
+     *
+     * @param applicationResourceId Application resource id.
+     * @param tenantDomain          Tenant domain of the application.
+     * @param packageName           Android package name of the application.
+     * @param serviceCredentials    Service account credentials JSON of the application.
+     * @return Play Integrity client.
+     * @throws IOException              If the service account credentials can not be parsed.
+     * @throws GeneralSecurityException If the HTTP transport can not be initialized.
+     */
+    public PlayIntegrity getClient(String applicationResourceId, String tenantDomain, String packageName,
+                                   String serviceCredentials) throws IOException, GeneralSecurityException {
+
+        String key = getKey(applicationResourceId, tenantDomain);
+        byte[] fingerprint = getFingerprint(packageName, serviceCredentials);
+        PlayIntegrityClientEntry entry = clients.get(key);
+        if (entry != null && MessageDigest.isEqual(entry.fingerprint, fingerprint)) {
+            return entry.client;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Building the Play Integrity client for application: " + applicationResourceId +
+                    " in tenant: " + tenantDomain);
+        }
+        PlayIntegrity client = buildClient(packageName, serviceCredentials);
+        clients.put(key, new PlayIntegrityClientEntry(fingerprint, client));
+        return client;
+    }
+
+    /**
+     * Remove the Play Integrity client of the given application.
+     *
+     * @param applicationResourceId Application resource id.
+     * @param tenantDomain          Tenant domain of the application.
+     */
+    public void invalidate(String applicationResourceId, String tenantDomain) {
+
+        clients.remove(getKey(applicationResourceId, tenantDomain));
+    }
+
+    /**
+     * Remove all the Play Integrity clients.
+     */
+    public void clear() {
+
+        clients.clear();
+    }
+
+    private PlayIntegrity buildClient(String packageName, String serviceCredentials)
+            throws IOException, GeneralSecurityException {
+
+        ServiceAccountCredentials serviceAccountCredentials = ServiceAccountCredentials.fromStream(
+                new ByteArrayInputStream(serviceCredentials.getBytes(StandardCharsets.UTF_8)));
+        return new PlayIntegrity.Builder(getHttpTransport(), GsonFactory.getDefaultInstance(),
+                new HttpCredentialsAdapter(serviceAccountCredentials))
+                .setApplicationName(packageName)
+                .setGoogleClientRequestInitializer(new PlayIntegrityRequestInitializer())
+                .build();
+    }
+
+    private HttpTransport getHttpTransport() throws IOException, GeneralSecurityException {
+
+        if (httpTransport == null) {
+            synchronized (this) {
+                if (httpTransport == null) {
+                    httpTransport = GoogleNetHttpTransport.newTrustedTransport();
+                }
+            }
+        }
+        return httpTransport;
+    }
+
+    private static String getKey(String applicationResourceId, String tenantDomain) {
+
+        return tenantDomain + ":" + applicationResourceId;
+    }
+
+    private static byte[] getFingerprint(String packageName, String serviceCredentials)
+            throws GeneralSecurityException {
+
+        MessageDigest messageDigest = MessageDigest.getInstance(SHA_256);
+        messageDigest.update(String.valueOf(packageName).getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+        return messageDigest.digest(serviceCredentials.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A Play Integrity client along with the fingerprint of the metadata it was built from.
+     */
+    private static class PlayIntegrityClientEntry {
+
+        private final byte[] fingerprint;
+        private final PlayIntegrity client;
+
+        PlayIntegrityClientEntry(byte[] fingerprint, PlayIntegrity client) {
+
+            this.fingerprint = fingerprint;
+            this.client = client;
+        }
+    }
+}
@@ -37,6 +37,7 @@ public class ClientAttestationMgtDataHolder {
 
     private X509Certificate appleAttestationRootCertificate;
     private boolean appleAttestationRevocationCheckEnabled;
+    private long appleAttestationIntermediateCacheTimeout;
 
     private ClientAttestationMgtDataHolder() {
 
@@ -76,4 +77,20 @@ public class ClientAttestationMgtDataHolder {
 
         this.appleAttestationRevocationCheckEnabled = appleAttestationRevocationCheckEnabled;
     }
+
+    /**
+     * Get the time in milliseconds a validated apple attestation intermediate certificate is trusted without
+     * validating it against the root certificate.
+     *
+     * @return Intermediate certificate cache timeout in milliseconds.
+     */
+    public long getAppleAttestationIntermediateCacheTimeout() {
+
+        return appleAttestationIntermediateCacheTimeout;
+    }
+
+    public void setAppleAttestationIntermediateCacheTimeout(long appleAttestationIntermediateCacheTimeout) {
+
+        this.appleAttestationIntermediateCacheTimeout = appleAttestationIntermediateCacheTimeout;
+    }
 }
@@ -30,8 +30,12 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
+import org.wso2.carbon.identity.client.attestation.mgt.cache.PlayIntegrityClientCache;
+import org.wso2.carbon.identity.client.attestation.mgt.listener.ClientAttestationApplicationMgtListener;
 import org.wso2.carbon.identity.client.attestation.mgt.services.ClientAttestationService;
 import org.wso2.carbon.identity.client.attestation.mgt.services.ClientAttestationServiceImpl;
+import org.wso2.carbon.identity.client.attestation.mgt.validators.AppleCertificateChainVerifier;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.io.FileInputStream;
@@ -40,10 +44,13 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
+import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.APPLE_ATTESTATION_INTERMEDIATE_CACHE_TIMEOUT;
 import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.APPLE_ATTESTATION_REVOCATION_CHECK_ENABLED;
 import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.APPLE_ATTESTATION_ROOT_CERTIFICATE_PATH;
 import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.CERTIFICATE_EXPIRY_THRESHOLD;
+import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.DEFAULT_APPLE_ATTESTATION_INTERMEDIATE_CACHE_TIMEOUT;
 import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.MILLI_SECOND_IN_DAY;
 
 /**
@@ -65,6 +72,8 @@ public class ClientAttestationMgtServiceComponent {
         try {
             context.getBundleContext().registerService(ClientAttestationService.class.getName(),
                     new ClientAttestationServiceImpl(), null);
+            context.getBundleContext().registerService(ApplicationMgtListener.class.getName(),
+                    new ClientAttestationApplicationMgtListener(), null);
             loadConfigs();
 
             if (LOG.isDebugEnabled()) {
@@ -86,6 +95,8 @@ public class ClientAttestationMgtServiceComponent {
                 .setAppleAttestationRootCertificate(getAppleAttestationRootCertificate());
         ClientAttestationMgtDataHolder.getInstance()
                 .setAppleAttestationRevocationCheckEnabled(loadAppleAttestationRevocationCheckEnabled());
+        ClientAttestationMgtDataHolder.getInstance()
+                .setAppleAttestationIntermediateCacheTimeout(loadAppleAttestationIntermediateCacheTimeout());
     }
 
     /**
@@ -98,6 +109,26 @@ public class ClientAttestationMgtServiceComponent {
         return Boolean.parseBoolean(IdentityUtil.getProperty(APPLE_ATTESTATION_REVOCATION_CHECK_ENABLED));
     }
 
+    /**
+     * Loads the time a validated Apple attestation intermediate certificate is trusted from the configuration.
+     *
+     * @return Intermediate certificate cache timeout in milliseconds.
+     */
+    private long loadAppleAttestationIntermediateCacheTimeout() {
+
+        String cacheTimeout = IdentityUtil.getProperty(APPLE_ATTESTATION_INTERMEDIATE_CACHE_TIMEOUT);
+        long cacheTimeoutInSeconds = DEFAULT_APPLE_ATTESTATION_INTERMEDIATE_CACHE_TIMEOUT;
+        if (StringUtils.isNotBlank(cacheTimeout)) {
+            try {
+                cacheTimeoutInSeconds = Long.parseLong(cacheTimeout.trim());
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid apple attestation intermediate certificate cache timeout: " + cacheTimeout +
+                        ". Using the default value: " + DEFAULT_APPLE_ATTESTATION_INTERMEDIATE_CACHE_TIMEOUT);
+            }
+        }
+        return TimeUnit.SECONDS.toMillis(cacheTimeoutInSeconds);
+    }
+
     /**
      * Retrieves the Apple attestation root certificate from the configured file path.
      *
@@ -151,6 +182,9 @@ public class ClientAttestationMgtServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        PlayIntegrityClientCache.getInstance().clear();
+        AppleCertificateChainVerifier.getInstance().clear();
+
         if (LOG.isDebugEnabled()) {
             LOG.debug("Input Validation service component deactivated.");
         }
@@ -19,9 +19,6 @@
 
 package org.wso2.carbon.identity.client.attestation.mgt.services;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.nimbusds.jose.JWEObject;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -31,6 +28,7 @@ import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.client.attestation.mgt.exceptions.ClientAttestationMgtException;
 import org.wso2.carbon.identity.client.attestation.mgt.internal.ClientAttestationMgtDataHolder;
 import org.wso2.carbon.identity.client.attestation.mgt.model.ClientAttestationContext;
+import org.wso2.carbon.identity.client.attestation.mgt.utils.CBORParser;
 import org.wso2.carbon.identity.client.attestation.mgt.utils.Constants;
 import org.wso2.carbon.identity.client.attestation.mgt.validators.AndroidAttestationValidator;
 import org.wso2.carbon.identity.client.attestation.mgt.validators.AppleAttestationValidator;
@@ -136,15 +134,11 @@ public class ClientAttestationServiceImpl implements ClientAttestationService {
      */
     private boolean isAppleAttestation(String attestationObject) {
 
-        // Create a CBOR factory and an ObjectMapper for CBOR serialization.
-        CBORFactory factory = new CBORFactory();
-        ObjectMapper cborMapper = new ObjectMapper(factory);
-
         try {
             // Decode the Base64-encoded attestation object.
             byte[] cborData = Base64.getDecoder().decode(attestationObject);
             // Parse the CBOR data into a Map.
-            Map<String, Object> cborMap = cborMapper.readValue(cborData, new TypeReference<Map<String, Object>>() { });
+            Map<String, Object> cborMap = CBORParser.parseMap(cborData);
 
             // Check for the presence of specific keys and the "fmt" value.
             if (cborMap.containsKey(AUTH_DATA)
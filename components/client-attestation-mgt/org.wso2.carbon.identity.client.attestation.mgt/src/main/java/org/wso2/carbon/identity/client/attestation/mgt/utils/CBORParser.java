@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.client.attestation.mgt.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Parses CBOR encoded attestation objects. The underlying object mapper is thread safe and is shared by all
+ * attestation requests.
+ */
+public class CBORParser {
+
+    private static final ObjectMapper CBOR_MAPPER = new ObjectMapper(new CBORFactory());
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() { };
+
+    private CBORParser() {
+
+    }
+
+    /**
+     * Parse the given CBOR data into a map.
+     *
+     * @param cborData CBOR data.
+     * @return Parsed map.
+     * @throws IOException If the data is not a valid CBOR map.
+     */
+    public static Map<String, Object> parseMap(byte[] cborData) throws IOException {
+
+        return CBOR_MAPPER.readValue(cborData, MAP_TYPE);
+    }
+}
@@ -47,6 +47,10 @@ public class Constants {
             = "ClientAttestation.AppleAttestationRootCertificatePath";
     public static final String APPLE_ATTESTATION_REVOCATION_CHECK_ENABLED
             = "ClientAttestation.AppleAttestationRevocationCheckEnabled";
+    public static final String APPLE_ATTESTATION_INTERMEDIATE_CACHE_TIMEOUT
+            = "ClientAttestation.AppleAttestationIntermediateCacheTimeout";
+    // Default time in seconds a validated apple attestation intermediate certificate is trusted.
+    public static final long DEFAULT_APPLE_ATTESTATION_INTERMEDIATE_CACHE_TIMEOUT = 300;
 
     // Constants related to Android Attestation
     public static final String PLAY_RECOGNIZED = "PLAY_RECOGNIZED";
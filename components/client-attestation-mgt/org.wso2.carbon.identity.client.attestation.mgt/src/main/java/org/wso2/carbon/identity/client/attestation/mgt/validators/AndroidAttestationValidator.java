@@ -19,29 +19,21 @@
 
 package org.wso2.carbon.identity.client.attestation.mgt.validators;
 
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.HttpRequestInitializer;
-import com.google.api.client.http.HttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.services.playintegrity.v1.PlayIntegrity;
-import com.google.api.services.playintegrity.v1.PlayIntegrityRequestInitializer;
 import com.google.api.services.playintegrity.v1.model.AppIntegrity;
 import com.google.api.services.playintegrity.v1.model.DecodeIntegrityTokenRequest;
 import com.google.api.services.playintegrity.v1.model.DecodeIntegrityTokenResponse;
 import com.google.api.services.playintegrity.v1.model.RequestDetails;
-import com.google.auth.http.HttpCredentialsAdapter;
-import com.google.auth.oauth2.ServiceAccountCredentials;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.common.model.ClientAttestationMetaData;
+import org.wso2.carbon.identity.client.attestation.mgt.cache.PlayIntegrityClientCache;
 import org.wso2.carbon.identity.client.attestation.mgt.exceptions.ClientAttestationMgtException;
 import org.wso2.carbon.identity.client.attestation.mgt.model.ClientAttestationContext;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.util.Calendar;
 import java.util.TimeZone;
@@ -127,27 +119,14 @@ public class AndroidAttestationValidator implements ClientAttestationValidator {
                         "AndroidAttestationServiceCredentials is null for application : " + applicationResourceId +
                         "tenant domain : " + tenantDomain);
             }
-            // Create an input stream from the JSON data.
-            ByteArrayInputStream jsonInputStream = new ByteArrayInputStream(jsonData.getBytes(StandardCharsets.UTF_8));
-
             // Create a DecodeIntegrityTokenRequest and set the integrity token.
             DecodeIntegrityTokenRequest decodeIntegrityTokenRequest = new DecodeIntegrityTokenRequest();
             decodeIntegrityTokenRequest.setIntegrityToken(attestationObject);
 
-            // Configure credentials from the JSON data.
-            ServiceAccountCredentials serviceAccountCredentials = ServiceAccountCredentials.fromStream(jsonInputStream);
-            HttpRequestInitializer requestInitializer = new HttpCredentialsAdapter(serviceAccountCredentials);
-
-            // Initialize HTTP transport and other necessary components.
-            HttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
-            GsonFactory jsonFactory = GsonFactory.getDefaultInstance();
-            PlayIntegrityRequestInitializer initializer = new PlayIntegrityRequestInitializer();
-
-            // Create the PlayIntegrity service for interacting with the Google Play Integrity API.
-            PlayIntegrity playIntegrity = new PlayIntegrity.Builder(httpTransport, jsonFactory, requestInitializer)
-                    .setApplicationName(clientAttestationMetaData.getAndroidPackageName())
-                    .setGoogleClientRequestInitializer(initializer)
-                    .build();
+            // Get the PlayIntegrity service built for the application for interacting with the Google Play
+            // Integrity API.
+            PlayIntegrity playIntegrity = PlayIntegrityClientCache.getInstance().getClient(applicationResourceId,
+                    tenantDomain, clientAttestationMetaData.getAndroidPackageName(), jsonData);
 
             // Execute the decodeIntegrityToken request and return the response.
             return playIntegrity.v1()
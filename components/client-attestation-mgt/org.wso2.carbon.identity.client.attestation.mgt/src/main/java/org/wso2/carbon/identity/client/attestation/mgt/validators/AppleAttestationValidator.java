@@ -19,9 +19,6 @@
 
 package org.wso2.carbon.identity.client.attestation.mgt.validators;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -29,37 +26,28 @@ import org.wso2.carbon.identity.application.common.model.ClientAttestationMetaDa
 import org.wso2.carbon.identity.client.attestation.mgt.exceptions.ClientAttestationMgtException;
 import org.wso2.carbon.identity.client.attestation.mgt.internal.ClientAttestationMgtDataHolder;
 import org.wso2.carbon.identity.client.attestation.mgt.model.ClientAttestationContext;
+import org.wso2.carbon.identity.client.attestation.mgt.utils.CBORParser;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertPath;
-import java.security.cert.CertPathValidator;
 import java.security.cert.CertPathValidatorException;
 import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
-import java.security.cert.PKIXParameters;
-import java.security.cert.TrustAnchor;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
-import java.util.Collections;
 import java.util.Date;
-import java.util.List;
 import java.util.Map;
 
 import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.ATT_STMT;
 import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.AUTH_DATA;
 import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.CERTIFICATE_EXPIRY_THRESHOLD;
 import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.MILLI_SECOND_IN_DAY;
-import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.PKIX;
 import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.SHA_256;
 import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.X5C;
-import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.X_509_CERTIFICATE_TYPE;
 
 /**
  * Implementation of the {@link ClientAttestationValidator} interface specific to Apple attestation.
@@ -96,16 +84,12 @@ public class AppleAttestationValidator implements ClientAttestationValidator {
     public void validateAttestation(String attestationHeader, ClientAttestationContext clientAttestationContext)
             throws ClientAttestationMgtException {
 
-        // Create a CBOR factory and an ObjectMapper for CBOR serialization.
-        CBORFactory factory = new CBORFactory();
-        ObjectMapper cborMapper = new ObjectMapper(factory);
-
         // Decode the Base64-encoded attestation object.
         byte[] cborData = Base64.getDecoder().decode(attestationHeader);
 
         try {
             // Parse the CBOR data into a Map.
-            Map<String, Object> cborMap = cborMapper.readValue(cborData, new TypeReference<Map<String, Object>>() { });
+            Map<String, Object> cborMap = CBORParser.parseMap(cborData);
 
             if (verifyAppleAttestationStatement(cborMap, clientAttestationContext)
                     && verifyAppleAuthData(cborMap, clientAttestationContext)) {
@@ -166,28 +150,13 @@ public class AppleAttestationValidator implements ClientAttestationValidator {
                         "Please add the latest certificate.");
             }
 
-            // Load the attestation certificate and intermediate CA certificate from the attestation object
-            CertificateFactory certificateFactory = CertificateFactory.getInstance(X_509_CERTIFICATE_TYPE);
-            X509Certificate credCert = (X509Certificate) certificateFactory.generateCertificate(
-                    new ByteArrayInputStream(x5c.get(0)));
-            X509Certificate caCert = (X509Certificate) certificateFactory.generateCertificate(
-                    new ByteArrayInputStream(x5c.get(1)));
-
-            // Create a CertPath
-            List<X509Certificate> certs = Arrays.asList(credCert, caCert);
-            CertPath certPath = certificateFactory.generateCertPath(certs);
-
-            // Create a CertPathValidator and validate the certificate chain
-            CertPathValidator certPathValidator = CertPathValidator.getInstance(PKIX);
-            PKIXParameters params = new PKIXParameters(Collections.singleton(new TrustAnchor(appleRootCA, null)));
-            // In the context of PKIX (Public Key Infrastructure for X.509), revocation refers to the process of
-            // declaring a digital certificate as invalid before its natural expiration date.
-            // In Development, this is not necessary; hence, provide a config to configure revocation.
-            params.setRevocationEnabled(ClientAttestationMgtDataHolder.getInstance()
-                    .isAppleAttestationRevocationCheckEnabled());
-
+            // Validate the certificate chain of the attestation certificate and the intermediate CA certificate
+            // from the attestation object.
             try {
-                certPathValidator.validate(certPath, params);
+                ClientAttestationMgtDataHolder dataHolder = ClientAttestationMgtDataHolder.getInstance();
+                AppleCertificateChainVerifier.getInstance().validate(x5c.get(0), x5c.get(1), appleRootCA,
+                        dataHolder.isAppleAttestationRevocationCheckEnabled(),
+                        dataHolder.getAppleAttestationIntermediateCacheTimeout());
                 return true;
             } catch (CertPathValidatorException e) {
                 // Handle the validation error
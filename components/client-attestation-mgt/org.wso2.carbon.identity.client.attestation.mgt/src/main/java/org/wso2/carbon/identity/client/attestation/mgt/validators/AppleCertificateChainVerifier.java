@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.client.attestation.mgt.validators;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.ByteArrayInputStream;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertPath;
+import java.security.cert.CertPathValidator;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.PKIX;
+import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.SHA_256;
+import static org.wso2.carbon.identity.client.attestation.mgt.utils.Constants.X_509_CERTIFICATE_TYPE;
+
+/**
+ * Validates the certificate chains of Apple attestation objects against the Apple attestation root certificate.
+ * <p>
+ * The intermediate CA certificate is the same for nearly all devices. Once an intermediate certificate is validated
+ * against the root certificate, it is kept by its SHA-256 fingerprint and used as the trust anchor for the following
+ * attestations, so that only the credential certificate is validated per request. A validated intermediate
+ * certificate is kept until the earliest of its expiry, the expiry of the root certificate and the configured
+ * timeout, after which the full chain is validated again, including the revocation checks when they are enabled.
+ * An intermediate certificate is also dropped when a revocation check fails while validating a credential
+ * certificate issued by it.
+ */
+public class AppleCertificateChainVerifier {
+
+    private static final Log LOG = LogFactory.getLog(AppleCertificateChainVerifier.class);
+    private static final AppleCertificateChainVerifier instance = new AppleCertificateChainVerifier();
+    private static final int MAX_VALIDATED_INTERMEDIATES = 100;
+
+    // Certificate factories and path validators are not guaranteed to be thread safe, hence kept per thread.
+    private static final ThreadLocal<CertificateFactory> CERTIFICATE_FACTORY = ThreadLocal.withInitial(() -> {
+        try {
+            return CertificateFactory.getInstance(X_509_CERTIFICATE_TYPE);
+        } catch (CertificateException e) {
+            throw new IllegalStateException("Unable to initialize the " + X_509_CERTIFICATE_TYPE +
+                    " certificate factory.", e);
+        }
+    });
+    private static final ThreadLocal<CertPathValidator> CERT_PATH_VALIDATOR = ThreadLocal.withInitial(() -> {
+        try {
+            return CertPathValidator.getInstance(PKIX);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unable to initialize the " + PKIX + " certificate path validator.", e);
+        }
+    });
+
+    private final Map<String, ValidatedIntermediate> validatedIntermediates = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private volatile RootTrustAnchors rootTrustAnchors;
+
+    private AppleCertificateChainVerifier() {
+
+        this(Clock.systemUTC());
+    }
+
+    AppleCertificateChainVerifier(Clock clock) {
+
+        this.clock = clock;
+    }
+
+    public static AppleCertificateChainVerifier getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Validate the certificate chain made of the given credential certificate and intermediate CA certificate
+     * against the given root certificate.
+     *
+     * @param credentialCertificate   DER encoded credential certificate.
+     * @param intermediateCertificate DER encoded intermediate CA certificate.
+     * @param rootCertificate         Apple attestation root certificate.
+     * @param revocationCheckEnabled  Whether the revocation of the certificates should be checked.
+     * @param cacheTimeoutMillis      Maximum time a validated intermediate certificate is trusted without
+     *                                validating it against the root certificate.
+     * @throws CertPathValidatorException         If the certificate chain is not valid.
+     * @throws CertificateException               If the certificates can not be parsed.
+     * @throws InvalidAlgorithmParameterException If the trust anchors are not valid.
+     * @throws NoSuchAlgorithmException           If the SHA-256 algorithm is not available.
+     */
+    public void validate(byte[] credentialCertificate, byte[] intermediateCertificate,
+                         X509Certificate rootCertificate, boolean revocationCheckEnabled, long cacheTimeoutMillis)
+            throws CertPathValidatorException, CertificateException, InvalidAlgorithmParameterException,
+            NoSuchAlgorithmException {
+
+        CertificateFactory certificateFactory = CERTIFICATE_FACTORY.get();
+        X509Certificate credCert = (X509Certificate) certificateFactory.generateCertificate(
+                new ByteArrayInputStream(credentialCertificate));
+        String fingerprint = getFingerprint(intermediateCertificate);
+
+        ValidatedIntermediate validatedIntermediate = getValidatedIntermediate(fingerprint, rootCertificate);
+        if (validatedIntermediate != null) {
+            try {
+                validatePath(Collections.singletonList(credCert), validatedIntermediate.trustAnchors,
+                        revocationCheckEnabled);
+                return;
+            } catch (CertPathValidatorException e) {
+                if (isRevocationFailure(e)) {
+                    // Validate the intermediate certificate again with the next attestation.
+                    validatedIntermediates.remove(fingerprint);
+                }
+                throw e;
+            }
+        }
+
+        X509Certificate caCert = (X509Certificate) certificateFactory.generateCertificate(
+                new ByteArrayInputStream(intermediateCertificate));
+        validatePath(Arrays.asList(credCert, caCert), getRootTrustAnchors(rootCertificate), revocationCheckEnabled);
+        addValidatedIntermediate(fingerprint, caCert, rootCertificate, cacheTimeoutMillis);
+    }
+
+    /**
+     * Remove all the validated intermediate certificates.
+     */
+    public void clear() {
+
+        validatedIntermediates.clear();
+    }
+
+    void validatePath(List<X509Certificate> certificates, Set<TrustAnchor> trustAnchors,
+                      boolean revocationCheckEnabled)
+            throws CertificateException, CertPathValidatorException, InvalidAlgorithmParameterException {
+
+        CertPath certPath = CERTIFICATE_FACTORY.get().generateCertPath(certificates);
+        PKIXParameters params = new PKIXParameters(trustAnchors);
+        params.setDate(new Date(clock.millis()));
+        // In the context of PKIX (Public Key Infrastructure for X.509), revocation refers to the process of
+        // declaring a digital certificate as invalid before its natural expiration date.
+        // In Development, this is not necessary; hence, provide a config to configure revocation.
+        params.setRevocationEnabled(revocationCheckEnabled);
+        CERT_PATH_VALIDATOR.get().validate(certPath, params);
+    }
+
+    private ValidatedIntermediate getValidatedIntermediate(String fingerprint, X509Certificate rootCertificate) {
+
+        ValidatedIntermediate validatedIntermediate = validatedIntermediates.get(fingerprint);
+        if (validatedIntermediate == null) {
+            return null;
+        }
+        if (clock.millis() >= validatedIntermediate.expiryTime
+                || !validatedIntermediate.rootCertificate.equals(rootCertificate)) {
+            validatedIntermediates.remove(fingerprint, validatedIntermediate);
+            return null;
+        }
+        return validatedIntermediate;
+    }
+
+    private void addValidatedIntermediate(String fingerprint, X509Certificate caCert,
+                                          X509Certificate rootCertificate, long cacheTimeoutMillis) {
+
+        if (cacheTimeoutMillis <= 0) {
+            return;
+        }
+        long currentTime = clock.millis();
+        long expiryTime = Math.min(currentTime + cacheTimeoutMillis,
+                Math.min(caCert.getNotAfter().getTime(), rootCertificate.getNotAfter().getTime()));
+        if (validatedIntermediates.size() >= MAX_VALIDATED_INTERMEDIATES) {
+            validatedIntermediates.values().removeIf(entry -> currentTime >= entry.expiryTime);
+            if (validatedIntermediates.size() >= MAX_VALIDATED_INTERMEDIATES) {
+                return;
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Caching the validated apple attestation intermediate certificate: " +
+                    caCert.getSubjectX500Principal().getName() + " with fingerprint: " + fingerprint);
+        }
+        validatedIntermediates.put(fingerprint, new ValidatedIntermediate(
+                Collections.singleton(new TrustAnchor(caCert, null)), rootCertificate, expiryTime));
+    }
+
+    private Set<TrustAnchor> getRootTrustAnchors(X509Certificate rootCertificate) {
+
+        RootTrustAnchors anchors = rootTrustAnchors;
+        if (anchors == null || !anchors.rootCertificate.equals(rootCertificate)) {
+            anchors = new RootTrustAnchors(rootCertificate);
+            rootTrustAnchors = anchors;
+        }
+        return anchors.trustAnchors;
+    }
+
+    private static boolean isRevocationFailure(CertPathValidatorException e) {
+
+        return e.getReason() == CertPathValidatorException.BasicReason.REVOKED
+                || e.getReason() == CertPathValidatorException.BasicReason.UNDETERMINED_REVOCATION_STATUS;
+    }
+
+    private static String getFingerprint(byte[] certificate) throws NoSuchAlgorithmException {
+
+        return Base64.getEncoder().encodeToString(MessageDigest.getInstance(SHA_256).digest(certificate));
+    }
+
+    /**
+     * The trust anchors built from a root certificate.
+     */
+    private static class RootTrustAnchors {
+
+        private final X509Certificate rootCertificate;
+        private final Set<TrustAnchor> trustAnchors;
+
+        RootTrustAnchors(X509Certificate rootCertificate) {
+
+            this.rootCertificate = rootCertificate;
+            this.trustAnchors = Collections.singleton(new TrustAnchor(rootCertificate, null));
+        }
+    }
+
+    /**
+     * An intermediate certificate validated against a root certificate, along with the time until which it is
+     * trusted.
+     */
+    private static class ValidatedIntermediate {
+
+        private final Set<TrustAnchor> trustAnchors;
+        private final X509Certificate rootCertificate;
+        private final long expiryTime;
+
+        ValidatedIntermediate(Set<TrustAnchor> trustAnchors, X509Certificate rootCertificate, long expiryTime) {
+
+            this.trustAnchors = trustAnchors;
+            this.rootCertificate = rootCertificate;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.client.attestation.mgt.validators;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.InputStream;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Test class for AppleCertificateChainVerifier.
+ */
+public class AppleCertificateChainVerifierTest {
+
+    private static final long CACHE_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+    private static final Instant CURRENT_TIME = Instant.parse("2030-01-01T00:00:00Z");
+
+    private X509Certificate rootCertificate;
+    private X509Certificate otherRootCertificate;
+    private X509Certificate intermediateCertificate;
+    private X509Certificate credentialCertificate;
+    private TestClock clock;
+    private AppleCertificateChainVerifier verifier;
+
+    @BeforeClass
+    public void loadCertificates() throws Exception {
+
+        rootCertificate = loadCertificate("root.pem");
+        otherRootCertificate = loadCertificate("other-root.pem");
+        intermediateCertificate = loadCertificate("intermediate.pem");
+        credentialCertificate = loadCertificate("credential.pem");
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        clock = new TestClock(CURRENT_TIME);
+        verifier = spy(new AppleCertificateChainVerifier(clock));
+    }
+
+    @Test
+    public void testCachedIntermediateSkipsFullPathValidation() throws Exception {
+
+        validate(rootCertificate, CACHE_TIMEOUT);
+        validate(rootCertificate, CACHE_TIMEOUT);
+        validate(rootCertificate, CACHE_TIMEOUT);
+
+        verifyFullPathValidations(1);
+        verifyCredentialValidations(2);
+    }
+
+    @Test
+    public void testIntermediateIsValidatedAgainAfterCacheTimeout() throws Exception {
+
+        validate(rootCertificate, CACHE_TIMEOUT);
+        clock.advance(CACHE_TIMEOUT - 1);
+        validate(rootCertificate, CACHE_TIMEOUT);
+        verifyFullPathValidations(1);
+
+        clock.advance(1);
+        validate(rootCertificate, CACHE_TIMEOUT);
+        verifyFullPathValidations(2);
+    }
+
+    @Test
+    public void testIntermediateIsValidatedAgainAtItsExpiry() throws Exception {
+
+        // The cache timeout is longer than the remaining validity of the intermediate certificate.
+        long cacheTimeout = TimeUnit.DAYS.toMillis(365 * 20);
+        validate(rootCertificate, cacheTimeout);
+        clock.set(Instant.ofEpochMilli(intermediateCertificate.getNotAfter().getTime() - 1));
+        validate(rootCertificate, cacheTimeout);
+        verifyFullPathValidations(1);
+
+        clock.set(intermediateCertificate.getNotAfter().toInstant());
+        validate(rootCertificate, cacheTimeout);
+        verifyFullPathValidations(2);
+
+        // The expired intermediate certificate is no longer trusted.
+        clock.advance(TimeUnit.SECONDS.toMillis(1));
+        assertThrows(CertPathValidatorException.class, () -> validate(rootCertificate, cacheTimeout));
+    }
+
+    @Test
+    public void testRootCertificateChangeInvalidatesIntermediate() throws Exception {
+
+        validate(rootCertificate, CACHE_TIMEOUT);
+
+        // The intermediate certificate is not issued by the other root certificate.
+        assertThrows(CertPathValidatorException.class, () -> validate(otherRootCertificate, CACHE_TIMEOUT));
+        verifyFullPathValidations(2);
+        verifyCredentialValidations(0);
+
+        validate(rootCertificate, CACHE_TIMEOUT);
+        verifyFullPathValidations(3);
+    }
+
+    @Test
+    public void testRevocationFailureEvictsIntermediate() throws Exception {
+
+        validate(rootCertificate, CACHE_TIMEOUT);
+        doThrow(new CertPathValidatorException("Certificate has been revoked.", null, null, -1,
+                CertPathValidatorException.BasicReason.REVOKED))
+                .when(verifier).validatePath(argThat(certificates -> certificates.size() == 1), any(), anyBoolean());
+
+        assertThrows(CertPathValidatorException.class, () -> validate(rootCertificate, CACHE_TIMEOUT));
+        verifyFullPathValidations(1);
+
+        validate(rootCertificate, CACHE_TIMEOUT);
+        verifyFullPathValidations(2);
+    }
+
+    @Test
+    public void testOtherValidationFailureKeepsIntermediate() throws Exception {
+
+        validate(rootCertificate, CACHE_TIMEOUT);
+        doThrow(new CertPathValidatorException("Invalid signature."))
+                .doCallRealMethod()
+                .when(verifier).validatePath(argThat(certificates -> certificates.size() == 1), any(), anyBoolean());
+
+        assertThrows(CertPathValidatorException.class, () -> validate(rootCertificate, CACHE_TIMEOUT));
+        validate(rootCertificate, CACHE_TIMEOUT);
+
+        verifyFullPathValidations(1);
+    }
+
+    private void validate(X509Certificate root, long cacheTimeout) throws Exception {
+
+        verifier.validate(credentialCertificate.getEncoded(), intermediateCertificate.getEncoded(), root, false,
+                cacheTimeout);
+    }
+
+    private void verifyFullPathValidations(int count) throws Exception {
+
+        verify(verifier, times(count))
+                .validatePath(argThat(certificates -> certificates.size() == 2), any(), anyBoolean());
+    }
+
+    private void verifyCredentialValidations(int count) throws Exception {
+
+        verify(verifier, times(count))
+                .validatePath(argThat(certificates -> certificates.size() == 1), any(), anyBoolean());
+    }
+
+    private X509Certificate loadCertificate(String fileName) throws Exception {
+
+        try (InputStream inputStream = getClass().getResourceAsStream("/certificates/" + fileName)) {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(inputStream);
+        }
+    }
+
+    /**
+     * A clock which is moved by the tests.
+     */
+    private static class TestClock extends Clock {
+
+        private Instant instant;
+
+        TestClock(Instant instant) {
+
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+
+            this.instant = instant;
+        }
+
+        void advance(long millis) {
+
+            instant = instant.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+
+            return instant;
+        }
+    }
+}
@@ -57,6 +57,22 @@ public interface ConfigurationManager {
     Resources getTenantResources(String tenantDomain, Condition searchCondition) throws
             ConfigurationManagementException;
 
+    /**
+     * This API is used to get a page of the resources filtered with the {@link Condition}, ordered by the resource
+     * name.
+     *
+     * @param searchCondition {@link Condition} representing a search filter for resources.
+     * @param limit           Maximum number of resources to be returned.
+     * @param offset          Number of resources to be skipped.
+     * @return {@link Resources} object with the page of resources matching to the given {@link Condition}.
+     * @throws ConfigurationManagementException Configuration Management Exception.
+     */
+    default Resources getTenantResources(Condition searchCondition, int limit, int offset)
+            throws ConfigurationManagementException {
+
+        throw new NotImplementedException("This functionality is not implemented.");
+    }
+
     /**
      * This API is used to store a new {@link ResourceType}.
      *
@@ -123,6 +139,22 @@ public interface ConfigurationManager {
      */
     Resources getResourcesByType(String resourceTypeName) throws ConfigurationManagementException;
 
+    /**
+     * Get a page of the resources belonging to the given {@link ResourceType} ordered by the resource name. The files
+     * of the resources are not loaded.
+     *
+     * @param resourceTypeName {@link ResourceType} object name.
+     * @param limit            Maximum number of resources to be returned.
+     * @param offset           Number of resources to be skipped.
+     * @return {@link Resources} object with the page of resources of the given resource type name.
+     * @throws ConfigurationManagementException Configuration Management Exception.
+     */
+    default Resources getResourcesByType(String resourceTypeName, int limit, int offset)
+            throws ConfigurationManagementException {
+
+        throw new NotImplementedException("This functionality is not implemented.");
+    }
+
     /**
      * This API is used to create the given resource.
      *
@@ -321,6 +353,23 @@ public interface ConfigurationManager {
     InputStream getFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException;
 
+    /**
+     * This API is used to get the entity tag of the given file. The entity tag is resolved without reading the file
+     * content and changes whenever the resource of the file is modified, hence a client holding a file with the same
+     * entity tag does not need to retrieve the file again.
+     *
+     * @param resourceType resource type name.
+     * @param resourceName resource name.
+     * @param fileId       Id representing the file.
+     * @return Weak entity tag of the file.
+     * @throws ConfigurationManagementException Resource management exception.
+     */
+    default String getFileETag(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        throw new NotImplementedException("This functionality is not implemented.");
+    }
+
     /**
      * This API is used to delete the given file.
      *
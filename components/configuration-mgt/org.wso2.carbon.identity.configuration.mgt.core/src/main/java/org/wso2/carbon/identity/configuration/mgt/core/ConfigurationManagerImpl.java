@@ -82,6 +82,7 @@ import static org.wso2.carbon.identity.configuration.mgt.core.constant.Configura
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
         .ERROR_CODE_SEARCH_REQUEST_INVALID;
 import static org.wso2.carbon.identity.configuration.mgt.core.search.constant.ConditionType.PrimitiveOperator.EQUALS;
+import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.buildFileETag;
 import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.generateUniqueID;
 import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.getFilePath;
 import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.handleClientException;
@@ -113,6 +114,21 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
         return resources;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Resources getTenantResources(Condition searchCondition, int limit, int offset)
+            throws ConfigurationManagementException {
+
+        validateSearchRequest(searchCondition);
+        Resources resources = getConfigurationDAO().getTenantResources(searchCondition, limit, offset);
+        if (resources == null) {
+            throw handleClientException(ErrorMessages.ERROR_CODE_RESOURCES_DOES_NOT_EXISTS, null);
+        }
+        return resources;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -174,6 +190,19 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
         return retrieveResourcesByType(getTenantId(), resourceTypeName);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Resources getResourcesByType(String resourceTypeName, int limit, int offset)
+            throws ConfigurationManagementException {
+
+        validateResourcesRetrieveRequest(resourceTypeName);
+        ResourceType resourceType = getResourceType(resourceTypeName);
+        return new Resources(this.getConfigurationDAO().getResourcesByType(getTenantId(), resourceType.getId(),
+                limit, offset));
+    }
+
     private Resources retrieveResourcesByType(int tenantId, String resourceTypeName) throws ConfigurationManagementException {
 
         validateResourcesRetrieveRequest(resourceTypeName);
@@ -989,6 +1018,22 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
         return fileStream;
     }
 
+    @Override
+    public String getFileETag(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        validateRequest(resourceType, resourceName, fileId);
+        String resourceLastModified = getConfigurationDAO().getResourceLastModifiedByFileId(resourceType,
+                resourceName, fileId);
+        if (resourceLastModified == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Resource File: " + fileId + " does not exists.");
+            }
+            throw handleClientException(ERROR_CODE_FILE_DOES_NOT_EXISTS, fileId);
+        }
+        return buildFileETag(fileId, resourceLastModified);
+    }
+
     @Override
     public void deleteFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException {
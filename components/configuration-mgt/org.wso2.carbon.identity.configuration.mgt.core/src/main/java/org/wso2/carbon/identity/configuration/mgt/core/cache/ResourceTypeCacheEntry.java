@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.wso2.carbon.identity.application.common.cache.CacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
+
+/**
+ * Represents a cache entry for {@link ResourceType}. The entry holds the fields of the resource type and returns a
+ * new {@link ResourceType} for each read, so that callers can not modify the cached value.
+ */
+public class ResourceTypeCacheEntry extends CacheEntry {
+
+    private final String name;
+    private final String id;
+    private final String description;
+
+    public ResourceTypeCacheEntry(ResourceType resourceType) {
+
+        this.name = resourceType.getName();
+        this.id = resourceType.getId();
+        this.description = resourceType.getDescription();
+    }
+
+    public ResourceType getResourceType() {
+
+        return new ResourceType(name, id, description);
+    }
+}
@@ -435,6 +435,52 @@ public class SQLConstants {
             "    R.HAS_FILE = TRUE\n" +
             "    AND F.RESOURCE_ID = R.ID\n" +
             "  )\n";
+    public static final String GET_TENANT_RESOURCE_IDS_SELECT_COLUMNS_MYSQL = "SELECT DISTINCT\n" +
+            "  R.ID,\n" +
+            "  R.NAME\n" +
+            "FROM\n" +
+            "  IDN_CONFIG_RESOURCE AS R\n" +
+            "  INNER JOIN IDN_CONFIG_TYPE AS T ON R.TYPE_ID = T.ID\n" +
+            "  LEFT JOIN IDN_CONFIG_ATTRIBUTE AS A ON (\n" +
+            "    R.HAS_ATTRIBUTE = TRUE\n" +
+            "    AND A.RESOURCE_ID = R.ID\n" +
+            "  )\n" +
+            "  LEFT JOIN IDN_CONFIG_FILE AS F ON (\n" +
+            "    R.HAS_FILE = TRUE\n" +
+            "    AND F.RESOURCE_ID = R.ID\n" +
+            "  )\n";
+    public static final String GET_TENANT_RESOURCE_IDS_SELECT_COLUMNS_INFORMIX = "SELECT SKIP ? FIRST ? DISTINCT\n" +
+            "  R.ID,\n" +
+            "  R.NAME\n" +
+            "FROM\n" +
+            "  IDN_CONFIG_RESOURCE AS R\n" +
+            "  INNER JOIN IDN_CONFIG_TYPE AS T ON R.TYPE_ID = T.ID\n" +
+            "  LEFT JOIN IDN_CONFIG_ATTRIBUTE AS A ON (\n" +
+            "    R.HAS_ATTRIBUTE = TRUE\n" +
+            "    AND A.RESOURCE_ID = R.ID\n" +
+            "  )\n" +
+            "  LEFT JOIN IDN_CONFIG_FILE AS F ON (\n" +
+            "    R.HAS_FILE = TRUE\n" +
+            "    AND F.RESOURCE_ID = R.ID\n" +
+            "  )\n";
+    public static final String GET_TENANT_RESOURCE_IDS_SELECT_COLUMNS_MSSQL_OR_ORACLE = "SELECT DISTINCT" +
+            "   R.ID," +
+            "   R.NAME " +
+            "FROM" +
+            "   IDN_CONFIG_RESOURCE  R" +
+            "   INNER JOIN IDN_CONFIG_TYPE  T ON R.TYPE_ID = T.ID" +
+            "   LEFT JOIN IDN_CONFIG_ATTRIBUTE  A ON (" +
+            "       R.HAS_ATTRIBUTE = 1" +
+            "       AND A.RESOURCE_ID = R.ID" +
+            "   )" +
+            "   LEFT JOIN IDN_CONFIG_FILE  F ON (" +
+            "       R.HAS_FILE = 1" +
+            "       AND F.RESOURCE_ID = R.ID" +
+            "   )";
+    public static final String GET_TENANT_RESOURCE_IDS_PAGINATION_MYSQL = "ORDER BY R.NAME, R.ID LIMIT ? OFFSET ?";
+    public static final String GET_TENANT_RESOURCE_IDS_PAGINATION_MSSQL_ORACLE_OR_DB2 =
+            "ORDER BY R.NAME, R.ID OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+    public static final String GET_TENANT_RESOURCE_IDS_PAGINATION_INFORMIX = "ORDER BY R.NAME, R.ID";
     public static final String GET_RESOURCE_CREATED_TIME_BY_NAME_SQL = "SELECT\n" +
             "  CREATED_TIME\n" +
             "FROM\n" +
@@ -468,6 +514,10 @@ public class SQLConstants {
             + "IDN_CONFIG_FILE.RESOURCE_ID = IDN_CONFIG_RESOURCE.ID INNER JOIN IDN_CONFIG_TYPE ON "
             + "IDN_CONFIG_RESOURCE.TYPE_ID = IDN_CONFIG_TYPE.ID where IDN_CONFIG_FILE.ID = ? and "
             + "IDN_CONFIG_RESOURCE.NAME = ? and IDN_CONFIG_TYPE.NAME = ?";
+    public static final String GET_RESOURCE_LAST_MODIFIED_BY_FILE_ID_SQL = "SELECT IDN_CONFIG_RESOURCE.LAST_MODIFIED "
+            + "FROM IDN_CONFIG_FILE INNER JOIN IDN_CONFIG_RESOURCE ON IDN_CONFIG_FILE.RESOURCE_ID = "
+            + "IDN_CONFIG_RESOURCE.ID INNER JOIN IDN_CONFIG_TYPE ON IDN_CONFIG_RESOURCE.TYPE_ID = IDN_CONFIG_TYPE.ID "
+            + "where IDN_CONFIG_FILE.ID = ? and IDN_CONFIG_RESOURCE.NAME = ? and IDN_CONFIG_TYPE.NAME = ?";
     public static final String GET_FILES_BY_RESOURCE_ID_SQL = "SELECT\n" +
             "  ID,\n" +
             "  NAME\n" +
@@ -500,6 +550,21 @@ public class SQLConstants {
                     + "MODIFIED, IDN_CONFIG_RESOURCE.CREATED_TIME, IDN_CONFIG_RESOURCE.HAS_FILE, IDN_CONFIG_RESOURCE"
                     + ".HAS_ATTRIBUTE FROM IDN_CONFIG_RESOURCE WHERE IDN_CONFIG_RESOURCE."
                     + "TYPE_ID = ? and IDN_CONFIG_RESOURCE.TENANT_ID = ?";
+    public static final String GET_RESOURCES_BY_RESOURCE_TYPE_ID_PAGINATED_MYSQL =
+            GET_RESOURCES_BY_RESOURCE_TYPE_ID_SQL + " ORDER BY IDN_CONFIG_RESOURCE.NAME LIMIT ? OFFSET ?";
+    public static final String GET_RESOURCES_BY_RESOURCE_TYPE_ID_PAGINATED_MSSQL_ORACLE_OR_DB2 =
+            GET_RESOURCES_BY_RESOURCE_TYPE_ID_SQL + " ORDER BY IDN_CONFIG_RESOURCE.NAME OFFSET ? ROWS FETCH NEXT ? " +
+                    "ROWS ONLY";
+    public static final String GET_RESOURCES_BY_RESOURCE_TYPE_ID_PAGINATED_INFORMIX =
+            "SELECT SKIP ? FIRST ? IDN_CONFIG_RESOURCE.ID, IDN_CONFIG_RESOURCE.TENANT_ID, IDN_CONFIG_RESOURCE.NAME, "
+                    + "IDN_CONFIG_RESOURCE.LAST_MODIFIED, IDN_CONFIG_RESOURCE.CREATED_TIME, "
+                    + "IDN_CONFIG_RESOURCE.HAS_FILE, IDN_CONFIG_RESOURCE.HAS_ATTRIBUTE FROM IDN_CONFIG_RESOURCE WHERE "
+                    + "IDN_CONFIG_RESOURCE.TYPE_ID = ? and IDN_CONFIG_RESOURCE.TENANT_ID = ? ORDER BY "
+                    + "IDN_CONFIG_RESOURCE.NAME";
+    public static final String RESOURCE_ID_LIST_PLACEHOLDER = "_RESOURCE_ID_LIST_";
+    public static final String GET_ATTRIBUTES_BY_RESOURCE_IDS_SQL = "SELECT ID, RESOURCE_ID, ATTR_KEY, ATTR_VALUE " +
+            "FROM IDN_CONFIG_ATTRIBUTE WHERE RESOURCE_ID IN (" + RESOURCE_ID_LIST_PLACEHOLDER + ")";
+    public static final int MAX_RESOURCE_IDS_PER_QUERY = 100;
     public static final String DELETE_RESOURCES_BY_RESOURCE_TYPE_ID_SQL =
             "DELETE FROM IDN_CONFIG_RESOURCE WHERE TYPE_ID = ? and TENANT_ID = ?";
 }
@@ -51,6 +51,22 @@ public interface ConfigurationDAO {
      */
     Resources getTenantResources(Condition condition) throws ConfigurationManagementException;
 
+    /**
+     * Get a page of the {@link Resources} matching the search filter described by a {@link Condition}, ordered by the
+     * resource name.
+     *
+     * @param condition Search condition.
+     * @param limit     Maximum number of resources to be returned.
+     * @param offset    Number of resources to be skipped.
+     * @return Page of {@link Resource} objects based on the search condition.
+     * @throws ConfigurationManagementException Configuration Management Exception.
+     */
+    default Resources getTenantResources(Condition condition, int limit, int offset)
+            throws ConfigurationManagementException {
+
+        throw new NotImplementedException("This functionality is not implemented.");
+    }
+
     /**
      * Returns {@link Resource} by name.
      *
@@ -240,6 +256,21 @@ public interface ConfigurationDAO {
     InputStream getFileById(String resourceType, String resourceName, String fileId) throws
             ConfigurationManagementException;
 
+    /**
+     * Get the last modified time of the resource that the file belongs to, without reading the file content.
+     *
+     * @param resourceType resource type name.
+     * @param resourceName resource name.
+     * @param fileId       Id of the file.
+     * @return Last modified time of the resource, or null if the file does not exist.
+     * @throws ConfigurationManagementException Configuration Management Exception.
+     */
+    default String getResourceLastModifiedByFileId(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        throw new NotImplementedException("This functionality is not implemented.");
+    }
+
     /**
      * Get files for the {@link Resource}.
      *
@@ -304,6 +335,23 @@ public interface ConfigurationDAO {
     List getResourcesByType(int tenantId, String resourceTypeId)
             throws ConfigurationManagementException;
 
+    /**
+     * Get a page of the resources for the {@link ResourceType} ordered by the resource name. Only the metadata and the
+     * attributes of the resources are returned. The files of the resources are not loaded.
+     *
+     * @param tenantId       Id of the tenant.
+     * @param resourceTypeId Id of the {@link ResourceType}.
+     * @param limit          Maximum number of resources to be returned.
+     * @param offset         Number of resources to be skipped.
+     * @return A list of {@link Resource} for the given resource type.
+     * @throws ConfigurationManagementException Configuration Management Exception.
+     */
+    default List<Resource> getResourcesByType(int tenantId, String resourceTypeId, int limit, int offset)
+            throws ConfigurationManagementException {
+
+        throw new NotImplementedException("This functionality is not implemented.");
+    }
+
     /**
      * Validates whether a resource exists with the given resource id in the tenant domain.
      *
@@ -24,6 +24,11 @@ import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCache
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCacheKey;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceCacheEntry;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByIdCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByIdCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByNameCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByNameCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeCacheEntry;
 import org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
@@ -51,12 +56,16 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     private final ConfigurationDAO configurationDAO;
     private final ResourceByIdCache resourceByIdCache;
     private final ResourceByNameCache resourceByNameCache;
+    private final ResourceTypeByIdCache resourceTypeByIdCache;
+    private final ResourceTypeByNameCache resourceTypeByNameCache;
 
     public CachedBackedConfigurationDAO(ConfigurationDAO configurationDAO) {
     
         this.configurationDAO = configurationDAO;
         this.resourceByIdCache = ResourceByIdCache.getInstance();
         this.resourceByNameCache = ResourceByNameCache.getInstance();
+        this.resourceTypeByIdCache = ResourceTypeByIdCache.getInstance();
+        this.resourceTypeByNameCache = ResourceTypeByNameCache.getInstance();
     }
 
     @Override
@@ -71,6 +80,13 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         return configurationDAO.getTenantResources(condition);
     }
 
+    @Override
+    public Resources getTenantResources(Condition condition, int limit, int offset)
+            throws ConfigurationManagementException {
+
+        return configurationDAO.getTenantResources(condition, limit, offset);
+    }
+
     @Override
     public Resource getResourceByName(int tenantId, String resourceTypeId, String name)
             throws ConfigurationManagementException {
@@ -162,30 +178,59 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     public void addResourceType(ResourceType resourceType) throws ConfigurationManagementException {
 
         configurationDAO.addResourceType(resourceType);
+        clearResourceTypeCache();
     }
 
     @Override
     public void replaceResourceType(ResourceType resourceType) throws ConfigurationManagementException {
 
         configurationDAO.replaceResourceType(resourceType);
+        clearResourceTypeCache();
     }
 
     @Override
     public ResourceType getResourceTypeByName(String resourceTypeName) throws ConfigurationManagementException {
 
-        return configurationDAO.getResourceTypeByName(resourceTypeName);
+        ResourceTypeCacheEntry resourceTypeCacheEntry =
+                resourceTypeByNameCache.getValueFromCache(new ResourceTypeByNameCacheKey(resourceTypeName));
+        if (resourceTypeCacheEntry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for resource type by it's name. Resource type name: " + resourceTypeName);
+            }
+            return resourceTypeCacheEntry.getResourceType();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for resource type by it's name. Resource type name: " + resourceTypeName);
+        }
+        ResourceType resourceType = configurationDAO.getResourceTypeByName(resourceTypeName);
+        addResourceTypeToCache(resourceType);
+        return resourceType;
     }
 
     @Override
     public ResourceType getResourceTypeById(String resourceTypeId) throws ConfigurationManagementException {
 
-        return configurationDAO.getResourceTypeById(resourceTypeId);
+        ResourceTypeCacheEntry resourceTypeCacheEntry =
+                resourceTypeByIdCache.getValueFromCache(new ResourceTypeByIdCacheKey(resourceTypeId));
+        if (resourceTypeCacheEntry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for resource type by it's id. Resource type id: " + resourceTypeId);
+            }
+            return resourceTypeCacheEntry.getResourceType();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for resource type by it's id. Resource type id: " + resourceTypeId);
+        }
+        ResourceType resourceType = configurationDAO.getResourceTypeById(resourceTypeId);
+        addResourceTypeToCache(resourceType);
+        return resourceType;
     }
 
     @Override
     public void deleteResourceTypeByName(String resourceTypeName) throws ConfigurationManagementException {
 
         configurationDAO.deleteResourceTypeByName(resourceTypeName);
+        clearResourceTypeCache();
     }
 
     @Override
@@ -236,6 +281,13 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         return configurationDAO.getFileById(resourceType, resourceName, fileId);
     }
 
+    @Override
+    public String getResourceLastModifiedByFileId(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        return configurationDAO.getResourceLastModifiedByFileId(resourceType, resourceName, fileId);
+    }
+
     @Override
     public List<ResourceFile> getFiles(String resourceId, String resourceTypeName, String resourceName)
             throws ConfigurationManagementException {
@@ -269,6 +321,13 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         return configurationDAO.getResourcesByType(tenantId, resourceTypeId);
     }
 
+    @Override
+    public List<Resource> getResourcesByType(int tenantId, String resourceTypeId, int limit, int offset)
+            throws ConfigurationManagementException {
+
+        return configurationDAO.getResourcesByType(tenantId, resourceTypeId, limit, offset);
+    }
+
     @Override
     public boolean isExistingResource(int tenantId, String resourceId) throws ConfigurationManagementException {
 
@@ -390,6 +449,30 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         resourceByNameCache.clearCacheEntry(resourceByNameCacheKey);
     }
 
+    private void addResourceTypeToCache(ResourceType resourceType) {
+
+        if (resourceType == null || resourceType.getId() == null || resourceType.getName() == null) {
+            return;
+        }
+        ResourceTypeCacheEntry resourceTypeCacheEntry = new ResourceTypeCacheEntry(resourceType);
+        resourceTypeByIdCache.addToCache(new ResourceTypeByIdCacheKey(resourceType.getId()), resourceTypeCacheEntry);
+        resourceTypeByNameCache.addToCache(new ResourceTypeByNameCacheKey(resourceType.getName()),
+                resourceTypeCacheEntry);
+    }
+
+    /**
+     * Clear the resource type caches. Resource types are rarely modified and a modification can change the name to id
+     * mapping, hence both the caches are cleared instead of the entries of the modified resource type.
+     */
+    private void clearResourceTypeCache() {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Clearing the resource type by name and resource type by id caches.");
+        }
+        resourceTypeByIdCache.clear();
+        resourceTypeByNameCache.clear();
+    }
+
     private void deleteCacheByResourceId(String resourceId, int tenantId) throws ConfigurationManagementException {
 
         Resource resource = getResourceFromCacheById(resourceId, tenantId);
@@ -51,9 +51,11 @@ import java.sql.SQLIntegrityConstraintViolationException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -169,6 +171,18 @@ import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConsta
         .GET_RESOURCE_CREATED_TIME_BY_NAME_SQL;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.GET_RESOURCE_ID_BY_NAME_SQL;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.GET_RESOURCE_NAME_BY_ID;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
+        .GET_TENANT_RESOURCE_IDS_PAGINATION_INFORMIX;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
+        .GET_TENANT_RESOURCE_IDS_PAGINATION_MSSQL_ORACLE_OR_DB2;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
+        .GET_TENANT_RESOURCE_IDS_PAGINATION_MYSQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
+        .GET_TENANT_RESOURCE_IDS_SELECT_COLUMNS_INFORMIX;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
+        .GET_TENANT_RESOURCE_IDS_SELECT_COLUMNS_MSSQL_OR_ORACLE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
+        .GET_TENANT_RESOURCE_IDS_SELECT_COLUMNS_MYSQL;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
         .GET_TENANT_RESOURCES_SELECT_COLUMNS_MYSQL;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
@@ -219,6 +233,7 @@ import static org.wso2.carbon.identity.configuration.mgt.core.util.Configuration
 import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.handleServerException;
 import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.useCreatedTimeField;
 import static org.wso2.carbon.identity.core.util.JdbcUtils.isH2DB;
+import static org.wso2.carbon.identity.core.util.JdbcUtils.isInformixDB;
 import static org.wso2.carbon.identity.core.util.JdbcUtils.isMariaDB;
 import static org.wso2.carbon.identity.core.util.JdbcUtils.isMySQLDB;
 import static org.wso2.carbon.identity.core.util.JdbcUtils.isMSSqlDB;
@@ -250,6 +265,106 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
     public Resources getTenantResources(Condition condition) throws ConfigurationManagementException {
 
         PlaceholderSQL placeholderSQL = buildPlaceholderSQL(condition, useCreatedTimeField());
+        validateSearchQueryLength(placeholderSQL);
+        List<ConfigurationRawDataCollector> configurationRawDataCollectors = searchTenantResources(placeholderSQL);
+        /*
+        Database call can contain duplicate data for some columns. Need to filter them in order to build the
+        resource.
+        */
+        return configurationRawDataCollectors == null || configurationRawDataCollectors.size() == 0 ?
+                null : buildResourcesFromRawData(configurationRawDataCollectors);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Resources getTenantResources(Condition condition, int limit, int offset)
+            throws ConfigurationManagementException {
+
+        List<String> resourceIds = getTenantResourceIds(condition, limit, offset);
+        if (resourceIds.isEmpty()) {
+            return null;
+        }
+        Map<String, Resource> resourcesById = new HashMap<>();
+        for (int start = 0; start < resourceIds.size(); start += SQLConstants.MAX_RESOURCE_IDS_PER_QUERY) {
+            List<String> batch = resourceIds.subList(start,
+                    Math.min(start + SQLConstants.MAX_RESOURCE_IDS_PER_QUERY, resourceIds.size()));
+            PlaceholderSQL placeholderSQL = buildPlaceholderSQL(condition, useCreatedTimeField());
+            placeholderSQL.setQuery(placeholderSQL.getQuery() + "AND R.ID IN (" +
+                    String.join(",", Collections.nCopies(batch.size(), "?")) + ")");
+            placeholderSQL.getData().addAll(batch);
+            validateSearchQueryLength(placeholderSQL);
+            List<ConfigurationRawDataCollector> configurationRawDataCollectors = searchTenantResources(placeholderSQL);
+            if (configurationRawDataCollectors != null && !configurationRawDataCollectors.isEmpty()) {
+                buildResourcesFromRawData(configurationRawDataCollectors).getResources()
+                        .forEach(resource -> resourcesById.put(resource.getResourceId(), resource));
+            }
+        }
+        // Keep the order of the page, since the resources are grouped in a hash map while being built.
+        List<Resource> resources = new ArrayList<>();
+        for (String resourceId : resourceIds) {
+            if (resourcesById.containsKey(resourceId)) {
+                resources.add(resourcesById.get(resourceId));
+            }
+        }
+        return new Resources(resources);
+    }
+
+    /**
+     * Get the ids of a page of the resources matching the search condition, ordered by the resource name.
+     *
+     * @param condition Search condition.
+     * @param limit     Maximum number of resource ids to be returned.
+     * @param offset    Number of resource ids to be skipped.
+     * @return Ids of the matching resources in the page.
+     * @throws ConfigurationManagementException Configuration Management Exception.
+     */
+    private List<String> getTenantResourceIds(Condition condition, int limit, int offset)
+            throws ConfigurationManagementException {
+
+        PlaceholderSQL placeholderSQL;
+        try {
+            if (isInformixDB()) {
+                placeholderSQL = buildPlaceholderSQL(GET_TENANT_RESOURCE_IDS_SELECT_COLUMNS_INFORMIX, condition);
+                placeholderSQL.setQuery(placeholderSQL.getQuery() + GET_TENANT_RESOURCE_IDS_PAGINATION_INFORMIX);
+                placeholderSQL.getData().add(0, limit);
+                placeholderSQL.getData().add(0, offset);
+            } else if (isOracleDB() || isMSSqlDB()) {
+                placeholderSQL = buildPlaceholderSQL(GET_TENANT_RESOURCE_IDS_SELECT_COLUMNS_MSSQL_OR_ORACLE, condition);
+                placeholderSQL.setQuery(placeholderSQL.getQuery() +
+                        GET_TENANT_RESOURCE_IDS_PAGINATION_MSSQL_ORACLE_OR_DB2);
+                placeholderSQL.getData().add(offset);
+                placeholderSQL.getData().add(limit);
+            } else if (isDB2DB()) {
+                placeholderSQL = buildPlaceholderSQL(GET_TENANT_RESOURCE_IDS_SELECT_COLUMNS_MYSQL, condition);
+                placeholderSQL.setQuery(placeholderSQL.getQuery() +
+                        GET_TENANT_RESOURCE_IDS_PAGINATION_MSSQL_ORACLE_OR_DB2);
+                placeholderSQL.getData().add(offset);
+                placeholderSQL.getData().add(limit);
+            } else {
+                placeholderSQL = buildPlaceholderSQL(GET_TENANT_RESOURCE_IDS_SELECT_COLUMNS_MYSQL, condition);
+                placeholderSQL.setQuery(placeholderSQL.getQuery() + GET_TENANT_RESOURCE_IDS_PAGINATION_MYSQL);
+                placeholderSQL.getData().add(limit);
+                placeholderSQL.getData().add(offset);
+            }
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_CHECK_DB_METADATA, e.getMessage(), e);
+        }
+        validateSearchQueryLength(placeholderSQL);
+        PlaceholderSQL resourceIdsSQL = placeholderSQL;
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        try {
+            return jdbcTemplate.executeQuery(resourceIdsSQL.getQuery(),
+                    (resultSet, rowNumber) -> resultSet.getString(DB_SCHEMA_COLUMN_NAME_ID),
+                    preparedStatement -> setPlaceholderData(preparedStatement, resourceIdsSQL));
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_SEARCH_TENANT_RESOURCES, null, e);
+        }
+    }
+
+    private void validateSearchQueryLength(PlaceholderSQL placeholderSQL) throws ConfigurationManagementException {
+
         if (placeholderSQL.getQuery().getBytes().length > getMaximumQueryLengthInBytes()) {
             if (log.isDebugEnabled()) {
                 log.debug("Error building SQL query for the search. Search expression " +
@@ -258,10 +373,14 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
             }
             throw handleClientException(ERROR_CODE_QUERY_LENGTH_EXCEEDED, null);
         }
+    }
+
+    private List<ConfigurationRawDataCollector> searchTenantResources(PlaceholderSQL placeholderSQL)
+            throws ConfigurationManagementException {
+
         JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
-        List<ConfigurationRawDataCollector> configurationRawDataCollectors;
         try {
-            configurationRawDataCollectors = jdbcTemplate.executeQuery(placeholderSQL.getQuery(),
+            return jdbcTemplate.executeQuery(placeholderSQL.getQuery(),
                     (resultSet, rowNumber) -> {
                         ConfigurationRawDataCollector.ConfigurationRawDataCollectorBuilder
                                 configurationRawDataCollectorBuilder =
@@ -284,32 +403,30 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
                                             calendar));
                         }
                         return configurationRawDataCollectorBuilder.build();
-                    }, preparedStatement -> {
-                        for (int count = 0; count < placeholderSQL.getData().size(); count++) {
-                            if (placeholderSQL.getData().get(count).getClass().equals(Integer.class)) {
-                                preparedStatement.setInt(
-                                        count + 1,
-                                        (Integer) placeholderSQL.getData().get(count)
-                                );
-                            } else {
-                                preparedStatement.setString(
-                                        count + 1,
-                                        (String) placeholderSQL.getData().get(count)
-                                );
-                            }
-                        }
-                    });
-            /*
-            Database call can contain duplicate data for some columns. Need to filter them in order to build the
-            resource.
-            */
-            return configurationRawDataCollectors == null || configurationRawDataCollectors.size() == 0 ?
-                    null : buildResourcesFromRawData(configurationRawDataCollectors);
+                    }, preparedStatement -> setPlaceholderData(preparedStatement, placeholderSQL));
         } catch (DataAccessException e) {
             throw handleServerException(ERROR_CODE_SEARCH_TENANT_RESOURCES, null, e);
         }
     }
 
+    private void setPlaceholderData(PreparedStatement preparedStatement, PlaceholderSQL placeholderSQL)
+            throws SQLException {
+
+        for (int count = 0; count < placeholderSQL.getData().size(); count++) {
+            if (placeholderSQL.getData().get(count).getClass().equals(Integer.class)) {
+                preparedStatement.setInt(
+                        count + 1,
+                        (Integer) placeholderSQL.getData().get(count)
+                );
+            } else {
+                preparedStatement.setString(
+                        count + 1,
+                        (String) placeholderSQL.getData().get(count)
+                );
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1165,17 +1282,22 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
             throw handleServerException(ERROR_CODE_CHECK_DB_METADATA, e.getMessage(), e);
         }
 
+        return buildPlaceholderSQL(useCreatedTime ? queryWithCreatedTime : queryWithOutCreatedTime, condition);
+    }
+
+    private PlaceholderSQL buildPlaceholderSQL(String selectQuery, Condition condition)
+            throws ConfigurationManagementException {
+
         StringBuilder sb = new StringBuilder();
 
-        sb.append(
-                useCreatedTime ? queryWithCreatedTime : queryWithOutCreatedTime);
-        sb.append("WHERE\n");
+        sb.append(selectQuery);
+        sb.append("WHERE\n(");
         try {
             PlaceholderSQL placeholderSQL = condition.buildQuery(
                     new PrimitiveConditionValidator(new ResourceSearchBean())
             );
             placeholderSQL.setQuery(
-                    sb.append(placeholderSQL.getQuery()).toString()
+                    sb.append(placeholderSQL.getQuery()).append(")\n").toString()
             );
             return placeholderSQL;
         } catch (PrimitiveConditionValidationException e) {
@@ -1440,6 +1562,21 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
         }
     }
 
+    @Override
+    public String getResourceLastModifiedByFileId(String resourceType, String resourceName, String fileId)
+            throws ConfigurationManagementException {
+
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        try {
+            return jdbcTemplate.fetchSingleRecord(SQLConstants.GET_RESOURCE_LAST_MODIFIED_BY_FILE_ID_SQL,
+                    (resultSet, rowNumber) -> resultSet.getString(DB_SCHEMA_COLUMN_NAME_LAST_MODIFIED),
+                    preparedStatement -> setPreparedStatementForFileGetById(resourceType, resourceName, fileId,
+                            preparedStatement));
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_GET_FILE, fileId, e);
+        }
+    }
+
     @Override
     public void deleteFileById(String resourceType, String resourceName, String fileId) throws ConfigurationManagementException {
 
@@ -1609,6 +1746,101 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
         }
     }
 
+    @Override
+    public List<Resource> getResourcesByType(int tenantId, String resourceTypeId, int limit, int offset)
+            throws ConfigurationManagementException {
+
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantId);
+        try {
+            boolean isInformix = isInformixDB();
+            boolean isOracleMSSqlOrDB2 = isOracleDB() || isMSSqlDB() || isDB2DB();
+            String query = SQLConstants.GET_RESOURCES_BY_RESOURCE_TYPE_ID_PAGINATED_MYSQL;
+            if (isInformix) {
+                query = SQLConstants.GET_RESOURCES_BY_RESOURCE_TYPE_ID_PAGINATED_INFORMIX;
+            } else if (isOracleMSSqlOrDB2) {
+                query = SQLConstants.GET_RESOURCES_BY_RESOURCE_TYPE_ID_PAGINATED_MSSQL_ORACLE_OR_DB2;
+            }
+            List<Resource> resources = jdbcTemplate.executeQuery(query,
+                    (resultSet, rowNumber) -> {
+                        String resourceHasFile = resultSet.getString(DB_SCHEMA_COLUMN_NAME_HAS_FILE);
+                        if (StringUtils.equals(resourceHasFile, "1") && isOracleMSSqlOrDB2) {
+                            resourceHasFile = "true";
+                        }
+                        Resource resource = new Resource();
+                        resource.setResourceId(resultSet.getString(DB_SCHEMA_COLUMN_NAME_ID));
+                        resource.setResourceName(resultSet.getString(DB_SCHEMA_COLUMN_NAME_NAME));
+                        resource.setLastModified(resultSet.getString(DB_SCHEMA_COLUMN_NAME_LAST_MODIFIED));
+                        resource.setCreatedTime(resultSet.getString(DB_SCHEMA_COLUMN_NAME_CREATED_TIME));
+                        resource.setHasFile(Boolean.valueOf(resourceHasFile));
+                        resource.setHasAttribute(resultSet.getBoolean(DB_SCHEMA_COLUMN_NAME_HAS_ATTRIBUTE));
+                        resource.setTenantDomain(tenantDomain);
+                        resource.setAttributes(new ArrayList<>());
+                        return resource;
+                    },
+                    preparedStatement -> {
+                        int index = 0;
+                        if (isInformix) {
+                            preparedStatement.setInt(++index, offset);
+                            preparedStatement.setInt(++index, limit);
+                        }
+                        preparedStatement.setString(++index, resourceTypeId);
+                        preparedStatement.setInt(++index, tenantId);
+                        if (isOracleMSSqlOrDB2) {
+                            preparedStatement.setInt(++index, offset);
+                            preparedStatement.setInt(++index, limit);
+                        } else if (!isInformix) {
+                            preparedStatement.setInt(++index, limit);
+                            preparedStatement.setInt(++index, offset);
+                        }
+                    });
+            addAttributesToResources(resources);
+            return resources;
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_RESOURCES_DOES_NOT_EXISTS, e);
+        }
+    }
+
+    /**
+     * Add the attributes to the given resources, fetching the attributes of multiple resources per query.
+     *
+     * @param resources Resources with an empty attribute list.
+     * @throws DataAccessException If an error occurs while retrieving the attributes.
+     */
+    private void addAttributesToResources(List<Resource> resources) throws DataAccessException {
+
+        Map<String, Resource> resourcesWithAttributes = new LinkedHashMap<>();
+        for (Resource resource : resources) {
+            if (resource.isHasAttribute()) {
+                resourcesWithAttributes.put(resource.getResourceId(), resource);
+            }
+        }
+        List<String> resourceIds = new ArrayList<>(resourcesWithAttributes.keySet());
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        for (int start = 0; start < resourceIds.size(); start += SQLConstants.MAX_RESOURCE_IDS_PER_QUERY) {
+            List<String> batch = resourceIds.subList(start,
+                    Math.min(start + SQLConstants.MAX_RESOURCE_IDS_PER_QUERY, resourceIds.size()));
+            String query = SQLConstants.GET_ATTRIBUTES_BY_RESOURCE_IDS_SQL.replace(
+                    SQLConstants.RESOURCE_ID_LIST_PLACEHOLDER, String.join(",", Collections.nCopies(batch.size(),
+                            "?")));
+            jdbcTemplate.executeQuery(query,
+                    (resultSet, rowNumber) -> {
+                        Attribute attribute = new Attribute(
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_ATTRIBUTE_KEY),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_ATTRIBUTE_VALUE),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_ID));
+                        resourcesWithAttributes.get(resultSet.getString(DB_SCHEMA_COLUMN_NAME_RESOURCE_ID))
+                                .getAttributes().add(attribute);
+                        return attribute;
+                    },
+                    preparedStatement -> {
+                        for (int index = 0; index < batch.size(); index++) {
+                            preparedStatement.setString(index + 1, batch.get(index));
+                        }
+                    });
+        }
+    }
+
     @Override
     public void deleteResourcesByType(int tenantId, String resourceTypeId) throws ConfigurationManagementException {
 
@@ -31,6 +31,9 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.UUID;
 
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.FILE;
@@ -194,6 +197,31 @@ public class ConfigurationUtils {
                 + PATH_SEPARATOR + fileId;
     }
 
+    /**
+     * Build the weak entity tag of a file from the file id and the last modified time of the resource of the file.
+     *
+     * @param fileId               file id.
+     * @param resourceLastModified last modified time of the resource of the file.
+     * @return Weak entity tag of the file.
+     * @throws ConfigurationManagementServerException If the digest algorithm is not available.
+     */
+    public static String buildFileETag(String fileId, String resourceLastModified)
+            throws ConfigurationManagementServerException {
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest((fileId + ":" + resourceLastModified)
+                    .getBytes(StandardCharsets.UTF_8));
+            StringBuilder eTag = new StringBuilder("W/\"");
+            for (byte digestByte : digest) {
+                eTag.append(String.format("%02x", digestByte));
+            }
+            return eTag.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw handleServerException(ConfigurationConstants.ErrorMessages.ERROR_CODE_GET_FILE, fileId, e);
+        }
+    }
+
     /**
      * Build URI prepending the user API context with to the endpoint.
      * /t/<tenant-domain>/api/identity/config-mgt/v1.0/<endpoint>
@@ -26,6 +26,7 @@ import org.wso2.carbon.base.CarbonBaseConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.database.utils.jdbc.JdbcTemplate;
 import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
+import org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.impl.ConfigurationDAOImpl;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementClientException;
@@ -600,6 +601,94 @@ public class ConfigurationManagerTest extends PowerMockTestCase {
                 resourcesByType.getResources().size() == 0);
     }
 
+    @Test(priority = 34)
+    public void testGetResourcesByTypePaginated() throws Exception {
+
+        ResourceType resourceType = configurationManager.addResourceType(getSampleResourceType2Add());
+        Resource resource1 = configurationManager.addResource(resourceType.getName(), getSampleResource1Add());
+        Resource resource2 = configurationManager.addResource(resourceType.getName(), getSampleResource2Add());
+
+        Resources firstPage = configurationManager.getResourcesByType(resourceType.getName(), 1, 0);
+        Assert.assertEquals("Retrieved resource count should be equal to the limit", 1,
+                firstPage.getResources().size());
+        Assert.assertEquals("Resources should be ordered by the resource name",
+                resource1.getResourceName(), firstPage.getResources().get(0).getResourceName());
+
+        Resources secondPage = configurationManager.getResourcesByType(resourceType.getName(), 1, 1);
+        Assert.assertEquals("Retrieved resource count should be equal to the limit", 1,
+                secondPage.getResources().size());
+        Assert.assertEquals("Resources should be ordered by the resource name",
+                resource2.getResourceName(), secondPage.getResources().get(0).getResourceName());
+        Assert.assertEquals("Attributes of the resource should be retrieved",
+                resource2.getAttributes().size(), secondPage.getResources().get(0).getAttributes().size());
+
+        Resources emptyPage = configurationManager.getResourcesByType(resourceType.getName(), 1, 2);
+        Assert.assertTrue("Retrieved resource count should be equal to the 0",
+                emptyPage.getResources().isEmpty());
+    }
+
+    @Test(priority = 35)
+    public void testGetFileETag() throws Exception {
+
+        ResourceType resourceType = configurationManager.addResourceType(getSampleResourceTypeAdd());
+        Resource resource = configurationManager.addResource(resourceType.getName(), getSampleResource1Add());
+
+        File sampleResourceFile = new File(getSamplesPath("sample-resource-file.txt"));
+        InputStream fileStream = FileUtils.openInputStream(sampleResourceFile);
+
+        ResourceFile resourceFile = configurationManager.addFile(resourceType.getName(),
+                resource.getResourceName(), "sample-resource-file", fileStream);
+        String eTag = configurationManager.getFileETag(resourceType.getName(), resource.getResourceName(),
+                resourceFile.getId());
+        Assert.assertNotNull("Entity tag should be returned for an existing file", eTag);
+        Assert.assertEquals("Entity tag should not change while the file is not modified", eTag,
+                configurationManager.getFileETag(resourceType.getName(), resource.getResourceName(),
+                        resourceFile.getId()));
+    }
+
+    @Test(priority = 36, expectedExceptions = ConfigurationManagementClientException.class)
+    public void testGetFileETagOfNonExistingFile() throws Exception {
+
+        ResourceType resourceType = configurationManager.addResourceType(getSampleResourceTypeAdd());
+        Resource resource = configurationManager.addResource(resourceType.getName(), getSampleResource1Add());
+        configurationManager.getFileETag(resourceType.getName(), resource.getResourceName(), "non-existing-file");
+    }
+
+    @Test(priority = 37)
+    public void testSearchMultiTenantResourcesPaginated() throws Exception {
+
+        ResourceType resourceType = configurationManager.addResourceType(getSampleResourceTypeAdd());
+        Resource resource1 = configurationManager.addResource(resourceType.getName(), getSampleResource1Add());
+        mockCarbonContextForTenant(SAMPLE_TENANT_ID_ABC, SAMPLE_TENANT_DOMAIN_ABC);
+        Resource resource2 = configurationManager.addResource(resourceType.getName(), getSampleResource2Add());
+
+        mockIdentityTenantUtilForTheTest();
+        // Mock carbon context back to the super tenant.
+        mockCarbonContextForTenant(SUPER_TENANT_ID, SUPER_TENANT_DOMAIN_NAME);
+
+        Resources firstPage = configurationManager.getTenantResources(getSampleSearchCondition(), 1, 0);
+        Assert.assertEquals("Retrieved resource count should be equal to the limit", 1,
+                firstPage.getResources().size());
+        Assert.assertEquals("Resources should be ordered by the resource name",
+                resource1.getResourceName(), firstPage.getResources().get(0).getResourceName());
+        assertTrue(isSearchConditionMatch(firstPage));
+
+        Resources secondPage = configurationManager.getTenantResources(getSampleSearchCondition(), 1, 1);
+        Assert.assertEquals("Retrieved resource count should be equal to the limit", 1,
+                secondPage.getResources().size());
+        Assert.assertEquals("Resources should be ordered by the resource name",
+                resource2.getResourceName(), secondPage.getResources().get(0).getResourceName());
+        assertTrue(isSearchConditionMatch(secondPage));
+
+        try {
+            configurationManager.getTenantResources(getSampleSearchCondition(), 1, 2);
+            fail("Expected: " + ConfigurationManagementClientException.class.getName());
+        } catch (ConfigurationManagementClientException e) {
+            Assert.assertEquals(ConfigurationConstants.ErrorMessages.ERROR_CODE_RESOURCES_DOES_NOT_EXISTS.getCode(),
+                    e.getErrorCode());
+        }
+    }
+
     private void removeCreatedTimeColumn() throws DataAccessException {
 
         JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
+
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByIdCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByNameCache;
+import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
+import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+
+@PrepareForTest({ResourceByIdCache.class, ResourceByNameCache.class, ResourceTypeByIdCache.class,
+        ResourceTypeByNameCache.class})
+public class CachedBackedConfigurationDAOTest extends PowerMockTestCase {
+
+    private static final String RESOURCE_TYPE_NAME = "sample-resource-type";
+    private static final String RESOURCE_TYPE_ID = "sample-resource-type-id";
+
+    private ConfigurationDAO configurationDAO;
+    private CachedBackedConfigurationDAO cachedBackedConfigurationDAO;
+    private Map<Object, Object> resourceTypeByIdCacheEntries;
+    private Map<Object, Object> resourceTypeByNameCacheEntries;
+
+    @BeforeMethod
+    public void setUp() {
+
+        mockStatic(ResourceByIdCache.class);
+        when(ResourceByIdCache.getInstance()).thenReturn(mock(ResourceByIdCache.class));
+        mockStatic(ResourceByNameCache.class);
+        when(ResourceByNameCache.getInstance()).thenReturn(mock(ResourceByNameCache.class));
+
+        resourceTypeByIdCacheEntries = new HashMap<>();
+        ResourceTypeByIdCache resourceTypeByIdCache = mock(ResourceTypeByIdCache.class);
+        mockCacheEntries(resourceTypeByIdCache, resourceTypeByIdCacheEntries);
+        mockStatic(ResourceTypeByIdCache.class);
+        when(ResourceTypeByIdCache.getInstance()).thenReturn(resourceTypeByIdCache);
+
+        resourceTypeByNameCacheEntries = new HashMap<>();
+        ResourceTypeByNameCache resourceTypeByNameCache = mock(ResourceTypeByNameCache.class);
+        mockCacheEntries(resourceTypeByNameCache, resourceTypeByNameCacheEntries);
+        mockStatic(ResourceTypeByNameCache.class);
+        when(ResourceTypeByNameCache.getInstance()).thenReturn(resourceTypeByNameCache);
+
+        configurationDAO = mock(ConfigurationDAO.class);
+        cachedBackedConfigurationDAO = new CachedBackedConfigurationDAO(configurationDAO);
+    }
+
+    @Test
+    public void testGetResourceTypeFromCache() throws Exception {
+
+        when(configurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME)).thenReturn(getResourceType("description"));
+
+        cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME);
+        ResourceType resourceTypeByName = cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME);
+        ResourceType resourceTypeById = cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID);
+
+        Assert.assertEquals(resourceTypeByName.getId(), RESOURCE_TYPE_ID);
+        Assert.assertEquals(resourceTypeById.getName(), RESOURCE_TYPE_NAME);
+        verify(configurationDAO, times(1)).getResourceTypeByName(RESOURCE_TYPE_NAME);
+        verify(configurationDAO, times(0)).getResourceTypeById(RESOURCE_TYPE_ID);
+    }
+
+    @Test
+    public void testReplaceResourceTypeClearsNameAndIdEntries() throws Exception {
+
+        when(configurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME)).thenReturn(getResourceType("description"));
+        cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME);
+        Assert.assertEquals(resourceTypeByIdCacheEntries.size(), 1);
+        Assert.assertEquals(resourceTypeByNameCacheEntries.size(), 1);
+
+        ResourceType updatedResourceType = getResourceType("updated description");
+        cachedBackedConfigurationDAO.replaceResourceType(updatedResourceType);
+        verify(configurationDAO).replaceResourceType(updatedResourceType);
+        Assert.assertTrue(resourceTypeByIdCacheEntries.isEmpty());
+        Assert.assertTrue(resourceTypeByNameCacheEntries.isEmpty());
+
+        when(configurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME)).thenReturn(updatedResourceType);
+        when(configurationDAO.getResourceTypeById(RESOURCE_TYPE_ID)).thenReturn(updatedResourceType);
+        Assert.assertEquals(cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID).getDescription(),
+                "updated description");
+        Assert.assertEquals(cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME).getDescription(),
+                "updated description");
+    }
+
+    @Test
+    public void testDeleteResourceTypeClearsNameAndIdEntries() throws Exception {
+
+        when(configurationDAO.getResourceTypeById(RESOURCE_TYPE_ID)).thenReturn(getResourceType("description"));
+        cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID);
+        Assert.assertEquals(resourceTypeByIdCacheEntries.size(), 1);
+        Assert.assertEquals(resourceTypeByNameCacheEntries.size(), 1);
+
+        cachedBackedConfigurationDAO.deleteResourceTypeByName(RESOURCE_TYPE_NAME);
+        verify(configurationDAO).deleteResourceTypeByName(RESOURCE_TYPE_NAME);
+        Assert.assertTrue(resourceTypeByIdCacheEntries.isEmpty());
+        Assert.assertTrue(resourceTypeByNameCacheEntries.isEmpty());
+
+        when(configurationDAO.getResourceTypeById(RESOURCE_TYPE_ID)).thenReturn(null);
+        Assert.assertNull(cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME));
+        Assert.assertNull(cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID));
+    }
+
+    @Test
+    public void testResourceTypeMissIsNotCached() throws Exception {
+
+        Assert.assertNull(cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME));
+        Assert.assertNull(cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME));
+        Assert.assertNull(cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID));
+        Assert.assertNull(cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID));
+
+        verify(configurationDAO, times(2)).getResourceTypeByName(RESOURCE_TYPE_NAME);
+        verify(configurationDAO, times(2)).getResourceTypeById(RESOURCE_TYPE_ID);
+        Assert.assertTrue(resourceTypeByIdCacheEntries.isEmpty());
+        Assert.assertTrue(resourceTypeByNameCacheEntries.isEmpty());
+    }
+
+    private ResourceType getResourceType(String description) {
+
+        return new ResourceType(RESOURCE_TYPE_NAME, RESOURCE_TYPE_ID, description);
+    }
+
+    /**
+     * Back the given mocked cache with a map, so that the entries added by the DAO can be read and cleared.
+     */
+    @SuppressWarnings("unchecked")
+    private void mockCacheEntries(BaseCache cache, Map<Object, Object> cacheEntries) {
+
+        doAnswer(invocation -> cacheEntries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(cache).addToCache(any(), any());
+        when(cache.getValueFromCache(any())).thenAnswer(invocation -> cacheEntries.get(invocation.getArgument(0)));
+        doAnswer(invocation -> cacheEntries.remove(invocation.getArgument(0))).when(cache).clearCacheEntry(any());
+        doAnswer(invocation -> {
+            cacheEntries.clear();
+            return null;
+        }).when(cache).clear();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.consent.mgt.interceptor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.consent.mgt.core.ConsentManager;
+import org.wso2.carbon.consent.mgt.core.connector.ConsentMgtInterceptor;
+import org.wso2.carbon.consent.mgt.core.exception.ConsentManagementException;
+import org.wso2.carbon.consent.mgt.core.model.ConsentMessageContext;
+import org.wso2.carbon.consent.mgt.core.model.Receipt;
+import org.wso2.carbon.consent.mgt.core.model.ReceiptService;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentReceiptCache;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentReceiptCacheKey;
+import org.wso2.carbon.identity.consent.mgt.internal.IdentityConsentDataHolder;
+
+import java.util.Map;
+
+import static org.wso2.carbon.consent.mgt.core.constant.ConsentConstants.InterceptorConstants.POST_REVOKE_RECEIPT;
+import static org.wso2.carbon.consent.mgt.core.constant.ConsentConstants.InterceptorConstants.PRE_DELETE_RECEIPT;
+import static org.wso2.carbon.consent.mgt.core.constant.ConsentConstants.InterceptorConstants.RECEIPT_ID;
+
+/**
+ * Invalidates the {@link SSOConsentReceiptCache} entries of a receipt when it is revoked or deleted through the
+ * consent management API. Entries are kept in the tenant of the PII principal, under each service the receipt was
+ * given for.
+ */
+public class SSOConsentReceiptCacheInterceptor implements ConsentMgtInterceptor {
+
+    private static final Log log = LogFactory.getLog(SSOConsentReceiptCacheInterceptor.class);
+
+    @Override
+    public int getOrder() {
+
+        return 100;
+    }
+
+    @Override
+    public void intercept(ConsentMessageContext context, String operation, Map<String, Object> properties)
+            throws ConsentManagementException {
+
+        // A revoked receipt can still be read, whereas a deleted receipt has to be read before it is deleted.
+        if (!POST_REVOKE_RECEIPT.equals(operation) && !PRE_DELETE_RECEIPT.equals(operation)) {
+            return;
+        }
+        Object receiptId = properties == null ? null : properties.get(RECEIPT_ID);
+        if (receiptId != null) {
+            clearReceiptCache(String.valueOf(receiptId));
+        }
+    }
+
+    /**
+     * Clear the cached entries of a consent receipt.
+     *
+     * @param receiptId Id of the consent receipt.
+     * @throws ConsentManagementException If an error occurred while retrieving the receipt.
+     */
+    public void clearReceiptCache(String receiptId) throws ConsentManagementException {
+
+        ConsentManager consentManager = IdentityConsentDataHolder.getInstance().getConsentManager();
+        Receipt receipt = consentManager.getReceipt(receiptId);
+        if (receipt == null || receipt.getServices() == null) {
+            return;
+        }
+        for (ReceiptService receiptService : receipt.getServices()) {
+            SSOConsentReceiptCache.getInstance().clearCacheEntry(new SSOConsentReceiptCacheKey(
+                    receipt.getPiiPrincipalId(), receiptService.getService(), receiptService.getTenantDomain()),
+                    receipt.getTenantDomain());
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cleared the SSO consent receipt cache entries of the receipt: " + receiptId);
+        }
+    }
+}
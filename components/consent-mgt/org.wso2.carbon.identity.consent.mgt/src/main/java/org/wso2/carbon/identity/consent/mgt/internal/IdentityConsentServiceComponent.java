@@ -28,9 +28,11 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.consent.mgt.core.ConsentManager;
 import org.wso2.carbon.consent.mgt.core.PrivilegedConsentManager;
+import org.wso2.carbon.consent.mgt.core.connector.ConsentMgtInterceptor;
 import org.wso2.carbon.identity.application.authentication.framework.handler.request.impl.consent.SSOConsentService;
 import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
 import org.wso2.carbon.identity.consent.mgt.handler.ConsentDeletionUserEventHandler;
+import org.wso2.carbon.identity.consent.mgt.interceptor.SSOConsentReceiptCacheInterceptor;
 import org.wso2.carbon.identity.consent.mgt.listener.ConsentDeletionAppMgtListener;
 import org.wso2.carbon.identity.consent.mgt.listener.TenantConsentMgtListener;
 import org.wso2.carbon.identity.consent.mgt.services.ConsentUtilityService;
@@ -62,6 +64,8 @@ public class IdentityConsentServiceComponent {
                     , null);
             ctxt.getBundleContext().registerService(ConsentUtilityService.class.getName(), new ConsentUtilityService
                     (), null);
+            ctxt.getBundleContext().registerService(ConsentMgtInterceptor.class.getName(),
+                    new SSOConsentReceiptCacheInterceptor(), null);
         } catch (Throwable throwable) {
             log.error("Error while activating Identity Consent Service Component.", throwable);
         }
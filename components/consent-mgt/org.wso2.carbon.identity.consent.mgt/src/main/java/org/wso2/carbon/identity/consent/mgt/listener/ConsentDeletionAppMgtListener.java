@@ -23,6 +23,8 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.consent.mgt.core.ConsentManager;
 import org.wso2.carbon.consent.mgt.core.exception.ConsentManagementException;
 import org.wso2.carbon.consent.mgt.core.model.ReceiptListResponse;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentReceiptCache;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentReceiptCacheKey;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.mgt.listener.AbstractApplicationMgtListener;
 import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
@@ -126,6 +128,10 @@ public class ConsentDeletionAppMgtListener extends AbstractApplicationMgtListene
                             .getConsentReceiptId(), receiptListResponse.getPiiPrincipalId()));
                 }
                 consentManager.deleteReceipt(receiptListResponse.getConsentReceiptId());
+                // Cached receipts are kept in the tenant of the user, not in the tenant of the application.
+                SSOConsentReceiptCache.getInstance().clearCacheEntry(new SSOConsentReceiptCacheKey(
+                        receiptListResponse.getPiiPrincipalId(), applicationName, tenantDomain),
+                        receiptListResponse.getTenantDomain());
             }));
 
         } catch (ConsentManagementException e) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.consent.mgt.interceptor;
+
+import org.mockito.Mock;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.consent.mgt.core.ConsentManager;
+import org.wso2.carbon.consent.mgt.core.constant.ConsentConstants.InterceptorConstants;
+import org.wso2.carbon.consent.mgt.core.model.Receipt;
+import org.wso2.carbon.consent.mgt.core.model.ReceiptService;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentReceiptCache;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentReceiptCacheKey;
+import org.wso2.carbon.identity.consent.mgt.internal.IdentityConsentDataHolder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+
+/**
+ * Unit tests for {@link SSOConsentReceiptCacheInterceptor}.
+ */
+@PrepareForTest({SSOConsentReceiptCache.class, IdentityConsentDataHolder.class})
+public class SSOConsentReceiptCacheInterceptorTest extends PowerMockTestCase {
+
+    private static final String RECEIPT_ID = "receipt-id";
+    private static final String SUBJECT = "PRIMARY/alex";
+    private static final String USER_TENANT_DOMAIN = "wso2.com";
+    private static final String SP_TENANT_DOMAIN = "carbon.super";
+
+    @Mock
+    private SSOConsentReceiptCache receiptCache;
+
+    @Mock
+    private IdentityConsentDataHolder dataHolder;
+
+    @Mock
+    private ConsentManager consentManager;
+
+    private SSOConsentReceiptCacheInterceptor interceptor;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        mockStatic(SSOConsentReceiptCache.class);
+        when(SSOConsentReceiptCache.getInstance()).thenReturn(receiptCache);
+        mockStatic(IdentityConsentDataHolder.class);
+        when(IdentityConsentDataHolder.getInstance()).thenReturn(dataHolder);
+        when(dataHolder.getConsentManager()).thenReturn(consentManager);
+
+        Receipt receipt = new Receipt();
+        receipt.setPiiPrincipalId(SUBJECT);
+        receipt.setTenantDomain(USER_TENANT_DOMAIN);
+        receipt.setServices(Arrays.asList(createReceiptService("app1"), createReceiptService("app2")));
+        when(consentManager.getReceipt(RECEIPT_ID)).thenReturn(receipt);
+        interceptor = new SSOConsentReceiptCacheInterceptor();
+    }
+
+    @Test
+    public void testRevokeReceiptClearsEntriesInUserTenant() throws Exception {
+
+        interceptor.intercept(null, InterceptorConstants.POST_REVOKE_RECEIPT, receiptProperties());
+
+        verify(receiptCache).clearCacheEntry(new SSOConsentReceiptCacheKey(SUBJECT, "app1", SP_TENANT_DOMAIN),
+                USER_TENANT_DOMAIN);
+        verify(receiptCache).clearCacheEntry(new SSOConsentReceiptCacheKey(SUBJECT, "app2", SP_TENANT_DOMAIN),
+                USER_TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testDeleteReceiptClearsEntriesBeforeDeletion() throws Exception {
+
+        interceptor.intercept(null, InterceptorConstants.PRE_DELETE_RECEIPT, receiptProperties());
+
+        verify(receiptCache).clearCacheEntry(new SSOConsentReceiptCacheKey(SUBJECT, "app1", SP_TENANT_DOMAIN),
+                USER_TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testOtherOperationsAreIgnored() throws Exception {
+
+        interceptor.intercept(null, InterceptorConstants.PRE_REVOKE_RECEIPT, receiptProperties());
+        interceptor.intercept(null, InterceptorConstants.POST_ADD_RECEIPT, receiptProperties());
+
+        verify(consentManager, never()).getReceipt(anyString());
+        verify(receiptCache, never()).clearCacheEntry(any(SSOConsentReceiptCacheKey.class), anyString());
+    }
+
+    private ReceiptService createReceiptService(String serviceName) {
+
+        ReceiptService receiptService = new ReceiptService();
+        receiptService.setService(serviceName);
+        receiptService.setTenantDomain(SP_TENANT_DOMAIN);
+        return receiptService;
+    }
+
+    private static Map<String, Object> receiptProperties() {
+
+        return Collections.singletonMap(InterceptorConstants.RECEIPT_ID, RECEIPT_ID);
+    }
+}
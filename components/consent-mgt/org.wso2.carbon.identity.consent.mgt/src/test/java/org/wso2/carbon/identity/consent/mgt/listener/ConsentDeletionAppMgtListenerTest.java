@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.consent.mgt.listener;
+
+import org.mockito.Mock;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.consent.mgt.core.ConsentManager;
+import org.wso2.carbon.consent.mgt.core.model.ReceiptListResponse;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentReceiptCache;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SSOConsentReceiptCacheKey;
+import org.wso2.carbon.identity.consent.mgt.internal.IdentityConsentDataHolder;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+
+/**
+ * Unit tests for {@link ConsentDeletionAppMgtListener}.
+ */
+@PrepareForTest({SSOConsentReceiptCache.class, IdentityConsentDataHolder.class, IdentityUtil.class})
+public class ConsentDeletionAppMgtListenerTest extends PowerMockTestCase {
+
+    private static final String APPLICATION_NAME = "app1";
+    private static final String SP_TENANT_DOMAIN = "carbon.super";
+    private static final String USER_TENANT_DOMAIN = "wso2.com";
+    private static final String SUBJECT = "PRIMARY/alex";
+
+    @Mock
+    private SSOConsentReceiptCache receiptCache;
+
+    @Mock
+    private IdentityConsentDataHolder dataHolder;
+
+    @Mock
+    private ConsentManager consentManager;
+
+    @BeforeMethod
+    public void setUp() {
+
+        mockStatic(SSOConsentReceiptCache.class);
+        when(SSOConsentReceiptCache.getInstance()).thenReturn(receiptCache);
+        mockStatic(IdentityConsentDataHolder.class);
+        when(IdentityConsentDataHolder.getInstance()).thenReturn(dataHolder);
+        when(dataHolder.getConsentManager()).thenReturn(consentManager);
+        mockStatic(IdentityUtil.class);
+    }
+
+    @Test
+    public void testDeleteApplicationClearsReceiptCacheInUserTenant() throws Exception {
+
+        ReceiptListResponse receiptListResponse = new ReceiptListResponse();
+        receiptListResponse.setConsentReceiptId("receipt-id");
+        receiptListResponse.setPiiPrincipalId(SUBJECT);
+        receiptListResponse.setTenantDomain(USER_TENANT_DOMAIN);
+        when(consentManager.searchReceipts(anyInt(), eq(0), eq("*"), eq(SP_TENANT_DOMAIN), eq(APPLICATION_NAME),
+                isNull(), isNull())).thenReturn(Collections.singletonList(receiptListResponse));
+
+        new ConsentDeletionAppMgtListener().doPostDeleteApplication(APPLICATION_NAME, SP_TENANT_DOMAIN, "admin");
+
+        verify(consentManager).deleteReceipt("receipt-id");
+        verify(receiptCache).clearCacheEntry(
+                new SSOConsentReceiptCacheKey(SUBJECT, APPLICATION_NAME, SP_TENANT_DOMAIN), USER_TENANT_DOMAIN);
+    }
+}
@@ -21,31 +21,27 @@ package org.wso2.carbon.identity.consent.server.configs.mgt.services;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
+import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementClientException;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
-import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
-import org.wso2.carbon.identity.configuration.mgt.core.search.ComplexCondition;
-import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
-import org.wso2.carbon.identity.configuration.mgt.core.search.PrimitiveCondition;
-import org.wso2.carbon.identity.configuration.mgt.core.search.constant.ConditionType;
 import org.wso2.carbon.identity.consent.server.configs.mgt.exceptions.ConsentServerConfigsMgtClientException;
 import org.wso2.carbon.identity.consent.server.configs.mgt.exceptions.ConsentServerConfigsMgtException;
 import org.wso2.carbon.identity.consent.server.configs.mgt.exceptions.ConsentServerConfigsMgtServerException;
 import org.wso2.carbon.identity.consent.server.configs.mgt.internal.ConsentServerConfigsManagementDataHolder;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import static org.wso2.carbon.identity.configuration.mgt.core.search.constant.ConditionType.PrimitiveOperator.EQUALS;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages.ERROR_CODE_RESOURCE_DOES_NOT_EXISTS;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages.ERROR_CODE_RESOURCE_TYPE_DOES_NOT_EXISTS;
 import static org.wso2.carbon.identity.consent.server.configs.mgt.utils.Constants.EXTERNAL_CONSENT_PAGE;
 import static org.wso2.carbon.identity.consent.server.configs.mgt.utils.Constants.EXTERNAL_CONSENT_PAGE_CONFIGURATIONS;
 import static org.wso2.carbon.identity.consent.server.configs.mgt.utils.Constants.EXTERNAL_CONSENT_PAGE_URL;
 import static org.wso2.carbon.identity.consent.server.configs.mgt.utils.Constants.ErrorMessages.ERROR_GETTING_EXISTING_CONFIGURATIONS;
 import static org.wso2.carbon.identity.consent.server.configs.mgt.utils.Constants.ErrorMessages.ERROR_NO_EXTERNAL_CONSENT_PAGE_CONFIGURATIONS_FOUND;
 import static org.wso2.carbon.identity.consent.server.configs.mgt.utils.Constants.ErrorMessages.ERROR_NO_EXTERNAL_CONSENT_PAGE_URL_FOUND;
-import static org.wso2.carbon.identity.consent.server.configs.mgt.utils.Constants.RESOURCE_NAME;
-import static org.wso2.carbon.identity.consent.server.configs.mgt.utils.Constants.RESOURCE_TYPE_NAME;
 
 /**
  * Class for Consent Server Configs Management Service Implementation.
@@ -63,18 +59,13 @@ public class ConsentServerConfigsManagementServiceImpl implements ConsentServerC
      */
     public String getExternalConsentPageUrl(String tenantDomain) throws ConsentServerConfigsMgtException {
 
-        Condition condition = getExternalConsentPageUrlSearchCondition();
-        List<Attribute> resourceAttributes = getResourceAttributesByTenant(tenantDomain, condition);
+        List<Attribute> resourceAttributes = getResourceAttributesByTenant(tenantDomain);
 
-        String externalConsentPageUrl = "";
-        if (resourceAttributes != null && resourceAttributes.size() > 0) {
+        String externalConsentPageUrl = resourceAttributes.stream()
+                .filter(attribute -> EXTERNAL_CONSENT_PAGE_URL.equals(attribute.getKey()))
+                .map(Attribute::getValue).findFirst().orElse(null);
 
-            externalConsentPageUrl = resourceAttributes.stream()
-                    .filter(attribute -> attribute.getKey().equals(EXTERNAL_CONSENT_PAGE_URL))
-                    .map(Attribute::getValue).findFirst().orElse(null);
-        }
-
-        if (externalConsentPageUrl.isEmpty()) {
+        if (externalConsentPageUrl == null || externalConsentPageUrl.isEmpty()) {
             throw new ConsentServerConfigsMgtClientException(
                     ERROR_NO_EXTERNAL_CONSENT_PAGE_URL_FOUND.getCode(),
                     String.format(ERROR_NO_EXTERNAL_CONSENT_PAGE_URL_FOUND.getMessage(), tenantDomain));
@@ -83,60 +74,46 @@ public class ConsentServerConfigsManagementServiceImpl implements ConsentServerC
     }
 
     /**
-     * Method to get the resource attributes for the tenant which matches with the condition.
+     * Method to get the attributes of the external consent page configuration resource of the tenant. The resource
+     * is read by its name, which is served from the configuration store cache and invalidated by the configuration
+     * store on every resource update.
      *
      * @param tenantDomain  Tenant domain.
-     * @param condition     Condition to search the resource.
      * @return Resource attributes list.
-     * @throws ConsentServerConfigsMgtException If an error occurred in getting the consent url.
+     * @throws ConsentServerConfigsMgtException If an error occurred in getting the resource.
      */
-    private List<Attribute> getResourceAttributesByTenant(String tenantDomain, Condition condition)
+    private List<Attribute> getResourceAttributesByTenant(String tenantDomain)
             throws ConsentServerConfigsMgtException {
 
         try {
-            List<Attribute> resourceAttributes = new ArrayList<>();
+            Resource resource = getConfigurationManager().getResourceByTenantId(
+                    IdentityTenantUtil.getTenantId(tenantDomain), EXTERNAL_CONSENT_PAGE_CONFIGURATIONS,
+                    EXTERNAL_CONSENT_PAGE);
 
-            Resources resources = getConfigurationManager()
-                    .getTenantResources(tenantDomain, condition);
-
-            if (resources == null || resources.getResources() == null) {
+            if (resource == null || resource.getAttributes() == null) {
+                return Collections.emptyList();
+            }
+            return resource.getAttributes();
+        } catch (ConfigurationManagementClientException e) {
+            if (ERROR_CODE_RESOURCE_DOES_NOT_EXISTS.getCode().equals(e.getErrorCode()) ||
+                    ERROR_CODE_RESOURCE_TYPE_DOES_NOT_EXISTS.getCode().equals(e.getErrorCode())) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("External consent page configurations are not found for the tenant: " +
+                            tenantDomain);
+                }
                 throw new ConsentServerConfigsMgtClientException(
                         ERROR_NO_EXTERNAL_CONSENT_PAGE_CONFIGURATIONS_FOUND.getCode(),
                         String.format(ERROR_NO_EXTERNAL_CONSENT_PAGE_CONFIGURATIONS_FOUND.getMessage(),
                                 tenantDomain));
             }
-
-            if (resources.getResources().size() > 0) {
-                for (Resource resource : resources.getResources()) {
-                    resourceAttributes = resource.getAttributes();
-                }
-            }
-
-           return resourceAttributes;
+            throw new ConsentServerConfigsMgtServerException(ERROR_GETTING_EXISTING_CONFIGURATIONS.getCode(),
+                    String.format(ERROR_GETTING_EXISTING_CONFIGURATIONS.getMessage(), tenantDomain));
         } catch (ConfigurationManagementException e) {
             throw new ConsentServerConfigsMgtServerException(ERROR_GETTING_EXISTING_CONFIGURATIONS.getCode(),
                     String.format(ERROR_GETTING_EXISTING_CONFIGURATIONS.getMessage(), tenantDomain));
         }
     }
 
-    /**
-     * Method to get the search condition to get the external consent url resources.
-     *
-     * @return Condition to search the external consent page configuration resource.
-     */
-    private Condition getExternalConsentPageUrlSearchCondition() {
-
-        Condition resourceTypeCondition = new PrimitiveCondition(
-                RESOURCE_TYPE_NAME, EQUALS, EXTERNAL_CONSENT_PAGE_CONFIGURATIONS);
-        Condition resourceNameCondition = new PrimitiveCondition(
-                RESOURCE_NAME, EQUALS, EXTERNAL_CONSENT_PAGE);
-        List<Condition> list = new ArrayList<>();
-        list.add(resourceTypeCondition);
-        list.add(resourceNameCondition);
-
-        Condition searchCondition = new ComplexCondition(ConditionType.ComplexOperator.AND, list);
-        return searchCondition;
-    }
     /**
      * Get configuration manger.
      *
@@ -26,21 +26,24 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
+import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementClientException;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
-import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
-import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
 import org.wso2.carbon.identity.consent.server.configs.mgt.exceptions.ConsentServerConfigsMgtException;
 import org.wso2.carbon.identity.consent.server.configs.mgt.internal.ConsentServerConfigsManagementDataHolder;
 import org.wso2.carbon.identity.consent.server.configs.mgt.services.ConsentServerConfigsManagementService;
 import org.wso2.carbon.identity.consent.server.configs.mgt.services.ConsentServerConfigsManagementServiceImpl;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages.ERROR_CODE_RESOURCE_DOES_NOT_EXISTS;
 import static org.wso2.carbon.identity.consent.server.configs.mgt.utils.Constants.EXTERNAL_CONSENT_PAGE;
 import static org.wso2.carbon.identity.consent.server.configs.mgt.utils.Constants.EXTERNAL_CONSENT_PAGE_URL;
 
@@ -49,31 +52,45 @@ public class ConsentServerConfigsManagementServiceTest {
     public static final String EXTERNAL_CONSENT_PAGE_URL_VALUE = "https://localhost:9443/consent-mgt/consent";
     @Mock
     ConfigurationManager configurationManager;
+    @Mock
+    RealmService realmService;
+    @Mock
+    TenantManager tenantManager;
     private ConsentServerConfigsManagementService serverConfigsService;
 
 
     @BeforeMethod
-    public void setUp() {
+    public void setUp() throws Exception {
 
         MockitoAnnotations.initMocks(this);
         serverConfigsService = new ConsentServerConfigsManagementServiceImpl();
         ConsentServerConfigsManagementDataHolder.setConfigurationManager(configurationManager);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getTenantId(anyString())).thenReturn(1);
+        IdentityTenantUtil.setRealmService(realmService);
     }
 
     @DataProvider(name = "handleResourceDataProvider")
     public Object[][] handleResourceDataProvider() {
 
         return new Object[][]{
-                {"tenant1", getResources()},
+                {"tenant1", getResource()},
                 {"tenant2", null}
         };
     }
 
     @Test(dataProvider = "handleResourceDataProvider")
-    public void getExternalConsentPageUrlTest(String tenantDomain, Resources resources) throws Exception {
+    public void getExternalConsentPageUrlTest(String tenantDomain, Resource resource) throws Exception {
 
         try {
-            when(configurationManager.getTenantResources(anyString(), any(Condition.class))).thenReturn(resources);
+            if (resource == null) {
+                when(configurationManager.getResourceByTenantId(anyInt(), anyString(), anyString())).thenThrow(
+                        new ConfigurationManagementClientException(ERROR_CODE_RESOURCE_DOES_NOT_EXISTS.getMessage(),
+                                ERROR_CODE_RESOURCE_DOES_NOT_EXISTS.getCode()));
+            } else {
+                when(configurationManager.getResourceByTenantId(anyInt(), anyString(), anyString()))
+                        .thenReturn(resource);
+            }
             String externalConsentPageUrl = serverConfigsService.getExternalConsentPageUrl(tenantDomain);
             Assert.assertEquals(externalConsentPageUrl, EXTERNAL_CONSENT_PAGE_URL_VALUE);
         } catch (ConsentServerConfigsMgtException e) {
@@ -81,10 +98,8 @@ public class ConsentServerConfigsManagementServiceTest {
         }
     }
 
-    private Resources getResources() {
+    private Resource getResource() {
 
-        Resources resources = new Resources();
-        List<Resource> resourceList = new ArrayList<>();
         List<Attribute> attributes = new ArrayList<>();
 
         Attribute attribute = new Attribute();
@@ -95,9 +110,7 @@ public class ConsentServerConfigsManagementServiceTest {
         Resource resource = new Resource();
         resource.setAttributes(attributes);
         resource.setResourceName(EXTERNAL_CONSENT_PAGE);
-        resourceList.add(resource);
-        resources.setResources(resourceList);
-        return resources;
+        return resource;
     }
 
 }
@@ -22,6 +22,7 @@ import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceExc
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSApplication;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSConfiguration;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.util.CORSOriginMatcher;
 
 import java.util.List;
 
@@ -50,6 +51,42 @@ public interface CORSManagementService {
     List<CORSOrigin> getApplicationCORSOrigins(String applicationId, String tenantDomain)
             throws CORSManagementServiceException;
 
+    /**
+     * Check whether an origin matches one of the CORS Origins belonging to a tenant.
+     * The default implementation compiles the CORS Origins on every call, hence implementations are expected to
+     * cache the compiled CORS Origins.
+     *
+     * @param origin          The origin to check.
+     * @param allowSubdomains Whether the subdomains of the CORS Origins are matched as well.
+     * @param tenantDomain    The tenant domain.
+     * @return {@code true} if the origin matches a CORS Origin of the tenant, else {@code false}.
+     * @throws CORSManagementServiceException
+     */
+    default boolean isTenantCORSOriginAllowed(String origin, boolean allowSubdomains, String tenantDomain)
+            throws CORSManagementServiceException {
+
+        return CORSOriginMatcher.compile(getTenantCORSOrigins(tenantDomain)).matches(origin, allowSubdomains);
+    }
+
+    /**
+     * Check whether an origin matches one of the CORS Origins belonging to an application.
+     * The default implementation compiles the CORS Origins on every call, hence implementations are expected to
+     * cache the compiled CORS Origins.
+     *
+     * @param origin          The origin to check.
+     * @param allowSubdomains Whether the subdomains of the CORS Origins are matched as well.
+     * @param applicationId   The application ID that the CORS origin(s) belongs to.
+     * @param tenantDomain    The tenant domain.
+     * @return {@code true} if the origin matches a CORS Origin of the application, else {@code false}.
+     * @throws CORSManagementServiceException
+     */
+    default boolean isApplicationCORSOriginAllowed(String origin, boolean allowSubdomains, String applicationId,
+                                                   String tenantDomain) throws CORSManagementServiceException {
+
+        return CORSOriginMatcher.compile(getApplicationCORSOrigins(applicationId, tenantDomain))
+                .matches(origin, allowSubdomains);
+    }
+
     /**
      * Set the CORS Origins. This method replaces any existing origins.
      *
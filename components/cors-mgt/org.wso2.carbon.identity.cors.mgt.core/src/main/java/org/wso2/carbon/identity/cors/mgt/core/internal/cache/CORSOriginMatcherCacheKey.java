@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.cors.mgt.core.internal.cache;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * CORS origin matcher cache key. The key of the matcher of all the CORS origins of a tenant does not have an
+ * application id.
+ */
+public class CORSOriginMatcherCacheKey implements Serializable {
+
+    private static final long serialVersionUID = -2318390474135927307L;
+
+    private final Integer applicationId;
+
+    /**
+     * Create the key of the matcher of all the CORS origins of a tenant.
+     */
+    public CORSOriginMatcherCacheKey() {
+
+        this.applicationId = null;
+    }
+
+    /**
+     * Create the key of the matcher of the CORS origins of an application.
+     *
+     * @param applicationId The application ID.
+     */
+    public CORSOriginMatcherCacheKey(int applicationId) {
+
+        this.applicationId = applicationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof CORSOriginMatcherCacheKey)) {
+            return false;
+        }
+
+        CORSOriginMatcherCacheKey that = (CORSOriginMatcherCacheKey) o;
+        return Objects.equals(applicationId, that.applicationId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hashCode(applicationId);
+    }
+}
@@ -32,11 +32,15 @@ import org.wso2.carbon.identity.cors.mgt.core.dao.CORSOriginDAO;
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceClientException;
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceException;
 import org.wso2.carbon.identity.cors.mgt.core.internal.CORSManagementServiceHolder;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginMatcherCache;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginMatcherCacheEntry;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginMatcherCacheKey;
 import org.wso2.carbon.identity.cors.mgt.core.internal.util.CORSConfigurationUtils;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSApplication;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSConfiguration;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
 import org.wso2.carbon.identity.cors.mgt.core.model.Origin;
+import org.wso2.carbon.identity.cors.mgt.core.util.CORSOriginMatcher;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.util.Collections;
@@ -81,6 +85,46 @@ public class CORSManagementServiceImpl implements CORSManagementService {
                 applicationBasicInfo.getApplicationId(), tenantId));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTenantCORSOriginAllowed(String origin, boolean allowSubdomains, String tenantDomain)
+            throws CORSManagementServiceException {
+
+        int tenantId = getTenantId(tenantDomain);
+        CORSOriginMatcherCacheKey cacheKey = new CORSOriginMatcherCacheKey();
+        CORSOriginMatcher corsOriginMatcher = getCachedCORSOriginMatcher(cacheKey, tenantId);
+        if (corsOriginMatcher == null) {
+            corsOriginMatcher = CORSOriginMatcher.compile(getCORSOriginDAO().getCORSOriginsByTenantId(tenantId));
+            CORSOriginMatcherCache.getInstance().addToCache(cacheKey,
+                    new CORSOriginMatcherCacheEntry(corsOriginMatcher), tenantId);
+        }
+
+        return corsOriginMatcher.matches(origin, allowSubdomains);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isApplicationCORSOriginAllowed(String origin, boolean allowSubdomains, String applicationId,
+                                                  String tenantDomain) throws CORSManagementServiceException {
+
+        int tenantId = getTenantId(tenantDomain);
+        ApplicationBasicInfo applicationBasicInfo = getApplicationBasicInfo(applicationId, tenantDomain);
+        CORSOriginMatcherCacheKey cacheKey = new CORSOriginMatcherCacheKey(applicationBasicInfo.getApplicationId());
+        CORSOriginMatcher corsOriginMatcher = getCachedCORSOriginMatcher(cacheKey, tenantId);
+        if (corsOriginMatcher == null) {
+            corsOriginMatcher = CORSOriginMatcher.compile(getCORSOriginDAO().getCORSOriginsByApplicationId(
+                    applicationBasicInfo.getApplicationId(), tenantId));
+            CORSOriginMatcherCache.getInstance().addToCache(cacheKey,
+                    new CORSOriginMatcherCacheEntry(corsOriginMatcher), tenantId);
+        }
+
+        return corsOriginMatcher.matches(origin, allowSubdomains);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -106,6 +150,7 @@ public class CORSManagementServiceImpl implements CORSManagementService {
                     corsOrigin.setOrigin(origin.getValue());
                     return corsOrigin;
                 }).collect(Collectors.toList()), tenantId);
+        clearCORSOriginMatcherCache(applicationBasicInfo.getApplicationId(), tenantId);
     }
 
     /**
@@ -145,6 +190,7 @@ public class CORSManagementServiceImpl implements CORSManagementService {
                     return corsOrigin;
                 }).collect(Collectors.toList()), tenantId
         );
+        clearCORSOriginMatcherCache(applicationBasicInfo.getApplicationId(), tenantId);
     }
 
     /**
@@ -173,6 +219,7 @@ public class CORSManagementServiceImpl implements CORSManagementService {
 
         // Delete the CORS origin application associations.
         getCORSOriginDAO().deleteCORSOrigins(applicationBasicInfo.getApplicationId(), originIds, tenantId);
+        clearCORSOriginMatcherCache(applicationBasicInfo.getApplicationId(), tenantId);
     }
 
     /**
@@ -210,6 +257,36 @@ public class CORSManagementServiceImpl implements CORSManagementService {
         getCORSConfigurationDAO().setCORSConfigurationByTenantDomain(corsConfiguration, tenantDomain);
     }
 
+    /**
+     * Returns the cached CORS origin matcher for the given key.
+     *
+     * @param cacheKey The cache key.
+     * @param tenantId The tenant ID.
+     * @return The cached {@code CORSOriginMatcher} or {@code null} if it is not cached.
+     */
+    private CORSOriginMatcher getCachedCORSOriginMatcher(CORSOriginMatcherCacheKey cacheKey, int tenantId) {
+
+        CORSOriginMatcherCacheEntry cacheEntry = CORSOriginMatcherCache.getInstance()
+                .getValueFromCache(cacheKey, tenantId);
+        if (cacheEntry == null) {
+            return null;
+        }
+        return cacheEntry.getCORSOriginMatcher();
+    }
+
+    /**
+     * Clear the CORS origin matchers of an application and of its tenant.
+     *
+     * @param applicationId The application ID.
+     * @param tenantId      The tenant ID.
+     */
+    private void clearCORSOriginMatcherCache(int applicationId, int tenantId) {
+
+        CORSOriginMatcherCache cache = CORSOriginMatcherCache.getInstance();
+        cache.clearCacheEntry(new CORSOriginMatcherCacheKey(applicationId), tenantId);
+        cache.clearCacheEntry(new CORSOriginMatcherCacheKey(), tenantId);
+    }
+
     /**
      * Returns a CORSOriginDAO instance.
      *
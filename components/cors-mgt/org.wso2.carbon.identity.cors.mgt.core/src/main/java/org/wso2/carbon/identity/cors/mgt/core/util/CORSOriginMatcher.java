@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.cors.mgt.core.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceClientException;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.model.Origin;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable matcher compiled from a list of CORS origins.
+ * <p>
+ * The origins are kept in lower case in a hash set, so that an exact match of an origin in lower case, as sent by
+ * browsers, is a single lookup. The scheme and host of an origin are case insensitive, hence an origin with upper
+ * case characters is compared with the origins ignoring case. For subdomain matching, the suffixes (host and
+ * non-default port) of the origins are grouped by their scheme, and an origin is matched by comparing each of its
+ * parent domains with the suffixes of its scheme. Origins are matched in place, without allocating normalized copies.
+ */
+public final class CORSOriginMatcher implements Serializable {
+
+    private static final long serialVersionUID = -4409786722384935519L;
+    private static final Log log = LogFactory.getLog(CORSOriginMatcher.class);
+    private static final String SCHEME_SEPARATOR = "://";
+
+    private final Set<String> origins;
+    private final Map<String, Set<String>> suffixesByScheme;
+
+    private CORSOriginMatcher(Set<String> origins, Map<String, Set<String>> suffixesByScheme) {
+
+        this.origins = origins;
+        this.suffixesByScheme = suffixesByScheme;
+    }
+
+    /**
+     * Compile a matcher for the given CORS origins.
+     *
+     * @param corsOrigins The CORS origins.
+     * @return The compiled matcher.
+     */
+    public static CORSOriginMatcher compile(List<CORSOrigin> corsOrigins) {
+
+        Set<String> origins = new HashSet<>();
+        Map<String, Set<String>> suffixesByScheme = new HashMap<>();
+        for (CORSOrigin corsOrigin : corsOrigins) {
+            if (corsOrigin.getOrigin() == null) {
+                continue;
+            }
+            // An origin is made up of the scheme, host and port only, all of which are case insensitive.
+            String value = corsOrigin.getOrigin().toLowerCase(Locale.ENGLISH);
+            if (!origins.add(value)) {
+                continue;
+            }
+            Origin origin;
+            try {
+                origin = new Origin(value);
+            } catch (CORSManagementServiceClientException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("The CORS origin %s is not a valid origin. Hence it is only matched " +
+                            "exactly.", value));
+                }
+                continue;
+            }
+            if (origin.getScheme() != null && origin.getHost() != null) {
+                suffixesByScheme.computeIfAbsent(origin.getScheme(), scheme -> new HashSet<>())
+                        .add(origin.getSuffix());
+            }
+        }
+        return new CORSOriginMatcher(Collections.unmodifiableSet(origins),
+                Collections.unmodifiableMap(suffixesByScheme));
+    }
+
+    /**
+     * Check whether the given origin matches one of the compiled CORS origins.
+     *
+     * @param origin          The origin to check.
+     * @param allowSubdomains Whether the subdomains of the compiled CORS origins are matched as well.
+     * @return {@code true} if the origin matches, else {@code false}.
+     */
+    public boolean matches(String origin, boolean allowSubdomains) {
+
+        if (origin == null) {
+            return false;
+        }
+        if (origins.contains(origin) || (hasUpperCase(origin) && containsIgnoreCase(origins, origin, 0))) {
+            return true;
+        }
+        if (!allowSubdomains || suffixesByScheme.isEmpty()) {
+            return false;
+        }
+
+        int schemeEnd = origin.indexOf(SCHEME_SEPARATOR);
+        if (schemeEnd <= 0) {
+            return false;
+        }
+        Set<String> suffixes = getSuffixes(origin, schemeEnd);
+        if (suffixes == null) {
+            return false;
+        }
+
+        // Match the parent domains of the origin suffix, i.e. a.b.example.com matches b.example.com and example.com.
+        int suffixStart = schemeEnd + SCHEME_SEPARATOR.length();
+        for (int index = origin.indexOf('.', suffixStart); index >= 0 && index < origin.length() - 1;
+             index = origin.indexOf('.', index + 1)) {
+            if (containsIgnoreCase(suffixes, origin, index + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<String> getSuffixes(String origin, int schemeEnd) {
+
+        for (Map.Entry<String, Set<String>> entry : suffixesByScheme.entrySet()) {
+            String scheme = entry.getKey();
+            if (scheme.length() == schemeEnd && origin.regionMatches(true, 0, scheme, 0, schemeEnd)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check whether the given values contain the part of the origin starting at the given index, ignoring case.
+     */
+    private static boolean containsIgnoreCase(Set<String> values, String origin, int beginIndex) {
+
+        int length = origin.length() - beginIndex;
+        for (String value : values) {
+            if (value.length() == length && origin.regionMatches(true, beginIndex, value, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasUpperCase(String origin) {
+
+        for (int i = 0; i < origin.length(); i++) {
+            if (Character.isUpperCase(origin.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -58,6 +58,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
@@ -232,6 +233,34 @@ public class CORSManagementServiceTests extends PowerMockTestCase {
                 SAMPLE_ORIGIN_LIST_1);
     }
 
+    @Test
+    public void testIsCORSOriginAllowed() throws CORSManagementServiceException {
+
+        corsManagementService.setCORSOrigins(SampleApp1.UUID, SAMPLE_ORIGIN_LIST_1, SUPER_TENANT_DOMAIN_NAME);
+        corsManagementService.setCORSOrigins(SampleApp2.UUID, SAMPLE_ORIGIN_LIST_2, SUPER_TENANT_DOMAIN_NAME);
+
+        assertTrue(corsManagementService.isApplicationCORSOriginAllowed("http://foo.com", false, SampleApp1.UUID,
+                SUPER_TENANT_DOMAIN_NAME));
+        assertFalse(corsManagementService.isApplicationCORSOriginAllowed("http://abc.com", false, SampleApp1.UUID,
+                SUPER_TENANT_DOMAIN_NAME));
+        assertFalse(corsManagementService.isApplicationCORSOriginAllowed("http://sub.foo.com", false,
+                SampleApp1.UUID, SUPER_TENANT_DOMAIN_NAME));
+        assertTrue(corsManagementService.isApplicationCORSOriginAllowed("http://sub.foo.com", true,
+                SampleApp1.UUID, SUPER_TENANT_DOMAIN_NAME));
+        assertTrue(corsManagementService.isTenantCORSOriginAllowed("http://abc.com", false,
+                SUPER_TENANT_DOMAIN_NAME));
+
+        // The compiled origins should be refreshed once the origins of the application are changed.
+        corsManagementService.setCORSOrigins(SampleApp1.UUID, SAMPLE_ORIGIN_LIST_2, SUPER_TENANT_DOMAIN_NAME);
+
+        assertFalse(corsManagementService.isApplicationCORSOriginAllowed("http://foo.com", false, SampleApp1.UUID,
+                SUPER_TENANT_DOMAIN_NAME));
+        assertTrue(corsManagementService.isApplicationCORSOriginAllowed("http://abc.com", false, SampleApp1.UUID,
+                SUPER_TENANT_DOMAIN_NAME));
+        assertFalse(corsManagementService.isTenantCORSOriginAllowed("http://foo.com", false,
+                SUPER_TENANT_DOMAIN_NAME));
+    }
+
     @Test
     public void testAddCORSOrigins() throws CORSManagementServiceException {
 
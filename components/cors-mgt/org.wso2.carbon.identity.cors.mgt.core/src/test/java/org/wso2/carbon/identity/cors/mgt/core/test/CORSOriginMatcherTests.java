@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.cors.mgt.core.test;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.util.CORSOriginMatcher;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the CORS origin matcher.
+ */
+public class CORSOriginMatcherTests {
+
+    @Test
+    public void testExactMatch() {
+
+        CORSOriginMatcher matcher = CORSOriginMatcher.compile(
+                createCORSOrigins("http://example.com", "https://example.org:8443", "null"));
+
+        assertTrue(matcher.matches("http://example.com", false));
+        assertTrue(matcher.matches("https://example.org:8443", false));
+        assertTrue(matcher.matches("null", false));
+        assertFalse(matcher.matches("https://example.com", false));
+        assertFalse(matcher.matches("https://example.org", false));
+        assertFalse(matcher.matches("http://sub.example.com", false));
+        assertFalse(matcher.matches(null, true));
+    }
+
+    @Test
+    public void testExactMatchIgnoresSchemeAndHostCase() {
+
+        CORSOriginMatcher matcher = CORSOriginMatcher.compile(
+                createCORSOrigins("HTTPS://Example.com", "http://example.org:8080"));
+
+        assertTrue(matcher.matches("https://example.com", false));
+        assertTrue(matcher.matches("https://EXAMPLE.COM", false));
+        assertTrue(matcher.matches("Http://Example.Org:8080", false));
+        assertFalse(matcher.matches("http://example.com", false));
+    }
+
+    @Test
+    public void testSubdomainMatch() {
+
+        CORSOriginMatcher matcher = CORSOriginMatcher.compile(
+                createCORSOrigins("http://example.com", "https://example.org:8443"));
+
+        assertTrue(matcher.matches("http://sub.example.com", true));
+        assertTrue(matcher.matches("http://a.b.EXAMPLE.com", true));
+        assertTrue(matcher.matches("https://sub.example.org:8443", true));
+        assertFalse(matcher.matches("https://sub.example.com", true));
+        assertFalse(matcher.matches("https://sub.example.org", true));
+        assertFalse(matcher.matches("http://badexample.com", true));
+        assertFalse(matcher.matches("http://example.com.evil.com", true));
+        assertFalse(matcher.matches("sub.example.com", true));
+    }
+
+    private List<CORSOrigin> createCORSOrigins(String... origins) {
+
+        return Arrays.stream(origins).map(origin -> {
+            CORSOrigin corsOrigin = new CORSOrigin();
+            corsOrigin.setOrigin(origin);
+            return corsOrigin;
+        }).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.directory.server.manager.internal;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.directory.server.manager.DirectoryServerManagerException;
+import org.wso2.carbon.user.api.RealmConfiguration;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.ldap.LDAPConnectionContext;
+import org.wso2.carbon.user.core.ldap.LDAPConstants;
+import org.wso2.carbon.user.core.util.JNDIUtil;
+
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.directory.DirContext;
+import javax.naming.directory.SearchControls;
+import javax.naming.directory.SearchResult;
+import javax.naming.ldap.LdapContext;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded pool of directory contexts to the directory server of a realm.
+ * <p>
+ * Directory contexts are not thread safe, hence a context is leased to a single caller at a time and returned to
+ * the pool once the caller is done with it. An idle context is validated with a base scoped search on the user
+ * search base before it is leased again if it was idle longer than the validation interval, and is closed if it
+ * was idle longer than the maximum idle time. Idle contexts are also closed periodically once they exceed the
+ * maximum idle time. Callers invalidate a context instead of returning it when an operation on it fails, so that
+ * a broken connection is not leased again.
+ * <p>
+ * Pools are shared by all the {@link LDAPServerStoreManager} instances of the same directory server, bind
+ * credentials and user search base, and are identified by a digest of them. When the realm configuration of a tenant changes, the pool
+ * of its previous configuration is closed unless another tenant still uses it. Pooling can be configured with the
+ * following user store properties of the realm configuration.
+ * <ul>
+ * <li>ServiceConnectionPoolingEnabled - Whether the connections are pooled. Defaults to true.</li>
+ * <li>ServiceConnectionPoolMaxSize - Maximum number of connections, leased and idle. Defaults to 10.</li>
+ * <li>ServiceConnectionPoolMaxWait - Time in milliseconds to wait for a connection when all the connections are
+ * leased. Defaults to 30000.</li>
+ * <li>ServiceConnectionPoolMaxIdleTime - Time in milliseconds after which an idle connection is closed.
+ * Defaults to 300000.</li>
+ * <li>ServiceConnectionPoolValidationInterval - Time in milliseconds after which an idle connection is validated
+ * before it is leased. Defaults to 30000.</li>
+ * </ul>
+ */
+public class LDAPConnectionPool {
+
+    private static final Log log = LogFactory.getLog(LDAPConnectionPool.class);
+    private static final Map<String, LDAPConnectionPool> POOLS = new ConcurrentHashMap<>();
+    private static final Map<Integer, String> TENANT_POOL_KEYS = new ConcurrentHashMap<>();
+    private static final long EVICTION_INTERVAL = 60000L;
+    private static ScheduledExecutorService evictionExecutor;
+
+    private static final int DEFAULT_MAX_SIZE = 10;
+    private static final long DEFAULT_MAX_WAIT = 30000L;
+    private static final long DEFAULT_MAX_IDLE_TIME = 300000L;
+    private static final long DEFAULT_VALIDATION_INTERVAL = 30000L;
+    private static final int VALIDATION_TIME_LIMIT = 5000;
+    private static final String OBJECT_CLASS_FILTER = "(objectClass=*)";
+
+    private final LDAPConnectionContext connectionSource;
+    private final String validationBase;
+    private final boolean poolingEnabled;
+    private final long maxWait;
+    private final long maxIdleTime;
+    private final long validationInterval;
+    private final Semaphore permits;
+    private final Deque<IdleContext> idleContexts = new ConcurrentLinkedDeque<>();
+    private final Map<DirContext, Boolean> leasedContexts = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    LDAPConnectionPool(LDAPConnectionContext connectionSource, RealmConfiguration realmConfig) {
+
+        this.connectionSource = connectionSource;
+        this.validationBase = realmConfig.getUserStoreProperty(LDAPConstants.USER_SEARCH_BASE);
+        this.poolingEnabled = Boolean.parseBoolean(StringUtils.defaultIfBlank(realmConfig.getUserStoreProperty(
+                LDAPServerManagerConstants.CONNECTION_POOLING_ENABLED_PROPERTY), Boolean.TRUE.toString()));
+        this.maxWait = getLongProperty(realmConfig, LDAPServerManagerConstants.CONNECTION_POOL_MAX_WAIT_PROPERTY,
+                DEFAULT_MAX_WAIT);
+        this.maxIdleTime = getLongProperty(realmConfig,
+                LDAPServerManagerConstants.CONNECTION_POOL_MAX_IDLE_TIME_PROPERTY, DEFAULT_MAX_IDLE_TIME);
+        this.validationInterval = getLongProperty(realmConfig,
+                LDAPServerManagerConstants.CONNECTION_POOL_VALIDATION_INTERVAL_PROPERTY, DEFAULT_VALIDATION_INTERVAL);
+        this.permits = new Semaphore((int) getLongProperty(realmConfig,
+                LDAPServerManagerConstants.CONNECTION_POOL_MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE), true);
+    }
+
+    /**
+     * Get the connection pool to the directory server of the given realm configuration.
+     *
+     * @param realmConfig Realm configuration.
+     * @return Connection pool.
+     * @throws UserStoreException If the connection source can not be created from the realm configuration.
+     */
+    public static LDAPConnectionPool getInstance(RealmConfiguration realmConfig) throws UserStoreException {
+
+        String poolKey = getPoolKey(realmConfig);
+        LDAPConnectionPool pool = POOLS.get(poolKey);
+        if (pool != null && poolKey.equals(TENANT_POOL_KEYS.get(realmConfig.getTenantId()))) {
+            return pool;
+        }
+        synchronized (LDAPConnectionPool.class) {
+            pool = POOLS.get(poolKey);
+            if (pool == null) {
+                pool = new LDAPConnectionPool(new LDAPConnectionContext(realmConfig), realmConfig);
+                POOLS.put(poolKey, pool);
+                startIdleContextEviction();
+            }
+            String previousPoolKey = TENANT_POOL_KEYS.put(realmConfig.getTenantId(), poolKey);
+            if (previousPoolKey != null && !previousPoolKey.equals(poolKey) &&
+                    !TENANT_POOL_KEYS.containsValue(previousPoolKey)) {
+                LDAPConnectionPool supersededPool = POOLS.remove(previousPoolKey);
+                if (supersededPool != null) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Closing the directory connection pool superseded by the realm configuration of " +
+                                "tenant: " + realmConfig.getTenantId());
+                    }
+                    supersededPool.close();
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Close all the connection pools.
+     */
+    public static synchronized void closeAll() {
+
+        if (evictionExecutor != null) {
+            evictionExecutor.shutdownNow();
+            evictionExecutor = null;
+        }
+        for (LDAPConnectionPool pool : POOLS.values()) {
+            pool.close();
+        }
+        POOLS.clear();
+        TENANT_POOL_KEYS.clear();
+    }
+
+    /**
+     * Lease a directory context from the pool. The context must be returned with
+     * {@link #returnContext(DirContext)} or {@link #invalidateContext(DirContext)}.
+     *
+     * @return Directory context.
+     * @throws DirectoryServerManagerException If a context can not be leased within the maximum wait time or a
+     *                                         new connection can not be created.
+     */
+    public DirContext getContext() throws DirectoryServerManagerException {
+
+        if (!poolingEnabled) {
+            return createContext();
+        }
+        try {
+            if (!permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS)) {
+                throw new DirectoryServerManagerException("Timed out while waiting for a directory connection.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DirectoryServerManagerException("Interrupted while waiting for a directory connection.", e);
+        }
+
+        try {
+            DirContext dirContext = pollIdleContext();
+            if (dirContext == null) {
+                dirContext = createContext();
+            }
+            leasedContexts.put(dirContext, Boolean.TRUE);
+            return dirContext;
+        } catch (DirectoryServerManagerException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a leased directory context to the pool.
+     *
+     * @param dirContext Directory context.
+     */
+    public void returnContext(DirContext dirContext) {
+
+        if (dirContext == null) {
+            return;
+        }
+        if (!poolingEnabled) {
+            closeContext(dirContext);
+            return;
+        }
+        if (leasedContexts.remove(dirContext) == null) {
+            // Already invalidated.
+            return;
+        }
+        try {
+            if (closed || !resetContext(dirContext)) {
+                closeContext(dirContext);
+            } else {
+                idleContexts.offerFirst(new IdleContext(dirContext, System.currentTimeMillis()));
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Close a leased directory context instead of returning it to the pool.
+     *
+     * @param dirContext Directory context.
+     */
+    public void invalidateContext(DirContext dirContext) {
+
+        if (dirContext == null) {
+            return;
+        }
+        closeContext(dirContext);
+        if (poolingEnabled && leasedContexts.remove(dirContext) != null) {
+            permits.release();
+        }
+    }
+
+    /**
+     * Close the idle contexts which exceeded the maximum idle time.
+     */
+    void evictIdleContexts() {
+
+        long now = System.currentTimeMillis();
+        for (IdleContext idleContext : idleContexts) {
+            // A context which is leased concurrently is no longer in the deque and is not removed here.
+            if (now - idleContext.idleSince > maxIdleTime && idleContexts.removeFirstOccurrence(idleContext)) {
+                closeContext(idleContext.dirContext);
+            }
+        }
+    }
+
+    /**
+     * Close the idle contexts of the pool. Leased contexts are closed when they are returned.
+     */
+    void close() {
+
+        closed = true;
+        IdleContext idleContext;
+        while ((idleContext = idleContexts.pollFirst()) != null) {
+            closeContext(idleContext.dirContext);
+        }
+    }
+
+    boolean isClosed() {
+
+        return closed;
+    }
+
+    private DirContext pollIdleContext() {
+
+        IdleContext idleContext;
+        while ((idleContext = idleContexts.pollFirst()) != null) {
+            long idleTime = System.currentTimeMillis() - idleContext.idleSince;
+            if (idleTime > maxIdleTime) {
+                closeContext(idleContext.dirContext);
+            } else if (idleTime > validationInterval && !isValid(idleContext.dirContext)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Discarding a broken directory connection from the pool.");
+                }
+                closeContext(idleContext.dirContext);
+            } else {
+                return idleContext.dirContext;
+            }
+        }
+        return null;
+    }
+
+    private DirContext createContext() throws DirectoryServerManagerException {
+
+        try {
+            return connectionSource.getContext();
+        } catch (UserStoreException e) {
+            log.error("Unable to retrieve directory context.", e);
+            throw new DirectoryServerManagerException("Unable to retrieve directory context.", e);
+        }
+    }
+
+    private boolean isValid(DirContext dirContext) {
+
+        SearchControls searchControls = new SearchControls();
+        searchControls.setSearchScope(SearchControls.OBJECT_SCOPE);
+        searchControls.setReturningAttributes(new String[0]);
+        searchControls.setCountLimit(1);
+        searchControls.setTimeLimit(VALIDATION_TIME_LIMIT);
+        try {
+            NamingEnumeration<SearchResult> results = dirContext.search(validationBase, OBJECT_CLASS_FILTER,
+                    searchControls);
+            try {
+                return results.hasMore();
+            } finally {
+                results.close();
+            }
+        } catch (NamingException e) {
+            return false;
+        }
+    }
+
+    private boolean resetContext(DirContext dirContext) {
+
+        if (dirContext instanceof LdapContext) {
+            try {
+                ((LdapContext) dirContext).setRequestControls(null);
+            } catch (NamingException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void closeContext(DirContext dirContext) {
+
+        try {
+            JNDIUtil.closeContext(dirContext);
+        } catch (UserStoreException e) {
+            log.error("Unable to close directory context.", e);
+        }
+    }
+
+    private static long getLongProperty(RealmConfiguration realmConfig, String propertyName, long defaultValue) {
+
+        String value = realmConfig.getUserStoreProperty(propertyName);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                long longValue = Long.parseLong(value.trim());
+                if (longValue > 0) {
+                    return longValue;
+                }
+            } catch (NumberFormatException e) {
+                // Fall through to the default value.
+            }
+            log.warn("Invalid value: " + value + " configured for " + propertyName + ". Using the default value: " +
+                    defaultValue);
+        }
+        return defaultValue;
+    }
+
+    private static synchronized void startIdleContextEviction() {
+
+        if (evictionExecutor != null) {
+            return;
+        }
+        evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "LDAPConnectionPoolEvictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictionExecutor.scheduleWithFixedDelay(() -> {
+            for (LDAPConnectionPool pool : POOLS.values()) {
+                try {
+                    pool.evictIdleContexts();
+                } catch (RuntimeException e) {
+                    log.error("Error while evicting idle directory connections.", e);
+                }
+            }
+        }, EVICTION_INTERVAL, EVICTION_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Build the key of the pool of a realm configuration. The user search base is part of the key, as it is used to
+     * validate the connections of the pool. The bind password is part of the key, hence the key is a digest of the
+     * connection properties rather than the properties themselves.
+     */
+    static String getPoolKey(RealmConfiguration realmConfig) throws UserStoreException {
+
+        String connectionProperties = realmConfig.getUserStoreProperty(LDAPConstants.CONNECTION_URL) + "\n" +
+                realmConfig.getUserStoreProperty(LDAPConstants.CONNECTION_NAME) + "\n" +
+                realmConfig.getUserStoreProperty(LDAPConstants.CONNECTION_PASSWORD) + "\n" +
+                realmConfig.getUserStoreProperty(LDAPConstants.USER_SEARCH_BASE);
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(
+                    messageDigest.digest(connectionProperties.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new UserStoreException("Unable to build the directory connection pool key.", e);
+        }
+    }
+
+    /**
+     * A directory context in the pool along with the time it was returned to the pool.
+     */
+    private static class IdleContext {
+
+        private final DirContext dirContext;
+        private final long idleSince;
+
+        IdleContext(DirContext dirContext, long idleSince) {
+
+            this.dirContext = dirContext;
+            this.idleSince = idleSince;
+        }
+    }
+}
@@ -50,6 +50,14 @@ public class LDAPServerManagerConstants {
     // For back-end we have to use following default values
     public static final String DEFAULT_BE_PASSWORD_REGULAR_EXPRESSION = "[\\S]{5,30}";
     public static final String DEFAULT_BE_SERVICE_NAME_REGULAR_EXPRESSION = DEFAULT_SERVICE_NAME_REGULAR_EXPRESSION;
+    // Connection pool and paged search properties
+    public static final String CONNECTION_POOLING_ENABLED_PROPERTY = "ServiceConnectionPoolingEnabled";
+    public static final String CONNECTION_POOL_MAX_SIZE_PROPERTY = "ServiceConnectionPoolMaxSize";
+    public static final String CONNECTION_POOL_MAX_WAIT_PROPERTY = "ServiceConnectionPoolMaxWait";
+    public static final String CONNECTION_POOL_MAX_IDLE_TIME_PROPERTY = "ServiceConnectionPoolMaxIdleTime";
+    public static final String CONNECTION_POOL_VALIDATION_INTERVAL_PROPERTY = "ServiceConnectionPoolValidationInterval";
+    public static final String SEARCH_PAGE_SIZE_PROPERTY = "ServicePrincipleSearchPageSize";
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 100;
 
     private LDAPServerManagerConstants() {
     }
@@ -27,7 +27,6 @@ import org.wso2.carbon.directory.server.manager.common.ServerPrinciple;
 import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.UserStoreException;
-import org.wso2.carbon.user.core.ldap.LDAPConnectionContext;
 import org.wso2.carbon.user.core.ldap.LDAPConstants;
 import org.wso2.carbon.user.core.util.JNDIUtil;
 
@@ -40,6 +39,11 @@ import javax.naming.directory.BasicAttributes;
 import javax.naming.directory.DirContext;
 import javax.naming.directory.SearchControls;
 import javax.naming.directory.SearchResult;
+import javax.naming.ldap.Control;
+import javax.naming.ldap.LdapContext;
+import javax.naming.ldap.PagedResultsControl;
+import javax.naming.ldap.PagedResultsResponseControl;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -59,19 +63,25 @@ public class LDAPServerStoreManager {
 
     private static final Log log = LogFactory.getLog(LDAPServerStoreManager.class);
 
-    private LDAPConnectionContext connectionSource;
+    private LDAPConnectionPool connectionPool;
     private RealmConfiguration realmConfiguration;
 
     public LDAPServerStoreManager(RealmConfiguration realmConfig) {
 
         this.realmConfiguration = realmConfig;
         try {
-            this.connectionSource = new LDAPConnectionContext(realmConfig);
+            this.connectionPool = LDAPConnectionPool.getInstance(realmConfig);
         } catch (UserStoreException e) {
             log.error("Error occurred while instantiating LDAPConnectionContext", e);
         }
     }
 
+    LDAPServerStoreManager(RealmConfiguration realmConfig, LDAPConnectionPool connectionPool) {
+
+        this.realmConfiguration = realmConfig;
+        this.connectionPool = connectionPool;
+    }
+
     protected boolean isServerNameValid(String serverName) {
 
         String serviceNamePolicyRegEx = this.realmConfiguration.getUserStoreProperty
@@ -168,13 +178,7 @@ public class LDAPServerStoreManager {
     public boolean isExistingServiceUid(String uid)
             throws DirectoryServerManagerException {
 
-        DirContext dirContext;
-        try {
-            dirContext = this.connectionSource.getContext();
-        } catch (UserStoreException e) {
-            log.error("Unable to retrieve directory context.", e);
-            throw new DirectoryServerManagerException("Unable to retrieve directory context.", e);
-        }
+        DirContext dirContext = this.connectionPool.getContext();
 
         //first search the existing user entry.
         String searchBase = realmConfiguration.getUserStoreProperty(LDAPConstants.USER_SEARCH_BASE);
@@ -186,32 +190,25 @@ public class LDAPServerStoreManager {
         searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
         searchControls.setReturningAttributes(new String[]{LDAPServerManagerConstants.LDAP_UID});
 
+        NamingEnumeration<SearchResult> namingEnumeration = null;
         try {
-            NamingEnumeration<SearchResult> namingEnumeration = dirContext.search(searchBase, filter, searchControls);
+            namingEnumeration = dirContext.search(searchBase, filter, searchControls);
             return namingEnumeration.hasMore();
 
         } catch (NamingException e) {
+            this.connectionPool.invalidateContext(dirContext);
             log.error("Unable to check whether service exists in directory server. UID - " + uid, e);
             throw new DirectoryServerManagerException("Can not access the directory service", e);
         } finally {
-            try {
-                JNDIUtil.closeContext(dirContext);
-            } catch (UserStoreException e) {
-                log.error("Unable to close directory context.", e);
-            }
+            closeNamingEnumeration(namingEnumeration);
+            this.connectionPool.returnContext(dirContext);
         }
     }
 
     public boolean isExistingServicePrinciple(String servicePrinciple)
             throws DirectoryServerManagerException {
 
-        DirContext dirContext;
-        try {
-            dirContext = this.connectionSource.getContext();
-        } catch (UserStoreException e) {
-            log.error("Unable to retrieve directory context.", e);
-            throw new DirectoryServerManagerException("Unable to retrieve directory context.", e);
-        }
+        DirContext dirContext = this.connectionPool.getContext();
 
         //first search the existing user entry.
         String searchBase = realmConfiguration.getUserStoreProperty(LDAPConstants.USER_SEARCH_BASE);
@@ -222,20 +219,19 @@ public class LDAPServerStoreManager {
         searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
         searchControls.setReturningAttributes(new String[]{LDAPServerManagerConstants.LDAP_UID});
 
+        NamingEnumeration<SearchResult> namingEnumeration = null;
         try {
-            NamingEnumeration<SearchResult> namingEnumeration = dirContext.search(searchBase, filter, searchControls);
+            namingEnumeration = dirContext.search(searchBase, filter, searchControls);
             return namingEnumeration.hasMore();
 
         } catch (NamingException e) {
+            this.connectionPool.invalidateContext(dirContext);
             String message = "Unable to search entry with search base " + searchBase + ", filter -" + filter;
             log.error(message, e);
             throw new DirectoryServerManagerException("Can not access the directory service", e);
         } finally {
-            try {
-                JNDIUtil.closeContext(dirContext);
-            } catch (UserStoreException e) {
-                log.error("Unable to close directory context.", e);
-            }
+            closeNamingEnumeration(namingEnumeration);
+            this.connectionPool.returnContext(dirContext);
         }
     }
 
@@ -246,40 +242,34 @@ public class LDAPServerStoreManager {
             throw new DirectoryServerManagerException("Invalid credentials provided");
         }
 
-        DirContext dirContext;
-        try {
-            dirContext = this.connectionSource.getContext();
-        } catch (UserStoreException e) {
-            throw new DirectoryServerManagerException("An error occurred while retrieving LDAP connection context.", e);
-        }
+        // Resolve the uid before leasing a connection, as it leases a connection of its own.
+        String serverUid = getServiceName(serverName);
+        DirContext dirContext = this.connectionPool.getContext();
+        DirContext searchBaseContext = null;
 
         String searchBase = this.realmConfiguration.getUserStoreProperty(LDAPConstants.USER_SEARCH_BASE);
         try {
 
-            dirContext = (DirContext) dirContext.lookup(searchBase);
+            searchBaseContext = (DirContext) dirContext.lookup(searchBase);
 
             BasicAttributes basicAttributes = new BasicAttributes(true);
 
             // Put only service name as uid. i.e. if server name is like ftp/wso2.example.com
             // then add only ftp as uid
-            String serverUid = getServiceName(serverName);
-
             constructBasicAttributes(basicAttributes, serverUid, serverName, credentials, serverDescription,
                                      LDAPServerManagerConstants.SERVER_PRINCIPAL_ATTRIBUTE_VALUE);
 
-            dirContext.bind(LDAPServerManagerConstants.LDAP_UID + "=" + serverUid, null, basicAttributes);
+            searchBaseContext.bind(LDAPServerManagerConstants.LDAP_UID + "=" + serverUid, null, basicAttributes);
 
         } catch (NamingException e) {
+            this.connectionPool.invalidateContext(dirContext);
             String message = "Can not access the directory context or user " +
                              "already exists in the system";
             log.error(message, e);
             throw new DirectoryServerManagerException(message, e);
         } finally {
-            try {
-                JNDIUtil.closeContext(dirContext);
-            } catch (UserStoreException e) {
-                log.error("Unable to close directory context.", e);
-            }
+            closeContext(searchBaseContext);
+            this.connectionPool.returnContext(dirContext);
         }
     }
 
@@ -370,47 +360,19 @@ public class LDAPServerStoreManager {
         String[] returnedAtts = {LDAPServerManagerConstants.KRB5_PRINCIPAL_NAME_ATTRIBUTE,
                                  LDAPServerManagerConstants.LDAP_COMMON_NAME};
         searchCtls.setReturningAttributes(returnedAtts);
-        DirContext dirContext = null;
+        DirContext dirContext = connectionPool.getContext();
         try {
-            dirContext = connectionSource.getContext();
-            NamingEnumeration<SearchResult> answer = dirContext.search(searchBase, buff.toString(),
-                                                                       searchCtls);
             List<ServerPrinciple> list = new ArrayList<ServerPrinciple>();
-            int i = 0;
-            while (answer.hasMoreElements() && i < maxItemLimit) {
-                SearchResult sr = answer.next();
-                if (sr.getAttributes() != null) {
-                    Attribute serverNameAttribute = sr.getAttributes()
-                            .get(LDAPServerManagerConstants.KRB5_PRINCIPAL_NAME_ATTRIBUTE);
-                    Attribute serverDescription = sr.getAttributes().get(LDAPServerManagerConstants.LDAP_COMMON_NAME);
-                    if (serverNameAttribute != null) {
-
-                        ServerPrinciple principle;
-                        String serviceName;
-                        String serverPrincipleFullName = (String) serverNameAttribute.get();
-
-                        if (serverPrincipleFullName.toLowerCase(Locale.ENGLISH)
-                                .contains(LDAPServerManagerConstants.KERBEROS_TGT)) {
-                            continue;
-                        }
-
-                        if (serverPrincipleFullName.contains("@")) {
-                            serviceName = serverPrincipleFullName.split("@")[0];
-                        } else {
-                            serviceName = serverPrincipleFullName;
-                        }
-
-                        if (serverDescription != null) {
-                            principle = new ServerPrinciple(serviceName,
-                                                            (String) serverDescription.get());
-                        } else {
-
-                            principle = new ServerPrinciple(serviceName);
-                        }
-
-                        list.add(principle);
-                        i++;
-                    }
+            int pageSize = getSearchPageSize();
+            if (pageSize > 0 && dirContext instanceof LdapContext) {
+                searchServerPrinciplesInPages((LdapContext) dirContext, searchBase, buff.toString(), searchCtls,
+                        pageSize, maxItemLimit, list);
+            } else {
+                NamingEnumeration<SearchResult> answer = dirContext.search(searchBase, buff.toString(), searchCtls);
+                try {
+                    addServerPrinciples(answer, maxItemLimit, list);
+                } finally {
+                    closeNamingEnumeration(answer);
                 }
             }
 
@@ -418,20 +380,151 @@ public class LDAPServerStoreManager {
             Arrays.sort(serverNames);
 
         } catch (NamingException e) {
+            connectionPool.invalidateContext(dirContext);
             log.error(e.getMessage(), e);
             throw new DirectoryServerManagerException("Unable to list service principles.", e);
-        } catch (UserStoreException e) {
-            log.error("Unable to retrieve LDAP connection context.", e);
+        } catch (IOException e) {
+            connectionPool.invalidateContext(dirContext);
+            log.error("Unable to create the paged results control.", e);
             throw new DirectoryServerManagerException("Unable to list service principles.", e);
         } finally {
+            connectionPool.returnContext(dirContext);
+        }
+        return serverNames;
+
+    }
+
+    /**
+     * Search the service principles one page at a time using the paged results control, so that the directory
+     * server does not send all the matching entries at once. Stops requesting pages once the maximum number of
+     * principles is found, and then abandons the paged search so that the directory server releases its state.
+     */
+    private void searchServerPrinciplesInPages(LdapContext ldapContext, String searchBase, String searchFilter,
+                                               SearchControls searchControls, int pageSize, int maxItemLimit,
+                                               List<ServerPrinciple> list) throws NamingException, IOException {
+
+        byte[] cookie = null;
+        do {
+            ldapContext.setRequestControls(new Control[]{
+                    new PagedResultsControl(pageSize, cookie, Control.NONCRITICAL)});
+            NamingEnumeration<SearchResult> answer = ldapContext.search(searchBase, searchFilter, searchControls);
+            try {
+                addServerPrinciples(answer, maxItemLimit, list);
+            } finally {
+                closeNamingEnumeration(answer);
+            }
+            cookie = getPagedResultsCookie(ldapContext.getResponseControls());
+        } while (cookie != null && cookie.length > 0 && list.size() < maxItemLimit);
+
+        if (cookie != null && cookie.length > 0) {
+            abandonPagedSearch(ldapContext, searchBase, searchFilter, searchControls, cookie);
+        }
+    }
+
+    /**
+     * Abandon a paged search by requesting a page of size zero with the cookie of the last page.
+     */
+    private void abandonPagedSearch(LdapContext ldapContext, String searchBase, String searchFilter,
+                                    SearchControls searchControls, byte[] cookie) throws IOException {
+
+        try {
+            ldapContext.setRequestControls(new Control[]{new PagedResultsControl(0, cookie, Control.NONCRITICAL)});
+            closeNamingEnumeration(ldapContext.search(searchBase, searchFilter, searchControls));
+        } catch (NamingException e) {
+            // The principles are already found, hence failing to abandon the search does not fail the listing.
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to abandon the paged service principle search.", e);
+            }
+        }
+    }
+
+    private byte[] getPagedResultsCookie(Control[] responseControls) {
+
+        if (responseControls != null) {
+            for (Control control : responseControls) {
+                if (control instanceof PagedResultsResponseControl) {
+                    return ((PagedResultsResponseControl) control).getCookie();
+                }
+            }
+        }
+        return null;
+    }
+
+    private void addServerPrinciples(NamingEnumeration<SearchResult> answer, int maxItemLimit,
+                                     List<ServerPrinciple> list) throws NamingException {
+
+        while (answer.hasMoreElements() && list.size() < maxItemLimit) {
+            SearchResult sr = answer.next();
+            if (sr.getAttributes() != null) {
+                Attribute serverNameAttribute = sr.getAttributes()
+                        .get(LDAPServerManagerConstants.KRB5_PRINCIPAL_NAME_ATTRIBUTE);
+                Attribute serverDescription = sr.getAttributes().get(LDAPServerManagerConstants.LDAP_COMMON_NAME);
+                if (serverNameAttribute != null) {
+
+                    ServerPrinciple principle;
+                    String serviceName;
+                    String serverPrincipleFullName = (String) serverNameAttribute.get();
+
+                    if (serverPrincipleFullName.toLowerCase(Locale.ENGLISH)
+                            .contains(LDAPServerManagerConstants.KERBEROS_TGT)) {
+                        continue;
+                    }
+
+                    if (serverPrincipleFullName.contains("@")) {
+                        serviceName = serverPrincipleFullName.split("@")[0];
+                    } else {
+                        serviceName = serverPrincipleFullName;
+                    }
+
+                    if (serverDescription != null) {
+                        principle = new ServerPrinciple(serviceName,
+                                                        (String) serverDescription.get());
+                    } else {
+
+                        principle = new ServerPrinciple(serviceName);
+                    }
+
+                    list.add(principle);
+                }
+            }
+        }
+    }
+
+    private int getSearchPageSize() {
+
+        String pageSize = this.realmConfiguration.getUserStoreProperty(
+                LDAPServerManagerConstants.SEARCH_PAGE_SIZE_PROPERTY);
+        if (StringUtils.isNotBlank(pageSize)) {
+            try {
+                return Integer.parseInt(pageSize.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid service principle search page size: " + pageSize + ". Using the default value: "
+                        + LDAPServerManagerConstants.DEFAULT_SEARCH_PAGE_SIZE);
+            }
+        }
+        return LDAPServerManagerConstants.DEFAULT_SEARCH_PAGE_SIZE;
+    }
+
+    private void closeNamingEnumeration(NamingEnumeration<?> namingEnumeration) {
+
+        if (namingEnumeration != null) {
+            try {
+                namingEnumeration.close();
+            } catch (NamingException e) {
+                log.error("Unable to close naming enumeration.", e);
+            }
+        }
+    }
+
+    private void closeContext(DirContext dirContext) {
+
+        if (dirContext != null) {
             try {
                 JNDIUtil.closeContext(dirContext);
             } catch (UserStoreException e) {
                 log.error("Unable to close directory context.", e);
             }
         }
-        return serverNames;
-
     }
 
     private String getFullyQualifiedPrincipalName(String principleName) {
@@ -514,13 +607,8 @@ public class LDAPServerStoreManager {
     public void updateServicePrinciplePassword(String serverName, Object oldCredential, Object newCredentials)
             throws DirectoryServerManagerException {
 
-        DirContext dirContext;
-
-        try {
-            dirContext = this.connectionSource.getContext();
-        } catch (UserStoreException e) {
-            throw new DirectoryServerManagerException("Unable to retrieve directory connection.", e);
-        }
+        DirContext dirContext = this.connectionPool.getContext();
+        DirContext searchBaseContext = null;
 
         //first search the existing user entry.
         String searchBase = this.realmConfiguration.getUserStoreProperty(LDAPConstants.USER_SEARCH_BASE);
@@ -530,9 +618,9 @@ public class LDAPServerStoreManager {
         searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
         searchControls.setReturningAttributes(new String[]{LDAPServerManagerConstants.LDAP_PASSWORD});
 
+        NamingEnumeration<SearchResult> namingEnumeration = null;
         try {
-            NamingEnumeration<SearchResult> namingEnumeration = dirContext
-                    .search(searchBase, searchFilter, searchControls);
+            namingEnumeration = dirContext.search(searchBase, searchFilter, searchControls);
             // here we assume only one user
             while (namingEnumeration.hasMore()) {
 
@@ -547,32 +635,27 @@ public class LDAPServerStoreManager {
                 basicAttributes.put(newPasswordAttribute);
 
                 String dnName = searchResult.getName();
-                dirContext = (DirContext) dirContext.lookup(searchBase);
+                if (searchBaseContext == null) {
+                    searchBaseContext = (DirContext) dirContext.lookup(searchBase);
+                }
 
-                dirContext.modifyAttributes(dnName, DirContext.REPLACE_ATTRIBUTE, basicAttributes);
+                searchBaseContext.modifyAttributes(dnName, DirContext.REPLACE_ATTRIBUTE, basicAttributes);
             }
 
         } catch (NamingException e) {
+            this.connectionPool.invalidateContext(dirContext);
             log.error("Unable to update server principle password details. Server name - " + serverName);
             throw new DirectoryServerManagerException("Can not access the directory service", e);
         } finally {
-            try {
-                JNDIUtil.closeContext(dirContext);
-            } catch (UserStoreException e) {
-                log.error("Unable to close directory context.", e);
-            }
+            closeNamingEnumeration(namingEnumeration);
+            closeContext(searchBaseContext);
+            this.connectionPool.returnContext(dirContext);
         }
     }
 
     public ServerPrinciple getServicePrinciple(String serverName) throws DirectoryServerManagerException {
 
-        DirContext dirContext;
-
-        try {
-            dirContext = this.connectionSource.getContext();
-        } catch (UserStoreException e) {
-            throw new DirectoryServerManagerException("Unable to retrieve directory connection.", e);
-        }
+        DirContext dirContext = this.connectionPool.getContext();
 
         //first search the existing user entry.
         String searchBase = this.realmConfiguration.getUserStoreProperty(LDAPConstants.USER_SEARCH_BASE);
@@ -583,9 +666,9 @@ public class LDAPServerStoreManager {
         searchControls.setReturningAttributes(new String[]{LDAPServerManagerConstants.LDAP_PASSWORD,
                 LDAPServerManagerConstants.LDAP_COMMON_NAME});
 
+        NamingEnumeration<SearchResult> namingEnumeration = null;
         try {
-            NamingEnumeration<SearchResult> namingEnumeration = dirContext.search(searchBase, searchFilter,
-                    searchControls);
+            namingEnumeration = dirContext.search(searchBase, searchFilter, searchControls);
             // here we assume only
             while (namingEnumeration.hasMore()) {
 
@@ -601,25 +684,18 @@ public class LDAPServerStoreManager {
             }
             return null;
         } catch (NamingException e) {
+            this.connectionPool.invalidateContext(dirContext);
             throw new DirectoryServerManagerException("Can not access the directory service", e);
         } finally {
-            try {
-                JNDIUtil.closeContext(dirContext);
-            } catch (UserStoreException e) {
-                log.error("Unable to close directory context.", e);
-            }
+            closeNamingEnumeration(namingEnumeration);
+            this.connectionPool.returnContext(dirContext);
         }
     }
 
     public boolean isValidPassword(String serverName, Object existingCredentials)
             throws DirectoryServerManagerException {
 
-        DirContext dirContext;
-        try {
-            dirContext = this.connectionSource.getContext();
-        } catch (UserStoreException e) {
-            throw new DirectoryServerManagerException("Unable to retrieve directory connection.", e);
-        }
+        DirContext dirContext = this.connectionPool.getContext();
 
         //first search the existing user entry.
         String searchBase = this.realmConfiguration.getUserStoreProperty(LDAPConstants.USER_SEARCH_BASE);
@@ -629,9 +705,9 @@ public class LDAPServerStoreManager {
         searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
         searchControls.setReturningAttributes(new String[]{LDAPServerManagerConstants.LDAP_PASSWORD});
 
+        NamingEnumeration<SearchResult> namingEnumeration = null;
         try {
-            NamingEnumeration<SearchResult> namingEnumeration = dirContext
-                    .search(searchBase, searchFilter, searchControls);
+            namingEnumeration = dirContext.search(searchBase, searchFilter, searchControls);
             // here we assume only one user
             while (namingEnumeration.hasMore()) {
 
@@ -656,15 +732,13 @@ public class LDAPServerStoreManager {
             }
 
         } catch (NamingException e) {
+            this.connectionPool.invalidateContext(dirContext);
             log.error("Failed, validating password. Can not access the directory service", e);
             throw new DirectoryServerManagerException("Failed, validating password. " +
                                                       "Can not access the directory service", e);
         } finally {
-            try {
-                JNDIUtil.closeContext(dirContext);
-            } catch (UserStoreException e) {
-                log.error("Unable to close directory context.", e);
-            }
+            closeNamingEnumeration(namingEnumeration);
+            this.connectionPool.returnContext(dirContext);
         }
 
         return false;
@@ -672,12 +746,7 @@ public class LDAPServerStoreManager {
 
     private String lookupUserId(String serverName) throws DirectoryServerManagerException {
 
-        DirContext dirContext;
-        try {
-            dirContext = this.connectionSource.getContext();
-        } catch (UserStoreException e) {
-            throw new DirectoryServerManagerException("Unable to retrieve directory connection.", e);
-        }
+        DirContext dirContext = this.connectionPool.getContext();
 
         String searchBase = this.realmConfiguration.getUserStoreProperty(LDAPConstants.USER_SEARCH_BASE);
 
@@ -687,9 +756,9 @@ public class LDAPServerStoreManager {
         SearchControls searchControls = new SearchControls();
         searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
         searchControls.setReturningAttributes(new String[]{"uid"});
+        NamingEnumeration<SearchResult> namingEnumeration = null;
         try {
-            NamingEnumeration<SearchResult> namingEnumeration = dirContext.
-                    search(searchBase, searchFilter, searchControls);
+            namingEnumeration = dirContext.search(searchBase, searchFilter, searchControls);
 
             // here we assume only one user
             if (namingEnumeration.hasMore()) {
@@ -707,14 +776,12 @@ public class LDAPServerStoreManager {
             }
 
         } catch (NamingException e) {
+            this.connectionPool.invalidateContext(dirContext);
             log.error("Could not find user id for given server " + serverName, e);
             throw new DirectoryServerManagerException("Could not find user id for given server " + serverName, e);
         } finally {
-            try {
-                JNDIUtil.closeContext(dirContext);
-            } catch (UserStoreException e) {
-                log.error("Unable to close directory context.", e);
-            }
+            closeNamingEnumeration(namingEnumeration);
+            this.connectionPool.returnContext(dirContext);
         }
 
     }
@@ -722,13 +789,6 @@ public class LDAPServerStoreManager {
     public void deleteServicePrinciple(String serverName)
             throws DirectoryServerManagerException {
 
-        DirContext dirContext;
-        try {
-            dirContext = this.connectionSource.getContext();
-        } catch (UserStoreException e) {
-            throw new DirectoryServerManagerException("Unable to retrieve directory connection.", e);
-        }
-
         String searchBase = this.realmConfiguration.getUserStoreProperty(LDAPConstants.USER_SEARCH_BASE);
 
         String userId = lookupUserId(serverName);
@@ -738,19 +798,19 @@ public class LDAPServerStoreManager {
                                                       serverName);
         }
 
+        DirContext dirContext = this.connectionPool.getContext();
+        DirContext searchBaseContext = null;
         try {
-            dirContext = (DirContext) dirContext.lookup(searchBase);
-            dirContext.unbind("uid=" + userId);
+            searchBaseContext = (DirContext) dirContext.lookup(searchBase);
+            searchBaseContext.unbind("uid=" + userId);
 
         } catch (NamingException e) {
+            this.connectionPool.invalidateContext(dirContext);
             log.error("Could not remove service principle " + serverName, e);
             throw new DirectoryServerManagerException("Could not remove service principle " + serverName, e);
         } finally {
-            try {
-                JNDIUtil.closeContext(dirContext);
-            } catch (UserStoreException e) {
-                log.error("Unable to close directory context.", e);
-            }
+            closeContext(searchBaseContext);
+            this.connectionPool.returnContext(dirContext);
         }
 
     }
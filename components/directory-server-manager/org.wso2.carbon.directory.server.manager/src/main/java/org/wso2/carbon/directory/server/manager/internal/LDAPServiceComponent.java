@@ -61,6 +61,7 @@ public class LDAPServiceComponent {
     protected void deactivate(ComponentContext ctxt) {
 
         ctxt.getBundleContext().ungetService(serviceRegistration.getReference());
+        LDAPConnectionPool.closeAll();
         if (log.isDebugEnabled()) {
             log.info("Identity  LDAP directory mgt bundle is deactivated");
         }
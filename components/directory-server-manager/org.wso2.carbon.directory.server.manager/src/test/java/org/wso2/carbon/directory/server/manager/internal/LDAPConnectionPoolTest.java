@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.directory.server.manager.internal;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.directory.server.manager.DirectoryServerManagerException;
+import org.wso2.carbon.user.core.config.RealmConfiguration;
+import org.wso2.carbon.user.core.ldap.LDAPConnectionContext;
+import org.wso2.carbon.user.core.ldap.LDAPConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.naming.directory.DirContext;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link LDAPConnectionPool}.
+ */
+public class LDAPConnectionPoolTest {
+
+    private static final String CONNECTION_URL = "ldap://localhost:10389";
+    private static final String CONNECTION_NAME = "uid=admin,ou=system";
+    private static final String CONNECTION_PASSWORD = "secret";
+
+    private LDAPConnectionContext connectionSource;
+    private DirContext firstContext;
+    private DirContext secondContext;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        connectionSource = mock(LDAPConnectionContext.class);
+        firstContext = mock(DirContext.class);
+        secondContext = mock(DirContext.class);
+        when(connectionSource.getContext()).thenReturn(firstContext, secondContext);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        LDAPConnectionPool.closeAll();
+    }
+
+    @Test
+    public void testReturnedContextIsLeasedAgain() throws Exception {
+
+        LDAPConnectionPool pool = new LDAPConnectionPool(connectionSource, createRealmConfiguration(
+                CONNECTION_PASSWORD, null));
+
+        DirContext dirContext = pool.getContext();
+        pool.returnContext(dirContext);
+
+        assertSame(pool.getContext(), firstContext);
+        verify(connectionSource, times(1)).getContext();
+        verify(firstContext, never()).close();
+    }
+
+    @Test
+    public void testInvalidatedContextIsClosed() throws Exception {
+
+        LDAPConnectionPool pool = new LDAPConnectionPool(connectionSource, createRealmConfiguration(
+                CONNECTION_PASSWORD, null));
+
+        DirContext dirContext = pool.getContext();
+        pool.invalidateContext(dirContext);
+        // Returning an invalidated context has no effect.
+        pool.returnContext(dirContext);
+
+        verify(firstContext).close();
+        assertSame(pool.getContext(), secondContext);
+    }
+
+    @Test(expectedExceptions = DirectoryServerManagerException.class)
+    public void testLeaseTimesOutWhenPoolIsExhausted() throws Exception {
+
+        Map<String, String> poolProperties = new HashMap<>();
+        poolProperties.put(LDAPServerManagerConstants.CONNECTION_POOL_MAX_SIZE_PROPERTY, "1");
+        poolProperties.put(LDAPServerManagerConstants.CONNECTION_POOL_MAX_WAIT_PROPERTY, "10");
+        LDAPConnectionPool pool = new LDAPConnectionPool(connectionSource, createRealmConfiguration(
+                CONNECTION_PASSWORD, poolProperties));
+
+        pool.getContext();
+        pool.getContext();
+    }
+
+    @Test
+    public void testReturnedContextReleasesPermit() throws Exception {
+
+        Map<String, String> poolProperties = new HashMap<>();
+        poolProperties.put(LDAPServerManagerConstants.CONNECTION_POOL_MAX_SIZE_PROPERTY, "1");
+        poolProperties.put(LDAPServerManagerConstants.CONNECTION_POOL_MAX_WAIT_PROPERTY, "10");
+        LDAPConnectionPool pool = new LDAPConnectionPool(connectionSource, createRealmConfiguration(
+                CONNECTION_PASSWORD, poolProperties));
+
+        pool.invalidateContext(pool.getContext());
+        pool.returnContext(pool.getContext());
+        assertSame(pool.getContext(), secondContext);
+    }
+
+    @Test
+    public void testIdleContextsAreEvicted() throws Exception {
+
+        Map<String, String> poolProperties = new HashMap<>();
+        poolProperties.put(LDAPServerManagerConstants.CONNECTION_POOL_MAX_IDLE_TIME_PROPERTY, "1");
+        LDAPConnectionPool pool = new LDAPConnectionPool(connectionSource, createRealmConfiguration(
+                CONNECTION_PASSWORD, poolProperties));
+
+        pool.returnContext(pool.getContext());
+        Thread.sleep(10);
+        pool.evictIdleContexts();
+
+        verify(firstContext).close();
+        assertSame(pool.getContext(), secondContext);
+    }
+
+    @Test
+    public void testReturnedContextIsClosedAfterPoolIsClosed() throws Exception {
+
+        LDAPConnectionPool pool = new LDAPConnectionPool(connectionSource, createRealmConfiguration(
+                CONNECTION_PASSWORD, null));
+
+        DirContext dirContext = pool.getContext();
+        pool.close();
+        pool.returnContext(dirContext);
+
+        verify(firstContext).close();
+    }
+
+    @Test
+    public void testPoolKeyDoesNotContainPassword() throws Exception {
+
+        String poolKey = LDAPConnectionPool.getPoolKey(createRealmConfiguration(CONNECTION_PASSWORD, null));
+
+        assertFalse(poolKey.contains(CONNECTION_PASSWORD));
+        assertFalse(poolKey.contains(CONNECTION_NAME));
+        assertNotEquals(poolKey, LDAPConnectionPool.getPoolKey(createRealmConfiguration("changed", null)));
+    }
+
+    @Test
+    public void testPoolKeyContainsValidationSearchBase() throws Exception {
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put(LDAPConstants.USER_SEARCH_BASE, "ou=Services,dc=example,dc=com");
+
+        assertNotEquals(LDAPConnectionPool.getPoolKey(createRealmConfiguration(CONNECTION_PASSWORD, properties)),
+                LDAPConnectionPool.getPoolKey(createRealmConfiguration(CONNECTION_PASSWORD, null)));
+    }
+
+    @Test
+    public void testPoolIsReplacedWhenRealmConfigurationChanges() throws Exception {
+
+        LDAPConnectionPool pool = LDAPConnectionPool.getInstance(createRealmConfiguration(CONNECTION_PASSWORD,
+                null));
+        assertSame(LDAPConnectionPool.getInstance(createRealmConfiguration(CONNECTION_PASSWORD, null)), pool);
+
+        LDAPConnectionPool newPool = LDAPConnectionPool.getInstance(createRealmConfiguration("changed", null));
+        assertNotSame(newPool, pool);
+        assertTrue(pool.isClosed());
+        assertFalse(newPool.isClosed());
+        assertSame(LDAPConnectionPool.getInstance(createRealmConfiguration("changed", null)), newPool);
+    }
+
+    private RealmConfiguration createRealmConfiguration(String password, Map<String, String> poolProperties) {
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put(LDAPConstants.CONNECTION_URL, CONNECTION_URL);
+        properties.put(LDAPConstants.CONNECTION_NAME, CONNECTION_NAME);
+        properties.put(LDAPConstants.CONNECTION_PASSWORD, password);
+        properties.put(LDAPConstants.USER_SEARCH_BASE, "ou=Users,dc=example,dc=com");
+        if (poolProperties != null) {
+            properties.putAll(poolProperties);
+        }
+        RealmConfiguration realmConfiguration = new RealmConfiguration();
+        realmConfiguration.setUserStoreProperties(properties);
+        return realmConfiguration;
+    }
+}
@@ -18,103 +18,233 @@
 
 package org.wso2.carbon.directory.server.manager.internal;
 
-import junit.framework.TestCase;
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSearchRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+import com.unboundid.ldap.sdk.Control;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.controls.SimplePagedResultsControl;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
 import org.wso2.carbon.directory.server.manager.DirectoryServerManagerException;
 import org.wso2.carbon.directory.server.manager.common.ServerPrinciple;
 import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.core.config.RealmConfiguration;
+import org.wso2.carbon.user.core.ldap.LDAPConnectionContext;
 import org.wso2.carbon.user.core.ldap.LDAPConstants;
 
+import java.io.File;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-public class LDAPServerStoreManagerTest extends TestCase {
+import javax.naming.Context;
+import javax.naming.ldap.InitialLdapContext;
 
-    private RealmConfiguration realmConfiguration;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
-    public void setUp() {
+/**
+ * Tests for {@link LDAPServerStoreManager} against an embedded directory server loaded with
+ * example_partition_test_data.ldif.
+ */
+public class LDAPServerStoreManagerTest {
+
+    private static final String CONNECTION_NAME = "uid=admin,ou=system";
+    private static final String CONNECTION_PASSWORD = "secret";
+
+    private final List<SimplePagedResultsControl> pagedResultsControls = new CopyOnWriteArrayList<>();
+    private InMemoryDirectoryServer directoryServer;
+    private LDAPConnectionPool connectionPool;
+
+    @BeforeClass
+    public void startDirectoryServer() throws Exception {
+
+        InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig("dc=example,dc=com");
+        config.addAdditionalBindCredentials(CONNECTION_NAME, CONNECTION_PASSWORD);
+        // The Kerberos object classes of the test data are not part of the default schema.
+        config.setSchema(null);
+        config.addInMemoryOperationInterceptor(new InMemoryOperationInterceptor() {
+
+            @Override
+            public void processSearchRequest(InMemoryInterceptedSearchRequest request) throws LDAPException {
+
+                Control control = request.getRequest().getControl(SimplePagedResultsControl.PAGED_RESULTS_OID);
+                if (control != null) {
+                    pagedResultsControls.add(new SimplePagedResultsControl(control.getOID(), control.isCritical(),
+                            control.getValue()));
+                }
+            }
+        });
+        directoryServer = new InMemoryDirectoryServer(config);
+        directoryServer.importFromLDIF(true, new File(getClass().getResource(
+                "/example_partition_test_data.ldif").toURI()));
+        directoryServer.startListening();
+    }
+
+    @AfterClass
+    public void stopDirectoryServer() {
 
-        this.realmConfiguration = new RealmConfiguration();
+        directoryServer.shutDown(true);
+    }
+
+    @BeforeMethod
+    public void setUp() {
 
-        Map<String,String> map = new HashMap<String, String>();
-        map.put(UserCoreConstants.RealmConfig.PROPERTY_JAVA_REG_EX, "[\\S]{5,30}");
-        map.put(LDAPConstants.USER_SEARCH_BASE, "ou=Users,dc=example,dc=com");
-        map.put("PASSWORD_HASH_METHOD", "PlainText");
-        map.put("DEFAULT_REALM_NAME", "EXAMPLE..COM");
-        map.put(LDAPConstants.CONNECTION_URL, "ldap://localhost:10389");
-        map.put(LDAPConstants.CONNECTION_NAME, "uid=admin,ou=system");
-        map.put(LDAPConstants.CONNECTION_PASSWORD, "secret");
-        map.put(UserCoreConstants.RealmConfig.PROPERTY_MAX_USER_LIST, "50");
-        map.put(LDAPConstants.USER_NAME_LIST_FILTER, "(objectClass=person)");
+        pagedResultsControls.clear();
+    }
 
+    @AfterMethod
+    public void tearDown() {
 
-        this.realmConfiguration.setUserStoreProperties(map);
-        
+        if (connectionPool != null) {
+            connectionPool.close();
+            connectionPool = null;
+        }
     }
 
-    public void testAddServicePrinciple() throws DirectoryServerManagerException {
+    @Test
+    public void testAddServicePrinciple() throws Exception {
 
-        LDAPServerStoreManager manager = new LDAPServerStoreManager(this.realmConfiguration);
+        LDAPServerStoreManager manager = createManager(null);
         manager.addServicePrinciple("ftpdd/localhost", "Test FTP Server", "qawsedrf");
+        assertTrue(manager.isExistingServicePrinciple("ftpdd/localhost"));
+
         manager.deleteServicePrinciple("ftpdd/localhost");
+        assertFalse(manager.isExistingServicePrinciple("ftpdd/localhost"));
     }
 
-    public void testGetServiceUid() throws DirectoryServerManagerException {
-        LDAPServerStoreManager manager = new LDAPServerStoreManager(this.realmConfiguration);
-        String serviceUid = manager.getServiceName("ssh/localhost");
-        assertEquals(serviceUid, "ssh");        
+    @Test
+    public void testGetServiceUid() throws Exception {
+
+        LDAPServerStoreManager manager = createManager(null);
+        assertEquals(manager.getServiceName("ssh/localhost"), "ssh");
+        // A service with the uid ldap already exists.
+        assertEquals(manager.getServiceName("ldap/localhost"), "ldap-localhost");
     }
 
-    public void testExistingServiceUid() throws DirectoryServerManagerException {
-        LDAPServerStoreManager manager = new LDAPServerStoreManager(this.realmConfiguration);
+    @Test
+    public void testExistingServiceUid() throws Exception {
+
+        LDAPServerStoreManager manager = createManager(null);
         manager.addServicePrinciple("ppp/localhost", "Test FTP Server", "qawsedrf");
-        assertTrue(manager.isExistingServiceUid("ppp"));
-        manager.deleteServicePrinciple("ppp/localhost");
+        try {
+            assertTrue(manager.isExistingServiceUid("ppp"));
+            assertFalse(manager.isExistingServiceUid("qqq"));
+        } finally {
+            manager.deleteServicePrinciple("ppp/localhost");
+        }
     }
 
-    public void testExistingService() throws DirectoryServerManagerException {
-        LDAPServerStoreManager manager = new LDAPServerStoreManager(this.realmConfiguration);
+    @Test
+    public void testUpdatePassword() throws Exception {
 
-        manager.addServicePrinciple("mms/localhost", "Test FTP Server", "qawsedrf");
-        assertTrue(manager.isExistingServicePrinciple("mms/localhost"));
-        manager.deleteServicePrinciple("mms/localhost");
+        LDAPServerStoreManager manager = createManager(null);
+        manager.addServicePrinciple("lgp/localhost", "Test FTP Server", "qawsedrf");
+        try {
+            manager.updateServicePrinciplePassword("lgp/localhost", "qawsedrf", "a1b2c3d4e5");
+            assertTrue(manager.isValidPassword("lgp/localhost", "a1b2c3d4e5"));
+            assertFalse(manager.isValidPassword("lgp/localhost", "qawsedrf"));
+        } finally {
+            manager.deleteServicePrinciple("lgp/localhost");
+        }
     }
 
-    public void testUpdatePassword() throws DirectoryServerManagerException {
-        LDAPServerStoreManager manager = new LDAPServerStoreManager(this.realmConfiguration);
-        manager.addServicePrinciple("lgp/localhost", "Test FTP Server", "qawsedrf");
-        manager.updateServicePrinciplePassword("lgp/localhost", "qawsedrf", "a1b2c3d4e5");
-        manager.deleteServicePrinciple("lgp/localhost");
+    @Test
+    public void testPasswordValidity() throws Exception {
 
+        LDAPServerStoreManager manager = createManager(null);
+        manager.addServicePrinciple("tts/localhost", "Test FTP Server", "qawsedrf");
+        try {
+            assertTrue(manager.isValidPassword("tts/localhost", "qawsedrf"));
+            assertFalse(manager.isValidPassword("tts/localhost", "qawsedrf1"));
+        } finally {
+            manager.deleteServicePrinciple("tts/localhost");
+        }
     }
 
-    public void testPasswordValidity() throws DirectoryServerManagerException {
+    @Test(expectedExceptions = DirectoryServerManagerException.class)
+    public void testDeleteMissingServicePrinciple() throws Exception {
 
-        LDAPServerStoreManager manager = new LDAPServerStoreManager(this.realmConfiguration);
+        createManager(null).deleteServicePrinciple("missing/localhost");
+    }
 
-        manager.addServicePrinciple("tts/localhost", "Test FTP Server", "qawsedrf");
-        assertTrue(manager.isValidPassword("tts/localhost", "qawsedrf"));
-        //assertTrue(manager.isValidPassword("tts/localhost", "qawsedrf1"));
+    @Test
+    public void testListServicePrinciples() throws Exception {
+
+        ServerPrinciple[] principles = createManager(null).listServicePrinciples("*");
 
+        Set<String> serverNames = new HashSet<>();
+        for (ServerPrinciple principle : principles) {
+            serverNames.add(principle.getServerName());
+        }
+        Set<String> expectedServerNames = new HashSet<>();
+        expectedServerNames.add("ldap/localhost");
+        expectedServerNames.add("myserver/localhost");
+        expectedServerNames.add("kadmin/admin");
+        expectedServerNames.add("ftp/localhost");
+        expectedServerNames.add("mms/localhost");
+        assertEquals(serverNames, expectedServerNames);
+        // All the principles are in the first page, hence the search is not abandoned.
+        assertEquals(pagedResultsControls.size(), 1);
     }
 
-    public void testDeleteServicePrinciple() throws DirectoryServerManagerException {
+    @Test
+    public void testListServicePrinciplesAbandonsPagedSearch() throws Exception {
 
-        LDAPServerStoreManager manager = new LDAPServerStoreManager(this.realmConfiguration);
-        manager.deleteServicePrinciple("tts/localhost");
-    }
+        Map<String, String> properties = new HashMap<>();
+        properties.put(LDAPServerManagerConstants.SEARCH_PAGE_SIZE_PROPERTY, "1");
+        properties.put(UserCoreConstants.RealmConfig.PROPERTY_MAX_USER_LIST, "2");
 
-    public void testListLDAPPrinciples() throws DirectoryServerManagerException {
-        LDAPServerStoreManager manager = new LDAPServerStoreManager(this.realmConfiguration);
-        ServerPrinciple[] principles = manager.listServicePrinciples("*");
-        for (ServerPrinciple principle : principles) {
-            System.out.println(principle.getServerName() + ", " + principle.getServerDescription());
+        ServerPrinciple[] principles = createManager(properties).listServicePrinciples("*");
+
+        assertEquals(principles.length, 2);
+        SimplePagedResultsControl lastControl = pagedResultsControls.get(pagedResultsControls.size() - 1);
+        assertEquals(lastControl.getSize(), 0);
+        assertTrue(lastControl.getCookie().getValueLength() > 0);
+        for (SimplePagedResultsControl control : pagedResultsControls.subList(0, pagedResultsControls.size() - 1)) {
+            assertEquals(control.getSize(), 1);
         }
     }
 
-   /* public void testRealmName () {
-       LDAPServerStoreManager manager = new LDAPServerStoreManager(this.realmConfiguration);
-       String realmName = manager.getRealmName();
-        System.out.println(realmName);
-    }*/
+    private LDAPServerStoreManager createManager(Map<String, String> additionalProperties) throws Exception {
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put(UserCoreConstants.RealmConfig.PROPERTY_JAVA_REG_EX, "[\\S]{5,30}");
+        properties.put(UserCoreConstants.RealmConfig.DEFAULT_REALM_NAME, "EXAMPLE..COM");
+        properties.put(LDAPConstants.USER_SEARCH_BASE, "ou=Users,dc=example,dc=com");
+        properties.put(LDAPConstants.CONNECTION_URL, "ldap://localhost:" + directoryServer.getListenPort());
+        properties.put(LDAPConstants.CONNECTION_NAME, CONNECTION_NAME);
+        properties.put(LDAPConstants.CONNECTION_PASSWORD, CONNECTION_PASSWORD);
+        properties.put(UserCoreConstants.RealmConfig.PROPERTY_MAX_USER_LIST, "50");
+        properties.put(LDAPConstants.USER_NAME_LIST_FILTER, "(objectClass=person)");
+        if (additionalProperties != null) {
+            properties.putAll(additionalProperties);
+        }
+        RealmConfiguration realmConfiguration = new RealmConfiguration();
+        realmConfiguration.setUserStoreProperties(properties);
+
+        LDAPConnectionContext connectionSource = mock(LDAPConnectionContext.class);
+        when(connectionSource.getContext()).thenAnswer(invocation -> {
+            Hashtable<String, String> environment = new Hashtable<>();
+            environment.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.ldap.LdapCtxFactory");
+            environment.put(Context.PROVIDER_URL, properties.get(LDAPConstants.CONNECTION_URL));
+            environment.put(Context.SECURITY_PRINCIPAL, CONNECTION_NAME);
+            environment.put(Context.SECURITY_CREDENTIALS, CONNECTION_PASSWORD);
+            return new InitialLdapContext(environment, null);
+        });
+        connectionPool = new LDAPConnectionPool(connectionSource, realmConfiguration);
+        return new LDAPServerStoreManager(realmConfiguration, connectionPool);
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.functions.library.mgt.cache;
+
+import org.wso2.carbon.identity.functions.library.mgt.model.FunctionLibrary;
+
+import java.io.Serializable;
+
+/**
+ * Cache entry for {@link FunctionLibraryCache}.
+ */
+public class FunctionLibraryCacheEntry implements Serializable {
+
+    private static final long serialVersionUID = -6914254468392186627L;
+
+    private final String functionLibraryName;
+    private final String description;
+    private final String functionLibraryScript;
+
+    public FunctionLibraryCacheEntry(FunctionLibrary functionLibrary) {
+
+        this.functionLibraryName = functionLibrary.getFunctionLibraryName();
+        this.description = functionLibrary.getDescription();
+        this.functionLibraryScript = functionLibrary.getFunctionLibraryScript();
+    }
+
+    /**
+     * Get a copy of the cached function library. A new instance is returned on each invocation, so that changes
+     * done by the caller are not reflected in the cache.
+     *
+     * @return Function library.
+     */
+    public FunctionLibrary getFunctionLibrary() {
+
+        FunctionLibrary functionLibrary = new FunctionLibrary();
+        functionLibrary.setFunctionLibraryName(functionLibraryName);
+        functionLibrary.setDescription(description);
+        functionLibrary.setFunctionLibraryScript(functionLibraryScript);
+        return functionLibrary;
+    }
+}
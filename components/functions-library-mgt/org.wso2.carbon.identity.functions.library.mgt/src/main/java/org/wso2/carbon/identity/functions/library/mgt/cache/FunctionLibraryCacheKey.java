@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.functions.library.mgt.cache;
+
+import java.io.Serializable;
+
+/**
+ * Cache key for {@link FunctionLibraryCache}.
+ */
+public class FunctionLibraryCacheKey implements Serializable {
+
+    private static final long serialVersionUID = 3188740183593436817L;
+
+    private final String functionLibraryName;
+
+    public FunctionLibraryCacheKey(String functionLibraryName) {
+
+        this.functionLibraryName = functionLibraryName;
+    }
+
+    public String getFunctionLibraryName() {
+
+        return functionLibraryName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FunctionLibraryCacheKey that = (FunctionLibraryCacheKey) o;
+        return functionLibraryName.equals(that.functionLibraryName);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return functionLibraryName.hashCode();
+    }
+}
@@ -20,17 +20,24 @@ package org.wso2.carbon.identity.functions.library.mgt;
 
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.functions.library.mgt.dao.impl.FunctionLibraryDAOImpl;
 import org.wso2.carbon.identity.functions.library.mgt.exception.FunctionLibraryManagementException;
 import org.wso2.carbon.identity.functions.library.mgt.model.FunctionLibrary;
 import org.wso2.carbon.identity.testutil.powermock.PowerMockIdentityBaseTest;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
 import static org.powermock.api.mockito.PowerMockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
@@ -38,12 +45,26 @@ import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 import static org.wso2.carbon.identity.functions.library.mgt.FunctionLibraryMgtUtil.isRegexValidated;
 
-@PrepareForTest({FunctionLibraryManagementServiceImpl.class})
+@PrepareForTest({FunctionLibraryManagementServiceImpl.class, IdentityTenantUtil.class})
 public class FunctionLibraryManagementServiceTest extends PowerMockIdentityBaseTest {
 
     private static final String SAMPLE_TENANT_DOMAIN = "carbon.super";
     private static final String SAMPLE_TENANT_DOMAIN2 = "abc.com";
 
+    @BeforeMethod
+    public void setUpTenant() {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome, "conf").toString());
+
+        mockStatic(IdentityTenantUtil.class);
+        when(IdentityTenantUtil.getTenantId(SAMPLE_TENANT_DOMAIN)).thenReturn(-1234);
+        when(IdentityTenantUtil.getTenantDomain(-1234)).thenReturn(SAMPLE_TENANT_DOMAIN);
+        when(IdentityTenantUtil.getTenantId(SAMPLE_TENANT_DOMAIN2)).thenReturn(1);
+        when(IdentityTenantUtil.getTenantDomain(1)).thenReturn(SAMPLE_TENANT_DOMAIN2);
+    }
+
     @DataProvider(name = "createFunctionLibraryDataProvider")
     public Object[][] createFunctionLibraryData() {
 
@@ -488,4 +509,40 @@ public class FunctionLibraryManagementServiceTest extends PowerMockIdentityBaseT
         }
     }
 
+    @Test
+    public void testGetFunctionLibraryFromCache() throws Exception {
+
+        FunctionLibrary functionLibrary = new FunctionLibrary();
+        functionLibrary.setFunctionLibraryName("cachedLibrary");
+        functionLibrary.setDescription("cachedLibrary");
+        functionLibrary.setFunctionLibraryScript("function cachedFunction(){}");
+
+        FunctionLibraryDAOImpl functionLibraryDAO = PowerMockito.mock(FunctionLibraryDAOImpl.class);
+        PowerMockito.whenNew(FunctionLibraryDAOImpl.class).withNoArguments().thenReturn(functionLibraryDAO);
+        when(functionLibraryDAO.getFunctionLibrary("cachedLibrary", SAMPLE_TENANT_DOMAIN))
+                .thenReturn(functionLibrary);
+
+        FunctionLibraryManagementService functionLibraryManagementService =
+                FunctionLibraryManagementServiceImpl.getInstance();
+        assertEquals(functionLibraryManagementService.getFunctionLibrary("cachedLibrary", SAMPLE_TENANT_DOMAIN)
+                .getFunctionLibraryScript(), "function cachedFunction(){}");
+        assertEquals(functionLibraryManagementService.getFunctionLibrary("cachedLibrary", SAMPLE_TENANT_DOMAIN)
+                .getFunctionLibraryScript(), "function cachedFunction(){}");
+        verify(functionLibraryDAO, times(1)).getFunctionLibrary("cachedLibrary", SAMPLE_TENANT_DOMAIN);
+
+        // Updating the library should evict the cached script.
+        FunctionLibrary updatedFunctionLibrary = new FunctionLibrary();
+        updatedFunctionLibrary.setFunctionLibraryName("cachedLibrary");
+        updatedFunctionLibrary.setDescription("cachedLibrary");
+        updatedFunctionLibrary.setFunctionLibraryScript("function updatedFunction(){}");
+        when(functionLibraryDAO.getFunctionLibrary("cachedLibrary", SAMPLE_TENANT_DOMAIN))
+                .thenReturn(updatedFunctionLibrary);
+        functionLibraryManagementService.updateFunctionLibrary("cachedLibrary", updatedFunctionLibrary,
+                SAMPLE_TENANT_DOMAIN);
+        assertEquals(functionLibraryManagementService.getFunctionLibrary("cachedLibrary", SAMPLE_TENANT_DOMAIN)
+                .getFunctionLibraryScript(), "function updatedFunction(){}");
+
+        // Clean after test
+        functionLibraryManagementService.deleteFunctionLibrary("cachedLibrary", SAMPLE_TENANT_DOMAIN);
+    }
 }
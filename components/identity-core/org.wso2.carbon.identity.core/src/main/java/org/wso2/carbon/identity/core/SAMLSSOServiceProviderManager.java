@@ -18,23 +18,44 @@
 
 package org.wso2.carbon.identity.core;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.dao.JDBCSAMLSSOServiceProviderDAO;
 import org.wso2.carbon.identity.core.dao.SAMLSSOServiceProviderDAO;
 import org.wso2.carbon.identity.core.model.SAMLSSOServiceProviderDO;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.registry.api.RegistryException;
 import org.wso2.carbon.registry.core.Registry;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * This class is used for managing SAML SSO providers. Adding, retrieving and removing service
  * providers are supported here.
+ * <p>
+ * The service providers are stored according to the DataStorageType.SAML configuration.
+ * <ul>
+ * <li>registry - The service providers are stored in the registry. This is the default.</li>
+ * <li>database - The service providers are stored in the identity database.</li>
+ * <li>hybrid - The service providers are stored in the identity database. A service provider which is not found in
+ * the database is read from the registry. It is moved to the database when it is updated, or when
+ * {@link #migrateServiceProvidersToDatabase(int)} is run for the tenant.</li>
+ * </ul>
  */
 public class SAMLSSOServiceProviderManager {
 
     private static final Log LOG = LogFactory.getLog(SAMLSSOServiceProviderManager.class);
 
+    private final JDBCSAMLSSOServiceProviderDAO jdbcServiceProviderDAO = new JDBCSAMLSSOServiceProviderDAO();
+
     /**
      * Build the SAML service provider.
      *
@@ -60,8 +81,14 @@ public class SAMLSSOServiceProviderManager {
             throws IdentityException {
 
         try {
-            SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
-            return serviceProviderDAO.addServiceProvider(serviceProviderDO);
+            if (isRegistryStorage()) {
+                SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
+                return serviceProviderDAO.addServiceProvider(serviceProviderDO);
+            }
+            if (isExistsInRegistry(getIssuerWithQualifier(serviceProviderDO), tenantId)) {
+                return false;
+            }
+            return jdbcServiceProviderDAO.addServiceProvider(serviceProviderDO, tenantId);
         } catch (RegistryException e) {
             LOG.error("Error while adding service provider", e);
             throw new IdentityException("Error while retrieving registry", e);
@@ -81,8 +108,21 @@ public class SAMLSSOServiceProviderManager {
             throws IdentityException {
 
         try {
-            SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
-            return serviceProviderDAO.updateServiceProvider(serviceProviderDO, currentIssuer);
+            if (isRegistryStorage()) {
+                SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
+                return serviceProviderDAO.updateServiceProvider(serviceProviderDO, currentIssuer);
+            }
+            String issuer = getIssuerWithQualifier(serviceProviderDO);
+            if (!StringUtils.equals(currentIssuer, issuer) && isExistsInRegistry(issuer, tenantId)) {
+                return false;
+            }
+            boolean isUpdated = jdbcServiceProviderDAO.updateServiceProvider(serviceProviderDO, currentIssuer,
+                    tenantId);
+            // The updated service provider is in the database, hence the one read from the registry is not needed.
+            if (isUpdated && isExistsInRegistry(currentIssuer, tenantId)) {
+                buildSAMLSSOProvider(tenantId).removeServiceProvider(currentIssuer);
+            }
+            return isUpdated;
         } catch (RegistryException e) {
             LOG.error("Error while updating service provider", e);
             throw new IdentityException("Error while retrieving registry", e);
@@ -100,8 +140,26 @@ public class SAMLSSOServiceProviderManager {
             throws IdentityException {
 
         try {
-            SAMLSSOServiceProviderDAO serviceProviderDOA = buildSAMLSSOProvider(tenantId);
-            return serviceProviderDOA.getServiceProviders();
+            if (isRegistryStorage()) {
+                SAMLSSOServiceProviderDAO serviceProviderDOA = buildSAMLSSOProvider(tenantId);
+                return serviceProviderDOA.getServiceProviders();
+            }
+            SAMLSSOServiceProviderDO[] serviceProviders = jdbcServiceProviderDAO.getServiceProviders(tenantId);
+            if (!isHybridStorage()) {
+                return serviceProviders;
+            }
+            // Add the service providers which are not moved to the database yet.
+            List<SAMLSSOServiceProviderDO> serviceProviderList = new ArrayList<>(Arrays.asList(serviceProviders));
+            Set<String> issuers = new HashSet<>();
+            for (SAMLSSOServiceProviderDO serviceProviderDO : serviceProviders) {
+                issuers.add(serviceProviderDO.getIssuer());
+            }
+            for (SAMLSSOServiceProviderDO serviceProviderDO : buildSAMLSSOProvider(tenantId).getServiceProviders()) {
+                if (!issuers.contains(serviceProviderDO.getIssuer())) {
+                    serviceProviderList.add(serviceProviderDO);
+                }
+            }
+            return serviceProviderList.toArray(new SAMLSSOServiceProviderDO[0]);
         } catch (RegistryException e) {
             LOG.error("Error while getting service providers", e);
             throw new IdentityException("Error while retrieving registry", e);
@@ -120,8 +178,17 @@ public class SAMLSSOServiceProviderManager {
             throws IdentityException {
 
         try {
-            SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
-            return serviceProviderDAO.getServiceProvider(issuer);
+            if (isRegistryStorage()) {
+                SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
+                return serviceProviderDAO.getServiceProvider(issuer);
+            }
+            SAMLSSOServiceProviderDO serviceProviderDO = jdbcServiceProviderDAO.getServiceProvider(issuer, tenantId);
+            if (serviceProviderDO != null || !isHybridStorage()) {
+                return serviceProviderDO;
+            }
+            // The service provider is not moved to the database yet. It is moved when it is updated, or by
+            // migrateServiceProvidersToDatabase, so that a lookup never writes.
+            return buildSAMLSSOProvider(tenantId).getServiceProvider(issuer);
         } catch (RegistryException e) {
             LOG.error("Error while getting service provider", e);
             throw new IdentityException("Error while retrieving SAML issuer " + e.getMessage());
@@ -141,8 +208,12 @@ public class SAMLSSOServiceProviderManager {
             throws IdentityException {
 
         try {
-            SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
-            return serviceProviderDAO.isServiceProviderExists(issuer);
+            if (isRegistryStorage()) {
+                SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
+                return serviceProviderDAO.isServiceProviderExists(issuer);
+            }
+            return jdbcServiceProviderDAO.isServiceProviderExists(issuer, tenantId) ||
+                    isExistsInRegistry(issuer, tenantId);
         } catch (RegistryException e) {
             LOG.error("Error while getting service provider", e);
             throw new IdentityException("Error while retrieving SAML issuer " + e.getMessage());
@@ -160,8 +231,15 @@ public class SAMLSSOServiceProviderManager {
             throws IdentityException {
 
         try {
-            SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
-            return serviceProviderDAO.removeServiceProvider(issuer);
+            if (isRegistryStorage()) {
+                SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
+                return serviceProviderDAO.removeServiceProvider(issuer);
+            }
+            boolean isRemoved = jdbcServiceProviderDAO.removeServiceProvider(issuer, tenantId);
+            if (isExistsInRegistry(issuer, tenantId)) {
+                isRemoved = buildSAMLSSOProvider(tenantId).removeServiceProvider(issuer) || isRemoved;
+            }
+            return isRemoved;
         } catch (RegistryException e) {
             LOG.error("Error while removing service provider", e);
             throw new IdentityException("Error while deleting SAML issuer " + e.getMessage());
@@ -180,11 +258,108 @@ public class SAMLSSOServiceProviderManager {
             throws IdentityException {
 
         try {
-            SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
-            return serviceProviderDAO.uploadServiceProvider(samlssoServiceProviderDO);
+            if (isRegistryStorage()) {
+                SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
+                return serviceProviderDAO.uploadServiceProvider(samlssoServiceProviderDO);
+            }
+            if (isExistsInRegistry(getIssuerWithQualifier(samlssoServiceProviderDO), tenantId)) {
+                throw IdentityException.error("A Service Provider already exists.");
+            }
+            return jdbcServiceProviderDAO.uploadServiceProvider(samlssoServiceProviderDO, tenantId);
         } catch (RegistryException e) {
             LOG.error("Error while uploading service provider", e);
             throw new IdentityException("Error while uploading SAML issuer " + e.getMessage());
         }
     }
+
+    /**
+     * Move all the SAML service providers of the tenant from the registry to the database. This is applicable only
+     * when the service providers are stored in the database, and is the one-time task to complete the migration of the
+     * service providers which are still read from the registry in the hybrid mode.
+     *
+     * @param tenantId Tenant ID.
+     * @return Number of service providers moved to the database.
+     * @throws IdentityException Error when moving the SAML service providers.
+     */
+    public int migrateServiceProvidersToDatabase(int tenantId) throws IdentityException {
+
+        if (isRegistryStorage()) {
+            throw new IdentityException("SAML service providers can not be moved to the database when they are " +
+                    "stored in the registry.");
+        }
+        try {
+            SAMLSSOServiceProviderDAO serviceProviderDAO = buildSAMLSSOProvider(tenantId);
+            int migratedCount = 0;
+            for (SAMLSSOServiceProviderDO serviceProviderDO : serviceProviderDAO.getServiceProviders()) {
+                if (moveToDatabase(serviceProviderDAO, serviceProviderDO, tenantId)) {
+                    migratedCount++;
+                }
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Moved " + migratedCount + " SAML service providers of tenant: " + tenantId +
+                        " from the registry to the database.");
+            }
+            return migratedCount;
+        } catch (RegistryException e) {
+            LOG.error("Error while moving service providers to the database", e);
+            throw new IdentityException("Error while retrieving registry", e);
+        }
+    }
+
+    /**
+     * Move a service provider read from the registry to the database. The registry resource is removed once the
+     * service provider is in the database. A failure is logged instead of being thrown, since the service provider
+     * can still be read from the registry.
+     */
+    private boolean moveToDatabase(SAMLSSOServiceProviderDAO serviceProviderDAO,
+                                   SAMLSSOServiceProviderDO serviceProviderDO, int tenantId) {
+
+        String issuer = serviceProviderDO.getIssuer();
+        try {
+            if (!jdbcServiceProviderDAO.importServiceProvider(serviceProviderDO, tenantId) && LOG.isDebugEnabled()) {
+                LOG.debug("SAML service provider: " + issuer + " of tenant: " + tenantId +
+                        " already exists in the database.");
+            }
+            serviceProviderDAO.removeServiceProvider(issuer);
+            return true;
+        } catch (IdentityException e) {
+            LOG.warn("Error while moving SAML service provider: " + issuer + " of tenant: " + tenantId +
+                    " from the registry to the database.", e);
+            return false;
+        }
+    }
+
+    private boolean isExistsInRegistry(String issuer, int tenantId) throws IdentityException, RegistryException {
+
+        if (!isHybridStorage() || StringUtils.isBlank(issuer)) {
+            return false;
+        }
+        boolean isExists = buildSAMLSSOProvider(tenantId).isServiceProviderExists(issuer);
+        if (isExists && LOG.isDebugEnabled()) {
+            LOG.debug("SAML service provider: " + issuer + " of tenant: " + tenantId + " exists in the registry.");
+        }
+        return isExists;
+    }
+
+    private String getIssuerWithQualifier(SAMLSSOServiceProviderDO serviceProviderDO) {
+
+        if (serviceProviderDO == null || StringUtils.isBlank(serviceProviderDO.getIssuerQualifier())) {
+            return serviceProviderDO == null ? null : serviceProviderDO.getIssuer();
+        }
+        return SAMLSSOServiceProviderDAO.getIssuerWithQualifier(serviceProviderDO.getIssuer(),
+                serviceProviderDO.getIssuerQualifier());
+    }
+
+    private boolean isRegistryStorage() {
+
+        String storageType = IdentityUtil.getProperty(IdentityCoreConstants.SAML_SSO_SERVICE_PROVIDER_STORAGE_TYPE);
+        return !IdentityCoreConstants.DATA_STORAGE_TYPE_DATABASE.equalsIgnoreCase(StringUtils.trim(storageType)) &&
+                !IdentityCoreConstants.DATA_STORAGE_TYPE_HYBRID.equalsIgnoreCase(StringUtils.trim(storageType));
+    }
+
+    private boolean isHybridStorage() {
+
+        return IdentityCoreConstants.DATA_STORAGE_TYPE_HYBRID.equalsIgnoreCase(StringUtils.trim(
+                IdentityUtil.getProperty(IdentityCoreConstants.SAML_SSO_SERVICE_PROVIDER_STORAGE_TYPE)));
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+/**
+ * Cache for the SAML SSO service providers stored in the database, by issuer.
+ */
+public class SAMLSSOServiceProviderCache extends BaseCache<SAMLSSOServiceProviderCacheKey,
+        SAMLSSOServiceProviderCacheEntry> {
+
+    private static final String SAML_SSO_SERVICE_PROVIDER_CACHE_NAME = "SAMLSSOServiceProviderCache";
+
+    private static volatile SAMLSSOServiceProviderCache instance;
+
+    private SAMLSSOServiceProviderCache() {
+
+        super(SAML_SSO_SERVICE_PROVIDER_CACHE_NAME);
+    }
+
+    public static SAMLSSOServiceProviderCache getInstance() {
+
+        if (instance == null) {
+            synchronized (SAMLSSOServiceProviderCache.class) {
+                if (instance == null) {
+                    instance = new SAMLSSOServiceProviderCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
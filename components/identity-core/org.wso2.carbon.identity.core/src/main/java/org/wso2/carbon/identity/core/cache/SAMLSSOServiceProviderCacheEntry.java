@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import java.security.cert.X509Certificate;
+import java.util.Properties;
+
+/**
+ * SAML SSO service provider cache entry. Holds the stored properties of a service provider rather than the service
+ * provider information object, so that every lookup builds its own copy of the service provider. The application
+ * certificate is kept once it is loaded for a service provider which validates signatures or encrypts assertions.
+ */
+public class SAMLSSOServiceProviderCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -3360713522463180418L;
+
+    private final Properties serviceProviderProperties;
+    private X509Certificate certificate;
+    private boolean certificateLoaded;
+
+    public SAMLSSOServiceProviderCacheEntry(Properties serviceProviderProperties) {
+
+        this.serviceProviderProperties = serviceProviderProperties;
+    }
+
+    public Properties getServiceProviderProperties() {
+
+        return serviceProviderProperties;
+    }
+
+    public X509Certificate getCertificate() {
+
+        return certificate;
+    }
+
+    /**
+     * Set the application certificate of the service provider. A null certificate is also kept, since it means that
+     * a certificate is not configured for the service provider.
+     *
+     * @param certificate Application certificate.
+     */
+    public void setCertificate(X509Certificate certificate) {
+
+        this.certificate = certificate;
+        this.certificateLoaded = true;
+    }
+
+    public boolean isCertificateLoaded() {
+
+        return certificateLoaded;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.cache;
+
+import java.util.Objects;
+
+/**
+ * SAML SSO service provider cache key. The issuer includes the issuer qualifier, if any.
+ */
+public class SAMLSSOServiceProviderCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 5218741139530964726L;
+
+    private final String issuer;
+
+    public SAMLSSOServiceProviderCacheKey(String issuer) {
+
+        this.issuer = issuer;
+    }
+
+    public String getIssuer() {
+
+        return issuer;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SAMLSSOServiceProviderCacheKey)) {
+            return false;
+        }
+        SAMLSSOServiceProviderCacheKey that = (SAMLSSOServiceProviderCacheKey) o;
+        return Objects.equals(issuer, that.issuer);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hashCode(issuer);
+    }
+}
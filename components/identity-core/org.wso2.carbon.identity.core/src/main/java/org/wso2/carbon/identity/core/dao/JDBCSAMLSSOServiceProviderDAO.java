@@ -0,0 +1,527 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.dao;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.CertificateRetrievingException;
+import org.wso2.carbon.identity.core.cache.SAMLSSOServiceProviderCache;
+import org.wso2.carbon.identity.core.cache.SAMLSSOServiceProviderCacheEntry;
+import org.wso2.carbon.identity.core.cache.SAMLSSOServiceProviderCacheKey;
+import org.wso2.carbon.identity.core.model.SAMLSSOServiceProviderDO;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.registry.core.Resource;
+import org.wso2.carbon.registry.core.ResourceImpl;
+import org.wso2.carbon.registry.core.exceptions.RegistryException;
+import org.wso2.carbon.user.api.Tenant;
+
+import java.security.cert.X509Certificate;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Stores the SAML SSO service providers in the identity database.
+ * <p>
+ * A service provider is stored as a row of the IDN_SAML2_SERVICE_PROVIDER table, which is unique by issuer and
+ * tenant, along with its properties in the IDN_SAML2_SP_PROPERTY table. The properties are the same as the
+ * properties of the registry resource of the service provider in {@link SAMLSSOServiceProviderDAO}, hence a
+ * service provider can be moved from the registry to the database without converting it. A service provider is
+ * loaded by issuer with a single query and kept in the {@link SAMLSSOServiceProviderCache} of the tenant, which is
+ * cleared whenever the service provider is added, updated or removed through this DAO.
+ */
+public class JDBCSAMLSSOServiceProviderDAO {
+
+    private static final Log log = LogFactory.getLog(JDBCSAMLSSOServiceProviderDAO.class);
+
+    private static final String GET_SERVICE_PROVIDER_ID = "SELECT ID FROM IDN_SAML2_SERVICE_PROVIDER " +
+            "WHERE ISSUER = ? AND TENANT_ID = ?";
+    private static final String GET_SERVICE_PROVIDER_PROPERTIES = "SELECT PROP.PROPERTY_NAME, PROP.PROPERTY_VALUE " +
+            "FROM IDN_SAML2_SERVICE_PROVIDER SP INNER JOIN IDN_SAML2_SP_PROPERTY PROP ON SP.ID = PROP.SP_ID " +
+            "WHERE SP.ISSUER = ? AND SP.TENANT_ID = ? ORDER BY PROP.PROPERTY_NAME, PROP.PROPERTY_ORDER";
+    private static final String GET_ALL_SERVICE_PROVIDER_PROPERTIES = "SELECT SP.ID, PROP.PROPERTY_NAME, " +
+            "PROP.PROPERTY_VALUE FROM IDN_SAML2_SERVICE_PROVIDER SP INNER JOIN IDN_SAML2_SP_PROPERTY PROP ON " +
+            "SP.ID = PROP.SP_ID WHERE SP.TENANT_ID = ? ORDER BY SP.ID, PROP.PROPERTY_NAME, PROP.PROPERTY_ORDER";
+    private static final String ADD_SERVICE_PROVIDER = "INSERT INTO IDN_SAML2_SERVICE_PROVIDER (ISSUER, TENANT_ID) " +
+            "VALUES (?, ?)";
+    private static final String ADD_SERVICE_PROVIDER_PROPERTY = "INSERT INTO IDN_SAML2_SP_PROPERTY (SP_ID, " +
+            "PROPERTY_NAME, PROPERTY_ORDER, PROPERTY_VALUE) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_SERVICE_PROVIDER_ISSUER = "UPDATE IDN_SAML2_SERVICE_PROVIDER SET ISSUER = ? " +
+            "WHERE ID = ?";
+    private static final String DELETE_SERVICE_PROVIDER_PROPERTIES = "DELETE FROM IDN_SAML2_SP_PROPERTY " +
+            "WHERE SP_ID = ?";
+    private static final String DELETE_SERVICE_PROVIDER = "DELETE FROM IDN_SAML2_SERVICE_PROVIDER WHERE ID = ?";
+
+    /**
+     * Add the service provider to the database.
+     *
+     * @param serviceProviderDO Service provider information object.
+     * @param tenantId          Tenant ID.
+     * @return True if addition successful, false if a service provider already exists with the same issuer.
+     * @throws IdentityException Error while persisting to the database.
+     */
+    public boolean addServiceProvider(SAMLSSOServiceProviderDO serviceProviderDO, int tenantId)
+            throws IdentityException {
+
+        validateIssuer(serviceProviderDO);
+        appendIssuerQualifier(serviceProviderDO);
+        return insertServiceProvider(serviceProviderDO, tenantId);
+    }
+
+    /**
+     * Add a service provider read from the registry to the database. The issuer of such a service provider already
+     * has the issuer qualifier appended to it.
+     *
+     * @param serviceProviderDO Service provider information object read from the registry.
+     * @param tenantId          Tenant ID.
+     * @return True if addition successful, false if a service provider already exists with the same issuer.
+     * @throws IdentityException Error while persisting to the database.
+     */
+    public boolean importServiceProvider(SAMLSSOServiceProviderDO serviceProviderDO, int tenantId)
+            throws IdentityException {
+
+        validateIssuer(serviceProviderDO);
+        return insertServiceProvider(serviceProviderDO, tenantId);
+    }
+
+    /**
+     * Upload the service provider created from a metadata file to the database.
+     *
+     * @param serviceProviderDO Service provider information object.
+     * @param tenantId          Tenant ID.
+     * @return Service provider information object.
+     * @throws IdentityException Error while persisting to the database or if the service provider already exists.
+     */
+    public SAMLSSOServiceProviderDO uploadServiceProvider(SAMLSSOServiceProviderDO serviceProviderDO, int tenantId)
+            throws IdentityException {
+
+        if (serviceProviderDO == null || serviceProviderDO.getIssuer() == null) {
+            throw new IdentityException("Issuer cannot be found in the provided arguments.");
+        }
+        appendIssuerQualifier(serviceProviderDO);
+        if (serviceProviderDO.getDefaultAssertionConsumerUrl() == null) {
+            throw new IdentityException("No default assertion consumer URL provided for service provider :" +
+                    serviceProviderDO.getIssuer());
+        }
+        if (!insertServiceProvider(serviceProviderDO, tenantId)) {
+            throw IdentityException.error("A Service Provider already exists.");
+        }
+        return serviceProviderDO;
+    }
+
+    /**
+     * Update the service provider. The service provider is added if it does not exist with the current issuer.
+     *
+     * @param serviceProviderDO Service provider to be updated.
+     * @param currentIssuer     Issuer of the service provider before the update.
+     * @param tenantId          Tenant ID.
+     * @return True if the update is successful, false if the issuer is updated to the issuer of another service
+     * provider.
+     * @throws IdentityException If an error occurs while updating the service provider.
+     */
+    public boolean updateServiceProvider(SAMLSSOServiceProviderDO serviceProviderDO, String currentIssuer,
+                                         int tenantId) throws IdentityException {
+
+        validateIssuer(serviceProviderDO);
+        appendIssuerQualifier(serviceProviderDO);
+        String issuer = serviceProviderDO.getIssuer();
+        boolean isIssuerUpdated = !StringUtils.equals(currentIssuer, issuer);
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try {
+                if (isIssuerUpdated && getServiceProviderId(connection, issuer, tenantId) != -1) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("SAML2 Service Provider already exists with the same issuer name " + issuer);
+                    }
+                    IdentityDatabaseUtil.rollbackTransaction(connection);
+                    return false;
+                }
+                int serviceProviderId = getServiceProviderId(connection, currentIssuer, tenantId);
+                if (serviceProviderId == -1) {
+                    serviceProviderId = addServiceProvider(connection, issuer, tenantId);
+                } else {
+                    if (isIssuerUpdated) {
+                        try (PreparedStatement statement = connection.prepareStatement(
+                                UPDATE_SERVICE_PROVIDER_ISSUER)) {
+                            statement.setString(1, issuer);
+                            statement.setInt(2, serviceProviderId);
+                            statement.executeUpdate();
+                        }
+                    }
+                    deleteServiceProviderProperties(connection, serviceProviderId);
+                }
+                addServiceProviderProperties(connection, serviceProviderId, serviceProviderDO);
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException | RegistryException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException | RegistryException e) {
+            String msg = "Error while updating SAML2 Service Provider for issuer: " + issuer;
+            log.error(msg, e);
+            throw new IdentityException(msg, e);
+        } finally {
+            clearCacheEntry(currentIssuer, tenantId);
+            clearCacheEntry(issuer, tenantId);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("SAML2 Service Provider " + issuer + " is updated successfully.");
+        }
+        return true;
+    }
+
+    /**
+     * Get all the service providers of the tenant.
+     *
+     * @param tenantId Tenant ID.
+     * @return Service providers of the tenant.
+     * @throws IdentityException Error while reading the service providers.
+     */
+    public SAMLSSOServiceProviderDO[] getServiceProviders(int tenantId) throws IdentityException {
+
+        Map<Integer, Properties> serviceProviderProperties = new LinkedHashMap<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement statement = connection.prepareStatement(GET_ALL_SERVICE_PROVIDER_PROPERTIES)) {
+            statement.setInt(1, tenantId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    Properties properties = serviceProviderProperties.computeIfAbsent(resultSet.getInt(1),
+                            id -> new Properties());
+                    addPropertyValue(properties, resultSet.getString(2), resultSet.getString(3));
+                }
+            }
+        } catch (SQLException e) {
+            String msg = "Error reading Service Providers of tenant: " + tenantId + " from the database";
+            log.error(msg, e);
+            throw IdentityException.error(msg, e);
+        }
+
+        List<SAMLSSOServiceProviderDO> serviceProviders = new ArrayList<>(serviceProviderProperties.size());
+        for (Properties properties : serviceProviderProperties.values()) {
+            serviceProviders.add(SAMLSSOServiceProviderDAO.buildServiceProviderDO(toResource(properties)));
+        }
+        return serviceProviders.toArray(new SAMLSSOServiceProviderDO[0]);
+    }
+
+    /**
+     * Get the service provider by issuer.
+     *
+     * @param issuer   Issuer of the service provider, including the issuer qualifier if any.
+     * @param tenantId Tenant ID.
+     * @return Service provider information object or null if a service provider does not exist with the issuer.
+     * @throws IdentityException Error while reading the service provider.
+     */
+    public SAMLSSOServiceProviderDO getServiceProvider(String issuer, int tenantId) throws IdentityException {
+
+        SAMLSSOServiceProviderCacheEntry cacheEntry = getServiceProviderCacheEntry(issuer, tenantId);
+        if (cacheEntry == null) {
+            return null;
+        }
+
+        SAMLSSOServiceProviderDO serviceProviderDO = SAMLSSOServiceProviderDAO.buildServiceProviderDO(
+                toResource(cacheEntry.getServiceProviderProperties()));
+        String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantId);
+        // Load the certificate stored in the database, if signature validation is enabled. The certificate is kept
+        // in the cache entry, which is cleared when the service provider or its application is updated.
+        if (serviceProviderDO.isDoValidateSignatureInRequests() ||
+                serviceProviderDO.isDoValidateSignatureInArtifactResolve() ||
+                serviceProviderDO.isDoEnableEncryptedAssertion()) {
+            if (cacheEntry.isCertificateLoaded()) {
+                serviceProviderDO.setX509Certificate(cacheEntry.getCertificate());
+            } else {
+                serviceProviderDO.setX509Certificate(loadApplicationCertificate(issuer, serviceProviderDO,
+                        cacheEntry, tenantId, tenantDomain));
+            }
+        }
+        serviceProviderDO.setTenantDomain(tenantDomain);
+        return serviceProviderDO;
+    }
+
+    /**
+     * Check whether a service provider exists with the issuer.
+     *
+     * @param issuer   Issuer of the service provider, including the issuer qualifier if any.
+     * @param tenantId Tenant ID.
+     * @return True if the service provider exists.
+     * @throws IdentityException Error while reading the service provider.
+     */
+    public boolean isServiceProviderExists(String issuer, int tenantId) throws IdentityException {
+
+        if (SAMLSSOServiceProviderCache.getInstance().getValueFromCache(
+                new SAMLSSOServiceProviderCacheKey(issuer), tenantId) != null) {
+            return true;
+        }
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            return getServiceProviderId(connection, issuer, tenantId) != -1;
+        } catch (SQLException e) {
+            throw IdentityException.error("Error occurred while checking if the SAML2 Service Provider with " +
+                    "issuer: " + issuer + " exists in the database", e);
+        }
+    }
+
+    /**
+     * Remove the service provider with the given issuer.
+     *
+     * @param issuer   Issuer of the service provider, including the issuer qualifier if any.
+     * @param tenantId Tenant ID.
+     * @return True if deletion success, false if the service provider does not exist.
+     * @throws IdentityException Error occurred while removing the service provider from the database.
+     */
+    public boolean removeServiceProvider(String issuer, int tenantId) throws IdentityException {
+
+        if (issuer == null || StringUtils.isEmpty(issuer.trim())) {
+            throw new IllegalArgumentException("Trying to delete issuer \'" + issuer + "\'");
+        }
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try {
+                int serviceProviderId = getServiceProviderId(connection, issuer, tenantId);
+                if (serviceProviderId == -1) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("SAML2 Service Provider does not exist in the database for issuer: " + issuer);
+                    }
+                    IdentityDatabaseUtil.rollbackTransaction(connection);
+                    return false;
+                }
+                deleteServiceProviderProperties(connection, serviceProviderId);
+                try (PreparedStatement statement = connection.prepareStatement(DELETE_SERVICE_PROVIDER)) {
+                    statement.setInt(1, serviceProviderId);
+                    statement.executeUpdate();
+                }
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return true;
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            String msg = "Error removing the service provider from the database with name: " + issuer;
+            log.error(msg, e);
+            throw IdentityException.error(msg, e);
+        } finally {
+            clearCacheEntry(issuer, tenantId);
+        }
+    }
+
+    private boolean insertServiceProvider(SAMLSSOServiceProviderDO serviceProviderDO, int tenantId)
+            throws IdentityException {
+
+        String issuer = serviceProviderDO.getIssuer();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try {
+                if (getServiceProviderId(connection, issuer, tenantId) != -1) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("SAML2 Service Provider already exists with the same issuer name " + issuer);
+                    }
+                    IdentityDatabaseUtil.rollbackTransaction(connection);
+                    return false;
+                }
+                int serviceProviderId = addServiceProvider(connection, issuer, tenantId);
+                addServiceProviderProperties(connection, serviceProviderId, serviceProviderDO);
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException | RegistryException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException | RegistryException e) {
+            String msg = "Error while adding SAML2 Service Provider for issuer: " + issuer;
+            log.error(msg, e);
+            throw IdentityException.error(msg, e);
+        } finally {
+            clearCacheEntry(issuer, tenantId);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("SAML2 Service Provider " + issuer + " is added successfully.");
+        }
+        return true;
+    }
+
+    private X509Certificate loadApplicationCertificate(String issuer, SAMLSSOServiceProviderDO serviceProviderDO,
+                                                       SAMLSSOServiceProviderCacheEntry cacheEntry, int tenantId,
+                                                       String tenantDomain) throws IdentityException {
+
+        Tenant tenant = new Tenant();
+        tenant.setDomain(tenantDomain);
+        tenant.setId(tenantId);
+        try {
+            X509Certificate certificate = SAMLSSOServiceProviderDAO.getApplicationCertificate(serviceProviderDO,
+                    tenant);
+            cacheEntry.setCertificate(certificate);
+            SAMLSSOServiceProviderCache.getInstance().addToCache(new SAMLSSOServiceProviderCacheKey(issuer),
+                    cacheEntry, tenantId);
+            return certificate;
+        } catch (SQLException e) {
+            throw IdentityException.error(String.format("An error occurred while getting the " +
+                    "application certificate id for validating the requests from the issuer '%s'", issuer), e);
+        } catch (CertificateRetrievingException e) {
+            throw IdentityException.error(String.format("An error occurred while getting the " +
+                    "application certificate for validating the requests from the issuer '%s'", issuer), e);
+        }
+    }
+
+    private SAMLSSOServiceProviderCacheEntry getServiceProviderCacheEntry(String issuer, int tenantId)
+            throws IdentityException {
+
+        SAMLSSOServiceProviderCacheKey cacheKey = new SAMLSSOServiceProviderCacheKey(issuer);
+        SAMLSSOServiceProviderCacheEntry cacheEntry = SAMLSSOServiceProviderCache.getInstance()
+                .getValueFromCache(cacheKey, tenantId);
+        if (cacheEntry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("SAML2 Service Provider: " + issuer + " is found in the cache.");
+            }
+            return cacheEntry;
+        }
+
+        Properties properties = new Properties();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement statement = connection.prepareStatement(GET_SERVICE_PROVIDER_PROPERTIES)) {
+            statement.setString(1, issuer);
+            statement.setInt(2, tenantId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    addPropertyValue(properties, resultSet.getString(1), resultSet.getString(2));
+                }
+            }
+        } catch (SQLException e) {
+            throw IdentityException.error("Error occurred while reading the SAML2 Service Provider with issuer: " +
+                    issuer + " from the database", e);
+        }
+        if (properties.isEmpty()) {
+            return null;
+        }
+        cacheEntry = new SAMLSSOServiceProviderCacheEntry(properties);
+        SAMLSSOServiceProviderCache.getInstance().addToCache(cacheKey, cacheEntry, tenantId);
+        return cacheEntry;
+    }
+
+    private int getServiceProviderId(Connection connection, String issuer, int tenantId) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(GET_SERVICE_PROVIDER_ID)) {
+            statement.setString(1, issuer);
+            statement.setInt(2, tenantId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return resultSet.getInt(1);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int addServiceProvider(Connection connection, String issuer, int tenantId) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(ADD_SERVICE_PROVIDER)) {
+            statement.setString(1, issuer);
+            statement.setInt(2, tenantId);
+            statement.executeUpdate();
+        }
+        int serviceProviderId = getServiceProviderId(connection, issuer, tenantId);
+        if (serviceProviderId == -1) {
+            throw new SQLException("Unable to find the ID of the added SAML2 Service Provider: " + issuer);
+        }
+        return serviceProviderId;
+    }
+
+    private void addServiceProviderProperties(Connection connection, int serviceProviderId,
+                                              SAMLSSOServiceProviderDO serviceProviderDO)
+            throws SQLException, RegistryException {
+
+        Resource resource = SAMLSSOServiceProviderDAO.populateResource(new ResourceImpl(), serviceProviderDO);
+        try (PreparedStatement statement = connection.prepareStatement(ADD_SERVICE_PROVIDER_PROPERTY)) {
+            for (Map.Entry<Object, Object> property : resource.getProperties().entrySet()) {
+                if (!(property.getValue() instanceof List)) {
+                    continue;
+                }
+                List<?> values = (List<?>) property.getValue();
+                for (int i = 0; i < values.size(); i++) {
+                    statement.setInt(1, serviceProviderId);
+                    statement.setString(2, (String) property.getKey());
+                    statement.setInt(3, i);
+                    statement.setString(4, values.get(i) == null ? null : values.get(i).toString());
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void deleteServiceProviderProperties(Connection connection, int serviceProviderId) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_SERVICE_PROVIDER_PROPERTIES)) {
+            statement.setInt(1, serviceProviderId);
+            statement.executeUpdate();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addPropertyValue(Properties properties, String name, String value) {
+
+        List<String> values = (List<String>) properties.computeIfAbsent(name, key -> new ArrayList<String>());
+        values.add(value);
+    }
+
+    /**
+     * Build a resource with a copy of the given properties, so that the service provider built from the resource
+     * does not share its lists with the cache.
+     */
+    @SuppressWarnings("unchecked")
+    private Resource toResource(Properties properties) {
+
+        Properties copy = new Properties();
+        for (Map.Entry<Object, Object> property : properties.entrySet()) {
+            copy.put(property.getKey(), new ArrayList<>((List<String>) property.getValue()));
+        }
+        Resource resource = new ResourceImpl();
+        resource.setProperties(copy);
+        return resource;
+    }
+
+    private void clearCacheEntry(String issuer, int tenantId) {
+
+        if (issuer != null) {
+            SAMLSSOServiceProviderCache.getInstance().clearCacheEntry(new SAMLSSOServiceProviderCacheKey(issuer),
+                    tenantId);
+        }
+    }
+
+    private void validateIssuer(SAMLSSOServiceProviderDO serviceProviderDO) throws IdentityException {
+
+        if (serviceProviderDO == null || StringUtils.isBlank(serviceProviderDO.getIssuer())) {
+            throw new IdentityException("Issuer cannot be found in the provided arguments.");
+        }
+    }
+
+    private void appendIssuerQualifier(SAMLSSOServiceProviderDO serviceProviderDO) {
+
+        // If an issuer qualifier value is specified, it is appended to the end of the issuer value.
+        if (StringUtils.isNotBlank(serviceProviderDO.getIssuerQualifier())) {
+            serviceProviderDO.setIssuer(SAMLSSOServiceProviderDAO.getIssuerWithQualifier(
+                    serviceProviderDO.getIssuer(), serviceProviderDO.getIssuerQualifier()));
+        }
+    }
+}
@@ -68,6 +68,18 @@ public class SAMLSSOServiceProviderDAO extends AbstractDAO<SAMLSSOServiceProvide
     }
 
     protected SAMLSSOServiceProviderDO resourceToObject(Resource resource) {
+
+        return buildServiceProviderDO(resource);
+    }
+
+    /**
+     * Build the service provider information object from the properties of a service provider resource.
+     *
+     * @param resource Service provider resource.
+     * @return Service provider information object.
+     */
+    static SAMLSSOServiceProviderDO buildServiceProviderDO(Resource resource) {
+
         SAMLSSOServiceProviderDO serviceProviderDO = new SAMLSSOServiceProviderDO();
         serviceProviderDO.setIssuer(resource
                 .getProperty(IdentityRegistryResources.PROP_SAML_SSO_ISSUER));
@@ -318,8 +330,21 @@ public class SAMLSSOServiceProviderDAO extends AbstractDAO<SAMLSSOServiceProvide
     }
 
     private Resource createResource(SAMLSSOServiceProviderDO serviceProviderDO) throws RegistryException {
-        Resource resource;
-        resource = registry.newResource();
+
+        return populateResource(registry.newResource(), serviceProviderDO);
+    }
+
+    /**
+     * Set the properties of the given service provider to the given resource.
+     *
+     * @param resource          Resource to be populated.
+     * @param serviceProviderDO Service provider information object.
+     * @return Populated resource.
+     * @throws RegistryException Error while setting the properties.
+     */
+    static Resource populateResource(Resource resource, SAMLSSOServiceProviderDO serviceProviderDO)
+            throws RegistryException {
+
         resource.addProperty(IdentityRegistryResources.PROP_SAML_SSO_ISSUER,
                 serviceProviderDO.getIssuer());
         resource.setProperty(IdentityRegistryResources.PROP_SAML_SSO_ASSERTION_CONS_URLS,
@@ -455,7 +480,7 @@ public class SAMLSSOServiceProviderDAO extends AbstractDAO<SAMLSSOServiceProvide
      * @param issuerWithQualifier issuer value saved in the registry.
      * @return issuer value given as 'issuer' when configuring SAML SP.
      */
-    private String getIssuerWithoutQualifier(String issuerWithQualifier) {
+    static String getIssuerWithoutQualifier(String issuerWithQualifier) {
 
         String issuerWithoutQualifier = StringUtils.substringBeforeLast(issuerWithQualifier,
                 IdentityRegistryResources.QUALIFIER_ID);
@@ -468,7 +493,7 @@ public class SAMLSSOServiceProviderDAO extends AbstractDAO<SAMLSSOServiceProvide
      * @param issuer value given as 'issuer' when configuring SAML SP.
      * @return issuer value with qualifier appended.
      */
-    private String getIssuerWithQualifier(String issuer, String qualifier) {
+    public static String getIssuerWithQualifier(String issuer, String qualifier) {
 
         String issuerWithQualifier = issuer + IdentityRegistryResources.QUALIFIER_ID + qualifier;
         return issuerWithQualifier;
@@ -677,7 +702,7 @@ public class SAMLSSOServiceProviderDAO extends AbstractDAO<SAMLSSOServiceProvide
      * @throws SQLException
      * @throws CertificateRetrievingException
      */
-    private X509Certificate getApplicationCertificate(SAMLSSOServiceProviderDO serviceProviderDO, Tenant tenant)
+    static X509Certificate getApplicationCertificate(SAMLSSOServiceProviderDO serviceProviderDO, Tenant tenant)
             throws SQLException, CertificateRetrievingException {
 
         // Check whether there is a certificate stored against the service provider (in the database)
@@ -703,7 +728,7 @@ public class SAMLSSOServiceProviderDAO extends AbstractDAO<SAMLSSOServiceProvide
      * @return
      * @throws SQLException
      */
-    private int getApplicationCertificateId(String issuer, int tenantId) throws SQLException {
+    private static int getApplicationCertificateId(String issuer, int tenantId) throws SQLException {
 
         try {
             String sqlStmt = isH2DB() ? QUERY_TO_GET_APPLICATION_CERTIFICATE_ID_H2 :
@@ -23,13 +23,13 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.core.bean.context.MessageContext;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-
-import static java.util.Collections.sort;
+import java.util.function.ToIntFunction;
 
 /**
  * HandlerManager class can be used to get the correct handlers just before execute it either
- * list or first priority one
+ * list or first priority one.
  */
 public class HandlerManager {
 
@@ -64,7 +64,7 @@ public class HandlerManager {
         }
         T identityHandler = null;
 
-        sort(identityHandlers, new HandlerComparator());
+        sortByPriority(identityHandlers, IdentityHandler::getPriority);
 
         for (T identityHandlerTmp : identityHandlers) {
             if (isEnableHandlersOnly) {
@@ -77,7 +77,7 @@ public class HandlerManager {
                 break;
             }
         }
-        if(log.isDebugEnabled()){
+        if(log.isDebugEnabled() && identityHandler != null){
             log.debug("Get first priority handler : " + identityHandler.getName() + "(" +
                     identityHandler.getClass().getName() + ")");
         }
@@ -100,12 +100,12 @@ public class HandlerManager {
             return new ArrayList<T>()  ;
         }
         List<T> identityHandlersList = identityHandlers;
-        sort(identityHandlersList, new HandlerComparator());
+        sortByPriority(identityHandlersList, IdentityHandler::getPriority);
         if (isEnableHandlersOnly) {
             identityHandlersList = new ArrayList<>();
-            for (IdentityHandler identityHandler : identityHandlers) {
+            for (T identityHandler : identityHandlers) {
                 if (identityHandler.isEnabled()) {
-                    identityHandlersList.add((T)identityHandler);
+                    identityHandlersList.add(identityHandler);
                 }
             }
         }
@@ -130,7 +130,7 @@ public class HandlerManager {
         }
         T1 identityMessageHandler = null;
 
-        sort(identityMessageHandlers, new MessageHandlerComparator(messageContext));
+        sortByPriority(identityMessageHandlers, handler -> handler.getPriority(messageContext));
 
         for (T1 identityHandlerTmp : identityMessageHandlers) {
             if (isEnableHandlersOnly) {
@@ -147,7 +147,7 @@ public class HandlerManager {
                 }
             }
         }
-        if(log.isDebugEnabled()){
+        if(log.isDebugEnabled() && identityMessageHandler != null){
             log.debug("Get first priority handler : " + identityMessageHandler.getName() + "(" +
                     identityMessageHandler.getClass().getName() + ")");
         }
@@ -173,7 +173,7 @@ public class HandlerManager {
             return new ArrayList<T1>()  ;
         }
         List<T1> identityMessageHandlerList = identityMessageHandlers;
-        sort(identityMessageHandlerList, new MessageHandlerComparator(messageContext));
+        sortByPriority(identityMessageHandlerList, handler -> handler.getPriority(messageContext));
         if (isEnableHandlersOnly) {
             identityMessageHandlerList = new ArrayList<>();
             for (T1 identityMessageHandler : identityMessageHandlers) {
@@ -185,5 +185,52 @@ public class HandlerManager {
         return identityMessageHandlerList;
     }
 
+    /**
+     * Sort the given list of handlers in place by their priority, evaluating the priority of each handler once.
+     * The sort is stable, and the list is not modified if it is already sorted.
+     *
+     * @param handlers Handlers.
+     * @param priority Function which returns the priority of a handler.
+     * @param <T>      Handler type.
+     */
+    private static <T> void sortByPriority(List<T> handlers, ToIntFunction<T> priority) {
+
+        int size = handlers.size();
+        if (size < 2) {
+            return;
+        }
+        List<PrioritizedHandler<T>> prioritizedHandlers = new ArrayList<>(size);
+        boolean sorted = true;
+        int previousPriority = Integer.MIN_VALUE;
+        for (T handler : handlers) {
+            int handlerPriority = priority.applyAsInt(handler);
+            if (handlerPriority < previousPriority) {
+                sorted = false;
+            }
+            previousPriority = handlerPriority;
+            prioritizedHandlers.add(new PrioritizedHandler<>(handler, handlerPriority));
+        }
+        if (sorted) {
+            return;
+        }
+        prioritizedHandlers.sort(Comparator.comparingInt(prioritizedHandler -> prioritizedHandler.priority));
+        for (int i = 0; i < size; i++) {
+            handlers.set(i, prioritizedHandlers.get(i).handler);
+        }
+    }
+
+    /**
+     * A handler along with its priority.
+     */
+    private static class PrioritizedHandler<T> {
+
+        private final T handler;
+        private final int priority;
+
+        PrioritizedHandler(T handler, int priority) {
 
+            this.handler = handler;
+            this.priority = priority;
+        }
+    }
 }
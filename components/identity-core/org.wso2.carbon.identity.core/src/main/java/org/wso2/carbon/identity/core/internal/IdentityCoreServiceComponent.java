@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.core.internal;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.BundleContext;
@@ -53,9 +54,12 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.registry.core.service.TenantRegistryLoader;
+import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.utils.ConfigurationContextService;
 
+import java.util.concurrent.TimeUnit;
+
 @Component(
         name = "identity.core.component",
         immediate = true
@@ -190,6 +194,9 @@ public class IdentityCoreServiceComponent {
             IdentityCoreServiceDataHolder.getInstance()
                     .setTenantedSessionsEnabled(Boolean.parseBoolean(IdentityUtil.getProperty(
                             IdentityCoreConstants.ENABLE_TENANTED_SESSIONS)));
+            IdentityCoreServiceDataHolder.getInstance().setTenantResolutionCache(buildTenantResolutionCache());
+            ctxt.getBundleContext().registerService(TenantMgtListener.class.getName(),
+                    new TenantResolutionCacheListener(), null);
 
             // Register initialize service To guarantee the activation order. Component which is referring this
             // service will wait until this component activated.
@@ -206,6 +213,26 @@ public class IdentityCoreServiceComponent {
         }
     }
 
+    private TenantResolutionCache buildTenantResolutionCache() {
+
+        String enabled = IdentityUtil.getProperty(IdentityCoreConstants.TENANT_RESOLUTION_CACHE_ENABLED);
+        if (StringUtils.isNotBlank(enabled) && !Boolean.parseBoolean(enabled.trim())) {
+            if (log.isDebugEnabled()) {
+                log.debug("Tenant id and tenant domain resolution cache is disabled.");
+            }
+            return null;
+        }
+        long timeout = IdentityUtil.getPositiveProperty(IdentityCoreConstants.TENANT_RESOLUTION_CACHE_TIMEOUT,
+                IdentityCoreConstants.DEFAULT_TENANT_RESOLUTION_CACHE_TIMEOUT);
+        long negativeTimeout = IdentityUtil.getPositiveProperty(
+                IdentityCoreConstants.TENANT_RESOLUTION_CACHE_NEGATIVE_TIMEOUT,
+                IdentityCoreConstants.DEFAULT_TENANT_RESOLUTION_CACHE_NEGATIVE_TIMEOUT);
+        long maxSize = IdentityUtil.getPositiveProperty(IdentityCoreConstants.TENANT_RESOLUTION_CACHE_MAX_SIZE,
+                IdentityCoreConstants.DEFAULT_TENANT_RESOLUTION_CACHE_MAX_SIZE);
+        return new TenantResolutionCache(TimeUnit.SECONDS.toMillis(timeout),
+                TimeUnit.SECONDS.toMillis(negativeTimeout), (int) Math.min(maxSize, Integer.MAX_VALUE));
+    }
+
     /**
      * @param ctxt
      */
@@ -245,6 +272,7 @@ public class IdentityCoreServiceComponent {
     )
     protected void setRealmService(RealmService realmService) {
         IdentityTenantUtil.setRealmService(realmService);
+        clearTenantResolutionCache();
         defaultKeystoreManagerExtension.setRealmService(realmService);
         IdentityCoreServiceDataHolder.getInstance().setRealmService(realmService);
     }
@@ -256,6 +284,16 @@ public class IdentityCoreServiceComponent {
         defaultKeystoreManagerExtension.setRealmService(null);
         IdentityTenantUtil.setRealmService(null);
         IdentityCoreServiceDataHolder.getInstance().setRealmService(null);
+        clearTenantResolutionCache();
+    }
+
+    private void clearTenantResolutionCache() {
+
+        TenantResolutionCache tenantResolutionCache =
+                IdentityCoreServiceDataHolder.getInstance().getTenantResolutionCache();
+        if (tenantResolutionCache != null) {
+            tenantResolutionCache.clear();
+        }
     }
 
     @Reference(
@@ -34,6 +34,8 @@ public class IdentityCoreServiceDataHolder {
 
     private boolean isTenantedSessionsEnabled;
 
+    private TenantResolutionCache tenantResolutionCache;
+
     private IdentityCoreServiceDataHolder() {
 
     }
@@ -114,4 +116,24 @@ public class IdentityCoreServiceDataHolder {
 
         isTenantedSessionsEnabled = tenantedSessionsEnabled;
     }
+
+    /**
+     * Get the tenant id and tenant domain resolution cache.
+     *
+     * @return Tenant resolution cache, or null if the tenant resolutions are not cached.
+     */
+    public TenantResolutionCache getTenantResolutionCache() {
+
+        return tenantResolutionCache;
+    }
+
+    /**
+     * Set the tenant id and tenant domain resolution cache.
+     *
+     * @param tenantResolutionCache Tenant resolution cache.
+     */
+    public void setTenantResolutionCache(TenantResolutionCache tenantResolutionCache) {
+
+        this.tenantResolutionCache = tenantResolutionCache;
+    }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.internal;
+
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An in-process, bounded cache of the tenant id and tenant domain mappings resolved through the tenant manager.
+ * <p>
+ * The domain resolved for a tenant id is kept in both directions, so that it also serves the lookups of the
+ * tenant id by its domain. The id resolved for a tenant domain is only kept for the domain as it was looked up,
+ * since the lookup may not use the canonical case of the domain.
+ * <p>
+ * A tenant domain which is not known to the tenant manager is kept as a negative entry for a shorter time, so that
+ * repeated lookups of an invalid domain do not reach the tenant manager, while a tenant created in another node of
+ * the cluster becomes resolvable shortly. The entries of a tenant are removed by the tenant management listener
+ * when the tenant is created, activated, deactivated, renamed or deleted.
+ * <p>
+ * The cache is local to the node. The tenant management listener runs only in the node where the tenant is
+ * changed, and the entries are not invalidated across the cluster, hence the other nodes see the change once the
+ * entries time out. The timeouts are kept short for this reason.
+ * <p>
+ * Each direction holds at most the configured number of entries. When a direction is full, the expired entries are
+ * removed, and new mappings are not cached until there is room for them.
+ */
+public class TenantResolutionCache {
+
+    private final Map<String, TenantMapping> tenantIdsByDomain = new ConcurrentHashMap<>();
+    private final Map<Integer, TenantMapping> tenantDomainsById = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final long negativeTimeoutMillis;
+    private final int maxSize;
+
+    /**
+     * Create a tenant resolution cache.
+     *
+     * @param timeoutMillis         Time in milliseconds a resolved mapping is kept.
+     * @param negativeTimeoutMillis Time in milliseconds an unknown tenant domain is kept.
+     * @param maxSize               Maximum number of entries in each direction.
+     */
+    public TenantResolutionCache(long timeoutMillis, long negativeTimeoutMillis, int maxSize) {
+
+        this.timeoutMillis = timeoutMillis;
+        this.negativeTimeoutMillis = negativeTimeoutMillis;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the cached tenant id of a tenant domain.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Tenant id, {@link MultitenantConstants#INVALID_TENANT_ID} if the tenant domain is known to be invalid,
+     * or null if the tenant domain is not cached.
+     */
+    public Integer getTenantId(String tenantDomain) {
+
+        if (tenantDomain == null) {
+            return null;
+        }
+        TenantMapping mapping = getValidMapping(tenantIdsByDomain, tenantDomain);
+        return mapping == null ? null : mapping.tenantId;
+    }
+
+    /**
+     * Get the cached tenant domain of a tenant id.
+     *
+     * @param tenantId Tenant id.
+     * @return Tenant domain, or null if the tenant id is not cached.
+     */
+    public String getTenantDomain(int tenantId) {
+
+        TenantMapping mapping = getValidMapping(tenantDomainsById, tenantId);
+        return mapping == null ? null : mapping.tenantDomain;
+    }
+
+    /**
+     * Cache the tenant id resolved for a tenant domain. An invalid tenant id is cached as a negative entry of the
+     * tenant domain.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param tenantId     Tenant id, or {@link MultitenantConstants#INVALID_TENANT_ID} if the tenant domain is
+     *                     not known to the tenant manager.
+     */
+    public void addTenantId(String tenantDomain, int tenantId) {
+
+        if (tenantDomain == null) {
+            return;
+        }
+        if (tenantId == MultitenantConstants.INVALID_TENANT_ID) {
+            if (negativeTimeoutMillis > 0) {
+                put(tenantIdsByDomain, tenantDomain, new TenantMapping(tenantId, tenantDomain,
+                        System.currentTimeMillis() + negativeTimeoutMillis));
+            }
+            return;
+        }
+        put(tenantIdsByDomain, tenantDomain, new TenantMapping(tenantId, tenantDomain,
+                System.currentTimeMillis() + timeoutMillis));
+    }
+
+    /**
+     * Cache the tenant domain resolved for a tenant id, in both directions.
+     *
+     * @param tenantId     Tenant id.
+     * @param tenantDomain Tenant domain.
+     */
+    public void addTenantDomain(int tenantId, String tenantDomain) {
+
+        if (tenantDomain == null || tenantId == MultitenantConstants.INVALID_TENANT_ID) {
+            return;
+        }
+        TenantMapping mapping = new TenantMapping(tenantId, tenantDomain,
+                System.currentTimeMillis() + timeoutMillis);
+        put(tenantDomainsById, tenantId, mapping);
+        put(tenantIdsByDomain, tenantDomain, mapping);
+    }
+
+    /**
+     * Remove the cached mappings of a tenant id.
+     *
+     * @param tenantId Tenant id.
+     */
+    public void invalidate(int tenantId) {
+
+        tenantDomainsById.remove(tenantId);
+        tenantIdsByDomain.values().removeIf(mapping -> mapping.tenantId == tenantId);
+    }
+
+    /**
+     * Remove the cached mappings of a tenant domain, including a negative entry of the domain.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidate(String tenantDomain) {
+
+        if (tenantDomain == null) {
+            return;
+        }
+        tenantIdsByDomain.keySet().removeIf(domain -> domain.equalsIgnoreCase(tenantDomain));
+        tenantDomainsById.values().removeIf(mapping -> mapping.tenantDomain.equalsIgnoreCase(tenantDomain));
+    }
+
+    /**
+     * Remove all the cached mappings.
+     */
+    public void clear() {
+
+        tenantIdsByDomain.clear();
+        tenantDomainsById.clear();
+    }
+
+    private <K> TenantMapping getValidMapping(Map<K, TenantMapping> mappings, K key) {
+
+        TenantMapping mapping = mappings.get(key);
+        if (mapping == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= mapping.expiryTime) {
+            mappings.remove(key, mapping);
+            return null;
+        }
+        return mapping;
+    }
+
+    private <K> void put(Map<K, TenantMapping> mappings, K key, TenantMapping mapping) {
+
+        if (mappings.size() >= maxSize && !mappings.containsKey(key)) {
+            long currentTime = System.currentTimeMillis();
+            mappings.values().removeIf(existing -> currentTime >= existing.expiryTime);
+            if (mappings.size() >= maxSize) {
+                return;
+            }
+        }
+        mappings.put(key, mapping);
+    }
+
+    /**
+     * A mapping between a tenant id and a tenant domain, along with the time until which it is valid.
+     */
+    private static class TenantMapping {
+
+        private final int tenantId;
+        private final String tenantDomain;
+        private final long expiryTime;
+
+        TenantMapping(int tenantId, String tenantDomain, long expiryTime) {
+
+            this.tenantId = tenantId;
+            this.tenantDomain = tenantDomain;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
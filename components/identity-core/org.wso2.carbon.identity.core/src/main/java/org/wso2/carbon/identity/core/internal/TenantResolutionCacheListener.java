@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.internal;
+
+import org.wso2.carbon.identity.core.AbstractIdentityTenantMgtListener;
+import org.wso2.carbon.stratos.common.beans.TenantInfoBean;
+
+/**
+ * Tenant management listener which removes the cached tenant id and tenant domain mappings of a tenant when the
+ * tenant is created, activated, deactivated, renamed or deleted.
+ */
+public class TenantResolutionCacheListener extends AbstractIdentityTenantMgtListener {
+
+    private static final int EXEC_ORDER = 1;
+
+    @Override
+    public void onTenantCreate(TenantInfoBean tenantInfoBean) {
+
+        TenantResolutionCache tenantResolutionCache = getTenantResolutionCache();
+        if (tenantResolutionCache != null) {
+            // Remove the negative entry cached if the domain was looked up before the tenant was created.
+            tenantResolutionCache.invalidate(tenantInfoBean.getTenantDomain());
+            tenantResolutionCache.invalidate(tenantInfoBean.getTenantId());
+        }
+    }
+
+    @Override
+    public void onTenantRename(int tenantId, String oldDomainName, String newDomainName) {
+
+        TenantResolutionCache tenantResolutionCache = getTenantResolutionCache();
+        if (tenantResolutionCache != null) {
+            tenantResolutionCache.invalidate(tenantId);
+            tenantResolutionCache.invalidate(oldDomainName);
+            tenantResolutionCache.invalidate(newDomainName);
+        }
+    }
+
+    @Override
+    public void onTenantInitialActivation(int tenantId) {
+
+        invalidate(tenantId);
+    }
+
+    @Override
+    public void onTenantActivation(int tenantId) {
+
+        invalidate(tenantId);
+    }
+
+    @Override
+    public void onTenantDeactivation(int tenantId) {
+
+        invalidate(tenantId);
+    }
+
+    @Override
+    public void onTenantDelete(int tenantId) {
+
+        invalidate(tenantId);
+    }
+
+    @Override
+    public void onPostDelete(int tenantId, String tenantUuid, String userUuid) {
+
+        invalidate(tenantId);
+    }
+
+    @Override
+    public int getListenerOrder() {
+
+        return EXEC_ORDER;
+    }
+
+    private void invalidate(int tenantId) {
+
+        TenantResolutionCache tenantResolutionCache = getTenantResolutionCache();
+        if (tenantResolutionCache != null) {
+            tenantResolutionCache.invalidate(tenantId);
+        }
+    }
+
+    private TenantResolutionCache getTenantResolutionCache() {
+
+        return IdentityCoreServiceDataHolder.getInstance().getTenantResolutionCache();
+    }
+}
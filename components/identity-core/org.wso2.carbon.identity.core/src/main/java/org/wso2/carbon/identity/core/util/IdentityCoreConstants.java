@@ -49,6 +49,21 @@ public class IdentityCoreConstants {
     public static final String ENABLE_LEGACY_SAAS_AUTHENTICATION = "EnableLegacySaaSAuthentication";
     public static final String SUPER_TENANT_ALIAS_IN_PUBLIC_URL = "SuperTenantAliasInPublicUrl";
 
+    // Tenant id and tenant domain resolution cache configurations.
+    public static final String TENANT_RESOLUTION_CACHE_ENABLED = "TenantResolutionCache.Enable";
+    public static final String TENANT_RESOLUTION_CACHE_TIMEOUT = "TenantResolutionCache.Timeout";
+    public static final String TENANT_RESOLUTION_CACHE_NEGATIVE_TIMEOUT = "TenantResolutionCache.NegativeEntryTimeout";
+    public static final String TENANT_RESOLUTION_CACHE_MAX_SIZE = "TenantResolutionCache.MaxSize";
+    public static final long DEFAULT_TENANT_RESOLUTION_CACHE_TIMEOUT = 60;
+    public static final long DEFAULT_TENANT_RESOLUTION_CACHE_NEGATIVE_TIMEOUT = 15;
+    public static final int DEFAULT_TENANT_RESOLUTION_CACHE_MAX_SIZE = 10000;
+
+    // Storage type configurations of the features that used to store data in the registry.
+    public static final String SAML_SSO_SERVICE_PROVIDER_STORAGE_TYPE = "DataStorageType.SAML";
+    public static final String DATA_STORAGE_TYPE_REGISTRY = "registry";
+    public static final String DATA_STORAGE_TYPE_DATABASE = "database";
+    public static final String DATA_STORAGE_TYPE_HYBRID = "hybrid";
+
     public static final String CASE_INSENSITIVE_USERNAME = "CaseInsensitiveUsername";
     public static final String USE_CASE_SENSITIVE_USERNAME_FOR_CACHE_KEYS = "UseCaseSensitiveUsernameForCacheKeys";
     public static final String USER_NOT_FOUND = "UserNotFound";
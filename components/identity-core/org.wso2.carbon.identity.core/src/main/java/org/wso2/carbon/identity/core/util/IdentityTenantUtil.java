@@ -32,12 +32,12 @@ import org.wso2.carbon.core.util.AnonymousSessionUtil;
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.internal.IdentityCoreServiceDataHolder;
+import org.wso2.carbon.identity.core.internal.TenantResolutionCache;
 import org.wso2.carbon.registry.core.Registry;
 import org.wso2.carbon.registry.core.exceptions.RegistryException;
 import org.wso2.carbon.registry.core.service.RegistryService;
 import org.wso2.carbon.registry.core.service.TenantRegistryLoader;
 import org.wso2.carbon.user.api.Tenant;
-import org.wso2.carbon.user.api.TenantManager;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserRealm;
 import org.wso2.carbon.user.core.service.RealmService;
@@ -262,7 +262,7 @@ public class IdentityTenantUtil {
         int tenantId = MultitenantConstants.INVALID_TENANT_ID;
         try {
             if (realmService != null) {
-                tenantId = realmService.getTenantManager().getTenantId(tenantDomain);
+                tenantId = resolveTenantId(tenantDomain);
             }
         } catch (UserStoreException e) {
             // Ideally user.core should be throwing an unchecked exception, in which case no need to wrap at this
@@ -284,7 +284,7 @@ public class IdentityTenantUtil {
 
         String tenantDomain = null;
         try {
-            tenantDomain = realmService.getTenantManager().getDomain(tenantId);
+            tenantDomain = resolveTenantDomain(tenantId);
         } catch (UserStoreException e) {
             // Ideally user.core should be throwing an unchecked exception, in which case no need to wrap at this
             // level once more without adding any valuable contextual information. Because we don't have exception
@@ -301,6 +301,40 @@ public class IdentityTenantUtil {
 
     }
 
+    private static int resolveTenantId(String tenantDomain) throws UserStoreException {
+
+        TenantResolutionCache tenantResolutionCache =
+                IdentityCoreServiceDataHolder.getInstance().getTenantResolutionCache();
+        if (tenantResolutionCache != null) {
+            Integer tenantId = tenantResolutionCache.getTenantId(tenantDomain);
+            if (tenantId != null) {
+                return tenantId;
+            }
+        }
+        int tenantId = realmService.getTenantManager().getTenantId(tenantDomain);
+        if (tenantResolutionCache != null) {
+            tenantResolutionCache.addTenantId(tenantDomain, tenantId);
+        }
+        return tenantId;
+    }
+
+    private static String resolveTenantDomain(int tenantId) throws UserStoreException {
+
+        TenantResolutionCache tenantResolutionCache =
+                IdentityCoreServiceDataHolder.getInstance().getTenantResolutionCache();
+        if (tenantResolutionCache != null) {
+            String tenantDomain = tenantResolutionCache.getTenantDomain(tenantId);
+            if (tenantDomain != null) {
+                return tenantDomain;
+            }
+        }
+        String tenantDomain = realmService.getTenantManager().getDomain(tenantId);
+        if (tenantResolutionCache != null) {
+            tenantResolutionCache.addTenantDomain(tenantId, tenantDomain);
+        }
+        return tenantDomain;
+    }
+
     /**
      * Retrieve Tenant object for a given tenant ID.
      *
@@ -339,8 +373,7 @@ public class IdentityTenantUtil {
         String domainName = MultitenantUtils.getTenantDomain(username);
         if (domainName != null) {
             try {
-                TenantManager tenantManager = IdentityTenantUtil.getRealmService().getTenantManager();
-                tenantId = tenantManager.getTenantId(domainName);
+                tenantId = resolveTenantId(domainName);
             } catch (UserStoreException e) {
                 String errorMsg = "Error when getting the tenant id from the tenant domain : " + domainName;
                 throw IdentityRuntimeException.error(errorMsg, e);
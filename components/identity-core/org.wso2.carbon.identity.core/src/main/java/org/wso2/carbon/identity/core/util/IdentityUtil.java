@@ -51,7 +51,6 @@ import org.wso2.carbon.identity.core.model.IdentityEventListenerConfigKey;
 import org.wso2.carbon.identity.core.model.LegacyFeatureConfig;
 import org.wso2.carbon.identity.core.model.ReverseProxyConfig;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
-import org.wso2.carbon.registry.core.utils.UUIDGenerator;
 import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.api.Tenant;
 import org.wso2.carbon.user.api.UserRealm;
@@ -74,7 +73,6 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 import java.security.SignatureException;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
@@ -120,6 +118,8 @@ public class IdentityUtil {
             };
     private static final String HMAC_SHA1_ALGORITHM = "HmacSHA1";
     private static final String HMAC_SHA256_ALGORITHM = "HmacSHA256";
+    private static final int HMAC_SHA1_LENGTH = 20;
+    private static final int HMAC_SHA256_LENGTH = 32;
     private static final String SHA1_ALGORITHM = "SHA1";
     private static final String SHA256_ALGORITHM = "SHA256";
     private final static char[] ppidDisplayCharMap = new char[]{'Q', 'L', '2', '3', '4', '5',
@@ -398,11 +398,8 @@ public class IdentityUtil {
     public static String generateUUID() throws Exception {
 
         try {
-            // DRBG Pseudo Random Number Generator
-            SecureRandom prng = SecureRandom.getInstance("DRBG");
-
-            // random number
-            String randomNum = Integer.toString(prng.nextInt());
+            // random number from the thread's DRBG Pseudo Random Number Generator
+            String randomNum = Integer.toString(SecureRandomTokenGenerator.nextInt());
             MessageDigest sha = MessageDigest.getInstance("SHA-256");
             byte[] digest = sha.digest(randomNum.getBytes());
 
@@ -415,33 +412,30 @@ public class IdentityUtil {
     }
 
     /**
-     * Generates a random number using two UUIDs and HMAC-SHA256
+     * Generates a random string from the bytes of the thread's DRBG Pseudo Random Number Generator. The number of
+     * bytes matches the length of an HMAC-SHA256 or HMAC-SHA1 value, depending on whether SHA256 is enabled, and the
+     * bytes are Base64 encoded with the characters unsupported by the registry replaced.
      *
      * @return Random Number generated.
-     * @throws IdentityException Exception due to Invalid Algorithm or Invalid Key
+     * @throws IdentityException If the DRBG Pseudo Random Number Generator could not be initialized.
      */
     public static String getRandomNumber() throws IdentityException {
         try {
-            String secretKey = UUIDGenerator.generateUUID();
-            String baseString = UUIDGenerator.generateUUID();
-
-            String algorithm;
+            // Random bytes of the same length as the HMAC previously computed over two random UUIDs.
+            int length;
             if (Boolean.parseBoolean(IdentityUtil.getProperty(IdentityConstants.IDENTITY_UTIL_ENABLE_SHA256))) {
-                algorithm = HMAC_SHA256_ALGORITHM;
+                length = HMAC_SHA256_LENGTH;
             } else {
-                algorithm = HMAC_SHA1_ALGORITHM;
+                length = HMAC_SHA1_LENGTH;
             }
-            SecretKeySpec key = new SecretKeySpec(secretKey.getBytes(), algorithm);
-            Mac mac = Mac.getInstance(algorithm);
-            mac.init(key);
-            byte[] rawHmac = mac.doFinal(baseString.getBytes());
-            String random = Base64.getEncoder().encodeToString(rawHmac);
+            byte[] randomBytes = SecureRandomTokenGenerator.nextBytes(length);
+            String random = Base64.getEncoder().encodeToString(randomBytes);
             // Registry doesn't have support for these character.
             random = random.replace("/", "_");
             random = random.replace("=", "a");
             random = random.replace("+", "f");
             return random;
-        } catch (Exception e) {
+        } catch (IdentityRuntimeException e) {
             log.error("Error when generating a random number.", e);
             throw IdentityException.error("Error when generating a random number.", e);
         }
@@ -450,13 +444,8 @@ public class IdentityUtil {
     public static int getRandomInteger() throws IdentityException {
 
         try {
-            SecureRandom prng = SecureRandom.getInstance("DRBG");
-            int number = prng.nextInt();
-            while (number < 0) {
-                number = prng.nextInt();
-            }
-            return number;
-        } catch (NoSuchAlgorithmException e) {
+            return SecureRandomTokenGenerator.nextNonNegativeInt();
+        } catch (IdentityRuntimeException e) {
             log.error("Error when generating a random number.", e);
             throw IdentityException.error("Error when generating a random number.", e);
         }
@@ -1764,6 +1753,32 @@ public class IdentityUtil {
         return propertyList;
     }
 
+    /**
+     * Read a positive numeric configuration element from the identity.xml. A warning is logged and the default value
+     * is returned if the configured value is not a positive number.
+     *
+     * @param key          Element Name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value to return if the element is not configured or is not a positive number.
+     * @return Configured value, or the default value.
+     */
+    public static long getPositiveProperty(String key, long defaultValue) {
+
+        String value = getProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            long longValue = Long.parseLong(value.trim());
+            if (longValue > 0) {
+                return longValue;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the default value.
+        }
+        log.warn("Invalid value: " + value + " configured for " + key + ". Using the default value: " + defaultValue);
+        return defaultValue;
+    }
+
     /**
      * Get validity period configured for the authentication context.
      *
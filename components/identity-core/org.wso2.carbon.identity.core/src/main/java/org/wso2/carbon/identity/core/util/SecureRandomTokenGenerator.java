@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Generates random identifiers, tokens and numbers from DRBG pseudo random number generators.
+ * <p>
+ * Each thread gets its own DRBG instance, so the generator is instantiated and seeded once per thread instead of
+ * once per call, and threads never contend on a shared instance. Each instance is reseeded from the entropy source
+ * after serving a configurable number of requests.
+ */
+public final class SecureRandomTokenGenerator {
+
+    private static final Log log = LogFactory.getLog(SecureRandomTokenGenerator.class);
+    private static final String PRNG_ALGORITHM = "DRBG";
+    private static final String RESEED_INTERVAL_PROPERTY = "SecureRandom.ReseedInterval";
+    private static final long DEFAULT_RESEED_INTERVAL = 65536L;
+    private static final Base64.Encoder URL_SAFE_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final ThreadLocal<ReseedingSecureRandom> THREAD_LOCAL_RANDOM =
+            ThreadLocal.withInitial(ReseedingSecureRandom::new);
+
+    private SecureRandomTokenGenerator() {
+
+    }
+
+    /**
+     * Generate a random (version 4) UUID.
+     *
+     * @return UUID string.
+     */
+    public static String generateUUID() {
+
+        byte[] randomBytes = nextBytes(16);
+        // Set the version to 4 and the variant to IETF.
+        randomBytes[6] = (byte) ((randomBytes[6] & 0x0f) | 0x40);
+        randomBytes[8] = (byte) ((randomBytes[8] & 0x3f) | 0x80);
+        long mostSigBits = 0;
+        long leastSigBits = 0;
+        for (int i = 0; i < 8; i++) {
+            mostSigBits = (mostSigBits << 8) | (randomBytes[i] & 0xff);
+        }
+        for (int i = 8; i < 16; i++) {
+            leastSigBits = (leastSigBits << 8) | (randomBytes[i] & 0xff);
+        }
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    /**
+     * Generate a URL safe token from the given number of random bytes. The token is Base64 URL encoded without
+     * padding.
+     *
+     * @param numberOfBytes Number of random bytes in the token.
+     * @return URL safe token.
+     */
+    public static String generateToken(int numberOfBytes) {
+
+        return URL_SAFE_ENCODER.encodeToString(nextBytes(numberOfBytes));
+    }
+
+    /**
+     * Generate a random integer between zero (inclusive) and the given bound (exclusive).
+     *
+     * @param bound Upper bound. Must be positive.
+     * @return Random integer.
+     */
+    public static int nextInt(int bound) {
+
+        return getSecureRandom().nextInt(bound);
+    }
+
+    /**
+     * Generate a random integer between zero and {@link Integer#MAX_VALUE}, both inclusive.
+     *
+     * @return Random non negative integer.
+     */
+    public static int nextNonNegativeInt() {
+
+        return getSecureRandom().nextInt() & Integer.MAX_VALUE;
+    }
+
+    /**
+     * Generate a random integer.
+     *
+     * @return Random integer.
+     */
+    public static int nextInt() {
+
+        return getSecureRandom().nextInt();
+    }
+
+    /**
+     * Generate the given number of random bytes.
+     *
+     * @param numberOfBytes Number of bytes.
+     * @return Random bytes.
+     */
+    public static byte[] nextBytes(int numberOfBytes) {
+
+        byte[] randomBytes = new byte[numberOfBytes];
+        getSecureRandom().nextBytes(randomBytes);
+        return randomBytes;
+    }
+
+    private static SecureRandom getSecureRandom() {
+
+        return THREAD_LOCAL_RANDOM.get().acquire();
+    }
+
+    private static long getReseedInterval() {
+
+        String reseedInterval = IdentityUtil.getProperty(RESEED_INTERVAL_PROPERTY);
+        if (StringUtils.isNotBlank(reseedInterval)) {
+            try {
+                long value = Long.parseLong(reseedInterval.trim());
+                if (value > 0) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // Fall through to the default value.
+            }
+            log.warn("Invalid value: " + reseedInterval + " configured for " + RESEED_INTERVAL_PROPERTY +
+                    ". Using the default value: " + DEFAULT_RESEED_INTERVAL);
+        }
+        return DEFAULT_RESEED_INTERVAL;
+    }
+
+    /**
+     * A DRBG instance confined to a thread, which reseeds itself after a number of requests.
+     */
+    private static class ReseedingSecureRandom {
+
+        private final SecureRandom secureRandom;
+        private final long reseedInterval;
+        private long requestCount;
+
+        ReseedingSecureRandom() {
+
+            try {
+                secureRandom = SecureRandom.getInstance(PRNG_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw IdentityRuntimeException.error("Error while initializing the " + PRNG_ALGORITHM +
+                        " pseudo random number generator.", e);
+            }
+            reseedInterval = getReseedInterval();
+        }
+
+        SecureRandom acquire() {
+
+            if (++requestCount >= reseedInterval) {
+                secureRandom.reseed();
+                requestCount = 0;
+            }
+            return secureRandom;
+        }
+    }
+}
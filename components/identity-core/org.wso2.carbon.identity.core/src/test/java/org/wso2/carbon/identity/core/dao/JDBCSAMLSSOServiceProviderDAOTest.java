@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.dao;
+
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.cache.SAMLSSOServiceProviderCache;
+import org.wso2.carbon.identity.core.cache.SAMLSSOServiceProviderCacheKey;
+import org.wso2.carbon.identity.core.model.SAMLSSOServiceProviderDO;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.security.cert.X509Certificate;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.powermock.api.mockito.PowerMockito.doAnswer;
+import static org.powermock.api.mockito.PowerMockito.doReturn;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.spy;
+import static org.powermock.api.mockito.PowerMockito.verifyStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for JDBCSAMLSSOServiceProviderDAO.
+ */
+@PrepareForTest({IdentityDatabaseUtil.class, IdentityTenantUtil.class, SAMLSSOServiceProviderDAO.class})
+@PowerMockIgnore({"javax.net.*", "javax.security.*", "javax.crypto.*", "javax.xml.*", "org.xml.*", "org.w3c.*",
+        "javax.naming.*", "javax.sql.*", "org.h2.*"})
+public class JDBCSAMLSSOServiceProviderDAOTest extends PowerMockTestCase {
+
+    private static final String DB_URL = "jdbc:h2:mem:saml_sp_test;DB_CLOSE_DELAY=-1";
+    private static final int TENANT_ID = 1;
+    private static final int OTHER_TENANT_ID = 2;
+
+    private JDBCSAMLSSOServiceProviderDAO objUnderTest;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        URL root = this.getClass().getClassLoader().getResource(".");
+        System.setProperty("carbon.home", new File(root.getPath()).getAbsolutePath());
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain("foo.com");
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(TENANT_ID);
+
+        try (Connection connection = DriverManager.getConnection(DB_URL);
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("RUNSCRIPT FROM '" + Paths.get(root.getPath(), "dbscripts", "h2.sql")
+                    .toString() + "'");
+        }
+
+        mockStatic(IdentityDatabaseUtil.class);
+        when(IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenAnswer(invocation -> {
+            Connection connection = DriverManager.getConnection(DB_URL);
+            connection.setAutoCommit(!(Boolean) invocation.getArguments()[0]);
+            return connection;
+        });
+        doAnswer(invocation -> {
+            ((Connection) invocation.getArguments()[0]).commit();
+            return null;
+        }).when(IdentityDatabaseUtil.class, "commitTransaction", any(Connection.class));
+        doAnswer(invocation -> {
+            ((Connection) invocation.getArguments()[0]).rollback();
+            return null;
+        }).when(IdentityDatabaseUtil.class, "rollbackTransaction", any(Connection.class));
+
+        mockStatic(IdentityTenantUtil.class);
+        when(IdentityTenantUtil.getTenantDomain(TENANT_ID)).thenReturn("foo.com");
+        when(IdentityTenantUtil.getTenantDomain(OTHER_TENANT_ID)).thenReturn("bar.com");
+        when(IdentityTenantUtil.getTenantId("foo.com")).thenReturn(TENANT_ID);
+        when(IdentityTenantUtil.getTenantId("bar.com")).thenReturn(OTHER_TENANT_ID);
+
+        objUnderTest = new JDBCSAMLSSOServiceProviderDAO();
+    }
+
+    @AfterMethod
+    public void tearDown() throws SQLException {
+
+        SAMLSSOServiceProviderCache.getInstance().clear();
+        try (Connection connection = DriverManager.getConnection(DB_URL);
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM IDN_SAML2_SP_PROPERTY");
+            statement.executeUpdate("DELETE FROM IDN_SAML2_SERVICE_PROVIDER");
+        }
+    }
+
+    @Test
+    public void testAddAndGetServiceProvider() throws Exception {
+
+        assertTrue(objUnderTest.addServiceProvider(createServiceProvider("issuer", null), TENANT_ID));
+
+        SAMLSSOServiceProviderDO serviceProviderDO = objUnderTest.getServiceProvider("issuer", TENANT_ID);
+        assertNotNull(serviceProviderDO);
+        assertEquals(serviceProviderDO.getIssuer(), "issuer");
+        assertEquals(serviceProviderDO.getAssertionConsumerUrlList(), Arrays.asList("https://sp/acs1",
+                "https://sp/acs2", "https://sp/acs3"));
+        assertEquals(serviceProviderDO.getDefaultAssertionConsumerUrl(), "https://sp/acs2");
+        assertEquals(serviceProviderDO.getRequestedClaimsList(), Arrays.asList("email", "givenName"));
+        assertEquals(serviceProviderDO.getCertAlias(), "wso2carbon");
+        assertTrue(serviceProviderDO.isDoSignResponse());
+        assertEquals(serviceProviderDO.getTenantDomain(), "foo.com");
+
+        assertNull(objUnderTest.getServiceProvider("issuer", OTHER_TENANT_ID));
+        assertNull(objUnderTest.getServiceProvider("unknown", TENANT_ID));
+    }
+
+    @Test
+    public void testAddServiceProviderWithIssuerQualifier() throws Exception {
+
+        assertTrue(objUnderTest.addServiceProvider(createServiceProvider("issuer", "qualifier"), TENANT_ID));
+
+        assertFalse(objUnderTest.isServiceProviderExists("issuer", TENANT_ID));
+        SAMLSSOServiceProviderDO serviceProviderDO = objUnderTest.getServiceProvider(
+                SAMLSSOServiceProviderDAO.getIssuerWithQualifier("issuer", "qualifier"), TENANT_ID);
+        assertNotNull(serviceProviderDO);
+        assertEquals(serviceProviderDO.getIssuerQualifier(), "qualifier");
+    }
+
+    @Test
+    public void testAddDuplicateServiceProvider() throws Exception {
+
+        assertTrue(objUnderTest.addServiceProvider(createServiceProvider("issuer", null), TENANT_ID));
+        assertFalse(objUnderTest.addServiceProvider(createServiceProvider("issuer", null), TENANT_ID));
+        assertTrue(objUnderTest.addServiceProvider(createServiceProvider("issuer", null), OTHER_TENANT_ID));
+    }
+
+    @Test
+    public void testUpdateServiceProvider() throws Exception {
+
+        objUnderTest.addServiceProvider(createServiceProvider("issuer", null), TENANT_ID);
+        objUnderTest.addServiceProvider(createServiceProvider("other", null), TENANT_ID);
+        // Load the service provider to the cache.
+        assertNotNull(objUnderTest.getServiceProvider("issuer", TENANT_ID));
+
+        SAMLSSOServiceProviderDO updatedServiceProvider = createServiceProvider("issuer", null);
+        updatedServiceProvider.setAssertionConsumerUrls(Arrays.asList("https://sp/new"));
+        updatedServiceProvider.setDefaultAssertionConsumerUrl("https://sp/new");
+        assertTrue(objUnderTest.updateServiceProvider(updatedServiceProvider, "issuer", TENANT_ID));
+        assertEquals(objUnderTest.getServiceProvider("issuer", TENANT_ID).getAssertionConsumerUrlList(),
+                Arrays.asList("https://sp/new"));
+
+        // The issuer can not be updated to the issuer of another service provider.
+        assertFalse(objUnderTest.updateServiceProvider(createServiceProvider("other", null), "issuer", TENANT_ID));
+
+        assertTrue(objUnderTest.updateServiceProvider(createServiceProvider("renamed", null), "issuer", TENANT_ID));
+        assertNull(objUnderTest.getServiceProvider("issuer", TENANT_ID));
+        assertNotNull(objUnderTest.getServiceProvider("renamed", TENANT_ID));
+        assertEquals(objUnderTest.getServiceProviders(TENANT_ID).length, 2);
+    }
+
+    @Test
+    public void testRemoveServiceProvider() throws Exception {
+
+        objUnderTest.addServiceProvider(createServiceProvider("issuer", null), TENANT_ID);
+        assertTrue(objUnderTest.isServiceProviderExists("issuer", TENANT_ID));
+        assertNotNull(objUnderTest.getServiceProvider("issuer", TENANT_ID));
+
+        assertTrue(objUnderTest.removeServiceProvider("issuer", TENANT_ID));
+        assertFalse(objUnderTest.isServiceProviderExists("issuer", TENANT_ID));
+        assertNull(objUnderTest.getServiceProvider("issuer", TENANT_ID));
+        assertFalse(objUnderTest.removeServiceProvider("issuer", TENANT_ID));
+    }
+
+    @Test
+    public void testGetServiceProviders() throws Exception {
+
+        objUnderTest.addServiceProvider(createServiceProvider("issuer1", null), TENANT_ID);
+        objUnderTest.addServiceProvider(createServiceProvider("issuer2", null), TENANT_ID);
+        objUnderTest.addServiceProvider(createServiceProvider("issuer3", null), OTHER_TENANT_ID);
+
+        SAMLSSOServiceProviderDO[] serviceProviders = objUnderTest.getServiceProviders(TENANT_ID);
+        assertEquals(serviceProviders.length, 2);
+        assertEquals(serviceProviders[0].getIssuer(), "issuer1");
+        assertEquals(serviceProviders[1].getIssuer(), "issuer2");
+        assertEquals(serviceProviders[1].getAssertionConsumerUrlList().size(), 3);
+    }
+
+    @Test
+    public void testGetServiceProviderCertificateFromCache() throws Exception {
+
+        X509Certificate certificate = mock(X509Certificate.class);
+        spy(SAMLSSOServiceProviderDAO.class);
+        doReturn(certificate).when(SAMLSSOServiceProviderDAO.class, "getApplicationCertificate", any(), any());
+
+        SAMLSSOServiceProviderDO serviceProvider = createServiceProvider("issuer", null);
+        serviceProvider.setDoValidateSignatureInRequests(true);
+        objUnderTest.addServiceProvider(serviceProvider, TENANT_ID);
+
+        assertSame(objUnderTest.getServiceProvider("issuer", TENANT_ID).getX509Certificate(), certificate);
+        assertSame(objUnderTest.getServiceProvider("issuer", TENANT_ID).getX509Certificate(), certificate);
+        verifyStatic(SAMLSSOServiceProviderDAO.class, times(1));
+        SAMLSSOServiceProviderDAO.getApplicationCertificate(any(), any());
+
+        // The application management clears the entry when the application is updated.
+        SAMLSSOServiceProviderCache.getInstance().clearCacheEntry(new SAMLSSOServiceProviderCacheKey("issuer"),
+                "foo.com");
+        assertSame(objUnderTest.getServiceProvider("issuer", TENANT_ID).getX509Certificate(), certificate);
+        verifyStatic(SAMLSSOServiceProviderDAO.class, times(2));
+        SAMLSSOServiceProviderDAO.getApplicationCertificate(any(), any());
+    }
+
+    private SAMLSSOServiceProviderDO createServiceProvider(String issuer, String issuerQualifier) {
+
+        SAMLSSOServiceProviderDO serviceProviderDO = new SAMLSSOServiceProviderDO();
+        serviceProviderDO.setIssuer(issuer);
+        serviceProviderDO.setIssuerQualifier(issuerQualifier);
+        serviceProviderDO.setAssertionConsumerUrls(Arrays.asList("https://sp/acs1", "https://sp/acs2",
+                "https://sp/acs3"));
+        serviceProviderDO.setDefaultAssertionConsumerUrl("https://sp/acs2");
+        serviceProviderDO.setRequestedClaims(Arrays.asList("email", "givenName"));
+        serviceProviderDO.setCertAlias("wso2carbon");
+        serviceProviderDO.setDoSignResponse(true);
+        return serviceProviderDO;
+    }
+}
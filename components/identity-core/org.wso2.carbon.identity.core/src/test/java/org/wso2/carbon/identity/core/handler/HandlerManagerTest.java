@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.handler;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link HandlerManager}.
+ */
+public class HandlerManagerTest {
+
+    @Test
+    public void testSortHandlers() {
+
+        TestHandler handler1 = new TestHandler("handler1", 30, true);
+        TestHandler handler2 = new TestHandler("handler2", 10, false);
+        TestHandler handler3 = new TestHandler("handler3", 10, true);
+        List<TestHandler> handlers = new ArrayList<>(Arrays.asList(handler1, handler2, handler3));
+
+        assertEquals(HandlerManager.getInstance().sortHandlers(handlers, true), Arrays.asList(handler3, handler1));
+        // The given list is sorted in place, keeping the order of the handlers with the same priority.
+        assertEquals(handlers, Arrays.asList(handler2, handler3, handler1));
+        assertSame(HandlerManager.getInstance().getFirstPriorityHandler(handlers, false), handler2);
+    }
+
+    @Test
+    public void testSortMessageHandlers() {
+
+        TestMessageContext messageContext = new TestMessageContext();
+        TestMessageHandler handler1 = new TestMessageHandler(20, true, true);
+        TestMessageHandler handler2 = new TestMessageHandler(10, true, false);
+        TestMessageHandler handler3 = new TestMessageHandler(5, false, true);
+        List<TestMessageHandler> handlers = new ArrayList<>(Arrays.asList(handler1, handler2, handler3));
+
+        assertEquals(HandlerManager.getInstance().sortHandlers(handlers, true, messageContext),
+                Arrays.asList(handler2, handler1));
+        assertEquals(handlers, Arrays.asList(handler3, handler2, handler1));
+        assertSame(HandlerManager.getInstance().getFirstPriorityHandler(handlers, true, messageContext), handler1);
+        assertSame(HandlerManager.getInstance().getFirstPriorityHandler(handlers, false, messageContext), handler3);
+    }
+
+    @Test
+    public void testGetFirstPriorityHandlerWithoutMatch() {
+
+        List<TestHandler> handlers = new ArrayList<>(Arrays.asList(new TestHandler("handler1", 10, false)));
+
+        assertNull(HandlerManager.getInstance().getFirstPriorityHandler(handlers, true));
+    }
+
+    private static class TestHandler implements IdentityHandler {
+
+        private final String name;
+        private final int priority;
+        private final boolean enabled;
+
+        TestHandler(String name, int priority, boolean enabled) {
+
+            this.name = name;
+            this.priority = priority;
+            this.enabled = enabled;
+        }
+
+        @Override
+        public void init(InitConfig initConfig) {
+
+        }
+
+        @Override
+        public String getName() {
+
+            return name;
+        }
+
+        @Override
+        public boolean isEnabled() {
+
+            return enabled;
+        }
+
+        @Override
+        public int getPriority() {
+
+            return priority;
+        }
+    }
+
+    private static class TestMessageHandler extends AbstractIdentityMessageHandler {
+
+        private final int priority;
+        private final boolean enabled;
+        private final boolean canHandle;
+
+        TestMessageHandler(int priority, boolean enabled, boolean canHandle) {
+
+            this.priority = priority;
+            this.enabled = enabled;
+            this.canHandle = canHandle;
+        }
+
+        @Override
+        public boolean isEnabled(MessageContext messageContext) {
+
+            return enabled;
+        }
+
+        @Override
+        public int getPriority(MessageContext messageContext) {
+
+            return priority;
+        }
+
+        @Override
+        public boolean canHandle(MessageContext messageContext) {
+
+            return canHandle;
+        }
+    }
+
+    private static class TestMessageContext extends MessageContext<String, String> {
+
+        private static final long serialVersionUID = 4625381059133512381L;
+    }
+}
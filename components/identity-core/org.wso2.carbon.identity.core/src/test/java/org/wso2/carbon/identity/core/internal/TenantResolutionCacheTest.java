@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.internal;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for {@link TenantResolutionCache}.
+ */
+public class TenantResolutionCacheTest {
+
+    private static final String TENANT_DOMAIN = "abc.com";
+    private static final int TENANT_ID = 1;
+
+    @Test
+    public void testAddTenantDomain() {
+
+        TenantResolutionCache cache = new TenantResolutionCache(60000L, 60000L, 10);
+        cache.addTenantDomain(TENANT_ID, TENANT_DOMAIN);
+
+        assertEquals(cache.getTenantDomain(TENANT_ID), TENANT_DOMAIN);
+        assertEquals(cache.getTenantId(TENANT_DOMAIN), Integer.valueOf(TENANT_ID));
+    }
+
+    @Test
+    public void testAddTenantIdIsNotCachedByTenantId() {
+
+        TenantResolutionCache cache = new TenantResolutionCache(60000L, 60000L, 10);
+        cache.addTenantId("ABC.com", TENANT_ID);
+
+        assertEquals(cache.getTenantId("ABC.com"), Integer.valueOf(TENANT_ID));
+        assertNull(cache.getTenantDomain(TENANT_ID));
+    }
+
+    @Test
+    public void testInvalidTenantDomain() {
+
+        TenantResolutionCache cache = new TenantResolutionCache(60000L, 60000L, 10);
+        cache.addTenantId(TENANT_DOMAIN, MultitenantConstants.INVALID_TENANT_ID);
+        assertEquals(cache.getTenantId(TENANT_DOMAIN), Integer.valueOf(MultitenantConstants.INVALID_TENANT_ID));
+
+        // Creating the tenant removes the negative entry of its domain.
+        cache.invalidate(TENANT_DOMAIN);
+        assertNull(cache.getTenantId(TENANT_DOMAIN));
+
+        TenantResolutionCache expiringCache = new TenantResolutionCache(60000L, -1L, 10);
+        expiringCache.addTenantId(TENANT_DOMAIN, MultitenantConstants.INVALID_TENANT_ID);
+        assertNull(expiringCache.getTenantId(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testInvalidateTenantId() {
+
+        TenantResolutionCache cache = new TenantResolutionCache(60000L, 60000L, 10);
+        cache.addTenantDomain(TENANT_ID, TENANT_DOMAIN);
+        cache.addTenantId("ABC.COM", TENANT_ID);
+        cache.addTenantDomain(2, "xyz.com");
+
+        cache.invalidate(TENANT_ID);
+
+        assertNull(cache.getTenantDomain(TENANT_ID));
+        assertNull(cache.getTenantId(TENANT_DOMAIN));
+        assertNull(cache.getTenantId("ABC.COM"));
+        assertEquals(cache.getTenantDomain(2), "xyz.com");
+    }
+
+    @Test
+    public void testExpiryAndMaxSize() {
+
+        TenantResolutionCache expiredCache = new TenantResolutionCache(-1L, 60000L, 10);
+        expiredCache.addTenantDomain(TENANT_ID, TENANT_DOMAIN);
+        assertNull(expiredCache.getTenantDomain(TENANT_ID));
+        assertNull(expiredCache.getTenantId(TENANT_DOMAIN));
+
+        TenantResolutionCache boundedCache = new TenantResolutionCache(60000L, 60000L, 1);
+        boundedCache.addTenantDomain(TENANT_ID, TENANT_DOMAIN);
+        boundedCache.addTenantDomain(2, "xyz.com");
+        assertEquals(boundedCache.getTenantDomain(TENANT_ID), TENANT_DOMAIN);
+        assertNull(boundedCache.getTenantDomain(2));
+    }
+}
@@ -545,6 +545,28 @@ public class IdentityUtilTest {
                 " " + input);
     }
 
+    @DataProvider
+    public Object[][] getPositivePropertyData() {
+        return new Object[][]{
+                {"1000", 1000L},
+                {" 20 ", 20L},
+                {null, 10L},
+                {" ", 10L},
+                {"0", 10L},
+                {"-5", 10L},
+                {"NotANumber", 10L},
+        };
+    }
+
+    @Test(dataProvider = "getPositivePropertyData")
+    public void testGetPositiveProperty(String value, long expected) throws Exception {
+        Map<String, Object> mockConfiguration = new HashMap<>();
+        mockConfiguration.put("testPositive", value);
+        Whitebox.setInternalState(IdentityUtil.class, "configuration", mockConfiguration);
+        assertEquals(IdentityUtil.getPositiveProperty("testPositive", 10L), expected, "Expected value mismatches " +
+                "returned for input: " + value);
+    }
+
     @DataProvider
     public Object[][] getCleanUpTimeoutData() {
         long defaultVal = Long.parseLong(IdentityConstants.ServerConfig.CLEAN_UP_TIMEOUT_DEFAULT);
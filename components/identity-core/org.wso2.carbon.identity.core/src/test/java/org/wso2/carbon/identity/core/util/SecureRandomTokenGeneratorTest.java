@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SecureRandomTokenGenerator}.
+ */
+public class SecureRandomTokenGeneratorTest {
+
+    @Test
+    public void testGenerateUUID() {
+
+        Set<String> uuids = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            String uuid = SecureRandomTokenGenerator.generateUUID();
+            UUID parsedUUID = UUID.fromString(uuid);
+            assertEquals(parsedUUID.version(), 4, "Generated UUID should be a random UUID.");
+            assertEquals(parsedUUID.variant(), 2, "Generated UUID should have the IETF variant.");
+            uuids.add(uuid);
+        }
+        assertEquals(uuids.size(), 1000, "Generated UUIDs should be unique.");
+    }
+
+    @Test
+    public void testGenerateToken() {
+
+        String token = SecureRandomTokenGenerator.generateToken(32);
+        assertEquals(token.length(), 43, "A 32 byte token should be encoded with 43 characters.");
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "Generated token should be URL safe.");
+    }
+
+    @Test
+    public void testNextInt() {
+
+        for (int i = 0; i < 1000; i++) {
+            int number = SecureRandomTokenGenerator.nextInt(10);
+            assertTrue(number >= 0 && number < 10, "Generated number should be within the bound.");
+            assertTrue(SecureRandomTokenGenerator.nextNonNegativeInt() >= 0,
+                    "Generated number should not be negative.");
+        }
+    }
+
+    @Test
+    public void testNextBytesAcrossThreads() throws InterruptedException {
+
+        byte[][] results = new byte[2][];
+        Thread first = new Thread(() -> results[0] = SecureRandomTokenGenerator.nextBytes(32));
+        Thread second = new Thread(() -> results[1] = SecureRandomTokenGenerator.nextBytes(32));
+        first.start();
+        second.start();
+        first.join();
+        second.join();
+        assertEquals(results[0].length, 32);
+        assertFalse(Arrays.equals(results[0], results[1]),
+                "Generators of different threads should not produce the same bytes.");
+    }
+}
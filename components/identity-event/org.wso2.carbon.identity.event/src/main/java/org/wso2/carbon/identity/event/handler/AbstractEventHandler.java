@@ -78,6 +78,10 @@ public abstract class AbstractEventHandler extends AbstractIdentityMessageHandle
             log.debug("Get the subscription properties for event : " + eventName);
         }
         Properties subscriptionProperties = new Properties();
+        if (configs == null) {
+            // The handler is registered without a module configuration.
+            return subscriptionProperties;
+        }
 
         List<Subscription> subscriptions = configs.getSubscriptions();
         for (Subscription sub : subscriptions) {
@@ -116,6 +116,16 @@ public class AbstractEventHandlerTest extends IdentityBaseTest {
         Assert.assertTrue(isAssociationAsync, "testAsyncEvent is not an asynchronous event");
     }
 
+    @Test
+    public void testIsAssociationAsyncWithoutConfiguration() throws IdentityEventException {
+
+        // A handler without a module configuration is registered without being initialized.
+        TestEventHandler testEventHandler = new TestEventHandler();
+
+        Assert.assertTrue(testEventHandler.getSubscriptionProperties("testEvent").isEmpty());
+        Assert.assertFalse(testEventHandler.isAssociationAsync("testEvent"));
+    }
+
     @Test
     public void testInit(){
 
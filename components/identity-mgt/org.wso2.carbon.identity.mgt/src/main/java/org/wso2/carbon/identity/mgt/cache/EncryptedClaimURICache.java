@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+import java.util.HashSet;
+
+/**
+ * Cache of the lower cased URIs of the identity claims of a tenant, which have encryption enabled. The cache is
+ * keyed by the tenant id.
+ */
+public class EncryptedClaimURICache extends BaseCache<Integer, HashSet<String>> {
+
+    private static final EncryptedClaimURICache instance = new EncryptedClaimURICache();
+    private static final String CACHE_NAME = "EncryptedClaimURICache";
+
+    private EncryptedClaimURICache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static EncryptedClaimURICache getInstance() {
+
+        return instance;
+    }
+}
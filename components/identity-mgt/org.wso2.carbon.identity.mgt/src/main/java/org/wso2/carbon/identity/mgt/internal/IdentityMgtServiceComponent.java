@@ -37,6 +37,7 @@ import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementServic
 import org.wso2.carbon.identity.core.model.IdentityEventListenerConfig;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.mgt.IdentityMgtConfig;
 import org.wso2.carbon.identity.mgt.IdentityMgtConfigException;
 import org.wso2.carbon.identity.mgt.IdentityMgtEventListener;
@@ -46,6 +47,7 @@ import org.wso2.carbon.identity.mgt.config.ConfigBuilder;
 import org.wso2.carbon.identity.mgt.config.EmailNotificationConfig;
 import org.wso2.carbon.identity.mgt.config.StorageType;
 import org.wso2.carbon.identity.mgt.constants.IdentityMgtConstants;
+import org.wso2.carbon.identity.mgt.listener.EncryptedClaimMetadataChangeHandler;
 import org.wso2.carbon.identity.mgt.listener.IdentityClaimValueEncryptionListener;
 import org.wso2.carbon.identity.mgt.listener.IdentityUserIdResolverListener;
 import org.wso2.carbon.identity.mgt.listener.IdentityUserNameResolverListener;
@@ -205,6 +207,8 @@ public class IdentityMgtServiceComponent {
                 new IdentityClaimValueEncryptionListener();
         context.getBundleContext().registerService(UserOperationEventListener.class,
                 identityClaimValueEncryptionListener, null);
+        context.getBundleContext().registerService(AbstractEventHandler.class.getName(),
+                new EncryptedClaimMetadataChangeHandler(), null);
         if (userOperationNotificationSR != null) {
             if (log.isDebugEnabled()) {
                 log.debug("Identity Management - UserOperationNotificationListener registered.");
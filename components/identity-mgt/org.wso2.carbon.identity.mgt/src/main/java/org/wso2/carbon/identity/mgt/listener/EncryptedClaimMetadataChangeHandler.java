@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.mgt.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.mgt.cache.EncryptedClaimURICache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Clears the encryption enabled identity claims of a tenant, cached by
+ * {@link IdentityClaimValueEncryptionListener}, when a local claim of the tenant is added, updated or deleted, when
+ * a claim dialect of the tenant is deleted, and when all the claims of the tenant are removed.
+ */
+public class EncryptedClaimMetadataChangeHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(EncryptedClaimMetadataChangeHandler.class);
+    private static final Set<String> CLAIM_METADATA_EVENTS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(IdentityEventConstants.Event.POST_ADD_LOCAL_CLAIM,
+                    IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM,
+                    IdentityEventConstants.Event.POST_DELETE_LOCAL_CLAIM,
+                    IdentityEventConstants.Event.POST_DELETE_CLAIM_DIALECT,
+                    IdentityEventConstants.Event.POST_DELETE_ALL_CLAIMS)));
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) {
+
+        // Subscribed to the claim metadata events regardless of the event configuration, since the cache has to be
+        // cleared whenever the claim metadata of a tenant is changed.
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        return event != null && CLAIM_METADATA_EVENTS.contains(event.getEventName());
+    }
+
+    @Override
+    public boolean isAssociationAsync(String eventName) throws IdentityEventException {
+
+        // The handler has no module configuration, and the cache has to be cleared before the claim metadata change
+        // returns.
+        return false;
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        Object tenantId = event.getEventProperties().get(IdentityEventConstants.EventProperty.TENANT_ID);
+        if (!(tenantId instanceof Integer)) {
+            return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(event.getEventName() + " event received. Clearing the encrypted claim URIs of the tenant: " +
+                    tenantId);
+        }
+        EncryptedClaimURICache.getInstance().clearCacheEntry((Integer) tenantId, (Integer) tenantId);
+    }
+
+    @Override
+    public String getName() {
+
+        return "EncryptedClaimMetadataChangeHandler";
+    }
+}
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.mgt.listener;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.base.ServerConfiguration;
 import org.wso2.carbon.core.util.CryptoException;
 import org.wso2.carbon.core.util.CryptoUtil;
@@ -30,6 +31,7 @@ import org.wso2.carbon.identity.core.AbstractIdentityUserOperationEventListener;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.mgt.cache.EncryptedClaimURICache;
 import org.wso2.carbon.identity.mgt.constants.IdentityMgtConstants;
 import org.wso2.carbon.identity.mgt.internal.IdentityMgtServiceDataHolder;
 import org.wso2.carbon.user.core.UserCoreConstants;
@@ -41,8 +43,11 @@ import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 public class IdentityClaimValueEncryptionListener extends AbstractIdentityUserOperationEventListener {
 
@@ -168,7 +173,8 @@ public class IdentityClaimValueEncryptionListener extends AbstractIdentityUserOp
     }
 
     /**
-     * Encrypt mapped claim values.
+     * Encrypt mapped claim values. The encryption enabled claims of the tenant, the crypto util and the custom key
+     * are resolved once and reused for all the claims being written.
      *
      * @param claims           Claim values to be encrypted.
      * @param userStoreManager User store manager.
@@ -177,43 +183,47 @@ public class IdentityClaimValueEncryptionListener extends AbstractIdentityUserOp
     private void updateClaimValues(Map<String, String> claims, UserStoreManager userStoreManager)
             throws UserStoreException, CryptoException {
 
+        if (claims == null || claims.isEmpty()) {
+            return;
+        }
+        Set<String> encryptedClaimURIs = null;
+        CryptoUtil cryptoUtil = null;
+        String customKey = null;
+        boolean isSuperTenant = userStoreManager.getTenantId() == MultitenantConstants.SUPER_TENANT_ID;
+
         for (Map.Entry<String, String> entry : claims.entrySet()) {
             String claimURI = entry.getKey();
-            if (checkEnableEncryption(claimURI, userStoreManager)) {
-                String claimValue = entry.getValue();
-                try {
-                    boolean isCustomKeyEnabled = CLAIMS_FOR_TOTP.contains(claimURI) &&
-                            userStoreManager.getTenantId() == -1234;
-                    claimValue = encryptClaimValue(claimValue, isCustomKeyEnabled);
-                } catch (CryptoException e) {
-                    LOG.error("Error occurred while encrypting claim value of claim " + claimURI, e);
-                    throw new CryptoException("Error occurred while encrypting claim value of claim " + claimURI, e);
+            if (!isIdentityClaim(claimURI)) {
+                continue;
+            }
+            if (encryptedClaimURIs == null) {
+                encryptedClaimURIs = getEncryptedClaimURIs(userStoreManager.getTenantId());
+            }
+            if (!encryptedClaimURIs.contains(claimURI.toLowerCase(Locale.ENGLISH))) {
+                continue;
+            }
+            String claimValue = entry.getValue();
+            if (StringUtils.isEmpty(claimValue)) {
+                continue;
+            }
+            try {
+                if (cryptoUtil == null) {
+                    cryptoUtil = CryptoUtil.getDefaultCryptoUtil();
                 }
-                claims.put(claimURI, claimValue);
+                boolean isCustomKeyEnabled = isSuperTenant && CLAIMS_FOR_TOTP.contains(claimURI);
+                if (isCustomKeyEnabled && customKey == null) {
+                    customKey = ServerConfiguration.getInstance().getFirstProperty(TOTP_KEY);
+                }
+                claimValue = cryptoUtil.encryptAndBase64Encode(claimValue.getBytes(StandardCharsets.UTF_8),
+                        isCustomKeyEnabled ? customKey : null);
+            } catch (CryptoException e) {
+                LOG.error("Error occurred while encrypting claim value of claim " + claimURI, e);
+                throw new CryptoException("Error occurred while encrypting claim value of claim " + claimURI, e);
             }
+            entry.setValue(claimValue);
         }
     }
 
-    /**
-     * Encrypt claim value.
-     *
-     * @param plainText text to be encrypted.
-     * @return encrypted claim value.
-     */
-    private String encryptClaimValue(String plainText, boolean isCustomKeyEnabled) throws CryptoException {
-
-        if (plainText.isEmpty()) {
-            return plainText;
-        }
-        // Get custom key from server configuration.
-        String customKey = null;
-        if (isCustomKeyEnabled) {
-            customKey = ServerConfiguration.getInstance().getFirstProperty(TOTP_KEY);
-        }
-        return CryptoUtil.getDefaultCryptoUtil().encryptAndBase64Encode(
-                plainText.getBytes(StandardCharsets.UTF_8), customKey);
-    }
-
     /**
      * Check whether encryption is enabled for a given claim.
      *
@@ -225,23 +235,55 @@ public class IdentityClaimValueEncryptionListener extends AbstractIdentityUserOp
     private boolean checkEnableEncryption(String claimURI, UserStoreManager userStoreManager)
             throws UserStoreException {
 
-        String tenantDomain = IdentityTenantUtil.getTenantDomain(userStoreManager.getTenantId());
-        Map<String, String> claimProperties = new HashMap<>();
+        return isIdentityClaim(claimURI) && getEncryptedClaimURIs(userStoreManager.getTenantId())
+                .contains(claimURI.toLowerCase(Locale.ENGLISH));
+    }
+
+    private boolean isIdentityClaim(String claimURI) {
+
+        return claimURI != null && claimURI.contains(UserCoreConstants.ClaimTypeURIs.IDENTITY_CLAIM_URI_PREFIX);
+    }
+
+    /**
+     * Get the lower cased URIs of the identity claims of a tenant which have encryption enabled. The URIs are
+     * cached per tenant and the cache entry is cleared by {@link EncryptedClaimMetadataChangeHandler} when a local
+     * claim of the tenant is changed.
+     *
+     * @param tenantId Tenant id.
+     * @return Lower cased URIs of the encryption enabled identity claims.
+     */
+    private Set<String> getEncryptedClaimURIs(int tenantId) {
+
+        EncryptedClaimURICache cache = EncryptedClaimURICache.getInstance();
+        HashSet<String> encryptedClaimURIs = cache.getValueFromCache(tenantId, tenantId);
+        if (encryptedClaimURIs != null) {
+            return encryptedClaimURIs;
+        }
 
-        if (claimURI.contains(UserCoreConstants.ClaimTypeURIs.IDENTITY_CLAIM_URI_PREFIX)) {
-            claimProperties = getClaimProperties(tenantDomain, claimURI);
+        List<LocalClaim> localClaims = getLocalClaims(IdentityTenantUtil.getTenantDomain(tenantId));
+        if (localClaims == null) {
+            // Do not cache the failures, so that the claims are retrieved again with the next request.
+            return Collections.emptySet();
+        }
+        encryptedClaimURIs = new HashSet<>();
+        for (LocalClaim localClaim : localClaims) {
+            String claimURI = localClaim.getClaimURI();
+            if (isIdentityClaim(claimURI) && localClaim.getClaimProperties() != null &&
+                    localClaim.getClaimProperties().containsKey(IdentityMgtConstants.ENABLE_ENCRYPTION)) {
+                encryptedClaimURIs.add(claimURI.toLowerCase(Locale.ENGLISH));
+            }
         }
-        return claimProperties.containsKey(IdentityMgtConstants.ENABLE_ENCRYPTION);
+        cache.addToCache(tenantId, encryptedClaimURIs, tenantId);
+        return encryptedClaimURIs;
     }
 
     /**
-     * Get claim properties of a claim in a given tenant.
+     * Get the local claims of a given tenant.
      *
      * @param tenantDomain The tenant domain.
-     * @param claimURI     Claim URI.
-     * @return Properties of the claim.
+     * @return Local claims of the tenant, or null if the claims could not be retrieved.
      */
-    private Map<String, String> getClaimProperties(String tenantDomain, String claimURI) {
+    private List<LocalClaim> getLocalClaims(String tenantDomain) {
 
         try {
             if (IdentityMgtServiceDataHolder.getClaimManagementService() == null) {
@@ -250,20 +292,13 @@ public class IdentityClaimValueEncryptionListener extends AbstractIdentityUserOp
             }
             List<LocalClaim> localClaims =
                     IdentityMgtServiceDataHolder.getClaimManagementService().getLocalClaims(tenantDomain);
-            if (localClaims == null) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Returned claim list from ClaimManagementService is null");
-                }
-                return Collections.emptyMap();
-            }
-            for (LocalClaim localClaim : localClaims) {
-                if (StringUtils.equalsIgnoreCase(claimURI, localClaim.getClaimURI())) {
-                    return localClaim.getClaimProperties();
-                }
+            if (localClaims == null && LOG.isDebugEnabled()) {
+                LOG.debug("Returned claim list from ClaimManagementService is null");
             }
+            return localClaims;
         } catch (ClaimMetadataException e) {
             LOG.error("Error while retrieving local claim meta data.", e);
         }
-        return Collections.emptyMap();
+        return null;
     }
 }
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.mgt.store;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.base.IdentityException;
@@ -34,7 +35,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -45,6 +49,7 @@ import java.util.Map;
 public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
 
     private static Log log = LogFactory.getLog(JDBCIdentityDataStore.class);
+    private static final String DUPLICATE_KEY_SQL_STATE_CLASS = "23";
 
     @Override
     public void store(UserIdentityClaimsDO userIdentityDTO, UserStoreManager userStoreManager)
@@ -72,106 +77,108 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
         userIdentityDTO.setTenantId(tenantId);
         super.store(userIdentityDTO, userStoreManager);
 
-        Map<String, String> data = userIdentityDTO.getUserDataMap();
-
-        for (Map.Entry<String, String> entry : data.entrySet()) {
-            String key = entry.getKey();
-            String value = entry.getValue();
-            boolean isUserExists = false;
-            try {
-                isUserExists = isExistingUserDataValue(userName, tenantId, key);
-            } catch (SQLException e) {
-                throw IdentityException.error("Error occurred while checking if user existing", e);
-            }
-            try {
-                if (isUserExists) {
-                    updateUserDataValue(userName, tenantId, key, value);
-                } else {
-                    addUserDataValue(userName, tenantId, key, value);
-                }
-            } catch (SQLException e) {
-                throw IdentityException.error("Error occurred while persisting user data", e);
-            }
+        try {
+            persistUserDataValues(userName, tenantId, userIdentityDTO.getUserDataMap());
+        } catch (SQLException e) {
+            throw IdentityException.error("Error occurred while persisting user data", e);
         }
     }
 
-    private boolean isExistingUserDataValue(String userName, int tenantId, String key) throws SQLException {
+    /**
+     * Persist the user data values in a single transaction. The values are updated with one batch, and the values
+     * which did not match an existing row are then added with another batch. If the driver does not report the
+     * update count of a value, it is updated again on its own to find whether it has to be added. The transaction is
+     * retried once if a concurrent request added one of the values in between, so that the retry updates it.
+     *
+     * @param userName User name with the user store domain.
+     * @param tenantId Tenant id of the user.
+     * @param data     User data values by data key.
+     * @throws SQLException If an error occurs while persisting the values.
+     */
+    void persistUserDataValues(String userName, int tenantId, Map<String, String> data) throws SQLException {
 
-        Connection connection = IdentityDatabaseUtil.getDBConnection(false);
-        PreparedStatement prepStmt = null;
-        ResultSet results;
         boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(userName, tenantId);
         try {
-            String query;
-            if (isUsernameCaseSensitive) {
-                query = SQLQuery.CHECK_EXIST_USER_DATA;
-            } else {
-                query = SQLQuery.CHECK_EXIST_USER_DATA_CASE_INSENSITIVE;
+            persistUserDataValues(userName, tenantId, data, isUsernameCaseSensitive);
+        } catch (SQLException e) {
+            if (!isDuplicateKeyError(e)) {
+                throw e;
             }
-            prepStmt = connection.prepareStatement(query);
-            prepStmt.setInt(1, tenantId);
-            prepStmt.setString(2, userName);
-            prepStmt.setString(3, key);
-            results = prepStmt.executeQuery();
-            if (results.next()) {
-                return true;
+            if (log.isDebugEnabled()) {
+                log.debug("User data of user: " + userName + " in tenant: " + tenantId + " was added concurrently. " +
+                        "Retrying to persist the user data.");
             }
-        } finally {
-            IdentityDatabaseUtil.closeStatement(prepStmt);
-            IdentityDatabaseUtil.closeConnection(connection);
+            persistUserDataValues(userName, tenantId, data, isUsernameCaseSensitive);
         }
-        return false;
     }
 
+    private void persistUserDataValues(String userName, int tenantId, Map<String, String> data,
+                                       boolean isUsernameCaseSensitive) throws SQLException {
 
-    private void addUserDataValue(String userName, int tenantId, String key, String value) throws SQLException {
-
-        Connection connection = IdentityDatabaseUtil.getDBConnection();
-        PreparedStatement prepStmt = null;
-
+        List<Map.Entry<String, String>> entries = new ArrayList<>(data.entrySet());
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
         try {
-            prepStmt = connection.prepareStatement(SQLQuery.STORE_USER_DATA);
-            prepStmt.setInt(1, tenantId);
-            prepStmt.setString(2, userName);
-            prepStmt.setString(3, key);
-            prepStmt.setString(4, value);
-            prepStmt.execute();
+            // The data keys are matched by the database, so that the collation of the DATA_KEY column applies.
+            int[] updateCounts;
+            try (PreparedStatement updateStmt = connection.prepareStatement(isUsernameCaseSensitive ?
+                    SQLQuery.UPDATE_USER_DATA : SQLQuery.UPDATE_USER_DATA_CASE_INSENSITIVE)) {
+                for (Map.Entry<String, String> entry : entries) {
+                    setUpdateParameters(updateStmt, userName, tenantId, entry);
+                    updateStmt.addBatch();
+                }
+                updateCounts = updateStmt.executeBatch();
+                // Some drivers return Statement.SUCCESS_NO_INFO instead of the number of rows updated by a value.
+                for (int i = 0; i < entries.size(); i++) {
+                    if (updateCounts[i] < 0) {
+                        setUpdateParameters(updateStmt, userName, tenantId, entries.get(i));
+                        updateCounts[i] = updateStmt.executeUpdate();
+                    }
+                }
+            }
+            try (PreparedStatement addStmt = connection.prepareStatement(SQLQuery.STORE_USER_DATA)) {
+                boolean hasNewValues = false;
+                for (int i = 0; i < entries.size(); i++) {
+                    if (updateCounts[i] <= 0) {
+                        addStmt.setInt(1, tenantId);
+                        addStmt.setString(2, userName);
+                        addStmt.setString(3, entries.get(i).getKey());
+                        addStmt.setString(4, entries.get(i).getValue());
+                        addStmt.addBatch();
+                        hasNewValues = true;
+                    }
+                }
+                if (hasNewValues) {
+                    addStmt.executeBatch();
+                }
+            }
             IdentityDatabaseUtil.commitTransaction(connection);
         } catch (SQLException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw e;
         } finally {
-            IdentityDatabaseUtil.closeStatement(prepStmt);
             IdentityDatabaseUtil.closeConnection(connection);
         }
     }
 
+    private void setUpdateParameters(PreparedStatement updateStmt, String userName, int tenantId,
+                                     Map.Entry<String, String> entry) throws SQLException {
 
-    private void updateUserDataValue(String userName, int tenantId, String key, String value) throws SQLException {
+        updateStmt.setString(1, entry.getValue());
+        updateStmt.setInt(2, tenantId);
+        updateStmt.setString(3, userName);
+        updateStmt.setString(4, entry.getKey());
+    }
 
-        Connection connection = IdentityDatabaseUtil.getDBConnection();
-        PreparedStatement prepStmt = null;
-        boolean isUsernameCaseSensitive = IdentityUtil.isUserStoreInUsernameCaseSensitive(userName, tenantId);
-        try {
-            String query;
-            if (isUsernameCaseSensitive) {
-                query = SQLQuery.UPDATE_USER_DATA;
-            } else {
-                query = SQLQuery.UPDATE_USER_DATA_CASE_INSENSITIVE;
+    private boolean isDuplicateKeyError(SQLException e) {
+
+        // The SQL state class 23 is an integrity constraint violation, which is a duplicate key for these inserts.
+        for (SQLException exception = e; exception != null; exception = exception.getNextException()) {
+            if (exception instanceof SQLIntegrityConstraintViolationException ||
+                    StringUtils.startsWith(exception.getSQLState(), DUPLICATE_KEY_SQL_STATE_CLASS)) {
+                return true;
             }
-            prepStmt = connection.prepareStatement(query);
-            prepStmt.setString(1, value);
-            prepStmt.setInt(2, tenantId);
-            prepStmt.setString(3, userName);
-            prepStmt.setString(4, key);
-            prepStmt.executeUpdate();
-            IdentityDatabaseUtil.commitTransaction(connection);
-        } catch (SQLException e) {
-            IdentityDatabaseUtil.rollbackTransaction(connection);
-        } finally {
-            IdentityDatabaseUtil.closeStatement(prepStmt);
-            IdentityDatabaseUtil.closeConnection(connection);
         }
-
+        return false;
     }
 
     @Override
@@ -271,11 +278,6 @@ public class JDBCIdentityDataStore extends InMemoryIdentityDataStore {
      * The primary key is tenantId, userName, DatKey combination
      */
     private static class SQLQuery {
-        public static final String CHECK_EXIST_USER_DATA = "SELECT DATA_VALUE FROM IDN_IDENTITY_USER_DATA WHERE " +
-                "TENANT_ID = ? AND USER_NAME = ? AND DATA_KEY = ?";
-        public static final String CHECK_EXIST_USER_DATA_CASE_INSENSITIVE = "SELECT DATA_VALUE FROM " +
-                "IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND LOWER(USER_NAME) = LOWER(?) AND DATA_KEY = ?";
-
         public static final String STORE_USER_DATA = "INSERT INTO IDN_IDENTITY_USER_DATA (TENANT_ID, USER_NAME, " +
                 "DATA_KEY, DATA_VALUE) VALUES (?,?,?,?)";
 
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.mgt.listener;
+
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.core.classloader.annotations.SuppressStaticInitializationFor;
+import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
+import org.wso2.carbon.identity.event.services.IdentityEventServiceImpl;
+import org.wso2.carbon.identity.mgt.cache.EncryptedClaimURICache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+/**
+ * Test class for EncryptedClaimMetadataChangeHandler.
+ */
+@PrepareForTest(EncryptedClaimURICache.class)
+@SuppressStaticInitializationFor("org.wso2.carbon.identity.mgt.cache.EncryptedClaimURICache")
+public class EncryptedClaimMetadataChangeHandlerTest extends PowerMockTestCase {
+
+    private static final int TENANT_ID = 1;
+
+    private EncryptedClaimMetadataChangeHandler objUnderTest;
+    private EncryptedClaimURICache encryptedClaimURICache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        mockStatic(EncryptedClaimURICache.class);
+        encryptedClaimURICache = mock(EncryptedClaimURICache.class);
+        when(EncryptedClaimURICache.getInstance()).thenReturn(encryptedClaimURICache);
+
+        objUnderTest = new EncryptedClaimMetadataChangeHandler();
+    }
+
+    @DataProvider(name = "claimMetadataEvents")
+    public Object[][] getClaimMetadataEvents() {
+
+        return new Object[][]{
+                {IdentityEventConstants.Event.POST_ADD_LOCAL_CLAIM, true},
+                {IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM, true},
+                {IdentityEventConstants.Event.POST_DELETE_LOCAL_CLAIM, true},
+                {IdentityEventConstants.Event.POST_DELETE_CLAIM_DIALECT, true},
+                {IdentityEventConstants.Event.POST_DELETE_ALL_CLAIMS, true},
+                {IdentityEventConstants.Event.POST_ADD_EXTERNAL_CLAIM, false}
+        };
+    }
+
+    @Test(dataProvider = "claimMetadataEvents")
+    public void testCanHandle(String eventName, boolean canHandle) {
+
+        assertEquals(objUnderTest.canHandle(new IdentityEventMessageContext(new Event(eventName))), canHandle);
+    }
+
+    @Test
+    public void testHandleDeleteAllClaimsEvent() throws Exception {
+
+        Map<String, Object> eventProperties = new HashMap<>();
+        eventProperties.put(IdentityEventConstants.EventProperty.TENANT_ID, TENANT_ID);
+        objUnderTest.handleEvent(new Event(IdentityEventConstants.Event.POST_DELETE_ALL_CLAIMS, eventProperties));
+
+        verify(encryptedClaimURICache).clearCacheEntry(TENANT_ID, TENANT_ID);
+    }
+
+    @Test
+    public void testHandleEventThroughEventService() throws Exception {
+
+        // The handler is registered without a module configuration, hence it is not initialized.
+        IdentityEventServiceComponent.eventHandlerList.add(objUnderTest);
+        try {
+            Map<String, Object> eventProperties = new HashMap<>();
+            eventProperties.put(IdentityEventConstants.EventProperty.TENANT_ID, TENANT_ID);
+            new IdentityEventServiceImpl(Collections.emptyList(), 1).handleEvent(
+                    new Event(IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM, eventProperties));
+
+            verify(encryptedClaimURICache).clearCacheEntry(TENANT_ID, TENANT_ID);
+            assertFalse(objUnderTest.isAssociationAsync(IdentityEventConstants.Event.POST_UPDATE_LOCAL_CLAIM));
+        } finally {
+            IdentityEventServiceComponent.eventHandlerList.remove(objUnderTest);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.mgt.store;
+
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.powermock.api.mockito.PowerMockito.doAnswer;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Test class for JDBCIdentityDataStore.
+ */
+@PrepareForTest({IdentityDatabaseUtil.class, IdentityUtil.class})
+@PowerMockIgnore({"javax.net.*", "javax.security.*", "javax.crypto.*", "javax.xml.*", "org.xml.*", "org.w3c.*",
+        "javax.naming.*", "javax.sql.*", "org.h2.*"})
+public class JDBCIdentityDataStoreTest extends PowerMockTestCase {
+
+    private static final String DB_URL = "jdbc:h2:mem:identity_user_data_test;DB_CLOSE_DELAY=-1";
+    private static final String USER_NAME = "PRIMARY/john";
+    private static final int TENANT_ID = 1;
+
+    private JDBCIdentityDataStore objUnderTest;
+    private Connection concurrentInsertConnection;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        try (Connection connection = DriverManager.getConnection(DB_URL);
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS IDN_IDENTITY_USER_DATA (" +
+                    "TENANT_ID INTEGER DEFAULT -1234, USER_NAME VARCHAR(255) NOT NULL, " +
+                    "DATA_KEY VARCHAR(255) NOT NULL, DATA_VALUE VARCHAR(2048), " +
+                    "PRIMARY KEY (TENANT_ID, USER_NAME, DATA_KEY))");
+        }
+
+        mockStatic(IdentityDatabaseUtil.class);
+        when(IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenAnswer(invocation -> {
+            Connection connection = concurrentInsertConnection;
+            concurrentInsertConnection = null;
+            if (connection == null) {
+                connection = DriverManager.getConnection(DB_URL);
+            }
+            connection.setAutoCommit(!(Boolean) invocation.getArguments()[0]);
+            return connection;
+        });
+        doAnswer(invocation -> {
+            ((Connection) invocation.getArguments()[0]).commit();
+            return null;
+        }).when(IdentityDatabaseUtil.class, "commitTransaction", any(Connection.class));
+        doAnswer(invocation -> {
+            ((Connection) invocation.getArguments()[0]).rollback();
+            return null;
+        }).when(IdentityDatabaseUtil.class, "rollbackTransaction", any(Connection.class));
+        doAnswer(invocation -> {
+            ((Connection) invocation.getArguments()[0]).close();
+            return null;
+        }).when(IdentityDatabaseUtil.class, "closeConnection", any(Connection.class));
+
+        mockStatic(IdentityUtil.class);
+        when(IdentityUtil.isUserStoreInUsernameCaseSensitive(anyString(), anyInt())).thenReturn(true);
+
+        objUnderTest = new JDBCIdentityDataStore();
+    }
+
+    @AfterMethod
+    public void tearDown() throws SQLException {
+
+        concurrentInsertConnection = null;
+        try (Connection connection = DriverManager.getConnection(DB_URL);
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM IDN_IDENTITY_USER_DATA");
+        }
+    }
+
+    @Test
+    public void testPersistNewValues() throws Exception {
+
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("http://wso2.org/claims/identity/accountLocked", "false");
+        data.put("http://wso2.org/claims/identity/failedLoginAttempts", "0");
+
+        objUnderTest.persistUserDataValues(USER_NAME, TENANT_ID, data);
+
+        assertEquals(loadUserData(USER_NAME), data);
+    }
+
+    @Test
+    public void testPersistExistingValues() throws Exception {
+
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("http://wso2.org/claims/identity/accountLocked", "false");
+        data.put("http://wso2.org/claims/identity/failedLoginAttempts", "0");
+        objUnderTest.persistUserDataValues(USER_NAME, TENANT_ID, data);
+
+        data.put("http://wso2.org/claims/identity/accountLocked", "true");
+        data.put("http://wso2.org/claims/identity/failedLoginAttempts", "3");
+        objUnderTest.persistUserDataValues(USER_NAME, TENANT_ID, data);
+
+        assertEquals(loadUserData(USER_NAME), data);
+    }
+
+    @Test
+    public void testPersistNewAndExistingValues() throws Exception {
+
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("http://wso2.org/claims/identity/accountLocked", "false");
+        objUnderTest.persistUserDataValues(USER_NAME, TENANT_ID, data);
+
+        Map<String, String> updatedData = new LinkedHashMap<>();
+        updatedData.put("http://wso2.org/claims/identity/failedLoginAttempts", "1");
+        updatedData.put("http://wso2.org/claims/identity/accountLocked", "true");
+        updatedData.put("http://wso2.org/claims/identity/lastFailedAttemptTime", "1700000000000");
+        objUnderTest.persistUserDataValues(USER_NAME, TENANT_ID, updatedData);
+
+        assertEquals(loadUserData(USER_NAME), updatedData);
+    }
+
+    @Test
+    public void testPersistValuesForCaseInsensitiveUserName() throws Exception {
+
+        when(IdentityUtil.isUserStoreInUsernameCaseSensitive(anyString(), anyInt())).thenReturn(false);
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("http://wso2.org/claims/identity/accountLocked", "false");
+        objUnderTest.persistUserDataValues(USER_NAME, TENANT_ID, data);
+
+        data.put("http://wso2.org/claims/identity/accountLocked", "true");
+        objUnderTest.persistUserDataValues(USER_NAME.toUpperCase(), TENANT_ID, data);
+
+        assertEquals(loadUserData(USER_NAME), data);
+        assertEquals(loadUserData(USER_NAME.toUpperCase()).size(), 0);
+    }
+
+    @Test
+    public void testPersistValueAddedConcurrently() throws Exception {
+
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("http://wso2.org/claims/identity/accountLocked", "true");
+        data.put("http://wso2.org/claims/identity/failedLoginAttempts", "3");
+        // Another request adds a value after it is found missing, and before it is added by this request.
+        concurrentInsertConnection = withConcurrentInsert(DriverManager.getConnection(DB_URL),
+                "http://wso2.org/claims/identity/accountLocked", "false");
+
+        objUnderTest.persistUserDataValues(USER_NAME, TENANT_ID, data);
+
+        assertEquals(loadUserData(USER_NAME), data);
+    }
+
+    @Test
+    public void testPersistValuesWithoutUpdateCounts() throws Exception {
+
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("http://wso2.org/claims/identity/accountLocked", "false");
+        objUnderTest.persistUserDataValues(USER_NAME, TENANT_ID, data);
+
+        Map<String, String> updatedData = new LinkedHashMap<>();
+        updatedData.put("http://wso2.org/claims/identity/failedLoginAttempts", "1");
+        updatedData.put("http://wso2.org/claims/identity/accountLocked", "true");
+        // The driver reports that the updates succeeded, without the number of rows updated.
+        concurrentInsertConnection = withoutUpdateCounts(DriverManager.getConnection(DB_URL));
+        objUnderTest.persistUserDataValues(USER_NAME, TENANT_ID, updatedData);
+
+        assertEquals(loadUserData(USER_NAME), updatedData);
+    }
+
+    private Connection withoutUpdateCounts(Connection connection) {
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class[]{Connection.class},
+                (proxy, method, args) -> {
+                    try {
+                        Object result = method.invoke(connection, args);
+                        if ("prepareStatement".equals(method.getName()) &&
+                                ((String) args[0]).startsWith("UPDATE")) {
+                            return withoutBatchUpdateCounts((PreparedStatement) result);
+                        }
+                        return result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private PreparedStatement withoutBatchUpdateCounts(PreparedStatement statement) {
+
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    try {
+                        Object result = method.invoke(statement, args);
+                        if ("executeBatch".equals(method.getName())) {
+                            int[] updateCounts = new int[((int[]) result).length];
+                            Arrays.fill(updateCounts, Statement.SUCCESS_NO_INFO);
+                            return updateCounts;
+                        }
+                        return result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private Connection withConcurrentInsert(Connection connection, String key, String value) {
+
+        AtomicBoolean isInserted = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("prepareStatement".equals(method.getName()) && ((String) args[0]).startsWith("INSERT") &&
+                            !isInserted.getAndSet(true)) {
+                        Map<String, String> data = new HashMap<>();
+                        data.put(key, value);
+                        objUnderTest.persistUserDataValues(USER_NAME, TENANT_ID, data);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private Map<String, String> loadUserData(String userName) throws SQLException {
+
+        Map<String, String> data = new HashMap<>();
+        try (Connection connection = DriverManager.getConnection(DB_URL);
+             PreparedStatement statement = connection.prepareStatement("SELECT DATA_KEY, DATA_VALUE FROM " +
+                     "IDN_IDENTITY_USER_DATA WHERE TENANT_ID = ? AND USER_NAME = ?")) {
+            statement.setInt(1, TENANT_ID);
+            statement.setString(2, userName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    data.put(resultSet.getString(1), resultSet.getString(2));
+                }
+            }
+        }
+        return data;
+    }
+}
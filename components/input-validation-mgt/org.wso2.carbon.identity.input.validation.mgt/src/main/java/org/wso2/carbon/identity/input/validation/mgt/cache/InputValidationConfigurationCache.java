@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.input.validation.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache for the input validation configurations of a tenant, which are stored in the configuration store. Entries are
+ * cleared on updates made through the input validation management service only. Changes made directly in the
+ * configuration store remain stale until the entry expires with the cache timeout.
+ */
+public class InputValidationConfigurationCache extends
+        BaseCache<InputValidationConfigurationCacheKey, InputValidationConfigurationCacheEntry> {
+
+    private static final String CACHE_NAME = "InputValidationConfigurationCache";
+
+    private static volatile InputValidationConfigurationCache instance;
+
+    private InputValidationConfigurationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static InputValidationConfigurationCache getInstance() {
+
+        if (instance == null) {
+            synchronized (InputValidationConfigurationCache.class) {
+                if (instance == null) {
+                    instance = new InputValidationConfigurationCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
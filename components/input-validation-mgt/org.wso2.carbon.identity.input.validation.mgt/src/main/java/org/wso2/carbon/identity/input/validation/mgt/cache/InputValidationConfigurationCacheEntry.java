@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.input.validation.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Input validation configuration cache entry. The entry holds the attributes of the input validation configuration
+ * resources of a tenant by the resource name, and is not modified once created.
+ */
+public class InputValidationConfigurationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -3894470612398265170L;
+
+    private final LinkedHashMap<String, HashMap<String, String>> attributesByResourceName;
+
+    public InputValidationConfigurationCacheEntry(
+            LinkedHashMap<String, HashMap<String, String>> attributesByResourceName) {
+
+        this.attributesByResourceName = attributesByResourceName;
+    }
+
+    /**
+     * Get the attributes of the input validation configuration resources by the resource name.
+     *
+     * @return Unmodifiable map of the resource name to the attributes of the resource.
+     */
+    public Map<String, Map<String, String>> getAttributesByResourceName() {
+
+        return Collections.unmodifiableMap(attributesByResourceName);
+    }
+}
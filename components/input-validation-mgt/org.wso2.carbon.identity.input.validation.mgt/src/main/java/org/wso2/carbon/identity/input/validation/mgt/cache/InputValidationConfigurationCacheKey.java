@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.input.validation.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Input validation configuration cache key.
+ */
+public class InputValidationConfigurationCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 2750463188164937412L;
+
+    private final String tenantDomain;
+
+    public InputValidationConfigurationCacheKey(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (!super.equals(o)) {
+            return false;
+        }
+        return Objects.equals(tenantDomain, ((InputValidationConfigurationCacheKey) o).tenantDomain);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hashCode(tenantDomain);
+    }
+}
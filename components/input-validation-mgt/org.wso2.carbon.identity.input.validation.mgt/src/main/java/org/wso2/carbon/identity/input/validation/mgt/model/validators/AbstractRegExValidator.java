@@ -26,8 +26,11 @@ import org.wso2.carbon.identity.input.validation.mgt.model.Property;
 import org.wso2.carbon.identity.input.validation.mgt.model.ValidationContext;
 import org.wso2.carbon.identity.input.validation.mgt.model.Validator;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.ErrorMessages.ERROR_PROPERTY_NOT_SUPPORTED;
@@ -39,6 +42,18 @@ import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.SUPP
 public abstract class AbstractRegExValidator implements Validator {
 
     private static final Log log = LogFactory.getLog(AbstractRegExValidator.class);
+    private static final int MAX_COMPILED_PATTERNS = 100;
+
+    // Compiled patterns by the regex, evicting the least recently used pattern once the limit is reached.
+    private static final Map<String, Pattern> COMPILED_PATTERNS = Collections.synchronizedMap(
+            new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+
+                    return size() > MAX_COMPILED_PATTERNS;
+                }
+            });
 
     @Override
     public boolean canHandle(String validatorName) {
@@ -60,6 +75,18 @@ public abstract class AbstractRegExValidator implements Validator {
         return validatePropertyName(properties, this.getClass().getSimpleName(), context.getTenantDomain());
     }
 
+    /**
+     * Get the compiled pattern of a regex. The compiled patterns are reused across validations, since the configured
+     * regex of a tenant rarely changes.
+     *
+     * @param regex Regex to be compiled.
+     * @return Compiled pattern.
+     */
+    protected static Pattern getPattern(String regex) {
+
+        return COMPILED_PATTERNS.computeIfAbsent(regex, Pattern::compile);
+    }
+
     protected boolean validatePropertyName(Map<String, String> properties, String validator, String tenantDomain)
             throws InputValidationMgtClientException {
 
@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.input.validation.mgt.model.ValidationContext;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.ALPHANUMERIC_REGEX_PATTERN_WITH_SPECIAL_CHARACTERS;
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Configs.DEFAULT_ALPHANUMERIC_REGEX_PATTERN;
@@ -41,6 +42,10 @@ import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.Erro
  */
 public class AlphanumericValidator extends AbstractRulesValidator {
 
+    private static final Pattern DEFAULT_ALPHANUMERIC_PATTERN = Pattern.compile(DEFAULT_ALPHANUMERIC_REGEX_PATTERN);
+    private static final Pattern ALPHANUMERIC_PATTERN_WITH_SPECIAL_CHARACTERS =
+            Pattern.compile(ALPHANUMERIC_REGEX_PATTERN_WITH_SPECIAL_CHARACTERS);
+
     private final List<String> allowedFields = new ArrayList<String>() {{
         add(USERNAME);
     }};
@@ -65,9 +70,11 @@ public class AlphanumericValidator extends AbstractRulesValidator {
         String field = context.getField();
         Map<String, String> attributesMap = context.getProperties();
         String alphanumericRegEx = DEFAULT_ALPHANUMERIC_REGEX_PATTERN;
+        Pattern alphanumericPattern = DEFAULT_ALPHANUMERIC_PATTERN;
         // Check whether special characters are allowed.
         if (attributesMap.containsKey(ENABLE_SPECIAL_CHARACTERS)) {
             alphanumericRegEx = ALPHANUMERIC_REGEX_PATTERN_WITH_SPECIAL_CHARACTERS;
+            alphanumericPattern = ALPHANUMERIC_PATTERN_WITH_SPECIAL_CHARACTERS;
         }
 
         // Check whether value satisfies the alphanumeric criteria.
@@ -76,7 +83,8 @@ public class AlphanumericValidator extends AbstractRulesValidator {
                 throw new InputValidationMgtClientException(ERROR_INPUT_VALUE_NULL.getCode(),
                         ERROR_INPUT_VALUE_NULL.getMessage(), ERROR_INPUT_VALUE_NULL.getDescription());
             }
-            if (Boolean.parseBoolean(attributesMap.get(ENABLE_VALIDATOR)) && !value.matches(alphanumericRegEx)) {
+            if (Boolean.parseBoolean(attributesMap.get(ENABLE_VALIDATOR)) &&
+                    !alphanumericPattern.matcher(value).matches()) {
                 throw new InputValidationMgtClientException(ERROR_VALIDATION_ALPHANUMERIC_FORMAT_MISMATCH.getCode(),
                     ERROR_VALIDATION_ALPHANUMERIC_FORMAT_MISMATCH.getMessage(), String.format(
                     ERROR_VALIDATION_ALPHANUMERIC_FORMAT_MISMATCH.getDescription(), field, alphanumericRegEx));
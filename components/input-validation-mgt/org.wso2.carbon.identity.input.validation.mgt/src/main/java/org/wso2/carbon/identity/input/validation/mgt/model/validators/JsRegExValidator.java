@@ -60,9 +60,9 @@ public class JsRegExValidator extends AbstractRegExValidator {
         if (attributesMap.containsKey(JS_REGEX)) {
             String jsRegex = attributesMap.get(JS_REGEX);
             // Convert to Java regex.
-            javaRegex = jsRegex.replaceAll("//", "/");
+            javaRegex = StringUtils.replace(jsRegex, "//", "/");
 
-            Pattern pattern = Pattern.compile(javaRegex);
+            Pattern pattern = getPattern(javaRegex);
             Matcher matcher = pattern.matcher(value);
             valid = matcher.matches();
         }
@@ -55,10 +55,11 @@ public class SpecialCharacterValidator extends AbstractRulesValidator {
         Map<String, String> attributesMap = context.getProperties();
 
         for (int i = 0; i < value.length(); i++) {
-            if (value.substring(i, i + 1).matches("[^A-Za-z0-9]")) {
+            char character = value.charAt(i);
+            if (!((character >= 'A' && character <= 'Z') || (character >= 'a' && character <= 'z') ||
+                    (character >= '0' && character <= '9'))) {
                 countSpecial++;
             }
-
         }
         if (attributesMap.containsKey(MIN_LENGTH)) {
             int min = Integer.parseInt(attributesMap.get(MIN_LENGTH));
@@ -26,6 +26,9 @@ import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationMa
 import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
+import org.wso2.carbon.identity.input.validation.mgt.cache.InputValidationConfigurationCache;
+import org.wso2.carbon.identity.input.validation.mgt.cache.InputValidationConfigurationCacheEntry;
+import org.wso2.carbon.identity.input.validation.mgt.cache.InputValidationConfigurationCacheKey;
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtClientException;
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtException;
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtServerException;
@@ -39,6 +42,7 @@ import org.wso2.carbon.identity.input.validation.mgt.model.validators.AbstractRe
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -81,13 +85,7 @@ public class InputValidationManagementServiceImpl implements InputValidationMana
     public List<ValidationConfiguration> getInputValidationConfiguration(String tenantDomain)
             throws InputValidationMgtException {
 
-        List<Resource> resources = getResourcesByType(tenantDomain);
-
-        // Convert resources to Validation Configurations.
-        List<ValidationConfiguration> configurations = new ArrayList<>();
-        for (Resource resource: resources) {
-            configurations.add(buildValidationConfigFromResource(resource));
-        }
+        List<ValidationConfiguration> configurations = getValidationConfigurationsFromConfigStore(tenantDomain);
         // If validation configuration is not found for any field, get default regex.
         for (String field: SUPPORTED_PARAMS) {
             if (configurations.stream().noneMatch(config -> field.equals(config.getField()))) {
@@ -109,12 +107,7 @@ public class InputValidationManagementServiceImpl implements InputValidationMana
     public ValidationConfiguration getInputValidationConfigurationForField(String tenantDomain, String field)
             throws InputValidationMgtException {
 
-        List<Resource> resources = getResourcesByType(tenantDomain);
-        // Convert resources to Validation Configurations.
-        List<ValidationConfiguration> configurations = new ArrayList<>();
-        for (Resource resource: resources) {
-            configurations.add(buildValidationConfigFromResource(resource));
-        }
+        List<ValidationConfiguration> configurations = getValidationConfigurationsFromConfigStore(tenantDomain);
         // If validation configuration is not found for any field, get default regex.
         for (ValidationConfiguration config: configurations) {
             if (field.equals(config.getField())) {
@@ -222,6 +215,8 @@ public class InputValidationManagementServiceImpl implements InputValidationMana
             // Update the existing resource.
             updatedResource = updateResource(newResource, tenantDomain);
         }
+        InputValidationConfigurationCache.getInstance().clearCacheEntry(
+                new InputValidationConfigurationCacheKey(tenantDomain), tenantDomain);
 
         // Execute post actions of validation configuration update.
         FieldValidationConfigurationHandler handler = InputValidationDataHolder
@@ -300,6 +295,41 @@ public class InputValidationManagementServiceImpl implements InputValidationMana
         return updatedResource;
     }
 
+    /**
+     * Method to get the validation configurations stored in the configuration store. The attributes of the
+     * configuration resources are cached per tenant, and the cache entry is cleared when a configuration is updated
+     * through this service. The configuration store does not notify changes made directly through its own APIs, so
+     * such changes are only seen once the cache entry expires with the configured cache timeout.
+     *
+     * @param tenantDomain  Tenant domain name.
+     * @return  Validation configurations built from the configuration resources.
+     * @throws InputValidationMgtServerException If an error occurred when getting the resources.
+     */
+    private List<ValidationConfiguration> getValidationConfigurationsFromConfigStore(String tenantDomain)
+            throws InputValidationMgtServerException {
+
+        InputValidationConfigurationCacheKey cacheKey = new InputValidationConfigurationCacheKey(tenantDomain);
+        InputValidationConfigurationCacheEntry cacheEntry =
+                InputValidationConfigurationCache.getInstance().getValueFromCache(cacheKey, tenantDomain);
+        if (cacheEntry == null) {
+            LinkedHashMap<String, HashMap<String, String>> attributesByResourceName = new LinkedHashMap<>();
+            for (Resource resource : getResourcesByType(tenantDomain)) {
+                attributesByResourceName.put(resource.getResourceName(), resource.getAttributes().stream()
+                        .collect(Collectors.toMap(Attribute::getKey, Attribute::getValue, (first, second) -> second,
+                                HashMap::new)));
+            }
+            cacheEntry = new InputValidationConfigurationCacheEntry(attributesByResourceName);
+            InputValidationConfigurationCache.getInstance().addToCache(cacheKey, cacheEntry, tenantDomain);
+        }
+
+        // Build new configurations for each call, since the callers are free to modify them.
+        List<ValidationConfiguration> configurations = new ArrayList<>();
+        for (Map.Entry<String, Map<String, String>> entry : cacheEntry.getAttributesByResourceName().entrySet()) {
+            configurations.add(buildValidationConfiguration(entry.getKey(), entry.getValue()));
+        }
+        return configurations;
+    }
+
     /**
      * Method to get resources by resource type.
      *
@@ -377,11 +407,22 @@ public class InputValidationManagementServiceImpl implements InputValidationMana
      */
     private ValidationConfiguration buildValidationConfigFromResource(Resource resource) {
 
+        return buildValidationConfiguration(resource.getResourceName(), resource.getAttributes().stream()
+                .collect(Collectors.toMap(Attribute::getKey, Attribute::getValue)));
+    }
+
+    /**
+     * Method to build validation configuration from the attributes of a resource.
+     *
+     * @param resourceName  Name of the resource.
+     * @param attributesMap Attributes of the resource.
+     * @return Validation Configuration.
+     */
+    private ValidationConfiguration buildValidationConfiguration(String resourceName,
+                                                                 Map<String, String> attributesMap) {
+
         ValidationConfiguration configuration = new ValidationConfiguration();
-        configuration.setField(resource.getResourceName().substring(
-                resource.getResourceName().lastIndexOf("-") + 1));
-        Map<String, String> attributesMap = resource.getAttributes().stream()
-                    .collect(Collectors.toMap(Attribute::getKey, Attribute::getValue));
+        configuration.setField(resourceName.substring(resourceName.lastIndexOf("-") + 1));
 
         // Build rules configurations from mapping.
         Map<String, Map<String, String>> validatorConfig = buildValidatorConfigGroup(attributesMap);
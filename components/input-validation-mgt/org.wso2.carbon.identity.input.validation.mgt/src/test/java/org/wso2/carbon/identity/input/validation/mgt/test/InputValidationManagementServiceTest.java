@@ -28,6 +28,9 @@ import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationMa
 import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
 import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
+import org.wso2.carbon.identity.input.validation.mgt.cache.InputValidationConfigurationCache;
+import org.wso2.carbon.identity.input.validation.mgt.cache.InputValidationConfigurationCacheEntry;
+import org.wso2.carbon.identity.input.validation.mgt.cache.InputValidationConfigurationCacheKey;
 import org.wso2.carbon.identity.input.validation.mgt.exceptions.InputValidationMgtException;
 import org.wso2.carbon.identity.input.validation.mgt.internal.InputValidationDataHolder;
 import org.wso2.carbon.identity.input.validation.mgt.model.RulesConfiguration;
@@ -40,12 +43,16 @@ import org.wso2.carbon.identity.input.validation.mgt.services.InputValidationMan
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.INPUT_VAL_CONFIG_RESOURCE_NAME_PREFIX;
@@ -54,19 +61,23 @@ import static org.wso2.carbon.identity.input.validation.mgt.utils.Constants.INPU
 /**
  * Testing the InputValidationManagementService class
  */
-@PrepareForTest({ InputValidationDataHolder.class })
+@PrepareForTest({ InputValidationDataHolder.class, InputValidationConfigurationCache.class })
 public class InputValidationManagementServiceTest extends PowerMockTestCase {
 
     private InputValidationManagementService service;
     private String tenantName = "testTenant";
     private String fieldPassword = "password";
     private String fieldUsername = "username";
+    private InputValidationConfigurationCache inputValidationConfigurationCache;
 
     @BeforeMethod
     public void setup() {
 
         service = new InputValidationManagementServiceImpl();
         mockStatic(InputValidationDataHolder.class);
+        mockStatic(InputValidationConfigurationCache.class);
+        inputValidationConfigurationCache = mock(InputValidationConfigurationCache.class);
+        when(InputValidationConfigurationCache.getInstance()).thenReturn(inputValidationConfigurationCache);
     }
 
     @Test
@@ -97,6 +108,30 @@ public class InputValidationManagementServiceTest extends PowerMockTestCase {
         }
     }
 
+    @Test
+    public void getInputValidationConfigurationFromCacheTest() {
+
+        HashMap<String, String> attributes = new HashMap<>();
+        attributes.put("LengthValidator.min.length", "5");
+        attributes.put("validation.type", "RULE");
+        LinkedHashMap<String, HashMap<String, String>> attributesByResourceName = new LinkedHashMap<>();
+        attributesByResourceName.put(INPUT_VAL_CONFIG_RESOURCE_NAME_PREFIX + fieldPassword, attributes);
+
+        ConfigurationManager configurationManager = mock(ConfigurationManager.class);
+        when(InputValidationDataHolder.getConfigurationManager()).thenReturn(configurationManager);
+        when(inputValidationConfigurationCache.getValueFromCache(any(InputValidationConfigurationCacheKey.class),
+                eq(tenantName))).thenReturn(new InputValidationConfigurationCacheEntry(attributesByResourceName));
+        try {
+            ValidationConfiguration configuration =
+                    service.getInputValidationConfigurationForField(tenantName, fieldPassword);
+            Assert.assertEquals(configuration.getField(), fieldPassword);
+            Assert.assertEquals(configuration.getRules().size(), 1);
+            verify(configurationManager, never()).getResourcesByType(anyString());
+        } catch (ConfigurationManagementException | InputValidationMgtException e) {
+            Assert.fail();
+        }
+    }
+
     @Test
     public void updateInputValidationConfigurationTest() {
 
@@ -27,6 +27,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.core.util.CryptoException;
 import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.secret.mgt.core.cache.ResolvedSecretCache;
 import org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants;
 import org.wso2.carbon.identity.secret.mgt.core.dao.SecretDAO;
 import org.wso2.carbon.identity.secret.mgt.core.exception.SecretManagementClientException;
@@ -153,6 +154,7 @@ public class SecretManagerImpl implements SecretManager {
         SecretType secretType = getSecretType(secretTypeName);
         if (isSecretExist(secretTypeName, secretName)) {
             this.getSecretDAO().deleteSecretByName(secretName, secretType.getId(), getTenantId());
+            invalidateResolvedSecret(secretTypeName, secretName);
             if (log.isDebugEnabled()) {
                 log.debug("Secret: " + secretName + " is deleted successfully.");
             }
@@ -170,6 +172,10 @@ public class SecretManagerImpl implements SecretManager {
         }
         if (isSecretExistsById(secretId)) {
             this.getSecretDAO().deleteSecretById(secretId, getTenantId());
+            ResolvedSecretCache resolvedSecretCache = getResolvedSecretCache();
+            if (resolvedSecretCache != null) {
+                resolvedSecretCache.invalidateBySecretId(getTenantId(), secretId);
+            }
             if (log.isDebugEnabled()) {
                 log.debug("Secret id: " + secretId + " in tenant: " + getTenantDomain() + " deleted successfully.");
             }
@@ -188,6 +194,7 @@ public class SecretManagerImpl implements SecretManager {
         secret.setSecretType(secretTypeName);
         secret.setSecretValue(getEncryptedSecret(secret.getSecretValue(), secret.getSecretName()));
         this.getSecretDAO().replaceSecret(secret);
+        invalidateResolvedSecret(secretTypeName, secret.getSecretName());
         if (log.isDebugEnabled()) {
             log.debug(secret.getSecretName() + " secret replaced successfully.");
         }
@@ -205,6 +212,7 @@ public class SecretManagerImpl implements SecretManager {
         } catch (CryptoException e) {
             throw handleServerException(ERROR_CODE_UPDATE_SECRET, value, e);
         }
+        invalidateResolvedSecret(secretTypeName, name);
         if (log.isDebugEnabled()) {
             log.debug(secret.getSecretName() + " secret value updated successfully.");
         }
@@ -283,6 +291,10 @@ public class SecretManagerImpl implements SecretManager {
 
         validateSecretTypeDeleteRequest(secretTypeName);
         getSecretDAO().deleteSecretTypeByName(secretTypeName);
+        ResolvedSecretCache resolvedSecretCache = getResolvedSecretCache();
+        if (resolvedSecretCache != null) {
+            resolvedSecretCache.invalidateBySecretType(secretTypeName);
+        }
 
         if (log.isDebugEnabled()) {
             log.debug("Secret type: " + secretTypeName + " is successfully deleted.");
@@ -417,6 +429,25 @@ public class SecretManagerImpl implements SecretManager {
         }
     }
 
+    private ResolvedSecretCache getResolvedSecretCache() {
+
+        return SecretManagerComponentDataHolder.getInstance().getResolvedSecretCache();
+    }
+
+    /**
+     * Remove the decrypted value of the secret from the resolved secret cache, if the cache is enabled.
+     *
+     * @param secretTypeName Secret type name.
+     * @param secretName     Secret name.
+     */
+    private void invalidateResolvedSecret(String secretTypeName, String secretName) {
+
+        ResolvedSecretCache resolvedSecretCache = getResolvedSecretCache();
+        if (resolvedSecretCache != null) {
+            resolvedSecretCache.invalidate(getTenantId(), secretTypeName, secretName);
+        }
+    }
+
     private int getTenantId() {
 
         return PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
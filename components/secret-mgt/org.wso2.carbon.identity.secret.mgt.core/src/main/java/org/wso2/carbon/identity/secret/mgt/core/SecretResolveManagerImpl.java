@@ -19,10 +19,13 @@
 package org.wso2.carbon.identity.secret.mgt.core;
 
 import org.apache.commons.codec.Charsets;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.core.util.CryptoException;
 import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.secret.mgt.core.cache.ResolvedSecretCache;
 import org.wso2.carbon.identity.secret.mgt.core.exception.SecretManagementException;
 import org.wso2.carbon.identity.secret.mgt.core.exception.SecretManagementServerException;
+import org.wso2.carbon.identity.secret.mgt.core.internal.SecretManagerComponentDataHolder;
 import org.wso2.carbon.identity.secret.mgt.core.model.ResolvedSecret;
 import org.wso2.carbon.identity.secret.mgt.core.model.Secret;
 
@@ -42,10 +45,11 @@ public class SecretResolveManagerImpl implements SecretResolveManager {
     public ResolvedSecret getResolvedSecret(String secretTypeName, String secretName) throws SecretManagementException {
 
         Secret secret = secretManager.getSecret(secretTypeName, secretName);
-        return getResolvedSecret(secret);
+        return getResolvedSecret(secretTypeName, secret);
     }
 
-    private ResolvedSecret getResolvedSecret(Secret secret) throws SecretManagementServerException {
+    private ResolvedSecret getResolvedSecret(String secretTypeName, Secret secret)
+            throws SecretManagementServerException {
 
         ResolvedSecret resolvedSecret = new ResolvedSecret();
         resolvedSecret.setSecretId(secret.getSecretId());
@@ -53,10 +57,38 @@ public class SecretResolveManagerImpl implements SecretResolveManager {
         resolvedSecret.setCreatedTime(secret.getCreatedTime());
         resolvedSecret.setLastModified(secret.getLastModified());
         resolvedSecret.setTenantDomain(secret.getTenantDomain());
-        resolvedSecret.setResolvedSecretValue(getDecryptedSecretValue(secret.getSecretValue(), secret.getSecretName()));
+        resolvedSecret.setResolvedSecretValue(getDecryptedSecretValue(secretTypeName, secret));
         return resolvedSecret;
     }
 
+    /**
+     * Get the decrypted value of the secret, from the resolved secret cache if it is enabled.
+     *
+     * @param secretTypeName Secret type name.
+     * @param secret         Secret with the encrypted value.
+     * @return Decrypted secret value.
+     * @throws SecretManagementServerException If the secret value can not be decrypted.
+     */
+    private String getDecryptedSecretValue(String secretTypeName, Secret secret)
+            throws SecretManagementServerException {
+
+        ResolvedSecretCache resolvedSecretCache = SecretManagerComponentDataHolder.getInstance()
+                .getResolvedSecretCache();
+        if (resolvedSecretCache == null) {
+            return getDecryptedSecretValue(secret.getSecretValue(), secret.getSecretName());
+        }
+
+        int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+        String secretValue = resolvedSecretCache.getValue(tenantId, secretTypeName, secret.getSecretName(),
+                secret.getSecretValue());
+        if (secretValue == null) {
+            secretValue = getDecryptedSecretValue(secret.getSecretValue(), secret.getSecretName());
+            resolvedSecretCache.addValue(tenantId, secretTypeName, secret.getSecretName(), secret.getSecretId(),
+                    secret.getSecretValue(), secretValue);
+        }
+        return secretValue;
+    }
+
     private String getDecryptedSecretValue(String secretValue, String name) throws SecretManagementServerException {
 
         try {
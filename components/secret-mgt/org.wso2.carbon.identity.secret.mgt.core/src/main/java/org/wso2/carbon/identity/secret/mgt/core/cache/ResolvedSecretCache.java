@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.secret.mgt.core.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local in memory cache of the decrypted values of secrets, used by
+ * {@link org.wso2.carbon.identity.secret.mgt.core.SecretResolveManagerImpl} to avoid decrypting a secret on each
+ * resolution.
+ * <p>
+ * Unlike the other secret caches, this cache is not backed by the carbon cache and its entries are never
+ * replicated to other nodes or serialized. A decrypted value is kept along with the cipher text it was decrypted
+ * from and is only returned for the same cipher text, so a secret updated on another node is decrypted again on
+ * the next resolution. Entries expire after the configured timeout, and the number of entries is bounded by the
+ * configured maximum size. The decrypted values of removed entries can optionally be overwritten with zeros.
+ */
+public class ResolvedSecretCache {
+
+    private static final Log LOG = LogFactory.getLog(ResolvedSecretCache.class);
+
+    private final Map<ResolvedSecretCacheKey, ResolvedSecretCacheEntry> entries = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final int maxSize;
+    private final boolean clearEvictedValues;
+
+    public ResolvedSecretCache(long timeoutMillis, int maxSize, boolean clearEvictedValues) {
+
+        this.timeoutMillis = timeoutMillis;
+        this.maxSize = maxSize;
+        this.clearEvictedValues = clearEvictedValues;
+    }
+
+    /**
+     * Get the decrypted value of the given secret.
+     *
+     * @param tenantId       Tenant id of the secret.
+     * @param secretTypeName Secret type name.
+     * @param secretName     Secret name.
+     * @param cipherText     Current encrypted value of the secret.
+     * @return Decrypted value, or null if the secret is not cached for the given encrypted value.
+     */
+    public String getValue(int tenantId, String secretTypeName, String secretName, String cipherText) {
+
+        ResolvedSecretCacheKey key = new ResolvedSecretCacheKey(tenantId, secretTypeName, secretName);
+        ResolvedSecretCacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiryTime || !entry.cipherText.equals(cipherText)) {
+            remove(key, entry);
+            return null;
+        }
+        return entry.getValue();
+    }
+
+    /**
+     * Add the decrypted value of the given secret.
+     *
+     * @param tenantId       Tenant id of the secret.
+     * @param secretTypeName Secret type name.
+     * @param secretName     Secret name.
+     * @param secretId       Secret id.
+     * @param cipherText     Encrypted value of the secret.
+     * @param value          Decrypted value of the secret.
+     */
+    public void addValue(int tenantId, String secretTypeName, String secretName, String secretId, String cipherText,
+                         String value) {
+
+        if (cipherText == null || value == null) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        ResolvedSecretCacheEntry previousEntry = entries.put(
+                new ResolvedSecretCacheKey(tenantId, secretTypeName, secretName),
+                new ResolvedSecretCacheEntry(secretId, cipherText, value.getBytes(StandardCharsets.UTF_8),
+                        System.currentTimeMillis() + timeoutMillis));
+        if (previousEntry != null) {
+            clearValue(previousEntry);
+        }
+    }
+
+    /**
+     * Remove the decrypted value of the given secret.
+     *
+     * @param tenantId       Tenant id of the secret.
+     * @param secretTypeName Secret type name.
+     * @param secretName     Secret name.
+     */
+    public void invalidate(int tenantId, String secretTypeName, String secretName) {
+
+        ResolvedSecretCacheEntry entry = entries.remove(
+                new ResolvedSecretCacheKey(tenantId, secretTypeName, secretName));
+        if (entry != null) {
+            clearValue(entry);
+        }
+    }
+
+    /**
+     * Remove the decrypted value of the secret with the given id.
+     *
+     * @param tenantId Tenant id of the secret.
+     * @param secretId Secret id.
+     */
+    public void invalidateBySecretId(int tenantId, String secretId) {
+
+        entries.forEach((key, entry) -> {
+            if (key.tenantId == tenantId && Objects.equals(entry.secretId, secretId)) {
+                remove(key, entry);
+            }
+        });
+    }
+
+    /**
+     * Remove the decrypted values of all the secrets of the given type.
+     *
+     * @param secretTypeName Secret type name.
+     */
+    public void invalidateBySecretType(String secretTypeName) {
+
+        entries.forEach((key, entry) -> {
+            if (Objects.equals(key.secretTypeName, secretTypeName)) {
+                remove(key, entry);
+            }
+        });
+    }
+
+    /**
+     * Remove all the decrypted values.
+     */
+    public void clear() {
+
+        entries.forEach(this::remove);
+    }
+
+    private void evict() {
+
+        long currentTime = System.currentTimeMillis();
+        entries.forEach((key, entry) -> {
+            if (currentTime >= entry.expiryTime) {
+                remove(key, entry);
+            }
+        });
+        Iterator<Map.Entry<ResolvedSecretCacheKey, ResolvedSecretCacheEntry>> iterator =
+                entries.entrySet().iterator();
+        while (entries.size() >= maxSize && iterator.hasNext()) {
+            Map.Entry<ResolvedSecretCacheKey, ResolvedSecretCacheEntry> entryToEvict = iterator.next();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Resolved secret cache is full. Evicting the secret: " + entryToEvict.getKey().secretName +
+                        " of tenant: " + entryToEvict.getKey().tenantId);
+            }
+            remove(entryToEvict.getKey(), entryToEvict.getValue());
+        }
+    }
+
+    private void remove(ResolvedSecretCacheKey key, ResolvedSecretCacheEntry entry) {
+
+        if (entries.remove(key, entry)) {
+            clearValue(entry);
+        }
+    }
+
+    private void clearValue(ResolvedSecretCacheEntry entry) {
+
+        if (clearEvictedValues) {
+            entry.clear();
+        }
+    }
+
+    /**
+     * Cache key of a secret.
+     */
+    private static final class ResolvedSecretCacheKey {
+
+        private final int tenantId;
+        private final String secretTypeName;
+        private final String secretName;
+
+        ResolvedSecretCacheKey(int tenantId, String secretTypeName, String secretName) {
+
+            this.tenantId = tenantId;
+            this.secretTypeName = secretTypeName;
+            this.secretName = secretName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ResolvedSecretCacheKey that = (ResolvedSecretCacheKey) o;
+            return tenantId == that.tenantId && Objects.equals(secretTypeName, that.secretTypeName) &&
+                    Objects.equals(secretName, that.secretName);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantId, secretTypeName, secretName);
+        }
+    }
+
+    /**
+     * Decrypted value of a secret along with the cipher text it was decrypted from and its expiry time.
+     */
+    private static final class ResolvedSecretCacheEntry {
+
+        private final String secretId;
+        private final String cipherText;
+        private final byte[] value;
+        private final long expiryTime;
+        private boolean cleared;
+
+        ResolvedSecretCacheEntry(String secretId, String cipherText, byte[] value, long expiryTime) {
+
+            this.secretId = secretId;
+            this.cipherText = cipherText;
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+
+        synchronized String getValue() {
+
+            if (cleared) {
+                return null;
+            }
+            return new String(value, StandardCharsets.UTF_8);
+        }
+
+        synchronized void clear() {
+
+            cleared = true;
+            Arrays.fill(value, (byte) 0);
+        }
+    }
+}
@@ -36,6 +36,15 @@ public class SecretConstants {
     public static final String DB_TABLE_SECRET_TYPE = "IDN_SECRET_TYPE";
     public static final String IDN_SECRET_TYPE_IDP_SECRETS = "IDP_SECRET_PROPERTIES";
 
+    // Resolved secret cache configurations.
+    public static final String RESOLVED_SECRET_CACHE_ENABLED = "SecretManagement.ResolvedSecretCache.Enable";
+    public static final String RESOLVED_SECRET_CACHE_TIMEOUT = "SecretManagement.ResolvedSecretCache.Timeout";
+    public static final String RESOLVED_SECRET_CACHE_MAX_SIZE = "SecretManagement.ResolvedSecretCache.MaxSize";
+    public static final String RESOLVED_SECRET_CACHE_CLEAR_EVICTED_VALUES =
+            "SecretManagement.ResolvedSecretCache.ClearEvictedValues";
+    public static final long DEFAULT_RESOLVED_SECRET_CACHE_TIMEOUT = 300;
+    public static final int DEFAULT_RESOLVED_SECRET_CACHE_MAX_SIZE = 1000;
+
     public enum ErrorMessages {
         ERROR_CODE_UNEXPECTED("SECRETM_00001", "Unexpected Error"),
         ERROR_CODE_GET_DAO("SECRETM_00002", "No %s are registered."),
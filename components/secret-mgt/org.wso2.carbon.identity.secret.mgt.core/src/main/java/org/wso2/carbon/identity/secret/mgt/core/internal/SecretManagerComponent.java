@@ -18,30 +18,41 @@
 
 package org.wso2.carbon.identity.secret.mgt.core.internal;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.secret.mgt.core.IdPSecretsProcessor;
 import org.wso2.carbon.identity.secret.mgt.core.SecretManager;
 import org.wso2.carbon.identity.secret.mgt.core.SecretManagerImpl;
 import org.wso2.carbon.identity.secret.mgt.core.SecretResolveManager;
 import org.wso2.carbon.identity.secret.mgt.core.SecretResolveManagerImpl;
 import org.wso2.carbon.identity.secret.mgt.core.SecretsProcessor;
+import org.wso2.carbon.identity.secret.mgt.core.cache.ResolvedSecretCache;
 import org.wso2.carbon.identity.secret.mgt.core.dao.SecretDAO;
 import org.wso2.carbon.identity.secret.mgt.core.dao.impl.CachedBackedSecretDAO;
 import org.wso2.carbon.identity.secret.mgt.core.dao.impl.SecretDAOImpl;
 
 import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
 
 import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.DB_TABLE_SECRET;
 import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.DB_TABLE_SECRET_TYPE;
+import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.DEFAULT_RESOLVED_SECRET_CACHE_MAX_SIZE;
+import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.DEFAULT_RESOLVED_SECRET_CACHE_TIMEOUT;
+import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.RESOLVED_SECRET_CACHE_CLEAR_EVICTED_VALUES;
+import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.RESOLVED_SECRET_CACHE_ENABLED;
+import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.RESOLVED_SECRET_CACHE_MAX_SIZE;
+import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.RESOLVED_SECRET_CACHE_TIMEOUT;
 
 /**
  * OSGi declarative services component which handles registration and un-registration of configuration management
@@ -64,6 +75,7 @@ public class SecretManagerComponent {
     protected void activate(ComponentContext componentContext) {
 
         BundleContext bundleContext = componentContext.getBundleContext();
+        SecretManagerComponentDataHolder.getInstance().setResolvedSecretCache(buildResolvedSecretCache());
         SecretDAO secretDAO = new SecretDAOImpl();
         bundleContext.registerService(SecretDAO.class.getName(),
                 new CachedBackedSecretDAO(secretDAO), null);
@@ -77,6 +89,17 @@ public class SecretManagerComponent {
                 (isSecretManagementEnabled());
     }
 
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+
+        ResolvedSecretCache resolvedSecretCache =
+                SecretManagerComponentDataHolder.getInstance().getResolvedSecretCache();
+        if (resolvedSecretCache != null) {
+            resolvedSecretCache.clear();
+            SecretManagerComponentDataHolder.getInstance().setResolvedSecretCache(null);
+        }
+    }
+
     @Reference(
             name = "secret.dao",
             service = org.wso2.carbon.identity.secret.mgt.core.dao.SecretDAO.class,
@@ -109,4 +132,27 @@ public class SecretManagerComponent {
         return IdentityDatabaseUtil.isTableExists(DB_TABLE_SECRET) &&
                 IdentityDatabaseUtil.isTableExists(DB_TABLE_SECRET_TYPE);
     }
+
+    /**
+     * Build the cache of the decrypted secret values if it is enabled in the identity configuration.
+     *
+     * @return Resolved secret cache, or null if it is not enabled.
+     */
+    private ResolvedSecretCache buildResolvedSecretCache() {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(RESOLVED_SECRET_CACHE_ENABLED))) {
+            return null;
+        }
+        long timeout = IdentityUtil.getPositiveProperty(RESOLVED_SECRET_CACHE_TIMEOUT,
+                DEFAULT_RESOLVED_SECRET_CACHE_TIMEOUT);
+        int maxSize = (int) Math.min(IdentityUtil.getPositiveProperty(RESOLVED_SECRET_CACHE_MAX_SIZE,
+                DEFAULT_RESOLVED_SECRET_CACHE_MAX_SIZE), Integer.MAX_VALUE);
+        String clearEvictedValues = IdentityUtil.getProperty(RESOLVED_SECRET_CACHE_CLEAR_EVICTED_VALUES);
+        if (log.isDebugEnabled()) {
+            log.debug("Resolved secret cache is enabled with the timeout: " + timeout + "s and the maximum size: " +
+                    maxSize);
+        }
+        return new ResolvedSecretCache(TimeUnit.SECONDS.toMillis(timeout), maxSize,
+                StringUtils.isBlank(clearEvictedValues) || Boolean.parseBoolean(clearEvictedValues));
+    }
 }
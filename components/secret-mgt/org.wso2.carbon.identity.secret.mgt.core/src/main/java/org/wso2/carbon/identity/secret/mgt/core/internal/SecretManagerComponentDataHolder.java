@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.secret.mgt.core.internal;
 
+import org.wso2.carbon.identity.secret.mgt.core.cache.ResolvedSecretCache;
 import org.wso2.carbon.identity.secret.mgt.core.dao.SecretDAO;
 import org.wso2.carbon.user.core.service.RealmService;
 
@@ -34,6 +35,7 @@ public class SecretManagerComponentDataHolder {
     private boolean secretManagementEnabled;
     private RealmService realmService;
     private List<SecretDAO> secretDAOS = new ArrayList<>();
+    private ResolvedSecretCache resolvedSecretCache;
 
     public static SecretManagerComponentDataHolder getInstance() {
 
@@ -69,4 +71,19 @@ public class SecretManagerComponentDataHolder {
 
         this.secretDAOS = secretDAOS;
     }
+
+    /**
+     * Get the cache of the decrypted secret values.
+     *
+     * @return Resolved secret cache, or null if caching the decrypted secret values is not enabled.
+     */
+    public ResolvedSecretCache getResolvedSecretCache() {
+
+        return resolvedSecretCache;
+    }
+
+    public void setResolvedSecretCache(ResolvedSecretCache resolvedSecretCache) {
+
+        this.resolvedSecretCache = resolvedSecretCache;
+    }
 }
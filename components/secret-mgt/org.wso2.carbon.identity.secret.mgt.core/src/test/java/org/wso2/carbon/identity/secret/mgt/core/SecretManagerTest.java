@@ -37,6 +37,7 @@ import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.secret.mgt.core.cache.ResolvedSecretCache;
 import org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants;
 import org.wso2.carbon.identity.secret.mgt.core.dao.SecretDAO;
 import org.wso2.carbon.identity.secret.mgt.core.dao.impl.SecretDAOImpl;
@@ -55,6 +56,8 @@ import java.util.Collections;
 import javax.sql.DataSource;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 import static org.powermock.api.mockito.PowerMockito.when;
@@ -527,6 +530,57 @@ public class SecretManagerTest extends PowerMockTestCase {
         }
     }
 
+    @Test(priority = 32)
+    public void testGetResolvedSecretFromCache() throws Exception {
+
+        SecretManagerComponentDataHolder.getInstance().setResolvedSecretCache(
+                new ResolvedSecretCache(60000L, 10, true));
+        try {
+            SecretType secretType = secretManager.addSecretType(getSampleSecretTypeAdd(SAMPLE_SECRET_TYPE_NAME1,
+                    SAMPLE_SECRET_TYPE_DESCRIPTION1));
+            encryptSecret(SAMPLE_SECRET_VALUE1);
+            secretManager.addSecret(secretType.getName(), getSampleSecretAdd(SAMPLE_SECRET_NAME1,
+                    SAMPLE_SECRET_VALUE1));
+            decryptSecret(ENCRYPTED_VALUE1);
+            decryptSecret(ENCRYPTED_VALUE2);
+
+            assertEquals(secretResolveManager.getResolvedSecret(secretType.getName(), SAMPLE_SECRET_NAME1)
+                    .getResolvedSecretValue(), SAMPLE_SECRET_VALUE1);
+            assertEquals(secretResolveManager.getResolvedSecret(secretType.getName(), SAMPLE_SECRET_NAME1)
+                    .getResolvedSecretValue(), SAMPLE_SECRET_VALUE1);
+            verify(cryptoUtil, times(1)).base64DecodeAndDecrypt(ENCRYPTED_VALUE1);
+
+            encryptSecret(SAMPLE_SECRET_VALUE2);
+            secretManager.updateSecretValue(secretType.getName(), SAMPLE_SECRET_NAME1, SAMPLE_SECRET_VALUE2);
+            assertEquals(secretResolveManager.getResolvedSecret(secretType.getName(), SAMPLE_SECRET_NAME1)
+                    .getResolvedSecretValue(), SAMPLE_SECRET_VALUE2, "Updated secret value should be resolved.");
+        } finally {
+            SecretManagerComponentDataHolder.getInstance().setResolvedSecretCache(null);
+        }
+    }
+
+    @Test(priority = 33, expectedExceptions = SecretManagementClientException.class)
+    public void testGetDeletedResolvedSecretFromCache() throws Exception {
+
+        SecretManagerComponentDataHolder.getInstance().setResolvedSecretCache(
+                new ResolvedSecretCache(60000L, 10, true));
+        try {
+            SecretType secretType = secretManager.addSecretType(getSampleSecretTypeAdd(SAMPLE_SECRET_TYPE_NAME1,
+                    SAMPLE_SECRET_TYPE_DESCRIPTION1));
+            encryptSecret(SAMPLE_SECRET_VALUE1);
+            secretManager.addSecret(secretType.getName(), getSampleSecretAdd(SAMPLE_SECRET_NAME1,
+                    SAMPLE_SECRET_VALUE1));
+            decryptSecret(ENCRYPTED_VALUE1);
+            secretResolveManager.getResolvedSecret(secretType.getName(), SAMPLE_SECRET_NAME1);
+
+            secretManager.deleteSecret(secretType.getName(), SAMPLE_SECRET_NAME1);
+            secretResolveManager.getResolvedSecret(secretType.getName(), SAMPLE_SECRET_NAME1);
+        } finally {
+            SecretManagerComponentDataHolder.getInstance().setResolvedSecretCache(null);
+        }
+        fail("Expected: " + SecretManagementClientException.class.getName());
+    }
+
     private void prepareConfigs() {
 
         SecretDAO secretDAO = new SecretDAOImpl();
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.security.keystore.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Tenant wise cache of the certificate metadata of the loaded keystores.
+ */
+public class KeyStoreCertificateCache extends BaseCache<KeyStoreCertificateCacheKey, KeyStoreCertificateCacheEntry> {
+
+    private static final String CACHE_NAME = "KeyStoreCertificateCache";
+    private static final KeyStoreCertificateCache instance = new KeyStoreCertificateCache();
+
+    private KeyStoreCertificateCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static KeyStoreCertificateCache getInstance() {
+
+        return instance;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.security.keystore.cache;
+
+import java.io.Serializable;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Cache entry for {@link KeyStoreCertificateCache}. Holds the type of a keystore along with its certificate entries
+ * and key entries, each sorted by the lower case alias so that the entries can be filtered by an alias prefix with
+ * a binary search.
+ */
+public class KeyStoreCertificateCacheEntry implements Serializable {
+
+    private static final long serialVersionUID = 4127538902612095843L;
+
+    private final String keyStoreType;
+    private final List<CertificateMetadata> certificates;
+    private final List<CertificateMetadata> keyCertificates;
+
+    public KeyStoreCertificateCacheEntry(String keyStoreType, List<CertificateMetadata> certificates,
+                                         List<CertificateMetadata> keyCertificates) {
+
+        this.keyStoreType = keyStoreType;
+        certificates.sort(Comparator.comparing(CertificateMetadata::getLowerCaseAlias));
+        keyCertificates.sort(Comparator.comparing(CertificateMetadata::getLowerCaseAlias));
+        this.certificates = Collections.unmodifiableList(certificates);
+        this.keyCertificates = Collections.unmodifiableList(keyCertificates);
+    }
+
+    public String getKeyStoreType() {
+
+        return keyStoreType;
+    }
+
+    /**
+     * Get the certificate entries of the keystore sorted by the lower case alias.
+     *
+     * @return Certificate entries.
+     */
+    public List<CertificateMetadata> getCertificates() {
+
+        return certificates;
+    }
+
+    /**
+     * Get the key entries of the keystore sorted by the lower case alias.
+     *
+     * @return Key entries.
+     */
+    public List<CertificateMetadata> getKeyCertificates() {
+
+        return keyCertificates;
+    }
+
+    /**
+     * Alias and certificate of a keystore entry.
+     */
+    public static class CertificateMetadata implements Serializable {
+
+        private static final long serialVersionUID = -6285920138457307712L;
+
+        private final String alias;
+        private final String lowerCaseAlias;
+        private final X509Certificate certificate;
+
+        public CertificateMetadata(String alias, X509Certificate certificate) {
+
+            this.alias = alias;
+            this.lowerCaseAlias = alias.toLowerCase();
+            this.certificate = certificate;
+        }
+
+        public String getAlias() {
+
+            return alias;
+        }
+
+        public String getLowerCaseAlias() {
+
+            return lowerCaseAlias;
+        }
+
+        public X509Certificate getCertificate() {
+
+            return certificate;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.security.keystore.cache;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Cache key for {@link KeyStoreCertificateCache}.
+ */
+public class KeyStoreCertificateCacheKey implements Serializable {
+
+    private static final long serialVersionUID = -3870927361805519234L;
+
+    private final String keyStoreName;
+
+    public KeyStoreCertificateCacheKey(String keyStoreName) {
+
+        this.keyStoreName = keyStoreName;
+    }
+
+    public String getKeyStoreName() {
+
+        return keyStoreName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        KeyStoreCertificateCacheKey that = (KeyStoreCertificateCacheKey) o;
+        return Objects.equals(keyStoreName, that.keyStoreName);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hashCode(keyStoreName);
+    }
+}
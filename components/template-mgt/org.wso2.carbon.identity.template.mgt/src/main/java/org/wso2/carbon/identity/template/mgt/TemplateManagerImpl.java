@@ -275,18 +275,67 @@ public class TemplateManagerImpl implements TemplateManager {
             throw handleClientException(TemplateMgtConstants.ErrorMessages.ERROR_CODE_INVALID_TEMPLATE_TYPE,
                     templateType);
         }
-        if (limit != null || offset != null) {
-            throw handleClientException(TemplateMgtConstants.ErrorMessages.ERROR_CODE_PAGINATION_NOT_SUPPORTED, null);
-        }
-
-        List<Template> templates = new ArrayList<>();
         List<ReadOnlyTemplateHandler> readOnlyTemplateHandlers =
                 TemplateManagerDataHolder.getInstance().getReadOnlyTemplateHandlers();
+        if (limit == null && offset == null) {
+            List<Template> templates = new ArrayList<>();
+            for (ReadOnlyTemplateHandler readOnlyTemplateHandler : readOnlyTemplateHandlers) {
+                templates.addAll(readOnlyTemplateHandler.listTemplates(templateType, null, null, searchCondition));
+            }
+            templates.addAll(configStoreBasedTemplateHandler.listTemplates(templateType, null, null,
+                    searchCondition));
+            return templates;
+        }
+        return listTemplatesPage(readOnlyTemplateHandlers, templateType, limit, offset, searchCondition);
+    }
+
+    /**
+     * List a page of templates. The read only templates are listed before the templates in the configuration store,
+     * and only the remainder of the page is requested from the configuration store.
+     *
+     * @param readOnlyTemplateHandlers Read only template handlers.
+     * @param templateType             Template type.
+     * @param limit                    Maximum number of templates to be listed.
+     * @param offset                   Number of templates to be skipped.
+     * @param searchCondition          Search condition.
+     * @return Page of templates.
+     * @throws TemplateManagementException Template Management Exception.
+     */
+    private List<Template> listTemplatesPage(List<ReadOnlyTemplateHandler> readOnlyTemplateHandlers,
+                                             String templateType, Integer limit, Integer offset,
+                                             Condition searchCondition) throws TemplateManagementException {
+
+        if (limit != null && limit < 0) {
+            throw handleClientException(TemplateMgtConstants.ErrorMessages.ERROR_CODE_INVALID_ARGUMENTS_FOR_LIMIT,
+                    null);
+        }
+        if (offset != null && offset < 0) {
+            throw handleClientException(TemplateMgtConstants.ErrorMessages.ERROR_CODE_INVALID_ARGUMENTS_FOR_OFFSET,
+                    null);
+        }
+        int remainingLimit = limit == null ? Integer.MAX_VALUE : limit;
+        int remainingOffset = offset == null ? 0 : offset;
+
+        // Read only templates are held in memory, hence they are listed fully and paginated here.
+        List<Template> readOnlyTemplates = new ArrayList<>();
         for (ReadOnlyTemplateHandler readOnlyTemplateHandler : readOnlyTemplateHandlers) {
-            templates.addAll(readOnlyTemplateHandler.listTemplates(templateType, limit, offset, searchCondition));
+            readOnlyTemplates.addAll(readOnlyTemplateHandler.listTemplates(templateType, Integer.MAX_VALUE, 0,
+                    searchCondition));
+        }
+        List<Template> templates = new ArrayList<>();
+        if (remainingOffset < readOnlyTemplates.size()) {
+            templates.addAll(readOnlyTemplates.subList(remainingOffset,
+                    (int) Math.min(readOnlyTemplates.size(), (long) remainingOffset + remainingLimit)));
+            remainingOffset = 0;
+        } else {
+            remainingOffset -= readOnlyTemplates.size();
         }
+        remainingLimit -= templates.size();
 
-        templates.addAll(configStoreBasedTemplateHandler.listTemplates(templateType, limit, offset, searchCondition));
+        if (remainingLimit > 0) {
+            templates.addAll(configStoreBasedTemplateHandler.listTemplates(templateType, remainingLimit,
+                    remainingOffset, searchCondition));
+        }
         return templates;
     }
 
@@ -114,6 +114,10 @@ public class TemplateMgtConstants {
                 "tenant: %s from the database."),
         ERROR_CODE_RETRIEVE_TEMPLATE_BY_ID("TMM_00019", "Error occurred while retrieving template of id %s in tenant:" +
                 " %s from the database."),
+        /**
+         * @deprecated Templates can be listed with a limit and an offset, hence this error is no longer returned.
+         */
+        @Deprecated
         ERROR_CODE_PAGINATION_NOT_SUPPORTED("TMM_00020", "Pagination is not supported when listing the templates."),
         ERROR_CODE_TEMPLATE_NOT_FOUND("TMM_00021", "A template with the given id %s is not found in the tenant %s."),
         ERROR_CODE_INVALID_TEMPLATE_ID("TMM_00022", "Invalid template id: %s."),
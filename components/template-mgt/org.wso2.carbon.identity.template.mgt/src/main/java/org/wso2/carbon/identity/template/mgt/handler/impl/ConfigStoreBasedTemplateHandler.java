@@ -145,10 +145,16 @@ public class ConfigStoreBasedTemplateHandler implements TemplateHandler {
         ConfigurationManager configManager = TemplateManagerDataHolder.getInstance().getConfigurationManager();
         try {
             Resources resourcesList;
-            if (searchCondition == null) {
-                resourcesList = configManager.getResourcesByType(templateType);
+            if (limit == null && offset == null) {
+                resourcesList = searchCondition == null ? configManager.getResourcesByType(templateType) :
+                        configManager.getTenantResources(searchCondition);
             } else {
-                resourcesList = configManager.getTenantResources(searchCondition);
+                // Paginate in the database so that only the requested page of templates is loaded.
+                int pageLimit = limit == null ? Integer.MAX_VALUE : limit;
+                int pageOffset = offset == null ? 0 : offset;
+                resourcesList = searchCondition == null ?
+                        configManager.getResourcesByType(templateType, pageLimit, pageOffset) :
+                        configManager.getTenantResources(searchCondition, pageLimit, pageOffset);
             }
             return resourcesList.getResources().stream().map(resource -> {
                 resource.setResourceType(templateType);
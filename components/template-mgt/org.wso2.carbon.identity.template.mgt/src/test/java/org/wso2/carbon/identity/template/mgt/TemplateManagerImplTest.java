@@ -29,19 +29,36 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.base.CarbonBaseConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.context.internal.CarbonContextDataHolder;
+import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
+import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
+import org.wso2.carbon.identity.configuration.mgt.core.search.PrimitiveCondition;
+import org.wso2.carbon.identity.configuration.mgt.core.search.constant.ConditionType;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.template.mgt.exception.TemplateManagementClientException;
 import org.wso2.carbon.identity.template.mgt.exception.TemplateManagementException;
+import org.wso2.carbon.identity.template.mgt.handler.ReadOnlyTemplateHandler;
+import org.wso2.carbon.identity.template.mgt.internal.TemplateManagerDataHolder;
 import org.wso2.carbon.identity.template.mgt.model.Template;
 import org.wso2.carbon.identity.template.mgt.model.TemplateInfo;
 
 import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 import static org.powermock.api.mockito.PowerMockito.when;
@@ -53,7 +70,8 @@ import static org.wso2.carbon.identity.template.mgt.util.TestUtils.initiateH2Bas
 import static org.wso2.carbon.identity.template.mgt.util.TestUtils.mockDataSource;
 import static org.wso2.carbon.identity.template.mgt.util.TestUtils.spyConnection;
 
-@PrepareForTest({IdentityDatabaseUtil.class, PrivilegedCarbonContext.class, CarbonContextDataHolder.class})
+@PrepareForTest({IdentityDatabaseUtil.class, PrivilegedCarbonContext.class, CarbonContextDataHolder.class,
+        IdentityTenantUtil.class})
 public class TemplateManagerImplTest extends PowerMockTestCase {
 
     private static String sampleScript = "<!-- You can customize the user prompt template here... -->\n" +
@@ -188,6 +206,19 @@ public class TemplateManagerImplTest extends PowerMockTestCase {
         };
     }
 
+    @DataProvider(name = "templatePageProvider")
+    public Object[][] provideTemplatePageData() throws Exception {
+
+        return new Object[][]{
+                // limit, offset, expected template names, expected config store limit, expected config store offset
+                {3, 1, Arrays.asList("R2", "C1", "C2"), 2, 0},
+                {2, 0, Arrays.asList("R1", "R2"), -1, -1},
+                {2, 3, Arrays.asList("C2", "C3"), 2, 1},
+                {null, 1, Arrays.asList("R2", "C1", "C2", "C3"), Integer.MAX_VALUE - 1, 0},
+                {10, 6, Collections.emptyList(), 10, 4}
+        };
+    }
+
     @DataProvider(name = "validateInputsDataProvider")
     public Object[][] provideInputData() throws Exception {
 
@@ -303,6 +334,71 @@ public class TemplateManagerImplTest extends PowerMockTestCase {
         }
     }
 
+    @Test(dataProvider = "templatePageProvider")
+    public void testListTemplatesPage(Integer limit, Integer offset, List<String> expectedTemplateNames,
+                                      int configStoreLimit, int configStoreOffset) throws Exception {
+
+        String templateType = TemplateMgtConstants.TemplateType.APPLICATION_TEMPLATE.toString();
+        mockStatic(IdentityTenantUtil.class);
+        when(IdentityTenantUtil.getTenantId(SUPER_TENANT_DOMAIN_NAME)).thenReturn(SUPER_TENANT_ID);
+
+        ReadOnlyTemplateHandler readOnlyTemplateHandler = mock(ReadOnlyTemplateHandler.class);
+        when(readOnlyTemplateHandler.listTemplates(templateType, Integer.MAX_VALUE, 0, null)).thenReturn(
+                Arrays.asList(new Template("R1", "Read only 1", sampleScript),
+                        new Template("R2", "Read only 2", sampleScript)));
+        ConfigurationManager configurationManager = mock(ConfigurationManager.class);
+        when(configurationManager.getResourcesByType(eq(templateType), anyInt(), anyInt())).thenAnswer(
+                invocation -> getConfigStoreResourcesPage((Integer) invocation.getArgument(1),
+                        (Integer) invocation.getArgument(2)));
+
+        TemplateManagerDataHolder.getInstance().addReadOnlyTemplateHandler(readOnlyTemplateHandler);
+        TemplateManagerDataHolder.getInstance().setConfigurationManager(configurationManager);
+        try {
+            List<Template> templates = new TemplateManagerImpl().listTemplates(templateType, limit, offset);
+
+            Assert.assertEquals(templates.stream().map(Template::getTemplateName).collect(Collectors.toList()),
+                    expectedTemplateNames);
+            if (configStoreLimit < 0) {
+                verify(configurationManager, never()).getResourcesByType(eq(templateType), anyInt(), anyInt());
+            } else {
+                verify(configurationManager).getResourcesByType(templateType, configStoreLimit, configStoreOffset);
+            }
+            verify(configurationManager, never()).getResourcesByType(templateType);
+        } finally {
+            TemplateManagerDataHolder.getInstance().removeReadOnlyTemplateHandler(readOnlyTemplateHandler);
+            TemplateManagerDataHolder.getInstance().setConfigurationManager(null);
+        }
+    }
+
+    @Test
+    public void testListTemplatesPageWithSearchCondition() throws Exception {
+
+        String templateType = TemplateMgtConstants.TemplateType.APPLICATION_TEMPLATE.toString();
+        Condition searchCondition = new PrimitiveCondition("name", ConditionType.PrimitiveOperator.EQUALS, "C2");
+        mockStatic(IdentityTenantUtil.class);
+        when(IdentityTenantUtil.getTenantId(SUPER_TENANT_DOMAIN_NAME)).thenReturn(SUPER_TENANT_ID);
+
+        ReadOnlyTemplateHandler readOnlyTemplateHandler = mock(ReadOnlyTemplateHandler.class);
+        when(readOnlyTemplateHandler.listTemplates(templateType, Integer.MAX_VALUE, 0, searchCondition)).thenReturn(
+                Collections.singletonList(new Template("R1", "Read only 1", sampleScript)));
+        ConfigurationManager configurationManager = mock(ConfigurationManager.class);
+        when(configurationManager.getTenantResources(searchCondition, 1, 0)).thenReturn(
+                getConfigStoreResourcesPage(1, 1));
+
+        TemplateManagerDataHolder.getInstance().addReadOnlyTemplateHandler(readOnlyTemplateHandler);
+        TemplateManagerDataHolder.getInstance().setConfigurationManager(configurationManager);
+        try {
+            List<Template> templates = new TemplateManagerImpl().listTemplates(templateType, 2, 0, searchCondition);
+
+            Assert.assertEquals(templates.stream().map(Template::getTemplateName).collect(Collectors.toList()),
+                    Arrays.asList("R1", "C2"));
+            verify(configurationManager, never()).getTenantResources(any(Condition.class));
+        } finally {
+            TemplateManagerDataHolder.getInstance().removeReadOnlyTemplateHandler(readOnlyTemplateHandler);
+            TemplateManagerDataHolder.getInstance().setConfigurationManager(null);
+        }
+    }
+
     @Test(dataProvider = "TemplateDataProvider")
     public void testDeleteTemplate(Object template) throws Exception {
 
@@ -385,6 +481,22 @@ public class TemplateManagerImplTest extends PowerMockTestCase {
 
     }
 
+    /**
+     * Get a page of the three resources named C1, C2 and C3 in the configuration store.
+     */
+    private Resources getConfigStoreResourcesPage(int limit, int offset) {
+
+        List<Resource> resources = new ArrayList<>();
+        for (int index = offset + 1; index <= 3 && resources.size() < limit; index++) {
+            Resource resource = new Resource("C" + index, null);
+            resource.setResourceId("resource-id-" + index);
+            resource.setTenantDomain(SUPER_TENANT_DOMAIN_NAME);
+            resource.setAttributes(new ArrayList<>());
+            resources.add(resource);
+        }
+        return new Resources(resources);
+    }
+
     private void addTemplates(TemplateManager templateManager, List<Object> templates, DataSource dataSource) throws
             SQLException, TemplateManagementException {
 
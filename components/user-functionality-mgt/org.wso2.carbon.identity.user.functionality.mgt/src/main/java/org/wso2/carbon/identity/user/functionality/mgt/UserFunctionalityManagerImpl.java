@@ -24,6 +24,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.user.functionality.mgt.cache.UserFunctionalityLockStatusCache;
+import org.wso2.carbon.identity.user.functionality.mgt.cache.UserFunctionalityLockStatusCacheEntry;
+import org.wso2.carbon.identity.user.functionality.mgt.cache.UserFunctionalityLockStatusCacheKey;
 import org.wso2.carbon.identity.user.functionality.mgt.dao.UserFunctionalityManagerDAO;
 import org.wso2.carbon.identity.user.functionality.mgt.dao.UserFunctionalityPropertyDAO;
 import org.wso2.carbon.identity.user.functionality.mgt.dao.impl.UserFunctionalityManagerDAOImpl;
@@ -63,7 +66,25 @@ public class UserFunctionalityManagerImpl implements UserFunctionalityManager {
             throw new UnsupportedOperationException("Per-user functionality locking is not enabled.");
         }
 
-        if (StringUtils.isEmpty(userId) || !isUserIdExists(userId, tenantId)) {
+        if (StringUtils.isEmpty(userId)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cannot retrieve user from userId: " + userId);
+            }
+            throw buildUserNotFoundError();
+        }
+
+        // Lock statuses are cached only for the existing users, hence the user store is not looked up on a cache hit.
+        // The entries of a deleted user are cleared by UserFunctionalityLockStatusCacheListener.
+        UserFunctionalityLockStatusCache lockStatusCache = UserFunctionalityLockStatusCache.getInstance();
+        UserFunctionalityLockStatusCacheKey cacheKey =
+                new UserFunctionalityLockStatusCacheKey(userId, functionalityIdentifier);
+        UserFunctionalityLockStatusCacheEntry cacheEntry = lockStatusCache.getValueFromCache(cacheKey, tenantId);
+        long currentTime = System.currentTimeMillis();
+        if (cacheEntry != null && cacheEntry.isValid(currentTime)) {
+            return cacheEntry.getLockStatus(currentTime);
+        }
+
+        if (!isUserIdExists(userId, tenantId)) {
             if (log.isDebugEnabled()) {
                 log.debug("Cannot retrieve user from userId: " + userId);
             }
@@ -73,14 +94,17 @@ public class UserFunctionalityManagerImpl implements UserFunctionalityManager {
         FunctionalityLockStatus
                 functionalityLockStatus =
                 userFunctionalityManagerDAO.getFunctionalityLockStatus(userId, tenantId, functionalityIdentifier);
-        if (functionalityLockStatus == null) {
-            return FunctionalityLockStatus.UNLOCKED_STATUS;
-        }
-        long unlockTime = functionalityLockStatus.getUnlockTime();
-        if (unlockTime < System.currentTimeMillis()) {
-            userFunctionalityManagerDAO.deleteMappingForUser(userId, tenantId, functionalityIdentifier);
+        // A lock or an unlock between this read and the add below clears the entry before it is added. Hence the
+        // entry is valid only for a short time, so that such a change is not hidden for long.
+        long validUntil = currentTime + UserFunctionalityMgtConstants.LOCK_STATUS_CACHE_ENTRY_VALIDITY;
+        if (functionalityLockStatus == null || functionalityLockStatus.getUnlockTime() < currentTime) {
+            // The expired lock is deleted from the database by the clean up task.
+            lockStatusCache.addToCache(cacheKey, UserFunctionalityLockStatusCacheEntry.unlocked(validUntil),
+                    tenantId);
             return FunctionalityLockStatus.UNLOCKED_STATUS;
         }
+        lockStatusCache.addToCache(cacheKey, UserFunctionalityLockStatusCacheEntry.of(functionalityLockStatus,
+                validUntil), tenantId);
         return functionalityLockStatus;
     }
 
@@ -175,6 +199,7 @@ public class UserFunctionalityManagerImpl implements UserFunctionalityManager {
             userFunctionalityManagerDAO
                     .addFunctionalityLock(userId, tenantId, functionalityIdentifier, newFunctionalityLockStatus);
         }
+        clearLockStatusCache(userId, tenantId, functionalityIdentifier);
     }
 
     /**
@@ -194,6 +219,7 @@ public class UserFunctionalityManagerImpl implements UserFunctionalityManager {
             throw buildUserNotFoundError();
         }
         userFunctionalityManagerDAO.deleteMappingForUser(userId, tenantId, functionalityIdentifier);
+        clearLockStatusCache(userId, tenantId, functionalityIdentifier);
     }
 
     /**
@@ -213,7 +239,7 @@ public class UserFunctionalityManagerImpl implements UserFunctionalityManager {
             throw buildUserNotFoundError();
         }
         userFunctionalityPropertyDAO.deleteAllPropertiesForUser(userId, tenantId, functionalityIdentifier);
-
+        clearLockStatusCache(userId, tenantId, functionalityIdentifier);
     }
 
     /**
@@ -234,7 +260,7 @@ public class UserFunctionalityManagerImpl implements UserFunctionalityManager {
             throw buildUserNotFoundError();
         }
         userFunctionalityPropertyDAO.deletePropertiesForUser(userId, tenantId, functionalityIdentifier, propertiesToDelete);
-
+        clearLockStatusCache(userId, tenantId, functionalityIdentifier);
     }
 
     /**
@@ -244,6 +270,7 @@ public class UserFunctionalityManagerImpl implements UserFunctionalityManager {
     public void deleteAllMappingsForTenant(int tenantId) throws UserFunctionalityManagementServerException {
 
         userFunctionalityManagerDAO.deleteAllMappingsForTenant(tenantId);
+        UserFunctionalityLockStatusCache.getInstance().clear(tenantId);
     }
 
     /**
@@ -282,6 +309,12 @@ public class UserFunctionalityManagerImpl implements UserFunctionalityManager {
         }
     }
 
+    private void clearLockStatusCache(String userId, int tenantId, String functionalityIdentifier) {
+
+        UserFunctionalityLockStatusCache.getInstance().clearCacheEntry(
+                new UserFunctionalityLockStatusCacheKey(userId, functionalityIdentifier), tenantId);
+    }
+
     private boolean isPerUserFunctionalityLockingEnabled() {
 
         return Boolean.parseBoolean(
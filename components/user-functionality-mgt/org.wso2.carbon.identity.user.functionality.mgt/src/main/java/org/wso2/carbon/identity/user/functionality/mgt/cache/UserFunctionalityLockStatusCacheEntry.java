@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.functionality.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.user.functionality.mgt.model.FunctionalityLockStatus;
+
+/**
+ * Cache entry of the lock status of a functionality of a user. A functionality which is not locked for the user is
+ * kept as an unlocked entry, so that the unlocked functionalities are not looked up in the database either. An entry
+ * is valid only for a short time, since a concurrent lock or unlock can be overwritten by a status read before it.
+ */
+public class UserFunctionalityLockStatusCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 3129647805712350498L;
+
+    private final boolean unlocked;
+    private final boolean lockStatus;
+    private final long unlockTime;
+    private final String lockReasonCode;
+    private final String lockReason;
+    private final long validUntil;
+
+    private UserFunctionalityLockStatusCacheEntry(boolean unlocked, boolean lockStatus, long unlockTime,
+                                                  String lockReasonCode, String lockReason, long validUntil) {
+
+        this.unlocked = unlocked;
+        this.lockStatus = lockStatus;
+        this.unlockTime = unlockTime;
+        this.lockReasonCode = lockReasonCode;
+        this.lockReason = lockReason;
+        this.validUntil = validUntil;
+    }
+
+    /**
+     * Create a cache entry for a functionality which is not locked for the user.
+     *
+     * @param validUntil Time in milliseconds until which the entry is valid.
+     * @return Unlocked cache entry.
+     */
+    public static UserFunctionalityLockStatusCacheEntry unlocked(long validUntil) {
+
+        return new UserFunctionalityLockStatusCacheEntry(true, false, 0, null, null, validUntil);
+    }
+
+    /**
+     * Create a cache entry for the given lock status.
+     *
+     * @param functionalityLockStatus Lock status of the functionality.
+     * @param validUntil              Time in milliseconds until which the entry is valid.
+     * @return Cache entry.
+     */
+    public static UserFunctionalityLockStatusCacheEntry of(FunctionalityLockStatus functionalityLockStatus,
+                                                           long validUntil) {
+
+        return new UserFunctionalityLockStatusCacheEntry(false, functionalityLockStatus.getLockStatus(),
+                functionalityLockStatus.getUnlockTime(), functionalityLockStatus.getLockReasonCode(),
+                functionalityLockStatus.getLockReason(), validUntil);
+    }
+
+    /**
+     * Get the lock status of the functionality at the given time. A locked entry expires at its unlock time.
+     *
+     * @param currentTime Current time in milliseconds.
+     * @return Lock status of the functionality.
+     */
+    public FunctionalityLockStatus getLockStatus(long currentTime) {
+
+        if (unlocked || unlockTime < currentTime) {
+            return FunctionalityLockStatus.UNLOCKED_STATUS;
+        }
+        return new FunctionalityLockStatus(lockStatus, unlockTime, lockReasonCode, lockReason);
+    }
+
+    /**
+     * Check whether the entry can still be used at the given time.
+     *
+     * @param currentTime Current time in milliseconds.
+     * @return True if the entry has not passed its validity period.
+     */
+    public boolean isValid(long currentTime) {
+
+        return currentTime < validUntil;
+    }
+}
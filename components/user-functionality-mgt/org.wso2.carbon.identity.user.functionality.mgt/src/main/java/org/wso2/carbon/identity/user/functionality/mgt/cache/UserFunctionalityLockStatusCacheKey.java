@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.functionality.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key of the lock status of a functionality of a user.
+ */
+public class UserFunctionalityLockStatusCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -6487013575431370285L;
+
+    private final String userId;
+    private final String functionalityIdentifier;
+
+    public UserFunctionalityLockStatusCacheKey(String userId, String functionalityIdentifier) {
+
+        this.userId = userId;
+        this.functionalityIdentifier = functionalityIdentifier;
+    }
+
+    public String getUserId() {
+
+        return userId;
+    }
+
+    public String getFunctionalityIdentifier() {
+
+        return functionalityIdentifier;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserFunctionalityLockStatusCacheKey)) {
+            return false;
+        }
+        UserFunctionalityLockStatusCacheKey that = (UserFunctionalityLockStatusCacheKey) o;
+        return Objects.equals(userId, that.userId) &&
+                Objects.equals(functionalityIdentifier, that.functionalityIdentifier);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(userId, functionalityIdentifier);
+    }
+}
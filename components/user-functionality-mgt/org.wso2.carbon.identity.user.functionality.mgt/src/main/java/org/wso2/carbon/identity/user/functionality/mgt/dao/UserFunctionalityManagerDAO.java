@@ -86,4 +86,12 @@ public interface UserFunctionalityManagerDAO {
      * @throws UserFunctionalityManagementServerException
      */
     void deleteAllMappingsForTenant(int tenantId) throws UserFunctionalityManagementServerException;
+
+    /**
+     * Deletes the user-functionality mappings of all the tenants, which have passed their unlock time.
+     *
+     * @param currentTime Current time in milliseconds.
+     * @throws UserFunctionalityManagementServerException If error occurs while deleting the expired mappings.
+     */
+    void deleteExpiredMappings(long currentTime) throws UserFunctionalityManagementServerException;
 }
@@ -194,6 +194,27 @@ public class UserFunctionalityManagerDAOImpl implements UserFunctionalityManager
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteExpiredMappings(long currentTime) throws UserFunctionalityManagementServerException {
+
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        try {
+            jdbcTemplate.executeUpdate(UserFunctionalityMgtConstants.SqlQueries.DELETE_EXPIRED_FUNCTIONALITY_MAPPINGS,
+                    preparedStatement -> {
+                        preparedStatement.setLong(1, currentTime);
+                    });
+        } catch (DataAccessException e) {
+            String message = "Error occurred while deleting the expired mappings from DB.";
+            if (log.isDebugEnabled()) {
+                log.debug(message, e);
+            }
+            throw new UserFunctionalityManagementServerException(message, e);
+        }
+    }
+
     private void setPreparedStatementForFunctionality(String userId, int tenantId, String functionalityIdentifier,
                                                       FunctionalityLockStatus functionalityLockStatus,
                                                       PreparedStatement preparedStatement) throws SQLException {
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.functionality.mgt.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.user.functionality.mgt.dao.UserFunctionalityManagerDAO;
+import org.wso2.carbon.identity.user.functionality.mgt.dao.impl.UserFunctionalityManagerDAOImpl;
+import org.wso2.carbon.identity.user.functionality.mgt.exception.UserFunctionalityManagementServerException;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically deletes the user-functionality mappings which have passed their unlock time. Expired locks are
+ * treated as unlocked when the lock status is retrieved, hence they are removed in the background rather than
+ * while checking the lock status.
+ */
+public class UserFunctionalityLockCleanUpService {
+
+    private static final Log log = LogFactory.getLog(UserFunctionalityLockCleanUpService.class);
+    private static final String THREAD_NAME = "UserFunctionalityLockCleanUp";
+
+    private final UserFunctionalityManagerDAO userFunctionalityManagerDAO = new UserFunctionalityManagerDAOImpl();
+    private final long delayBetweenRuns;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param delayBetweenRuns Delay between two clean up runs in minutes.
+     */
+    public UserFunctionalityLockCleanUpService(long delayBetweenRuns) {
+
+        this.delayBetweenRuns = delayBetweenRuns;
+    }
+
+    /**
+     * Activate the clean up task.
+     */
+    public void activateCleanUp() {
+
+        if (delayBetweenRuns <= 0 || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::deleteExpiredMappings, delayBetweenRuns, delayBetweenRuns,
+                TimeUnit.MINUTES);
+    }
+
+    /**
+     * Stop the clean up task.
+     */
+    public void deactivateCleanUp() {
+
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private void deleteExpiredMappings() {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Deleting the expired user functionality locks.");
+        }
+        try {
+            userFunctionalityManagerDAO.deleteExpiredMappings(System.currentTimeMillis());
+        } catch (UserFunctionalityManagementServerException e) {
+            log.error("Error while deleting the expired user functionality locks.", e);
+        } catch (RuntimeException e) {
+            // Do not let the scheduler suppress the following runs.
+            log.error("Unexpected error while deleting the expired user functionality locks.", e);
+        }
+    }
+}
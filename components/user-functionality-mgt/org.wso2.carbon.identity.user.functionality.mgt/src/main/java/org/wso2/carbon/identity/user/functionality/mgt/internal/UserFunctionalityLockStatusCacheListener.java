@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.functionality.mgt.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.AbstractIdentityUserOperationEventListener;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.user.functionality.mgt.cache.UserFunctionalityLockStatusCache;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+/**
+ * User operation event listener which clears the cached functionality lock statuses when a user is deleted, since
+ * the lock statuses are served from the cache without checking whether the user exists.
+ */
+public class UserFunctionalityLockStatusCacheListener extends AbstractIdentityUserOperationEventListener {
+
+    private static final Log log = LogFactory.getLog(UserFunctionalityLockStatusCacheListener.class);
+
+    @Override
+    public int getExecutionOrderId() {
+
+        int orderId = getOrderId();
+        if (orderId != IdentityCoreConstants.EVENT_LISTENER_ORDER_ID) {
+            return orderId;
+        }
+        return 90;
+    }
+
+    @Override
+    public boolean doPostDeleteUserWithID(String userID, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        if (!isEnable()) {
+            return true;
+        }
+        int tenantId = userStoreManager.getTenantId();
+        if (log.isDebugEnabled()) {
+            log.debug("User: " + userID + " is deleted. Clearing the functionality lock statuses of tenant: " +
+                    tenantId);
+        }
+        // The cache is keyed by the user and the functionality, hence all the entries of the tenant are cleared.
+        UserFunctionalityLockStatusCache.getInstance().clear(tenantId);
+        return true;
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.user.functionality.mgt.internal;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.framework.BundleContext;
@@ -30,8 +31,11 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.user.functionality.mgt.UserFunctionalityManager;
 import org.wso2.carbon.identity.user.functionality.mgt.UserFunctionalityManagerImpl;
+import org.wso2.carbon.identity.user.functionality.mgt.UserFunctionalityMgtConstants;
+import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.user.core.service.RealmService;
 
 /**
@@ -47,6 +51,8 @@ public class UserFunctionalityManagerServiceComponent {
     private static final Log log = LogFactory.getLog(UserFunctionalityManagerServiceComponent.class);
 
     private ServiceRegistration userFunctionalityMgtService;
+    private ServiceRegistration lockStatusCacheListener;
+    private UserFunctionalityLockCleanUpService lockCleanUpService;
 
     /**
      * Register User Functionality Manager as an OSGi service.
@@ -61,6 +67,12 @@ public class UserFunctionalityManagerServiceComponent {
             UserFunctionalityManager userFunctionalityManager = new UserFunctionalityManagerImpl();
             userFunctionalityMgtService = bundleContext.registerService(UserFunctionalityManager.class,
                     userFunctionalityManager, null);
+            lockStatusCacheListener = bundleContext.registerService(UserOperationEventListener.class,
+                    new UserFunctionalityLockStatusCacheListener(), null);
+            if (isPerUserFunctionalityLockingEnabled() && isExpiredLockCleanUpEnabled()) {
+                lockCleanUpService = new UserFunctionalityLockCleanUpService(getExpiredLockCleanUpInterval());
+                lockCleanUpService.activateCleanUp();
+            }
             if (log.isDebugEnabled()) {
                 log.debug("User Functionality Manager bundle is activated.");
             }
@@ -72,8 +84,16 @@ public class UserFunctionalityManagerServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext componentContext) {
 
+        if (lockCleanUpService != null) {
+            lockCleanUpService.deactivateCleanUp();
+            lockCleanUpService = null;
+        }
         BundleContext bundleContext = componentContext.getBundleContext();
         bundleContext.ungetService(userFunctionalityMgtService.getReference());
+        if (lockStatusCacheListener != null) {
+            lockStatusCacheListener.unregister();
+            lockStatusCacheListener = null;
+        }
         if (log.isDebugEnabled()) {
             log.debug("User Functionality Manager bundle is deactivated.");
         }
@@ -118,4 +138,31 @@ public class UserFunctionalityManagerServiceComponent {
         }
         UserFunctionalityManagerComponentDataHolder.getInstance().setRealmService(null);
     }
+
+    private boolean isPerUserFunctionalityLockingEnabled() {
+
+        return Boolean.parseBoolean(
+                IdentityUtil.getProperty(UserFunctionalityMgtConstants.ENABLE_PER_USER_FUNCTIONALITY_LOCKING));
+    }
+
+    private boolean isExpiredLockCleanUpEnabled() {
+
+        String enabled = IdentityUtil.getProperty(UserFunctionalityMgtConstants.ENABLE_EXPIRED_LOCK_CLEANUP);
+        return StringUtils.isBlank(enabled) || Boolean.parseBoolean(enabled.trim());
+    }
+
+    private long getExpiredLockCleanUpInterval() {
+
+        String interval = IdentityUtil.getProperty(UserFunctionalityMgtConstants.EXPIRED_LOCK_CLEANUP_INTERVAL);
+        if (StringUtils.isNotBlank(interval)) {
+            try {
+                return Long.parseLong(interval.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + interval + " configured for " +
+                        UserFunctionalityMgtConstants.EXPIRED_LOCK_CLEANUP_INTERVAL + ". Using the default value: " +
+                        UserFunctionalityMgtConstants.DEFAULT_EXPIRED_LOCK_CLEANUP_INTERVAL);
+            }
+        }
+        return UserFunctionalityMgtConstants.DEFAULT_EXPIRED_LOCK_CLEANUP_INTERVAL;
+    }
 }
@@ -33,6 +33,9 @@ import org.wso2.carbon.context.internal.CarbonContextDataHolder;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.user.functionality.mgt.cache.UserFunctionalityLockStatusCache;
+import org.wso2.carbon.identity.user.functionality.mgt.cache.UserFunctionalityLockStatusCacheEntry;
+import org.wso2.carbon.identity.user.functionality.mgt.cache.UserFunctionalityLockStatusCacheKey;
 import org.wso2.carbon.identity.user.functionality.mgt.dao.UserFunctionalityManagerDAO;
 import org.wso2.carbon.identity.user.functionality.mgt.dao.UserFunctionalityPropertyDAO;
 import org.wso2.carbon.identity.user.functionality.mgt.dao.impl.UserFunctionalityManagerDAOImpl;
@@ -54,13 +57,22 @@ import java.util.Map;
 
 import javax.sql.DataSource;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 import static org.powermock.api.mockito.PowerMockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 @PrepareForTest({IdentityDatabaseUtil.class, CarbonContextDataHolder.class, IdentityUtil.class,
-        IdentityTenantUtil.class, UserFunctionalityManagerComponentDataHolder.class})
+        IdentityTenantUtil.class, UserFunctionalityManagerComponentDataHolder.class,
+        UserFunctionalityLockStatusCache.class})
 public class UserFunctionalityManagerImplTest extends PowerMockTestCase {
 
     private static final Log log = LogFactory.getLog(UserFunctionalityManagerImplTest.class);
@@ -76,6 +88,8 @@ public class UserFunctionalityManagerImplTest extends PowerMockTestCase {
     private UniqueIDUserStoreManager userStoreManager;
     @Mock
     private UserFunctionalityManagerComponentDataHolder userFunctionalityManagerComponentDataHolder;
+    @Mock
+    private UserFunctionalityLockStatusCache lockStatusCache;
 
     @BeforeMethod
     public void setUp() throws Exception {
@@ -86,6 +100,8 @@ public class UserFunctionalityManagerImplTest extends PowerMockTestCase {
         mockStatic(IdentityUtil.class);
         when(IdentityUtil.getProperty(UserFunctionalityMgtConstants.ENABLE_PER_USER_FUNCTIONALITY_LOCKING))
                 .thenReturn("true");
+        mockStatic(UserFunctionalityLockStatusCache.class);
+        when(UserFunctionalityLockStatusCache.getInstance()).thenReturn(lockStatusCache);
 
         try (Connection connection = TestUtils.getConnection()) {
             Connection spyConnection = TestUtils.spyConnection(connection);
@@ -446,6 +462,72 @@ public class UserFunctionalityManagerImplTest extends PowerMockTestCase {
         return new org.powermock.modules.testng.PowerMockObjectFactory();
     }
 
+    @Test
+    public void testGetLockStatusFromUnlockedCacheEntry() throws Exception {
+
+        mockIsUserStoreManager("user3");
+        when(lockStatusCache.getValueFromCache(any(UserFunctionalityLockStatusCacheKey.class), anyInt()))
+                .thenReturn(UserFunctionalityLockStatusCacheEntry.unlocked(System.currentTimeMillis() + 60000));
+
+        FunctionalityLockStatus lockStatus = userFunctionalityManager.getLockStatus("user3", 1, "FunctionalityType3");
+        assertFalse(lockStatus.getLockStatus());
+        verify(userStoreManager, never()).isExistingUserWithID(anyString());
+    }
+
+    @Test
+    public void testGetLockStatusFromExpiredLockCacheEntry() throws Exception {
+
+        mockIsUserStoreManager("user3");
+        UserFunctionalityLockStatusCacheKey cacheKey =
+                new UserFunctionalityLockStatusCacheKey("user3", "FunctionalityType3");
+        when(lockStatusCache.getValueFromCache(cacheKey, 1)).thenReturn(UserFunctionalityLockStatusCacheEntry.of(
+                new FunctionalityLockStatus(true, System.currentTimeMillis() - 1000, "E001", "Lock Reason 1"),
+                System.currentTimeMillis() + 60000));
+
+        FunctionalityLockStatus lockStatus = userFunctionalityManager.getLockStatus("user3", 1, "FunctionalityType3");
+        assertFalse(lockStatus.getLockStatus());
+        verify(userStoreManager, never()).isExistingUserWithID(anyString());
+    }
+
+    @Test
+    public void testGetLockStatusFromInvalidCacheEntry() throws Exception {
+
+        DataSource dataSource = mock(DataSource.class);
+        TestUtils.mockDataSource(dataSource);
+        try (Connection connection = TestUtils.getConnection()) {
+            Connection spyConnection = TestUtils.spyConnection(connection);
+            when(dataSource.getConnection()).thenReturn(spyConnection);
+            mockIsUserStoreManager("user5");
+            UserFunctionalityLockStatusCacheKey cacheKey =
+                    new UserFunctionalityLockStatusCacheKey("user5", "FunctionalityType5");
+            // An unlocked entry added by a read which raced with a lock is not used after its validity period.
+            when(lockStatusCache.getValueFromCache(cacheKey, 3)).thenReturn(
+                    UserFunctionalityLockStatusCacheEntry.unlocked(System.currentTimeMillis() - 1));
+
+            FunctionalityLockStatus lockStatus =
+                    userFunctionalityManager.getLockStatus("user5", 3, "FunctionalityType5");
+            assertTrue(lockStatus.getLockStatus());
+            verify(userStoreManager).isExistingUserWithID("user5");
+            verify(lockStatusCache).addToCache(eq(cacheKey), any(UserFunctionalityLockStatusCacheEntry.class), eq(3));
+        }
+    }
+
+    @Test
+    public void testLockClearsCachedLockStatus() throws Exception {
+
+        DataSource dataSource = mock(DataSource.class);
+        TestUtils.mockDataSource(dataSource);
+        try (Connection connection = TestUtils.getConnection()) {
+            Connection spyConnection = TestUtils.spyConnection(connection);
+            when(dataSource.getConnection()).thenReturn(spyConnection);
+            mockIsUserStoreManager("user1");
+
+            userFunctionalityManager.lock("user1", 1, "FunctionalityType1", 300000, "E001", "Lock Reason 1");
+            verify(lockStatusCache).clearCacheEntry(
+                    new UserFunctionalityLockStatusCacheKey("user1", "FunctionalityType1"), 1);
+        }
+    }
+
     private void mockIsUserStoreManager(String userId) throws UserStoreException {
 
         TestUtils.mockUserFunctionalityManagerComponentDataHolder(userFunctionalityManagerComponentDataHolder);
@@ -343,6 +343,37 @@ public class UserFunctionalityManagerDAOImplTest extends PowerMockTestCase {
         }
     }
 
+    @Test
+    public void testDeleteExpiredMappings() {
+
+        DataSource dataSource = mock(DataSource.class);
+        TestUtils.mockDataSource(dataSource);
+        try (Connection connection = TestUtils.getConnection()) {
+            Connection spyConnection = TestUtils.spyConnection(connection);
+            when(dataSource.getConnection()).thenReturn(spyConnection);
+            long currentTime = System.currentTimeMillis();
+            FunctionalityLockStatus expiredLockStatus =
+                    new FunctionalityLockStatus(true, currentTime - 1000, "E001", "Lock Reason 1");
+            FunctionalityLockStatus activeLockStatus =
+                    new FunctionalityLockStatus(true, currentTime + 300000, "E002", "Lock Reason 2");
+            try {
+                userFunctionalityManagerDAO.addFunctionalityLock("user", 1, "functionality1", expiredLockStatus);
+                userFunctionalityManagerDAO.addFunctionalityLock("user", 2, "functionality1", expiredLockStatus);
+                userFunctionalityManagerDAO.addFunctionalityLock("user", 1, "functionality2", activeLockStatus);
+                userFunctionalityManagerDAO.deleteExpiredMappings(currentTime);
+
+                assertNull(userFunctionalityManagerDAO.getFunctionalityLockStatus("user", 1, "functionality1"));
+                assertNull(userFunctionalityManagerDAO.getFunctionalityLockStatus("user", 2, "functionality1"));
+                assertEquals(userFunctionalityManagerDAO.getFunctionalityLockStatus("user", 1, "functionality2")
+                        .getLockReason(), "Lock Reason 2");
+            } catch (UserFunctionalityManagementServerException e) {
+                log.error("FunctionalityManagementServer Exception", e);
+            }
+        } catch (SQLException e) {
+            //Mock behaviour. Hence ignored.
+        }
+    }
+
     @ObjectFactory
     public IObjectFactory getObjectFactory() {
 
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.functionality.mgt.internal;
+
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.IObjectFactory;
+import org.testng.annotations.ObjectFactory;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.user.functionality.mgt.cache.UserFunctionalityLockStatusCache;
+import org.wso2.carbon.user.core.UserStoreManager;
+
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+import static org.testng.Assert.assertTrue;
+
+@PrepareForTest({IdentityUtil.class, UserFunctionalityLockStatusCache.class})
+public class UserFunctionalityLockStatusCacheListenerTest extends PowerMockTestCase {
+
+    @Test
+    public void testDoPostDeleteUserWithID() throws Exception {
+
+        mockStatic(IdentityUtil.class);
+        mockStatic(UserFunctionalityLockStatusCache.class);
+        UserFunctionalityLockStatusCache lockStatusCache = mock(UserFunctionalityLockStatusCache.class);
+        when(UserFunctionalityLockStatusCache.getInstance()).thenReturn(lockStatusCache);
+        UserStoreManager userStoreManager = mock(UserStoreManager.class);
+        when(userStoreManager.getTenantId()).thenReturn(1);
+
+        assertTrue(new UserFunctionalityLockStatusCacheListener().doPostDeleteUserWithID("user1",
+                userStoreManager));
+        verify(lockStatusCache).clear(1);
+    }
+
+    @ObjectFactory
+    public IObjectFactory getObjectFactory() {
+
+        return new org.powermock.modules.testng.PowerMockObjectFactory();
+    }
+}
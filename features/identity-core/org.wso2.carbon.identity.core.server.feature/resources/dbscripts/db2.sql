@@ -2048,6 +2048,33 @@ REFERENCING NEW AS NEW FOR EACH ROW MODE DB2SQL
   END
 /
 
+CREATE TABLE IDN_SAML2_SERVICE_PROVIDER (
+    ID INTEGER NOT NULL,
+    ISSUER VARCHAR(255) NOT NULL,
+    TENANT_ID INTEGER NOT NULL,
+    PRIMARY KEY (ID),
+    CONSTRAINT SAML2_SP_ISSUER_CONSTRAINT UNIQUE (ISSUER, TENANT_ID)
+)
+/
+CREATE SEQUENCE IDN_SAML2_SERVICE_PROVIDER_SEQ START WITH 1 INCREMENT BY 1 NOCACHE
+/
+CREATE TRIGGER IDN_SAML2_SERVICE_PROVIDER_TRIG NO CASCADE BEFORE INSERT ON IDN_SAML2_SERVICE_PROVIDER
+REFERENCING NEW AS NEW FOR EACH ROW MODE DB2SQL
+  BEGIN ATOMIC
+    SET (NEW.ID)
+    = (NEXTVAL FOR IDN_SAML2_SERVICE_PROVIDER_SEQ);
+  END
+/
+CREATE TABLE IDN_SAML2_SP_PROPERTY (
+    SP_ID INTEGER NOT NULL,
+    PROPERTY_NAME VARCHAR(255) NOT NULL,
+    PROPERTY_ORDER INTEGER NOT NULL,
+    PROPERTY_VALUE VARCHAR(2048),
+    PRIMARY KEY (SP_ID, PROPERTY_NAME, PROPERTY_ORDER),
+    FOREIGN KEY (SP_ID) REFERENCES IDN_SAML2_SERVICE_PROVIDER(ID) ON DELETE CASCADE
+)
+/
+
 -- --------------------------- INDEX CREATION -----------------------------
 -- IDN_OAUTH2_ACCESS_TOKEN --
 CREATE INDEX IDX_TC ON IDN_OAUTH2_ACCESS_TOKEN(TIME_CREATED)
@@ -1337,6 +1337,23 @@ CREATE TABLE IF NOT EXISTS IDN_NOTIFICATION_APP_TEMPLATE (
     CONSTRAINT APP_NOTIFICATION_TEMPLATE_LOCALE_CONSTRAINT UNIQUE (LOCALE, TYPE_ID, APP_ID, TENANT_ID)
 );
 
+CREATE TABLE IF NOT EXISTS IDN_SAML2_SERVICE_PROVIDER (
+    ID INTEGER NOT NULL AUTO_INCREMENT,
+    ISSUER VARCHAR(255) NOT NULL,
+    TENANT_ID INTEGER NOT NULL,
+    PRIMARY KEY (ID),
+    CONSTRAINT SAML2_SP_ISSUER_CONSTRAINT UNIQUE (ISSUER, TENANT_ID)
+);
+
+CREATE TABLE IF NOT EXISTS IDN_SAML2_SP_PROPERTY (
+    SP_ID INTEGER NOT NULL,
+    PROPERTY_NAME VARCHAR(255) NOT NULL,
+    PROPERTY_ORDER INTEGER NOT NULL,
+    PROPERTY_VALUE VARCHAR(2048),
+    PRIMARY KEY (SP_ID, PROPERTY_NAME, PROPERTY_ORDER),
+    FOREIGN KEY (SP_ID) REFERENCES IDN_SAML2_SERVICE_PROVIDER(ID) ON DELETE CASCADE
+);
+
 -- --------------------------- INDEX CREATION -----------------------------
 -- IDN_OAUTH2_ACCESS_TOKEN --
 CREATE INDEX IDX_TC ON IDN_OAUTH2_ACCESS_TOKEN(TIME_CREATED);